@@ -14,21 +14,34 @@ package org.gecko.emf.csv.tests;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.gecko.emf.csv.tests.helper.EMFCSVResourceTestHelper.createBusinessPerson;
 import static org.gecko.emf.csv.tests.helper.EMFCSVResourceTestHelper.createFlintstonesFamily;
+import static org.gecko.emf.csv.tests.helper.EMFCSVResourceTestHelper.createGroupsWithoutIDs;
 import static org.gecko.emf.csv.tests.helper.EMFCSVResourceTestHelper.createSimpsonFamily;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.gecko.emf.csv.annotation.RequireEMFCSV;
 import org.gecko.emf.csv.configuration.EMFCSVResource;
+import org.gecko.emf.csv.constants.EMFCSVConstants;
 import org.gecko.emf.exporter.EMFExportOptions;
 import org.gecko.emf.exporter.csv.api.EMFCSVExportMode;
 import org.gecko.emf.exporter.csv.api.EMFCSVExportOptions;
@@ -185,4 +198,198 @@ public class EMFCSVResourceTest {
 
 		resource.save(fileOutputStream, Map.of()); // will use default options
 	}
+
+	@Test
+	public void testLoadResourceFromCsvZipMode(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(timeout = 2000) ServiceAware<BasicFactory> bfAware) throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertNotNull(bfAware);
+		assertThat(bfAware.getServices()).hasSize(1);
+		BasicFactory factoryImpl = bfAware.getService();
+		assertNotNull(factoryImpl);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceFromCsvZipMode.csv"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFCSVResource);
+
+		Family simpsonFamily = createSimpsonFamily(factoryImpl);
+		resource.getContents().add(simpsonFamily);
+
+		Family flintstonesFamily = createFlintstonesFamily(factoryImpl);
+		resource.getContents().add(flintstonesFamily);
+
+		Path filePath = Files.createTempFile("testLoadResourceFromCsvZipMode", ".zip");
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+			// @formatter:off
+			resource.save(fileOutputStream,
+					Map.of(
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true,
+							EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true,
+							EMFExportOptions.OPTION_SHOW_URIS, false, // IDs (and pseudo IDs) instead of URIs, so all references can be resolved
+							EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+						));
+			// @formatter:on
+		}
+
+		Resource loadedResource = resourceSet.createResource(URI.createURI("testLoadResourceFromCsvZipModeLoaded.csv"));
+		assertNotNull(loadedResource);
+		assertTrue(loadedResource instanceof EMFCSVResource);
+
+		try (InputStream fileInputStream = Files.newInputStream(filePath)) {
+			loadedResource.load(fileInputStream, Map.of(EMFCSVConstants.OPTION_ROOT_ELEMENT, simpsonFamily.eClass()));
+		}
+
+		assertLoadedFamilies(loadedResource, "Simpsons", "Flintstones");
+	}
+
+	@Test
+	public void testLoadResourceFromCsvFlatMode(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(timeout = 2000) ServiceAware<BasicFactory> bfAware) throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertNotNull(bfAware);
+		assertThat(bfAware.getServices()).hasSize(1);
+		BasicFactory factoryImpl = bfAware.getService();
+		assertNotNull(factoryImpl);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceFromCsvFlatMode.csv"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFCSVResource);
+
+		Family simpsonFamily = createSimpsonFamily(factoryImpl);
+		resource.getContents().add(simpsonFamily);
+
+		Path filePath = Files.createTempFile("testLoadResourceFromCsvFlatMode", ".csv");
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+			// @formatter:off
+			resource.save(fileOutputStream,
+					Map.of(
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true,
+							EMFExportOptions.OPTION_SHOW_URIS, false,
+							EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.FLAT
+						));
+			// @formatter:on
+		}
+
+		Resource loadedResource = resourceSet.createResource(URI.createURI("testLoadResourceFromCsvFlatModeLoaded.csv"));
+		assertNotNull(loadedResource);
+		assertTrue(loadedResource instanceof EMFCSVResource);
+
+		try (InputStream fileInputStream = Files.newInputStream(filePath)) {
+			loadedResource.load(fileInputStream, Map.of(EMFCSVConstants.OPTION_ROOT_ELEMENT, simpsonFamily.eClass()));
+		}
+
+		assertLoadedFamilies(loadedResource, "Simpsons");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLoadResourceWithPathURIs(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware)
+			throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceWithPathURIs.csv"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFCSVResource);
+
+		List<EObject> groups = createGroupsWithoutIDs();
+		resource.getContents().addAll(groups);
+
+		EClass groupEClass = groups.get(0).eClass();
+		EReference membersEReference = (EReference) groupEClass.getEStructuralFeature("members");
+		EReference friendsEReference = (EReference) membersEReference.getEReferenceType()
+				.getEStructuralFeature("friends");
+
+		for (boolean showURIs : new boolean[] { true, false }) {
+			Path filePath = Files.createTempFile("testLoadResourceWithPathURIs", ".zip");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+				// @formatter:off
+				resource.save(fileOutputStream,
+						Map.of(
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true,
+								EMFExportOptions.OPTION_SHOW_URIS, showURIs,
+								EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+							));
+				// @formatter:on
+			}
+
+			Resource loadedResource = resourceSet
+					.createResource(URI.createURI("testLoadResourceWithPathURIsLoaded" + showURIs + ".csv"));
+			assertNotNull(loadedResource);
+
+			try (InputStream fileInputStream = Files.newInputStream(filePath)) {
+				loadedResource.load(fileInputStream, Map.of(EMFCSVConstants.OPTION_ROOT_ELEMENT, groupEClass));
+			}
+
+			// references by path URIs are reported, rather than set to proxies or to EObjects at same paths
+			if (showURIs) {
+				assertThat(loadedResource.getWarnings()).extracting(Resource.Diagnostic::getMessage)
+						.anyMatch(message -> message.contains("path URIs"));
+				assertThat(loadedResource.getAllContents()).toIterable()
+						.filteredOn(friendsEReference.getEContainingClass()::isInstance)
+						.flatMap(member -> (List<EObject>) member.eGet(friendsEReference, false))
+						.noneMatch(EObject::eIsProxy);
+
+			} else {
+				assertThat(loadedResource.getWarnings()).isEmpty();
+				assertThat(loadedResource.getContents()).hasSize(groups.size()).allSatisfy(group -> {
+					assertThat(group.eClass()).isEqualTo(groupEClass);
+					assertThat((List<?>) group.eGet(membersEReference)).hasSize(3);
+				});
+			}
+		}
+	}
+
+	@Test
+	public void testLoadResourceWithoutRootElement(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware)
+			throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceWithoutRootElement.csv"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFCSVResource);
+
+		assertThrows(IOException.class,
+				() -> resource.load(new ByteArrayInputStream("_id,id".getBytes(StandardCharsets.UTF_8)), Map.of()));
+	}
+
+	/*
+	 * Reconstruction of EObjects from matrices is common to resources of all
+	 * formats, so it is verified here only; tests of other resources verify
+	 * reading of their formats.
+	 */
+	private void assertLoadedFamilies(Resource loadedResource, String... familyIds) {
+		// @formatter:off
+		Map<String, Family> families = loadedResource.getContents().stream()
+				.filter(Family.class::isInstance)
+				.map(Family.class::cast)
+				.collect(Collectors.toMap(Family::getId, Function.identity()));
+		// @formatter:on
+
+		assertThat(families).containsOnlyKeys(familyIds);
+
+		assertNotNull(families.get("Simpsons").getFather());
+		assertThat(families.get("Simpsons").getFather().getFirstName()).isEqualTo("Homer");
+		assertThat(families.get("Simpsons").getChildren()).hasSize(3);
+	}
 }
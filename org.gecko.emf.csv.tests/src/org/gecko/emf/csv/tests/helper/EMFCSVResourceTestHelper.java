@@ -13,12 +13,23 @@ package org.gecko.emf.csv.tests.helper;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 
 import org.apache.commons.text.RandomStringGenerator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.ETypedElement;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.gecko.emf.osgi.example.model.basic.Address;
 import org.gecko.emf.osgi.example.model.basic.BasicFactory;
 import org.gecko.emf.osgi.example.model.basic.BusinessPerson;
@@ -353,6 +364,66 @@ public class EMFCSVResourceTestHelper {
 		return props;
 	}
 
+	/**
+	 * Creates groups of dynamic model, whose EClasses have no ID attributes, each
+	 * containing members, first of which references other members as friends -
+	 * so that references to those are exported as path URIs, if URIs are shown.
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<EObject> createGroupsWithoutIDs() {
+		EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+
+		EPackage ePackage = ecoreFactory.createEPackage();
+		ePackage.setName("groups");
+		ePackage.setNsPrefix("groups");
+		ePackage.setNsURI("http://gecko.org/emf/tests/groups");
+
+		EClass groupEClass = ecoreFactory.createEClass();
+		groupEClass.setName("Group");
+		ePackage.getEClassifiers().add(groupEClass);
+
+		EClass memberEClass = ecoreFactory.createEClass();
+		memberEClass.setName("Member");
+		ePackage.getEClassifiers().add(memberEClass);
+
+		EAttribute nameEAttribute = ecoreFactory.createEAttribute();
+		nameEAttribute.setName("name");
+		nameEAttribute.setEType(EcorePackage.Literals.ESTRING);
+		memberEClass.getEStructuralFeatures().add(nameEAttribute);
+
+		EReference membersEReference = ecoreFactory.createEReference();
+		membersEReference.setName("members");
+		membersEReference.setEType(memberEClass);
+		membersEReference.setContainment(true);
+		membersEReference.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+		groupEClass.getEStructuralFeatures().add(membersEReference);
+
+		EReference friendsEReference = ecoreFactory.createEReference();
+		friendsEReference.setName("friends");
+		friendsEReference.setEType(memberEClass);
+		friendsEReference.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+		memberEClass.getEStructuralFeatures().add(friendsEReference);
+
+		List<EObject> groups = new ArrayList<>();
+
+		for (int i = 0; i < 2; i++) {
+			EObject group = EcoreUtil.create(groupEClass);
+			List<EObject> members = (List<EObject>) group.eGet(membersEReference);
+
+			for (int j = 0; j < 3; j++) {
+				EObject member = EcoreUtil.create(memberEClass);
+				member.eSet(nameEAttribute, "Member " + i + "." + j);
+				members.add(member);
+			}
+
+			((List<EObject>) members.get(0).eGet(friendsEReference)).addAll(members.subList(1, members.size()));
+
+			groups.add(group);
+		}
+
+		return groups;
+	}
+
 	private static String createPropertyName(String prefix, String name) {
 		return (prefix + "_" + name);
 	}
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.csv.configuration;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.gecko.emf.csv.constants.EMFCSVConstants;
+import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrixImporter;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRow;
+
+/**
+ * Loads EMF objects from CSV written by CSV exporter, in either export mode:
+ * ZIP archive containing CSV file per matrix, or single CSV file containing
+ * flat matrix. Mode is detected based on ZIP signature at start of input.
+ * 
+ * CSV files are read row by row, and each row is passed to
+ * {@link EMFExportMatrixImporter} as it is read, so memory used while loading
+ * does not depend on size of CSV files, but on number of objects loaded.
+ * 
+ * @author Michal H. Siemaszko
+ */
+class EMFCSVResourceLoader {
+
+	private static final byte[] ZIP_SIGNATURE = { 'P', 'K', 3, 4 };
+
+	private static final String CSV_FILE_EXTENSION = "." + EMFCSVConstants.EMFCSV_FILE_EXTENSION;
+
+	private final EClass rootEClass;
+
+	EMFCSVResourceLoader(EClass rootEClass) {
+		this.rootEClass = rootEClass;
+	}
+
+	void load(Resource resource, InputStream inputStream) throws IOException, EMFExportException {
+		EMFExportMatrixImporter importer = new EMFExportMatrixImporter(rootEClass);
+
+		BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+
+		if (isZipArchive(bufferedInputStream)) {
+			loadMatrices(importer, new ZipInputStream(bufferedInputStream, StandardCharsets.UTF_8));
+		} else {
+			loadFlatMatrix(importer, bufferedInputStream);
+		}
+
+		importer.finish(resource);
+	}
+
+	private boolean isZipArchive(BufferedInputStream bufferedInputStream) throws IOException {
+		bufferedInputStream.mark(ZIP_SIGNATURE.length);
+		byte[] signature = bufferedInputStream.readNBytes(ZIP_SIGNATURE.length);
+		bufferedInputStream.reset();
+
+		return Arrays.equals(signature, ZIP_SIGNATURE);
+	}
+
+	private void loadMatrices(EMFExportMatrixImporter importer, ZipInputStream zipInputStream)
+			throws IOException, EMFExportException {
+		ZipEntry zipEntry;
+		while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+			if (!zipEntry.isDirectory()) {
+				loadMatrix(importer, extractMatrixName(zipEntry.getName()),
+						new NonClosingInputStream(zipInputStream));
+			}
+		}
+	}
+
+	private void loadMatrix(EMFExportMatrixImporter importer, String matrixName, InputStream inputStream)
+			throws IOException, EMFExportException {
+		try (CsvReader csvReader = createCsvReader(inputStream)) {
+			Iterator<CsvRow> csvRowsIt = csvReader.iterator();
+
+			if (csvRowsIt.hasNext() && importer.startMatrix(matrixName, csvRowsIt.next().getFields())) {
+				while (csvRowsIt.hasNext()) {
+					importer.readRow(csvRowsIt.next().getFields());
+				}
+			}
+
+			importer.endMatrix();
+		}
+	}
+
+	private void loadFlatMatrix(EMFExportMatrixImporter importer, InputStream inputStream)
+			throws IOException, EMFExportException {
+		try (CsvReader csvReader = createCsvReader(inputStream)) {
+			Iterator<CsvRow> csvRowsIt = csvReader.iterator();
+
+			if (csvRowsIt.hasNext()) {
+				importer.startFlatMatrix(csvRowsIt.next().getFields());
+
+				while (csvRowsIt.hasNext()) {
+					importer.readRow(csvRowsIt.next().getFields());
+				}
+
+				importer.endMatrix();
+			}
+		}
+	}
+
+	private CsvReader createCsvReader(InputStream inputStream) {
+		return CsvReader.builder().build(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+	}
+
+	private String extractMatrixName(String zipEntryName) {
+		String matrixName = zipEntryName.substring(zipEntryName.lastIndexOf('/') + 1);
+
+		if (matrixName.endsWith(CSV_FILE_EXTENSION)) {
+			matrixName = matrixName.substring(0, matrixName.length() - CSV_FILE_EXTENSION.length());
+		}
+
+		return matrixName;
+	}
+
+	/*
+	 * Closing CSV reader of ZIP entry should not close ZIP archive itself.
+	 */
+	private static class NonClosingInputStream extends FilterInputStream {
+
+		private NonClosingInputStream(InputStream in) {
+			super(in);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			// do not close underlying stream
+		}
+	}
+}
@@ -24,4 +24,14 @@ public interface EMFCSVConstants {
 	static final String EMFCSV_FILE_EXTENSION = "csv";
 
 	static final String EMFCSV_CONTENT_TYPE = "application/csv";
+
+	/**
+	 * Sets the root element to be loaded from CSV, i.e. EClass of root objects
+	 * exported. EClasses of objects exported in ZIP mode are looked up starting
+	 * from this EClass.
+	 * <p>
+	 * Value must be an object of type EClass; it is required when loading.
+	 * </p>
+	 */
+	static final String OPTION_ROOT_ELEMENT = "OPTION_ROOT_ELEMENT";
 }
\ No newline at end of file
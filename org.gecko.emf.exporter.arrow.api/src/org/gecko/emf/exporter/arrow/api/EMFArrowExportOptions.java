@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.arrow.api;
+
+import org.gecko.emf.exporter.EMFExportOptions;
+
+/**
+ * Arrow export options.
+ * 
+ * Streaming (see {@link EMFExportOptions#OPTION_STREAMING}) does not bound
+ * memory used by Arrow exporter: rows are not kept as matrix, but values of all
+ * rows of matrix are still collected in memory, column by column, before its
+ * Arrow file is written, as each column's type and dictionary are derived from
+ * all of its values, and schema and dictionaries precede first record batch.
+ * Each Arrow file is then generated in memory, as stored ZIP entries require
+ * their size and CRC-32 to be known up front.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public interface EMFArrowExportOptions extends EMFExportOptions {
+
+	// Arrow IPC format, i.e. EMFArrowIPCFormat.FILE (random access format, which
+	// can be memory-mapped) or EMFArrowIPCFormat.STREAM (streaming format)
+	// (defaults to EMFArrowIPCFormat.FILE); Arrow files are stored in ZIP archive
+	// as they are, i.e. not compressed
+	String OPTION_IPC_FORMAT = "IPC_FORMAT";
+
+	// maximum number of rows in each record batch (defaults to 65536)
+	String OPTION_BATCH_SIZE = "BATCH_SIZE";
+}
@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.arrow.api;
+
+/**
+ * Arrow IPC format, used for Arrow files.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public enum EMFArrowIPCFormat {
+	// random access format, i.e. streaming format with footer, which allows
+	// random access to record batches, e.g. once file is memory-mapped
+	FILE,
+
+	// streaming format, i.e. sequence of messages, which has to be read from
+	// start to end
+	STREAM;
+}
@@ -0,0 +1,601 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.arrow.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gecko.emf.arrow.tests.helper.EMFArrowExporterTestHelper.createBusinessPerson;
+import static org.gecko.emf.arrow.tests.helper.EMFArrowExporterTestHelper.createFlintstonesFamily;
+import static org.gecko.emf.arrow.tests.helper.EMFArrowExporterTestHelper.createInteropPersons;
+import static org.gecko.emf.arrow.tests.helper.EMFArrowExporterTestHelper.createRequest;
+import static org.gecko.emf.arrow.tests.helper.EMFArrowExporterTestHelper.createSimpsonFamily;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.gecko.emf.arrow.tests.helper.ArrowFileReader;
+import org.gecko.emf.arrow.tests.helper.ArrowFileReader.ArrowBuffer;
+import org.gecko.emf.arrow.tests.helper.ArrowFileReader.ArrowField;
+import org.gecko.emf.arrow.tests.helper.ArrowFileReader.ArrowFile;
+import org.gecko.emf.arrow.tests.helper.ArrowFileReader.ArrowMessage;
+import org.gecko.emf.exporter.EMFExportOptions;
+import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.exporter.arrow.api.EMFArrowExportOptions;
+import org.gecko.emf.exporter.arrow.api.EMFArrowIPCFormat;
+import org.gecko.emf.exporter.arrow.api.annotations.RequireEMFArrowExporter;
+import org.gecko.emf.osgi.annotation.require.RequireEMF;
+import org.gecko.emf.osgi.example.model.basic.BasicFactory;
+import org.gecko.emf.osgi.example.model.basic.BasicPackage;
+import org.gecko.emf.osgi.example.model.basic.BusinessPerson;
+import org.gecko.emf.osgi.example.model.basic.Family;
+import org.gecko.emf.osgi.example.model.basic.Person;
+import org.gecko.emf.utilities.Request;
+import org.gecko.emf.utilities.UtilitiesFactory;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.commons.annotation.Testable;
+import org.osgi.framework.ServiceReference;
+import org.osgi.test.common.annotation.InjectService;
+import org.osgi.test.common.service.ServiceAware;
+import org.osgi.test.junit5.context.BundleContextExtension;
+import org.osgi.test.junit5.service.ServiceExtension;
+
+import trees.TreesPackage;
+
+/**
+ * EMF Arrow exporter integration test.
+ *
+ * @author Michal H. Siemaszko
+ */
+@Testable
+@ExtendWith(BundleContextExtension.class)
+@ExtendWith(ServiceExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@RequireEMFArrowExporter
+@RequireEMF
+public class EMFArrowExporterTest {
+
+	private static final String TREES_DATASET_XMI = System.getProperty("TREES_DATASET_XMI");
+
+	private static final String INTEROP_PERSON_ARROW = System.getProperty("INTEROP_PERSON_ARROW");
+
+	private static final byte[] ARROW_FILE_MAGIC = "ARROW1".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] ARROW_STREAM_END = { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0, 0, 0, 0 };
+
+	@Order(value = -1)
+	@Test
+	public void testServices(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware) {
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		ServiceReference<EMFExporter> emfArrowExporterReference = emfArrowExporterAware.getServiceReference();
+		assertThat(emfArrowExporterReference).isNotNull();
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToArrow(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		EMFExporter emfArrowExporterService = emfArrowExporterAware.getService();
+		assertThat(emfArrowExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToArrow", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfArrowExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+//						EMFArrowExportOptions.OPTION_IPC_FORMAT, EMFArrowIPCFormat.FILE, // defaults to FILE
+//						EMFArrowExportOptions.OPTION_BATCH_SIZE, 65536 // defaults to 65536
+					)
+				);
+		// @formatter:on
+
+		assertArrowFiles(filePath, EMFArrowIPCFormat.FILE);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToArrowParallelismEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		EMFExporter emfArrowExporterService = emfArrowExporterAware.getService();
+		assertThat(emfArrowExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToArrowParallelismEnabled", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfArrowExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_PARALLELISM, 4 // defaults to 1
+					)
+				);
+		// @formatter:on
+
+		assertArrowFiles(filePath, EMFArrowIPCFormat.FILE);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToArrowStreamingEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		EMFExporter emfArrowExporterService = emfArrowExporterAware.getService();
+		assertThat(emfArrowExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToArrowStreamingEnabled", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfArrowExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_STREAMING, true // defaults to false
+					)
+				);
+		// @formatter:on
+
+		assertArrowFiles(filePath, EMFArrowIPCFormat.FILE);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToArrowStreamFormat(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		EMFExporter emfArrowExporterService = emfArrowExporterAware.getService();
+		assertThat(emfArrowExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToArrowStreamFormat", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfArrowExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, false, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFArrowExportOptions.OPTION_IPC_FORMAT, EMFArrowIPCFormat.STREAM, // defaults to FILE
+						EMFArrowExportOptions.OPTION_BATCH_SIZE, 2 // defaults to 65536
+					)
+				);
+		// @formatter:on
+
+		assertArrowFiles(filePath, EMFArrowIPCFormat.STREAM);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToArrowReadBack(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		EMFExporter emfArrowExporterService = emfArrowExporterAware.getService();
+		assertThat(emfArrowExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToArrowReadBack", ".zip");
+
+		int batchSize = 4;
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+			// @formatter:off
+			emfArrowExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily), fileOutputStream,
+					Map.of(
+							EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+							EMFExportOptions.OPTION_ADD_MAPPING_TABLE, false, // defaults to false
+							EMFArrowExportOptions.OPTION_IPC_FORMAT, EMFArrowIPCFormat.FILE, // defaults to FILE
+							EMFArrowExportOptions.OPTION_BATCH_SIZE, batchSize // defaults to 65536
+						)
+					);
+			// @formatter:on
+		}
+
+		Map<String, byte[]> arrowFiles = readArrowFiles(filePath);
+		assertThat(arrowFiles).containsKey("Person.arrow");
+
+		ArrowFile personArrowFile = ArrowFileReader.read(arrowFiles.get("Person.arrow"));
+
+		// @formatter:off
+		Map<String, Person> personsById = Stream.of(simpsonFamily, flintstonesFamily)
+				.flatMap(family -> Stream.concat(Stream.of(family.getFather(), family.getMother()), family.getChildren().stream()))
+				.collect(Collectors.toMap(Person::getId, Function.identity()));
+		// @formatter:on
+
+		assertThat(personArrowFile.getRowsCount()).isEqualTo(personsById.size());
+
+		// schema
+		ArrowField idField = personArrowFile.getField("id");
+		assertThat(idField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_UTF8);
+		assertThat(idField.getDictionaryId()).isNull();
+
+		ArrowField genderField = personArrowFile.getField("gender");
+		assertThat(genderField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_UTF8);
+		assertThat(genderField.getDictionaryId()).isNotNull();
+		assertThat(genderField.getDictionaryIndexBitWidth()).isEqualTo(32);
+		assertThat(genderField.getDictionaryIndexSigned()).isTrue();
+
+		ArrowField relativesField = personArrowFile.getField("relatives._ref");
+		assertThat(relativesField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_LIST);
+		assertThat(relativesField.getChildren()).hasSize(1);
+		assertThat(relativesField.getChildren().get(0).getTypeType()).isEqualTo(ArrowFileReader.TYPE_UTF8);
+
+		// footer
+		assertThat(personArrowFile.getFooterFields()).isEqualTo(personArrowFile.getFields());
+
+		// @formatter:off
+		assertThat(personArrowFile.getFooterDictionaryBlocks()).isEqualTo(personArrowFile.getMessages(ArrowFileReader.MESSAGE_HEADER_DICTIONARY_BATCH).stream()
+				.map(ArrowMessage::getBlock)
+				.collect(Collectors.toList()));
+		assertThat(personArrowFile.getFooterRecordBatchBlocks()).isEqualTo(personArrowFile.getMessages(ArrowFileReader.MESSAGE_HEADER_RECORD_BATCH).stream()
+				.map(ArrowMessage::getBlock)
+				.collect(Collectors.toList()));
+		// @formatter:on
+
+		// messages and their buffers should start aligned, each buffer within its message's body
+		for (ArrowMessage message : personArrowFile.getMessages()) {
+			assertThat(message.getBlock().getOffset() % ArrowFileReader.ALIGNMENT).isZero();
+			assertThat(message.getBlock().getMetadataLength() % ArrowFileReader.ALIGNMENT).isZero();
+			assertThat(message.getBlock().getBodyLength() % ArrowFileReader.ALIGNMENT).isZero();
+
+			long previousBufferEnd = 0;
+			for (ArrowBuffer buffer : message.getBuffers()) {
+				assertThat(buffer.getOffset() % ArrowFileReader.ALIGNMENT).isZero();
+				assertThat(buffer.getOffset()).isGreaterThanOrEqualTo(previousBufferEnd);
+				assertThat(buffer.getOffset() + buffer.getLength()).isLessThanOrEqualTo(message.getBlock().getBodyLength());
+
+				previousBufferEnd = buffer.getOffset() + buffer.getLength();
+			}
+		}
+
+		// enum values are dictionary encoded, dictionary holding literals in order of declaration
+		List<ArrowMessage> dictionaryBatches = personArrowFile.getMessages(ArrowFileReader.MESSAGE_HEADER_DICTIONARY_BATCH);
+		assertThat(dictionaryBatches).hasSize(1);
+		assertThat(dictionaryBatches.get(0).getDictionaryId()).isEqualTo(genderField.getDictionaryId());
+
+		// @formatter:off
+		assertThat(personArrowFile.getDictionary(genderField.getDictionaryId())).containsExactlyElementsOf(basicPackage.getGenderType().getELiterals().stream()
+				.map(EEnumLiteral::getLiteral)
+				.collect(Collectors.toList()));
+		// @formatter:on
+
+		// rows are split into record batches of at most batch size rows each
+		List<ArrowMessage> recordBatches = personArrowFile.getMessages(ArrowFileReader.MESSAGE_HEADER_RECORD_BATCH);
+		assertThat(recordBatches).hasSize((personsById.size() + batchSize - 1) / batchSize);
+		for (ArrowMessage recordBatch : recordBatches) {
+			assertThat(recordBatch.getLength()).isBetween(1L, (long) batchSize);
+		}
+
+		// values
+		List<Object> ids = personArrowFile.getColumn("id");
+		List<Object> firstNames = personArrowFile.getColumn("firstName");
+		List<Object> genders = personArrowFile.getColumn("gender");
+		List<Object> bigInts = personArrowFile.getColumn("bigInt");
+		List<Object> relatives = personArrowFile.getColumn("relatives._ref");
+
+		assertThat(ids).containsExactlyInAnyOrderElementsOf(personsById.keySet());
+
+		for (int i = 0; i < ids.size(); i++) {
+			Person person = personsById.get(ids.get(i));
+
+			assertThat(firstNames.get(i)).isEqualTo(person.getFirstName());
+			assertThat(genders.get(i)).isEqualTo(person.getGender().getLiteral());
+			if (person.getBigInt() != null) {
+				assertThat(((Number) bigInts.get(i)).doubleValue()).isEqualTo(person.getBigInt().doubleValue());
+			} else {
+				assertThat(bigInts.get(i)).isNull();
+			}
+			assertThat(relatives.get(i))
+					.isEqualTo(person.getRelatives().stream().map(Person::getId).collect(Collectors.toList()));
+		}
+	}
+
+	/*
+	 * Reference file was written by Apache Arrow Java (ArrowFileWriter) from
+	 * record batches and dictionaries it read from file exported from same
+	 * persons; exported file should hold same schema and same values.
+	 */
+	@Test
+	public void testExportDynamicModelEObjectsToArrowSameAsReferenceFile(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware)
+			throws Exception {
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		EMFExporter emfArrowExporterService = emfArrowExporterAware.getService();
+		assertThat(emfArrowExporterService).isNotNull();
+
+		ArrowFile referenceArrowFile = ArrowFileReader.read(Files.readAllBytes(Path.of(INTEROP_PERSON_ARROW)));
+
+		for (boolean streaming : new boolean[] { false, true }) {
+			Path filePath = Files.createTempFile("testExportDynamicModelEObjectsToArrowSameAsReferenceFile", ".zip");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+				// @formatter:off
+				emfArrowExporterService.exportEObjectsTo(createInteropPersons(), fileOutputStream,
+						Map.of(
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true,
+								EMFExportOptions.OPTION_EXPORT_METADATA, false,
+								EMFExportOptions.OPTION_ADD_MAPPING_TABLE, false,
+								EMFExportOptions.OPTION_SHOW_URIS, false,
+								EMFExportOptions.OPTION_STREAMING, streaming,
+								EMFArrowExportOptions.OPTION_IPC_FORMAT, EMFArrowIPCFormat.FILE
+							)
+						);
+				// @formatter:on
+			}
+
+			Map<String, byte[]> arrowFiles = readArrowFiles(filePath);
+			assertThat(arrowFiles).containsOnlyKeys("Person.arrow");
+
+			ArrowFile personArrowFile = ArrowFileReader.read(arrowFiles.get("Person.arrow"));
+
+			// schema
+			assertThat(personArrowFile.getFields()).isEqualTo(referenceArrowFile.getFields());
+			assertThat(personArrowFile.getFooterFields()).isEqualTo(referenceArrowFile.getFooterFields());
+
+			ArrowField ageField = personArrowFile.getField("age");
+			assertThat(ageField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_INT);
+			assertThat(ageField.getBitWidth()).isEqualTo(32);
+			assertThat(ageField.getSigned()).isTrue();
+
+			ArrowField heightField = personArrowFile.getField("height");
+			assertThat(heightField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_FLOATING_POINT);
+			assertThat(heightField.getPrecision()).isEqualTo(ArrowFileReader.PRECISION_DOUBLE);
+
+			ArrowField marriedField = personArrowFile.getField("married");
+			assertThat(marriedField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_BOOL);
+
+			ArrowField birthDateField = personArrowFile.getField("birthDate");
+			assertThat(birthDateField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_TIMESTAMP);
+			assertThat(birthDateField.getTimeUnit()).isEqualTo(ArrowFileReader.TIME_UNIT_MILLISECOND);
+			assertThat(birthDateField.getTimezone()).isEqualTo("UTC");
+
+			ArrowField favouriteColorField = personArrowFile.getField("favouriteColor");
+			assertThat(favouriteColorField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_UTF8);
+			assertThat(favouriteColorField.getDictionaryId()).isNotNull();
+
+			ArrowField friendsField = personArrowFile.getField("friends._ref");
+			assertThat(friendsField.getTypeType()).isEqualTo(ArrowFileReader.TYPE_LIST);
+			assertThat(friendsField.getChildren()).extracting(ArrowField::getTypeType)
+					.containsExactly(ArrowFileReader.TYPE_UTF8);
+
+			// values
+			assertThat(personArrowFile.getRowsCount()).isEqualTo(referenceArrowFile.getRowsCount());
+			assertThat(personArrowFile.getDictionary(favouriteColorField.getDictionaryId()))
+					.isEqualTo(referenceArrowFile.getDictionary(favouriteColorField.getDictionaryId()));
+
+			for (ArrowField field : referenceArrowFile.getFields()) {
+				assertThat(personArrowFile.getColumn(field.getName())).as(field.getName())
+						.isEqualTo(referenceArrowFile.getColumn(field.getName()));
+			}
+
+			assertThat(personArrowFile.getColumn("age")).containsExactly(20, 30, 40, 50);
+			assertThat(personArrowFile.getColumn("height")).containsExactly(1.55, 1.65, 1.75, 1.85);
+			assertThat(personArrowFile.getColumn("birthDate")).containsExactly(631182600000L, 717582600000L,
+					803982600000L, null);
+			assertThat(personArrowFile.getColumn("favouriteColor")).containsExactly("RED", "GREEN", "BLUE", "RED");
+			assertThat(personArrowFile.getColumn("friends._ref")).containsExactly(List.of("person_1", "person_2"),
+					List.of("person_0"), null, null);
+		}
+	}
+
+	@Test
+	public void testExportUtilModelEObjectsToArrow(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware)
+			throws Exception {
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		EMFExporter emfArrowExporterService = emfArrowExporterAware.getService();
+		assertThat(emfArrowExporterService).isNotNull();
+
+		Request request1 = createRequest(UtilitiesFactory.eINSTANCE);
+
+		Request request2 = createRequest(UtilitiesFactory.eINSTANCE);
+
+		Request request3 = createRequest(UtilitiesFactory.eINSTANCE);
+
+		Path filePath = Files.createTempFile("testExportUtilModelEObjectsToArrow", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfArrowExporterService.exportEObjectsTo(List.of(request1, request2, request3), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+					)
+				);
+		// @formatter:on
+
+		assertArrowFiles(filePath, EMFArrowIPCFormat.FILE);
+	}
+
+	@Test
+	public void testExportTreesModelEObjectsToArrow(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFArrowExporter)") ServiceAware<EMFExporter> emfArrowExporterAware)
+			throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertThat(emfArrowExporterAware.getServices()).hasSize(1);
+		EMFExporter emfArrowExporterService = emfArrowExporterAware.getService();
+		assertThat(emfArrowExporterService).isNotNull();
+
+		// register model
+		EPackage.Registry packageRegistry = resourceSet.getPackageRegistry();
+		packageRegistry.put(TreesPackage.eNS_URI, TreesPackage.eINSTANCE);
+
+		// register xmi
+		Map<String, Object> extensionFactoryMap = Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap();
+		extensionFactoryMap.put("xmi", new XMIResourceFactoryImpl());
+
+		Resource resource = resourceSet.getResource(URI.createFileURI(new File(TREES_DATASET_XMI).getAbsolutePath()),
+				true);
+
+		Path filePath = Files.createTempFile("testExportTreesModelEObjectsToArrow", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfArrowExporterService.exportEObjectsTo(resource.getContents(), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+					)
+				);
+		// @formatter:on
+
+		assertArrowFiles(filePath, EMFArrowIPCFormat.FILE);
+	}
+
+	private Map<String, byte[]> readArrowFiles(Path filePath) throws Exception {
+		Map<String, byte[]> arrowFiles = new HashMap<>();
+
+		try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(filePath))) {
+			ZipEntry zipEntry;
+
+			while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+				arrowFiles.put(zipEntry.getName(), zipInputStream.readAllBytes());
+			}
+		}
+
+		return arrowFiles;
+	}
+
+	/*
+	 * Each entry of ZIP archive should be Arrow file, i.e. begin and end with
+	 * Arrow's magic number, or Arrow stream, i.e. end with end-of-stream marker.
+	 */
+	private void assertArrowFiles(Path filePath, EMFArrowIPCFormat ipcFormat) throws Exception {
+		int arrowFilesCount = 0;
+
+		try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(filePath))) {
+			ZipEntry zipEntry;
+
+			while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+				assertThat(zipEntry.getMethod()).isEqualTo(ZipEntry.STORED);
+
+				byte[] arrowFile = zipInputStream.readAllBytes();
+
+				if (ipcFormat == EMFArrowIPCFormat.FILE) {
+					assertThat(zipEntry.getName()).endsWith(".arrow");
+
+					assertThat(Arrays.copyOfRange(arrowFile, 0, 6)).isEqualTo(ARROW_FILE_MAGIC);
+					assertThat(Arrays.copyOfRange(arrowFile, arrowFile.length - 6, arrowFile.length))
+							.isEqualTo(ARROW_FILE_MAGIC);
+
+				} else {
+					assertThat(zipEntry.getName()).endsWith(".arrows");
+
+					assertThat(Arrays.copyOfRange(arrowFile, arrowFile.length - 8, arrowFile.length))
+							.isEqualTo(ARROW_STREAM_END);
+				}
+
+				arrowFilesCount++;
+			}
+		}
+
+		assertThat(arrowFilesCount).isPositive();
+	}
+}
@@ -0,0 +1,926 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.arrow.tests.helper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Minimal reader of Arrow IPC files and streams, as written by Arrow exporter
+ * (Utf8, Bool, Int, FloatingPoint, Timestamp and List types, dictionary
+ * encoded Utf8 columns, no compression), used to verify files exported, as
+ * Apache Arrow's own reader depends on Netty and off-heap memory.
+ *
+ * @author Michal H. Siemaszko
+ */
+public class ArrowFileReader {
+
+	/* message header types */
+	public static final int MESSAGE_HEADER_SCHEMA = 1;
+	public static final int MESSAGE_HEADER_DICTIONARY_BATCH = 2;
+	public static final int MESSAGE_HEADER_RECORD_BATCH = 3;
+
+	/* types */
+	public static final int TYPE_INT = 2;
+	public static final int TYPE_FLOATING_POINT = 3;
+	public static final int TYPE_UTF8 = 5;
+	public static final int TYPE_BOOL = 6;
+	public static final int TYPE_TIMESTAMP = 10;
+	public static final int TYPE_LIST = 12;
+
+	/* floating point precisions */
+	public static final int PRECISION_SINGLE = 1;
+	public static final int PRECISION_DOUBLE = 2;
+
+	/* time units */
+	public static final int TIME_UNIT_MILLISECOND = 1;
+
+	public static final int ALIGNMENT = 8;
+
+	private static final byte[] ARROW_FILE_MAGIC = "ARROW1".getBytes(StandardCharsets.US_ASCII);
+
+	private static final int CONTINUATION_MARKER = 0xFFFFFFFF;
+
+	private static final short METADATA_VERSION_V5 = 4;
+
+	private ArrowFileReader() {
+	}
+
+	/**
+	 * Reads schema, messages and values of all columns of Arrow file or stream,
+	 * as well as footer, in case of Arrow file.
+	 *
+	 * @param arrowFile
+	 * @return
+	 * @throws IOException
+	 */
+	public static ArrowFile read(byte[] arrowFile) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(arrowFile).order(ByteOrder.LITTLE_ENDIAN);
+
+		boolean fileFormat = Arrays.equals(ARROW_FILE_MAGIC, Arrays.copyOfRange(arrowFile, 0, 6));
+
+		if (fileFormat && !Arrays.equals(ARROW_FILE_MAGIC,
+				Arrays.copyOfRange(arrowFile, arrowFile.length - 6, arrowFile.length))) {
+			throw new IOException("Arrow file does not end with magic number!");
+		}
+
+		int position = fileFormat ? ALIGNMENT : 0;
+
+		List<ArrowField> fields = null;
+		List<ArrowMessage> messages = new ArrayList<>();
+		Map<Long, List<String>> dictionaries = new HashMap<>();
+		Map<String, List<Object>> columns = new LinkedHashMap<>();
+
+		long rowsCount = 0;
+
+		while (true) {
+			if (position % ALIGNMENT != 0) {
+				throw new IOException(String.format("Message at offset %d is not aligned!", position));
+			}
+
+			if (buffer.getInt(position) != CONTINUATION_MARKER) {
+				throw new IOException(String.format("Message at offset %d lacks continuation marker!", position));
+			}
+
+			int metadataLength = buffer.getInt(position + 4);
+
+			if (metadataLength == 0) {
+				// end of stream
+				position += 8;
+				break;
+			}
+
+			if ((8 + metadataLength) % ALIGNMENT != 0) {
+				throw new IOException(String.format("Metadata of message at offset %d is not padded!", position));
+			}
+
+			Table message = Table.root(buffer, position + 8);
+
+			if (message.getShort(0, (short) 0) != METADATA_VERSION_V5) {
+				throw new IOException(String.format("Unsupported metadata version of message at offset %d!", position));
+			}
+
+			int headerType = message.getByte(1, (byte) 0);
+			Table header = message.getTable(2);
+			long bodyLength = message.getLong(3, 0L);
+
+			int bodyStart = position + 8 + metadataLength;
+
+			if (bodyStart + bodyLength > arrowFile.length) {
+				throw new IOException(String.format("Body of message at offset %d exceeds file!", position));
+			}
+
+			ByteBuffer body = ByteBuffer.wrap(arrowFile, bodyStart, (int) bodyLength).slice()
+					.order(ByteOrder.LITTLE_ENDIAN);
+
+			ArrowBlock block = new ArrowBlock(position, 8 + metadataLength, bodyLength);
+
+			switch (headerType) {
+
+			case MESSAGE_HEADER_SCHEMA:
+				if (fields != null) {
+					throw new IOException("Arrow file holds more than one schema!");
+				}
+
+				fields = readFields(header);
+				for (ArrowField field : fields) {
+					columns.put(field.getName(), new ArrayList<>());
+				}
+
+				messages.add(new ArrowMessage(headerType, block, 0, Collections.emptyList(), null));
+				break;
+
+			case MESSAGE_HEADER_DICTIONARY_BATCH: {
+				long dictionaryId = header.getLong(0, 0L);
+				Table recordBatch = header.getTable(1);
+
+				BatchReader batchReader = new BatchReader(recordBatch, body, dictionaries);
+
+				List<String> dictionary = new ArrayList<>();
+				for (Object value : batchReader.readValues(new ArrowField("dictionary", true, TYPE_UTF8))) {
+					dictionary.add((String) value);
+				}
+				batchReader.assertFullyRead();
+
+				dictionaries.put(Long.valueOf(dictionaryId), dictionary);
+
+				messages.add(new ArrowMessage(headerType, block, batchReader.length, batchReader.buffers,
+						Long.valueOf(dictionaryId)));
+				break;
+			}
+
+			case MESSAGE_HEADER_RECORD_BATCH: {
+				if (fields == null) {
+					throw new IOException("Record batch precedes schema!");
+				}
+
+				BatchReader batchReader = new BatchReader(header, body, dictionaries);
+
+				for (ArrowField field : fields) {
+					columns.get(field.getName()).addAll(batchReader.readValues(field));
+				}
+				batchReader.assertFullyRead();
+
+				rowsCount += batchReader.length;
+
+				messages.add(new ArrowMessage(headerType, block, batchReader.length, batchReader.buffers, null));
+				break;
+			}
+
+			default:
+				throw new IOException(String.format("Unsupported message header type %d!", headerType));
+			}
+
+			position = (int) (bodyStart + bodyLength);
+		}
+
+		List<ArrowField> footerFields = null;
+		List<ArrowBlock> footerDictionaryBlocks = null;
+		List<ArrowBlock> footerRecordBatchBlocks = null;
+
+		if (fileFormat) {
+			int footerLength = buffer.getInt(arrowFile.length - 10);
+
+			if (position + footerLength != arrowFile.length - 10) {
+				throw new IOException("Footer does not follow end of stream!");
+			}
+
+			Table footer = Table.root(buffer, position);
+
+			if (footer.getShort(0, (short) 0) != METADATA_VERSION_V5) {
+				throw new IOException("Unsupported metadata version of footer!");
+			}
+
+			footerFields = readFields(footer.getTable(1));
+			footerDictionaryBlocks = readBlocks(footer, 2);
+			footerRecordBatchBlocks = readBlocks(footer, 3);
+
+		} else if (position != arrowFile.length) {
+			throw new IOException("Arrow stream does not end with end of stream marker!");
+		}
+
+		return new ArrowFile(fileFormat, fields, messages, dictionaries, columns, rowsCount, footerFields,
+				footerDictionaryBlocks, footerRecordBatchBlocks);
+	}
+
+	private static List<ArrowField> readFields(Table schema) {
+		List<ArrowField> fields = new ArrayList<>();
+		for (Table field : schema.getTables(1)) {
+			fields.add(readField(field));
+		}
+		return fields;
+	}
+
+	private static ArrowField readField(Table field) {
+		int typeType = field.getByte(2, (byte) 0);
+		Table type = field.getTable(3);
+
+		Integer bitWidth = null;
+		Boolean signed = null;
+		Integer precision = null;
+		Integer timeUnit = null;
+		String timezone = null;
+
+		if (typeType == TYPE_INT) {
+			bitWidth = Integer.valueOf(type.getInt(0, 0));
+			signed = Boolean.valueOf(type.getBoolean(1));
+		} else if (typeType == TYPE_FLOATING_POINT) {
+			precision = Integer.valueOf(type.getShort(0, (short) 0));
+		} else if (typeType == TYPE_TIMESTAMP) {
+			timeUnit = Integer.valueOf(type.getShort(0, (short) 0));
+			timezone = type.getString(1);
+		}
+
+		Long dictionaryId = null;
+		Integer dictionaryIndexBitWidth = null;
+		Boolean dictionaryIndexSigned = null;
+
+		Table dictionaryEncoding = field.getTable(4);
+		if (dictionaryEncoding != null) {
+			dictionaryId = Long.valueOf(dictionaryEncoding.getLong(0, 0L));
+
+			Table indexType = dictionaryEncoding.getTable(1);
+			dictionaryIndexBitWidth = Integer.valueOf(indexType.getInt(0, 0));
+			dictionaryIndexSigned = Boolean.valueOf(indexType.getBoolean(1));
+		}
+
+		List<ArrowField> children = new ArrayList<>();
+		for (Table child : field.getTables(5)) {
+			children.add(readField(child));
+		}
+
+		return new ArrowField(field.getString(0), field.getBoolean(1), typeType, bitWidth, signed, precision,
+				timeUnit, timezone, dictionaryId, dictionaryIndexBitWidth, dictionaryIndexSigned, children);
+	}
+
+	private static List<ArrowBlock> readBlocks(Table footer, int field) {
+		List<ArrowBlock> blocks = new ArrayList<>();
+
+		int vectorStart = footer.getVectorStart(field);
+		for (int i = 0; i < footer.getVectorLength(field); i++) {
+			int blockPosition = vectorStart + 24 * i;
+
+			blocks.add(new ArrowBlock(footer.buffer.getLong(blockPosition), footer.buffer.getInt(blockPosition + 8),
+					footer.buffer.getLong(blockPosition + 16)));
+		}
+
+		return blocks;
+	}
+
+	public static class ArrowFile {
+		private final boolean fileFormat;
+		private final List<ArrowField> fields;
+		private final List<ArrowMessage> messages;
+		private final Map<Long, List<String>> dictionaries;
+		private final Map<String, List<Object>> columns;
+		private final long rowsCount;
+		private final List<ArrowField> footerFields;
+		private final List<ArrowBlock> footerDictionaryBlocks;
+		private final List<ArrowBlock> footerRecordBatchBlocks;
+
+		private ArrowFile(boolean fileFormat, List<ArrowField> fields, List<ArrowMessage> messages,
+				Map<Long, List<String>> dictionaries, Map<String, List<Object>> columns, long rowsCount,
+				List<ArrowField> footerFields, List<ArrowBlock> footerDictionaryBlocks,
+				List<ArrowBlock> footerRecordBatchBlocks) {
+			this.fileFormat = fileFormat;
+			this.fields = fields;
+			this.messages = messages;
+			this.dictionaries = dictionaries;
+			this.columns = columns;
+			this.rowsCount = rowsCount;
+			this.footerFields = footerFields;
+			this.footerDictionaryBlocks = footerDictionaryBlocks;
+			this.footerRecordBatchBlocks = footerRecordBatchBlocks;
+		}
+
+		public boolean isFileFormat() {
+			return fileFormat;
+		}
+
+		public List<ArrowField> getFields() {
+			return fields;
+		}
+
+		public ArrowField getField(String name) {
+			for (ArrowField field : fields) {
+				if (name.equals(field.getName())) {
+					return field;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Returns all messages (schema, dictionary batches and record batches) in
+		 * order those are stored in.
+		 *
+		 * @return
+		 */
+		public List<ArrowMessage> getMessages() {
+			return messages;
+		}
+
+		public List<ArrowMessage> getMessages(int headerType) {
+			List<ArrowMessage> messagesOfType = new ArrayList<>();
+			for (ArrowMessage message : messages) {
+				if (message.getHeaderType() == headerType) {
+					messagesOfType.add(message);
+				}
+			}
+			return messagesOfType;
+		}
+
+		public List<String> getDictionary(long dictionaryId) {
+			return dictionaries.get(Long.valueOf(dictionaryId));
+		}
+
+		/**
+		 * Returns values of column with given name, from all record batches: nulls
+		 * for null values, lists for list columns, dictionary values for
+		 * dictionary encoded columns.
+		 *
+		 * @param name
+		 * @return
+		 */
+		public List<Object> getColumn(String name) {
+			return columns.get(name);
+		}
+
+		public long getRowsCount() {
+			return rowsCount;
+		}
+
+		/**
+		 * Returns fields of schema stored in footer, or <code>null</code> in case of
+		 * Arrow stream.
+		 *
+		 * @return
+		 */
+		public List<ArrowField> getFooterFields() {
+			return footerFields;
+		}
+
+		public List<ArrowBlock> getFooterDictionaryBlocks() {
+			return footerDictionaryBlocks;
+		}
+
+		public List<ArrowBlock> getFooterRecordBatchBlocks() {
+			return footerRecordBatchBlocks;
+		}
+	}
+
+	public static class ArrowField {
+		private final String name;
+		private final boolean nullable;
+		private final int typeType;
+		private final Integer bitWidth;
+		private final Boolean signed;
+		private final Integer precision;
+		private final Integer timeUnit;
+		private final String timezone;
+		private final Long dictionaryId;
+		private final Integer dictionaryIndexBitWidth;
+		private final Boolean dictionaryIndexSigned;
+		private final List<ArrowField> children;
+
+		private ArrowField(String name, boolean nullable, int typeType) {
+			this(name, nullable, typeType, null, null, null, null, null, null, null, null, Collections.emptyList());
+		}
+
+		private ArrowField(String name, boolean nullable, int typeType, Integer bitWidth, Boolean signed,
+				Integer precision, Integer timeUnit, String timezone, Long dictionaryId,
+				Integer dictionaryIndexBitWidth, Boolean dictionaryIndexSigned, List<ArrowField> children) {
+			this.name = name;
+			this.nullable = nullable;
+			this.typeType = typeType;
+			this.bitWidth = bitWidth;
+			this.signed = signed;
+			this.precision = precision;
+			this.timeUnit = timeUnit;
+			this.timezone = timezone;
+			this.dictionaryId = dictionaryId;
+			this.dictionaryIndexBitWidth = dictionaryIndexBitWidth;
+			this.dictionaryIndexSigned = dictionaryIndexSigned;
+			this.children = children;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isNullable() {
+			return nullable;
+		}
+
+		public int getTypeType() {
+			return typeType;
+		}
+
+		public Integer getBitWidth() {
+			return bitWidth;
+		}
+
+		public Boolean getSigned() {
+			return signed;
+		}
+
+		public Integer getPrecision() {
+			return precision;
+		}
+
+		public Integer getTimeUnit() {
+			return timeUnit;
+		}
+
+		public String getTimezone() {
+			return timezone;
+		}
+
+		/**
+		 * Returns ID of dictionary, if field is dictionary encoded, or
+		 * <code>null</code> otherwise.
+		 *
+		 * @return
+		 */
+		public Long getDictionaryId() {
+			return dictionaryId;
+		}
+
+		public Integer getDictionaryIndexBitWidth() {
+			return dictionaryIndexBitWidth;
+		}
+
+		public Boolean getDictionaryIndexSigned() {
+			return dictionaryIndexSigned;
+		}
+
+		public List<ArrowField> getChildren() {
+			return children;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ArrowField)) {
+				return false;
+			}
+			ArrowField other = (ArrowField) obj;
+			return Objects.equals(name, other.name) && (nullable == other.nullable) && (typeType == other.typeType)
+					&& Objects.equals(bitWidth, other.bitWidth) && Objects.equals(signed, other.signed)
+					&& Objects.equals(precision, other.precision) && Objects.equals(timeUnit, other.timeUnit)
+					&& Objects.equals(timezone, other.timezone) && Objects.equals(dictionaryId, other.dictionaryId)
+					&& Objects.equals(dictionaryIndexBitWidth, other.dictionaryIndexBitWidth)
+					&& Objects.equals(dictionaryIndexSigned, other.dictionaryIndexSigned)
+					&& Objects.equals(children, other.children);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name, typeType, dictionaryId, children);
+		}
+
+		@Override
+		public String toString() {
+			return name + "(type " + typeType + ")";
+		}
+	}
+
+	public static class ArrowMessage {
+		private final int headerType;
+		private final ArrowBlock block;
+		private final long length;
+		private final List<ArrowBuffer> buffers;
+		private final Long dictionaryId;
+
+		private ArrowMessage(int headerType, ArrowBlock block, long length, List<ArrowBuffer> buffers,
+				Long dictionaryId) {
+			this.headerType = headerType;
+			this.block = block;
+			this.length = length;
+			this.buffers = buffers;
+			this.dictionaryId = dictionaryId;
+		}
+
+		public int getHeaderType() {
+			return headerType;
+		}
+
+		/**
+		 * Returns position of message within Arrow file, as stored in footer.
+		 *
+		 * @return
+		 */
+		public ArrowBlock getBlock() {
+			return block;
+		}
+
+		/**
+		 * Returns number of rows of record batch or number of values of
+		 * dictionary batch.
+		 *
+		 * @return
+		 */
+		public long getLength() {
+			return length;
+		}
+
+		/**
+		 * Returns buffers of record batch or dictionary batch, with offsets
+		 * relative to start of message's body.
+		 *
+		 * @return
+		 */
+		public List<ArrowBuffer> getBuffers() {
+			return buffers;
+		}
+
+		public Long getDictionaryId() {
+			return dictionaryId;
+		}
+	}
+
+	public static class ArrowBlock {
+		private final long offset;
+		private final int metadataLength;
+		private final long bodyLength;
+
+		private ArrowBlock(long offset, int metadataLength, long bodyLength) {
+			this.offset = offset;
+			this.metadataLength = metadataLength;
+			this.bodyLength = bodyLength;
+		}
+
+		public long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Returns length of message's metadata, including continuation marker,
+		 * length prefix and padding.
+		 *
+		 * @return
+		 */
+		public int getMetadataLength() {
+			return metadataLength;
+		}
+
+		public long getBodyLength() {
+			return bodyLength;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ArrowBlock)) {
+				return false;
+			}
+			ArrowBlock other = (ArrowBlock) obj;
+			return (offset == other.offset) && (metadataLength == other.metadataLength)
+					&& (bodyLength == other.bodyLength);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(offset, metadataLength, bodyLength);
+		}
+
+		@Override
+		public String toString() {
+			return "Block(offset " + offset + ", metadata " + metadataLength + ", body " + bodyLength + ")";
+		}
+	}
+
+	public static class ArrowBuffer {
+		private final long offset;
+		private final long length;
+
+		private ArrowBuffer(long offset, long length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		public long getOffset() {
+			return offset;
+		}
+
+		public long getLength() {
+			return length;
+		}
+
+		@Override
+		public String toString() {
+			return "Buffer(offset " + offset + ", length " + length + ")";
+		}
+	}
+
+	/**
+	 * Reads field nodes and buffers of record batch (or of dictionary batch's
+	 * record batch), in order those are declared in, i.e. depth-first for each
+	 * field of schema.
+	 */
+	private static class BatchReader {
+		private final ByteBuffer body;
+		private final Map<Long, List<String>> dictionaries;
+		private final long length;
+		private final List<long[]> fieldNodes = new ArrayList<>();
+		private final List<ArrowBuffer> buffers = new ArrayList<>();
+		private final Iterator<long[]> fieldNodesIterator;
+		private final Iterator<ArrowBuffer> buffersIterator;
+
+		private BatchReader(Table recordBatch, ByteBuffer body, Map<Long, List<String>> dictionaries) {
+			this.body = body;
+			this.dictionaries = dictionaries;
+			this.length = recordBatch.getLong(0, 0L);
+
+			int fieldNodesStart = recordBatch.getVectorStart(1);
+			for (int i = 0; i < recordBatch.getVectorLength(1); i++) {
+				fieldNodes.add(new long[] { recordBatch.buffer.getLong(fieldNodesStart + 16 * i),
+						recordBatch.buffer.getLong(fieldNodesStart + 16 * i + 8) });
+			}
+
+			int buffersStart = recordBatch.getVectorStart(2);
+			for (int i = 0; i < recordBatch.getVectorLength(2); i++) {
+				buffers.add(new ArrowBuffer(recordBatch.buffer.getLong(buffersStart + 16 * i),
+						recordBatch.buffer.getLong(buffersStart + 16 * i + 8)));
+			}
+
+			this.fieldNodesIterator = fieldNodes.iterator();
+			this.buffersIterator = buffers.iterator();
+		}
+
+		private List<Object> readValues(ArrowField field) throws IOException {
+			long[] fieldNode = fieldNodesIterator.next();
+
+			int valuesCount = (int) fieldNode[0];
+			long nullCount = fieldNode[1];
+
+			ByteBuffer validity = nextBuffer();
+
+			boolean[] valid = new boolean[valuesCount];
+			int actualNullCount = 0;
+			for (int i = 0; i < valuesCount; i++) {
+				valid[i] = (validity.capacity() == 0) || ((validity.get(i / 8) >> (i % 8) & 1) == 1);
+				if (!valid[i]) {
+					actualNullCount++;
+				}
+			}
+
+			if (actualNullCount != nullCount) {
+				throw new IOException(String.format("Null count of field '%s' does not match its validity bitmap!",
+						field.getName()));
+			}
+
+			List<Object> values = new ArrayList<>(valuesCount);
+
+			if (field.getDictionaryId() != null) {
+				List<String> dictionary = dictionaries.get(field.getDictionaryId());
+				if (dictionary == null) {
+					throw new IOException(
+							String.format("Dictionary of field '%s' precedes its record batch!", field.getName()));
+				}
+
+				ByteBuffer indices = nextBuffer();
+				for (int i = 0; i < valuesCount; i++) {
+					values.add(valid[i] ? dictionary.get(indices.getInt(4 * i)) : null);
+				}
+				return values;
+			}
+
+			switch (field.getTypeType()) {
+
+			case TYPE_BOOL: {
+				ByteBuffer bitmap = nextBuffer();
+				for (int i = 0; i < valuesCount; i++) {
+					values.add(valid[i] ? Boolean.valueOf((bitmap.get(i / 8) >> (i % 8) & 1) == 1) : null);
+				}
+				break;
+			}
+
+			case TYPE_INT: {
+				ByteBuffer data = nextBuffer();
+				for (int i = 0; i < valuesCount; i++) {
+					values.add(!valid[i] ? null
+							: (field.getBitWidth().intValue() == 32) ? (Object) Integer.valueOf(data.getInt(4 * i))
+									: (Object) Long.valueOf(data.getLong(8 * i)));
+				}
+				break;
+			}
+
+			case TYPE_FLOATING_POINT: {
+				ByteBuffer data = nextBuffer();
+				for (int i = 0; i < valuesCount; i++) {
+					values.add(!valid[i] ? null
+							: (field.getPrecision().intValue() == PRECISION_SINGLE)
+									? (Object) Float.valueOf(data.getFloat(4 * i))
+									: (Object) Double.valueOf(data.getDouble(8 * i)));
+				}
+				break;
+			}
+
+			case TYPE_TIMESTAMP: {
+				ByteBuffer data = nextBuffer();
+				for (int i = 0; i < valuesCount; i++) {
+					values.add(valid[i] ? Long.valueOf(data.getLong(8 * i)) : null);
+				}
+				break;
+			}
+
+			case TYPE_UTF8: {
+				int[] offsets = readOffsets(nextBuffer(), valuesCount);
+				ByteBuffer data = nextBuffer();
+
+				if (offsets[valuesCount] != data.capacity()) {
+					throw new IOException(String.format("Offsets of field '%s' do not match its data!", field.getName()));
+				}
+
+				for (int i = 0; i < valuesCount; i++) {
+					byte[] bytes = new byte[offsets[i + 1] - offsets[i]];
+					data.duplicate().position(offsets[i]).get(bytes);
+					values.add(valid[i] ? new String(bytes, StandardCharsets.UTF_8) : null);
+				}
+				break;
+			}
+
+			case TYPE_LIST: {
+				int[] offsets = readOffsets(nextBuffer(), valuesCount);
+
+				List<Object> elements = readValues(field.getChildren().get(0));
+
+				if (offsets[valuesCount] != elements.size()) {
+					throw new IOException(
+							String.format("Offsets of field '%s' do not match its elements!", field.getName()));
+				}
+
+				for (int i = 0; i < valuesCount; i++) {
+					values.add(valid[i] ? new ArrayList<>(elements.subList(offsets[i], offsets[i + 1])) : null);
+				}
+				break;
+			}
+
+			default:
+				throw new IOException(String.format("Unsupported type %d of field '%s'!", field.getTypeType(),
+						field.getName()));
+			}
+
+			return values;
+		}
+
+		private int[] readOffsets(ByteBuffer buffer, int valuesCount) throws IOException {
+			int[] offsets = new int[valuesCount + 1];
+			for (int i = 0; i <= valuesCount; i++) {
+				offsets[i] = buffer.getInt(4 * i);
+
+				if ((i == 0) ? (offsets[i] != 0) : (offsets[i] < offsets[i - 1])) {
+					throw new IOException("Offsets do not start at 0 or are not ascending!");
+				}
+			}
+			return offsets;
+		}
+
+		/*
+		 * Each buffer should start aligned, and lie within message's body.
+		 */
+		private ByteBuffer nextBuffer() throws IOException {
+			ArrowBuffer buffer = buffersIterator.next();
+
+			if (buffer.getOffset() % ALIGNMENT != 0) {
+				throw new IOException(String.format("%s is not aligned!", buffer));
+			}
+
+			if (buffer.getOffset() + buffer.getLength() > body.capacity()) {
+				throw new IOException(String.format("%s exceeds message body!", buffer));
+			}
+
+			return body.duplicate().position((int) buffer.getOffset())
+					.limit((int) (buffer.getOffset() + buffer.getLength())).slice().order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		private void assertFullyRead() throws IOException {
+			if (fieldNodesIterator.hasNext() || buffersIterator.hasNext()) {
+				throw new IOException("Record batch holds more field nodes or buffers than schema declares!");
+			}
+		}
+	}
+
+	/**
+	 * FlatBuffers table, i.e. object whose fields are located through its
+	 * vtable; fields absent from vtable take their default values.
+	 */
+	private static class Table {
+		private final ByteBuffer buffer;
+		private final int position;
+		private final int vtable;
+		private final int vtableLength;
+
+		private Table(ByteBuffer buffer, int position) {
+			this.buffer = buffer;
+			this.position = position;
+			this.vtable = position - buffer.getInt(position);
+			this.vtableLength = Short.toUnsignedInt(buffer.getShort(vtable));
+		}
+
+		private static Table root(ByteBuffer buffer, int start) {
+			ByteBuffer rootBuffer = buffer.duplicate().position(start).slice().order(ByteOrder.LITTLE_ENDIAN);
+			return new Table(rootBuffer, rootBuffer.getInt(0));
+		}
+
+		private int fieldOffset(int field) {
+			int vtableOffset = 4 + 2 * field;
+			return (vtableOffset < vtableLength) ? Short.toUnsignedInt(buffer.getShort(vtable + vtableOffset)) : 0;
+		}
+
+		private byte getByte(int field, byte defaultValue) {
+			int offset = fieldOffset(field);
+			return (offset != 0) ? buffer.get(position + offset) : defaultValue;
+		}
+
+		private boolean getBoolean(int field) {
+			return (getByte(field, (byte) 0) != 0);
+		}
+
+		private short getShort(int field, short defaultValue) {
+			int offset = fieldOffset(field);
+			return (offset != 0) ? buffer.getShort(position + offset) : defaultValue;
+		}
+
+		private int getInt(int field, int defaultValue) {
+			int offset = fieldOffset(field);
+			return (offset != 0) ? buffer.getInt(position + offset) : defaultValue;
+		}
+
+		private long getLong(int field, long defaultValue) {
+			int offset = fieldOffset(field);
+			return (offset != 0) ? buffer.getLong(position + offset) : defaultValue;
+		}
+
+		private int getReference(int field) {
+			int offset = fieldOffset(field);
+			if (offset == 0) {
+				return -1;
+			}
+			return position + offset + buffer.getInt(position + offset);
+		}
+
+		private Table getTable(int field) {
+			int reference = getReference(field);
+			return (reference >= 0) ? new Table(buffer, reference) : null;
+		}
+
+		private String getString(int field) {
+			int reference = getReference(field);
+			if (reference < 0) {
+				return null;
+			}
+
+			byte[] bytes = new byte[buffer.getInt(reference)];
+			buffer.duplicate().position(reference + 4).get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private int getVectorStart(int field) {
+			int reference = getReference(field);
+			return (reference >= 0) ? reference + 4 : -1;
+		}
+
+		private int getVectorLength(int field) {
+			int reference = getReference(field);
+			return (reference >= 0) ? buffer.getInt(reference) : 0;
+		}
+
+		private List<Table> getTables(int field) {
+			List<Table> tables = new ArrayList<>();
+
+			int vectorStart = getVectorStart(field);
+			for (int i = 0; i < getVectorLength(field); i++) {
+				int elementPosition = vectorStart + 4 * i;
+				tables.add(new Table(buffer, elementPosition + buffer.getInt(elementPosition)));
+			}
+
+			return tables;
+		}
+	}
+}
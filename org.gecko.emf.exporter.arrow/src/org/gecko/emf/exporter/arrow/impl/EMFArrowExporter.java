@@ -0,0 +1,1341 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.arrow.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.gecko.emf.exporter.AbstractEMFExporter;
+import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrix;
+import org.gecko.emf.exporter.EMFExportMetricsCollector;
+import org.gecko.emf.exporter.EMFExportPhase;
+import org.gecko.emf.exporter.EMFExportRowSink;
+import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.exporter.annotation.ProvideEMFExporter;
+import org.gecko.emf.exporter.arrow.api.EMFArrowExportOptions;
+import org.gecko.emf.exporter.arrow.api.EMFArrowExporterConstants;
+import org.gecko.emf.exporter.arrow.api.EMFArrowIPCFormat;
+import org.gecko.emf.exporter.cells.EMFExportEObjectIDValueCell;
+import org.gecko.emf.exporter.cells.EMFExportEObjectManyReferencesValueCell;
+import org.gecko.emf.exporter.cells.EMFExportEObjectOneReferenceValueCell;
+import org.gecko.emf.exporter.cells.EMFExportEObjectReferenceValueCell;
+import org.gecko.emf.exporter.cells.EMFExportInternalIDValueCell;
+import org.gecko.emf.exporter.headers.EMFExportEObjectGenericColumnHeader;
+import org.gecko.emf.exporter.headers.EMFExportEObjectManyReferencesColumnHeader;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.io.CountingOutputStream;
+
+/**
+ * Implementation of the {@link EMFExporter} to provide support for exporting
+ * EMF resources and lists of EMF objects as Apache Arrow IPC files, one per
+ * matrix, stored in ZIP archive.
+ *
+ * Arrow files are written by exporter itself (metadata version V5, little
+ * endian, enumerations dictionary encoded), as Apache Arrow's own writer
+ * depends on its off-heap memory allocator.
+ *
+ * @author Michal H. Siemaszko
+ */
+@Component(name = EMFArrowExporterConstants.EMF_EXPORTER_NAME, scope = ServiceScope.PROTOTYPE)
+@ProvideEMFExporter(name = EMFArrowExporterConstants.EMF_EXPORTER_NAME)
+public class EMFArrowExporter extends AbstractEMFExporter implements EMFExporter {
+	private static final Logger LOG = LoggerFactory.getLogger(EMFArrowExporter.class);
+
+	private static final String ARROW_FILE_EXTENSION = "arrow";
+	private static final String ARROW_STREAM_EXTENSION = "arrows";
+
+	private static final byte[] ARROW_FILE_MAGIC = "ARROW1".getBytes(StandardCharsets.US_ASCII);
+
+	private static final int DEFAULT_BATCH_SIZE = 65_536;
+
+	// buffers and messages are aligned to 8 bytes, as required by Arrow format
+	private static final int ALIGNMENT = 8;
+
+	// marks start of each message, as well as end of stream
+	private static final int CONTINUATION_MARKER = 0xFFFFFFFF;
+
+	private static final String LIST_ITEM_NAME = "item";
+
+	private static final String TIMESTAMP_TIMEZONE = "UTC";
+
+	/* metadata versions */
+	private static final short METADATA_VERSION_V5 = 4;
+
+	/* message headers (type IDs of MessageHeader union) */
+	private static final byte MESSAGE_HEADER_SCHEMA = 1;
+	private static final byte MESSAGE_HEADER_DICTIONARY_BATCH = 2;
+	private static final byte MESSAGE_HEADER_RECORD_BATCH = 3;
+
+	/* types (type IDs of Type union) */
+	private static final byte TYPE_INT = 2;
+	private static final byte TYPE_FLOATING_POINT = 3;
+	private static final byte TYPE_UTF8 = 5;
+	private static final byte TYPE_BOOL = 6;
+	private static final byte TYPE_TIMESTAMP = 10;
+	private static final byte TYPE_LIST = 12;
+
+	/* floating point precisions */
+	private static final short PRECISION_SINGLE = 1;
+	private static final short PRECISION_DOUBLE = 2;
+
+	/* time units */
+	private static final short TIME_UNIT_MILLISECOND = 1;
+
+	public EMFArrowExporter() {
+		super(LOG);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExporter#exportEObjectsTo(java.util.List, java.io.OutputStream, java.util.Map)
+	 */
+	@Override
+	public void exportEObjectsTo(List<EObject> eObjects, OutputStream outputStream, Map<?, ?> options)
+			throws EMFExportException {
+		Objects.requireNonNull(eObjects, "At least one EObject is required for export!");
+		Objects.requireNonNull(outputStream, "Output stream is required for export!");
+
+		if (!eObjects.isEmpty()) {
+
+			try {
+
+				final Map<Object, Object> exportOptions = validateExportOptions(options);
+
+				final EMFExportMetricsCollector metricsCollector = new EMFExportMetricsCollector();
+
+				final CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+
+				LOG.info("Starting export of {} EObject(s) to Arrow files"
+						+ (!exportOptions.isEmpty() ? " with options" : ""), eObjects.size());
+				LOG.info("  Locale to use: {}", locale(exportOptions));
+				LOG.info("  Export non-containment references: {}", exportNonContainmentEnabled(exportOptions));
+				LOG.info("  Export metadata: {}", exportMetadataEnabled(exportOptions));
+				LOG.info("  Add mapping table: {}", addMappingTableEnabled(exportOptions));
+				LOG.info("  Show URIs instead of IDs (where applicable): {}", showURIsEnabled(exportOptions));
+				LOG.info("  Show columns containing references: {}", showREFsEnabled(exportOptions));
+				LOG.info("  Pseudo ID strategy: {}", pseudoIDStrategy(exportOptions));
+				LOG.info("  IPC format: {}", ipcFormat(exportOptions));
+				LOG.info("  Batch size: {}", batchSize(exportOptions));
+				LOG.info("  Streaming: {}", streamingEnabled(exportOptions));
+				LOG.info("  Parallelism: {}", parallelism(exportOptions));
+
+				if (streamingEnabled(exportOptions)) {
+					ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatricesSchema(eObjects,
+							exportOptions, metricsCollector);
+
+					streamMatricesToArrow(countingOutputStream, processedEObjectsDTO, exportOptions);
+
+				} else {
+					ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions,
+							metricsCollector);
+
+					exportMatricesToArrow(countingOutputStream, processedEObjectsDTO, exportOptions);
+				}
+
+				publishMetrics(metricsCollector, countingOutputStream.getCount(), exportOptions);
+
+			} catch (Exception e) {
+				throw new EMFExportException(e);
+			}
+		}
+	}
+
+	private void streamMatricesToArrow(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions) throws EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
+
+		LOG.info("Starting streaming of Arrow files");
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+
+			streamMatricesToSink(processedEObjectsDTO, exportOptions, new ArrowRowSink(zipOutputStream, exportOptions));
+
+		} catch (IOException e) {
+			throw new EMFExportException(e);
+		}
+
+		LOG.info("Finished streaming of Arrow files in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
+	/*
+	 * Arrow files are generated in parallel, if enabled, and written to ZIP
+	 * archive in same order as matrices (EObjects' matrices first, followed by
+	 * metadata and mapping tables, if enabled).
+	 */
+	private void exportMatricesToArrow(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions) throws EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
+
+		LOG.info("Starting generation of Arrow files");
+
+		Map<String, EMFExportMatrix> matrixNameToMatrixMap = new LinkedHashMap<>(
+				eObjectMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+
+		if (exportMetadataEnabled(exportOptions)) {
+			matrixNameToMatrixMap.putAll(metadataMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+		}
+
+		if (addMappingTableEnabled(exportOptions)) {
+			matrixNameToMatrixMap.putAll(mappingMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+		}
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+
+			if (parallelism(exportOptions) > 1) {
+				List<String> matrixNames = new ArrayList<>(matrixNameToMatrixMap.keySet());
+
+				List<Callable<byte[]>> tasks = new ArrayList<>();
+
+				for (String matrixName : matrixNames) {
+					EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
+
+					tasks.add(() -> {
+						LOG.debug("Generating Arrow file for matrix named '{}'", matrixName);
+
+						return generateArrowFile(constructColumns(exportOptions, matrix), exportOptions);
+					});
+				}
+
+				List<byte[]> arrowFiles = invokeAll(tasks, exportOptions);
+
+				for (int i = 0; i < matrixNames.size(); i++) {
+					writeArrowFileToZipEntry(zipOutputStream, matrixNames.get(i), arrowFiles.get(i), exportOptions);
+				}
+
+			} else {
+
+				for (String matrixName : matrixNameToMatrixMap.keySet()) {
+					LOG.debug("Generating Arrow file for matrix named '{}'", matrixName);
+
+					EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
+
+					writeArrowFileToZipEntry(zipOutputStream, matrixName,
+							generateArrowFile(constructColumns(exportOptions, matrix), exportOptions), exportOptions);
+				}
+			}
+
+		} catch (IOException e) {
+			throw new EMFExportException(e);
+		}
+
+		LOG.info("Finished generation of Arrow files in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
+	/*
+	 * Arrow file is stored in ZIP archive as it is, i.e. not compressed, so that
+	 * once extracted (or read directly from archive) its buffers can be
+	 * memory-mapped; as stored entries require their size and CRC-32 to be known
+	 * up front, it is generated in memory first.
+	 */
+	private void writeArrowFileToZipEntry(ZipOutputStream zipOutputStream, String matrixName, byte[] arrowFile,
+			Map<Object, Object> exportOptions) throws IOException {
+
+		ZipEntry zipEntry = new ZipEntry(constructZipEntryName(matrixName, exportOptions));
+
+		CRC32 crc32 = new CRC32();
+		crc32.update(arrowFile);
+
+		zipEntry.setMethod(ZipEntry.STORED);
+		zipEntry.setSize(arrowFile.length);
+		zipEntry.setCompressedSize(arrowFile.length);
+		zipEntry.setCrc(crc32.getValue());
+
+		zipOutputStream.putNextEntry(zipEntry);
+		zipOutputStream.write(arrowFile);
+		zipOutputStream.closeEntry();
+	}
+
+	private String constructZipEntryName(String matrixName, Map<Object, Object> exportOptions) {
+		String normalizedMatrixName = matrixName.strip().replaceAll("[()]", "").replaceAll("(?U)[^\\w\\._]+", "_");
+
+		StringBuilder sb = new StringBuilder(100);
+		sb.append(normalizedMatrixName);
+		sb.append(".");
+		sb.append((ipcFormat(exportOptions) == EMFArrowIPCFormat.FILE) ? ARROW_FILE_EXTENSION
+				: ARROW_STREAM_EXTENSION);
+		return sb.toString();
+	}
+
+	private List<ArrowColumn> constructColumns(Map<Object, Object> exportOptions, EMFExportMatrix matrix) {
+		List<ArrowColumn> columns = new ArrayList<>();
+
+		for (Integer matrixColumnKey : matrix.columnKeySet()) {
+			Map<Integer, Object> matrixColumn = matrix.column(matrixColumnKey);
+
+			Object columnHeader = matrixColumn.get(1);
+
+			List<Object> values = new ArrayList<>(matrixColumn.size());
+
+			for (Integer matrixRowKey : matrix.rowKeySet()) {
+				if (matrixRowKey.intValue() > 1) {
+					values.add(convertValue(matrixColumn.get(matrixRowKey), exportOptions));
+				}
+			}
+
+			columns.add(constructColumn(columnHeader, values));
+		}
+		return columns;
+	}
+
+	@SuppressWarnings("unchecked")
+	private ArrowColumn constructColumn(Object columnHeader, List<Object> values) {
+		ArrowColumnType columnType = extractColumnType(columnHeader, values);
+
+		// e.g. many references columns pointing to mapping tables
+		if (columnType != ArrowColumnType.STRING_LIST) {
+			values.replaceAll(v -> (v instanceof List) ? String.join(", ", (List<String>) v) : v);
+		}
+
+		List<String> dictionary = (columnType == ArrowColumnType.ENUM) ? extractDictionary(columnHeader, values)
+				: null;
+
+		return new ArrowColumn(columnHeader.toString(), columnType, values, dictionary);
+	}
+
+	/*
+	 * Type of columns holding EObjects' single-valued attributes values is
+	 * derived from attribute's type, as long as all values are of matching
+	 * type; type of all other columns is derived from values themselves.
+	 */
+	private ArrowColumnType extractColumnType(Object columnHeader, List<Object> values) {
+		if ((columnHeader instanceof EMFExportEObjectManyReferencesColumnHeader)
+				&& isColumnTypeApplicable(ArrowColumnType.STRING_LIST, values)) {
+			return ArrowColumnType.STRING_LIST;
+		}
+
+		if ((columnHeader instanceof EMFExportEObjectGenericColumnHeader)
+				&& ((EMFExportEObjectGenericColumnHeader) columnHeader).hasEAttribute()) {
+			EMFExportEObjectGenericColumnHeader genericColumnHeader = (EMFExportEObjectGenericColumnHeader) columnHeader;
+
+			if (genericColumnHeader.hasEEnum()) {
+				return ArrowColumnType.ENUM;
+			}
+
+			ArrowColumnType columnType = extractColumnType(genericColumnHeader.getEAttribute());
+
+			if ((columnType != null) && isColumnTypeApplicable(columnType, values)) {
+				return columnType;
+			}
+		}
+
+		return inferColumnType(values);
+	}
+
+	private ArrowColumnType extractColumnType(EAttribute eAttribute) {
+		if (eAttribute.isMany()) {
+			return ArrowColumnType.STRING;
+		}
+
+		Class<?> instanceClass = eAttribute.getEAttributeType().getInstanceClass();
+
+		if (instanceClass == null) {
+			return null;
+		} else if ((instanceClass == boolean.class) || (instanceClass == Boolean.class)) {
+			return ArrowColumnType.BOOLEAN;
+		} else if ((instanceClass == int.class) || (instanceClass == Integer.class) || (instanceClass == short.class)
+				|| (instanceClass == Short.class) || (instanceClass == byte.class) || (instanceClass == Byte.class)) {
+			return ArrowColumnType.INT32;
+		} else if ((instanceClass == long.class) || (instanceClass == Long.class)) {
+			return ArrowColumnType.INT64;
+		} else if ((instanceClass == float.class) || (instanceClass == Float.class)) {
+			return ArrowColumnType.FLOAT;
+		} else if ((instanceClass == double.class) || Number.class.isAssignableFrom(instanceClass)) {
+			return ArrowColumnType.DOUBLE;
+		} else if (Date.class.isAssignableFrom(instanceClass)) {
+			return ArrowColumnType.TIMESTAMP;
+		} else {
+			return ArrowColumnType.STRING;
+		}
+	}
+
+	private boolean isColumnTypeApplicable(ArrowColumnType columnType, List<Object> values) {
+		for (Object value : values) {
+			if ((value != null) && !isColumnTypeApplicable(columnType, value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isColumnTypeApplicable(ArrowColumnType columnType, Object value) {
+		switch (columnType) {
+
+		case BOOLEAN:
+			return (value instanceof Boolean);
+
+		case INT32:
+		case INT64:
+		case FLOAT:
+		case DOUBLE:
+			return (value instanceof Number);
+
+		case TIMESTAMP:
+			return (value instanceof Date);
+
+		case STRING_LIST:
+			return (value instanceof List);
+
+		default:
+			return true;
+		}
+	}
+
+	private ArrowColumnType inferColumnType(List<Object> values) {
+		ArrowColumnType columnType = null;
+
+		for (Object value : values) {
+			if (value != null) {
+				ArrowColumnType valueColumnType = inferColumnType(value);
+
+				if (columnType == null) {
+					columnType = valueColumnType;
+				} else if (columnType != valueColumnType) {
+					return ArrowColumnType.STRING;
+				}
+			}
+		}
+
+		return (columnType != null) ? columnType : ArrowColumnType.STRING;
+	}
+
+	private ArrowColumnType inferColumnType(Object value) {
+		if (value instanceof Boolean) {
+			return ArrowColumnType.BOOLEAN;
+		} else if (value instanceof Integer) {
+			return ArrowColumnType.INT32;
+		} else if (value instanceof Long) {
+			return ArrowColumnType.INT64;
+		} else if (value instanceof Float) {
+			return ArrowColumnType.FLOAT;
+		} else if (value instanceof Double) {
+			return ArrowColumnType.DOUBLE;
+		} else if (value instanceof Date) {
+			return ArrowColumnType.TIMESTAMP;
+		} else {
+			return ArrowColumnType.STRING;
+		}
+	}
+
+	/*
+	 * All EEnum's literals are used as dictionary, in order those are declared
+	 * in, so that dictionary does not depend on values exported, followed by any
+	 * other values (e.g. literals of EEnums which changed since model was
+	 * created).
+	 */
+	private List<String> extractDictionary(Object columnHeader, List<Object> values) {
+		Set<String> dictionary = new LinkedHashSet<>();
+
+		for (EEnumLiteral eEnumLiteral : ((EMFExportEObjectGenericColumnHeader) columnHeader).getEEnum()
+				.getELiterals()) {
+			dictionary.add(eEnumLiteral.getLiteral());
+		}
+
+		for (Object value : values) {
+			if (value != null) {
+				dictionary.add(String.valueOf(value));
+			}
+		}
+
+		return new ArrayList<>(dictionary);
+	}
+
+	/*
+	 * Empty cells are converted to nulls, written as Arrow nulls; references are
+	 * converted to IDs (or URIs, if enabled) of EObjects referenced - list of
+	 * those, for many references.
+	 */
+	private Object convertValue(Object v, Map<Object, Object> exportOptions) {
+		if ((v == null) || (v instanceof Optional)) {
+			return null;
+		}
+
+		boolean showURIs = showURIsEnabled(exportOptions) && (v instanceof EMFExportEObjectReferenceValueCell)
+				&& !((EMFExportEObjectReferenceValueCell) v).isSelfReferencingModel();
+
+		if (v instanceof EMFExportEObjectOneReferenceValueCell) {
+			EMFExportEObjectOneReferenceValueCell oneReferenceValueCell = (EMFExportEObjectOneReferenceValueCell) v;
+
+			if (showURIs) {
+				return oneReferenceValueCell.hasURI() ? oneReferenceValueCell.getURI() : null;
+			} else {
+				return oneReferenceValueCell.hasRefID() ? oneReferenceValueCell.getRefID() : null;
+			}
+
+		} else if (v instanceof EMFExportEObjectManyReferencesValueCell) {
+			EMFExportEObjectManyReferencesValueCell manyReferencesValueCell = (EMFExportEObjectManyReferencesValueCell) v;
+
+			List<String> values;
+			if (showURIs) {
+				values = manyReferencesValueCell.hasURIs() ? manyReferencesValueCell.getURIs() : null;
+			} else {
+				values = manyReferencesValueCell.hasRefIDs() ? manyReferencesValueCell.getRefIDs() : null;
+			}
+
+			return values;
+
+		} else if (v instanceof EMFExportEObjectIDValueCell) {
+			return ((EMFExportEObjectIDValueCell) v).hasValue() ? ((EMFExportEObjectIDValueCell) v).getValue()
+					: null;
+
+		} else if (v instanceof EMFExportInternalIDValueCell) {
+			return ((EMFExportInternalIDValueCell) v).hasValue() ? ((EMFExportInternalIDValueCell) v).getValue()
+					: null;
+
+		} else if ((v instanceof Boolean) || (v instanceof Number) || (v instanceof Date)) {
+			return v;
+
+		} else {
+			return String.valueOf(v);
+		}
+	}
+
+	/*
+	 * Both formats start with schema, followed by dictionaries of dictionary
+	 * encoded columns and record batches of at most batch size rows each; file
+	 * format additionally wraps those in magic numbers and ends with footer
+	 * pointing to each dictionary and record batch, which allows random access.
+	 */
+	private byte[] generateArrowFile(List<ArrowColumn> columns, Map<Object, Object> exportOptions) {
+		int rowsCount = !columns.isEmpty() ? columns.get(0).values.size() : 0;
+
+		boolean fileFormat = (ipcFormat(exportOptions) == EMFArrowIPCFormat.FILE);
+
+		ArrowBuffer arrowFile = new ArrowBuffer();
+
+		if (fileFormat) {
+			arrowFile.writeBytes(ARROW_FILE_MAGIC);
+			arrowFile.writePadding();
+		}
+
+		FlatBufferBuilder schemaBuilder = new FlatBufferBuilder();
+		writeMessage(arrowFile, schemaBuilder, MESSAGE_HEADER_SCHEMA, writeSchema(schemaBuilder, columns), null);
+
+		List<ArrowBlock> dictionaryBlocks = new ArrayList<>();
+
+		for (int i = 0; i < columns.size(); i++) {
+			ArrowColumn column = columns.get(i);
+
+			if (column.isDictionaryEncoded()) {
+				dictionaryBlocks.add(writeDictionaryBatch(arrowFile, i, column));
+			}
+		}
+
+		List<ArrowBlock> recordBatchBlocks = new ArrayList<>();
+
+		int batchSize = batchSize(exportOptions);
+
+		for (int from = 0; from < rowsCount; from += batchSize) {
+			recordBatchBlocks.add(writeRecordBatch(arrowFile, columns, from, Math.min(from + batchSize, rowsCount)));
+		}
+
+		// end of stream
+		arrowFile.writeIntLE(CONTINUATION_MARKER);
+		arrowFile.writeIntLE(0);
+
+		if (fileFormat) {
+			byte[] footer = generateFooter(columns, dictionaryBlocks, recordBatchBlocks);
+
+			arrowFile.writeBytes(footer);
+			arrowFile.writeIntLE(footer.length);
+			arrowFile.writeBytes(ARROW_FILE_MAGIC);
+		}
+
+		return arrowFile.toByteArray();
+	}
+
+	private ArrowBlock writeDictionaryBatch(ArrowBuffer arrowFile, int columnIndex, ArrowColumn column) {
+		ArrowBatchBody body = new ArrowBatchBody();
+
+		body.addFieldNode(column.dictionary.size(), 0);
+		body.addBuffer(new byte[0]);
+		writeStrings(body, new ArrayList<>(column.dictionary));
+
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		int recordBatch = writeRecordBatchHeader(builder, column.dictionary.size(), body);
+
+		builder.startTable(3);
+		builder.addLongField(0, columnIndex);
+		builder.addOffsetField(1, recordBatch);
+		int dictionaryBatch = builder.endTable();
+
+		return writeMessage(arrowFile, builder, MESSAGE_HEADER_DICTIONARY_BATCH, dictionaryBatch, body);
+	}
+
+	private ArrowBlock writeRecordBatch(ArrowBuffer arrowFile, List<ArrowColumn> columns, int from, int to) {
+		ArrowBatchBody body = new ArrowBatchBody();
+
+		for (ArrowColumn column : columns) {
+			writeColumn(body, column, from, to);
+		}
+
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		int recordBatch = writeRecordBatchHeader(builder, to - from, body);
+
+		return writeMessage(arrowFile, builder, MESSAGE_HEADER_RECORD_BATCH, recordBatch, body);
+	}
+
+	/*
+	 * Each message is prefixed with continuation marker and length of its
+	 * metadata, padded so that message body starts aligned.
+	 */
+	private ArrowBlock writeMessage(ArrowBuffer arrowFile, FlatBufferBuilder builder, byte headerType, int header,
+			ArrowBatchBody body) {
+
+		long bodyLength = (body != null) ? body.buffer.size() : 0;
+
+		builder.startTable(5);
+		builder.addLongField(3, bodyLength);
+		builder.addOffsetField(2, header);
+		builder.addShortField(0, METADATA_VERSION_V5);
+		builder.addByteField(1, headerType);
+		builder.finish(builder.endTable());
+
+		byte[] metadata = builder.toByteArray();
+
+		int metadataLength = alignedLength(8 + metadata.length) - 8;
+
+		ArrowBlock block = new ArrowBlock(arrowFile.size(), 8 + metadataLength, bodyLength);
+
+		arrowFile.writeIntLE(CONTINUATION_MARKER);
+		arrowFile.writeIntLE(metadataLength);
+		arrowFile.writeBytes(metadata);
+		arrowFile.writePadding();
+
+		if (body != null) {
+			arrowFile.writeBytes(body.buffer.toByteArray());
+		}
+
+		return block;
+	}
+
+	private int writeSchema(FlatBufferBuilder builder, List<ArrowColumn> columns) {
+		int[] fields = new int[columns.size()];
+
+		for (int i = 0; i < columns.size(); i++) {
+			ArrowColumn column = columns.get(i);
+
+			fields[i] = writeField(builder, column.name, column.type, column.isDictionaryEncoded() ? i : -1);
+		}
+
+		int fieldsVector = builder.createOffsetVector(fields);
+
+		// little endianness is default
+		builder.startTable(4);
+		builder.addOffsetField(1, fieldsVector);
+		return builder.endTable();
+	}
+
+	/*
+	 * Dictionary encoded columns are declared with type of dictionary's values,
+	 * i.e. strings, and signed 32-bit integer indices; list columns with their
+	 * single child field holding list's elements.
+	 */
+	private int writeField(FlatBufferBuilder builder, String name, ArrowColumnType columnType, long dictionaryId) {
+		int nameOffset = builder.createString(name);
+
+		int typeOffset = writeType(builder, columnType);
+
+		int dictionaryOffset = 0;
+		if (dictionaryId >= 0) {
+			int indexTypeOffset = writeIntType(builder, 32);
+
+			builder.startTable(4);
+			builder.addLongField(0, dictionaryId);
+			builder.addOffsetField(1, indexTypeOffset);
+			dictionaryOffset = builder.endTable();
+		}
+
+		int[] children = (columnType == ArrowColumnType.STRING_LIST)
+				? new int[] { writeField(builder, LIST_ITEM_NAME, ArrowColumnType.STRING, -1) }
+				: new int[0];
+
+		int childrenVector = builder.createOffsetVector(children);
+
+		builder.startTable(7);
+		builder.addOffsetField(0, nameOffset);
+		builder.addOffsetField(3, typeOffset);
+		if (dictionaryOffset != 0) {
+			builder.addOffsetField(4, dictionaryOffset);
+		}
+		builder.addOffsetField(5, childrenVector);
+		builder.addBooleanField(1, true);
+		builder.addByteField(2, columnType.typeType);
+		return builder.endTable();
+	}
+
+	private int writeType(FlatBufferBuilder builder, ArrowColumnType columnType) {
+		switch (columnType) {
+
+		case INT32:
+			return writeIntType(builder, 32);
+
+		case INT64:
+			return writeIntType(builder, 64);
+
+		case FLOAT:
+			builder.startTable(1);
+			builder.addShortField(0, PRECISION_SINGLE);
+			return builder.endTable();
+
+		case DOUBLE:
+			builder.startTable(1);
+			builder.addShortField(0, PRECISION_DOUBLE);
+			return builder.endTable();
+
+		case TIMESTAMP:
+			int timezoneOffset = builder.createString(TIMESTAMP_TIMEZONE);
+
+			builder.startTable(2);
+			builder.addOffsetField(1, timezoneOffset);
+			builder.addShortField(0, TIME_UNIT_MILLISECOND);
+			return builder.endTable();
+
+		default:
+			// Bool, Utf8 and List types have no fields
+			builder.startTable(0);
+			return builder.endTable();
+		}
+	}
+
+	private int writeIntType(FlatBufferBuilder builder, int bitWidth) {
+		builder.startTable(2);
+		builder.addIntField(0, bitWidth);
+		builder.addBooleanField(1, true);
+		return builder.endTable();
+	}
+
+	private int writeRecordBatchHeader(FlatBufferBuilder builder, long length, ArrowBatchBody body) {
+		builder.startVector(16, body.fieldNodes.size(), 8);
+		for (int i = body.fieldNodes.size() - 1; i >= 0; i--) {
+			builder.addStruct(body.fieldNodes.get(i)[0], body.fieldNodes.get(i)[1]);
+		}
+		int fieldNodesVector = builder.endVector();
+
+		builder.startVector(16, body.buffers.size(), 8);
+		for (int i = body.buffers.size() - 1; i >= 0; i--) {
+			builder.addStruct(body.buffers.get(i)[0], body.buffers.get(i)[1]);
+		}
+		int buffersVector = builder.endVector();
+
+		builder.startTable(4);
+		builder.addLongField(0, length);
+		builder.addOffsetField(1, fieldNodesVector);
+		builder.addOffsetField(2, buffersVector);
+		return builder.endTable();
+	}
+
+	private byte[] generateFooter(List<ArrowColumn> columns, List<ArrowBlock> dictionaryBlocks,
+			List<ArrowBlock> recordBatchBlocks) {
+
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		int schema = writeSchema(builder, columns);
+		int dictionariesVector = writeBlocks(builder, dictionaryBlocks);
+		int recordBatchesVector = writeBlocks(builder, recordBatchBlocks);
+
+		builder.startTable(5);
+		builder.addOffsetField(1, schema);
+		builder.addOffsetField(2, dictionariesVector);
+		builder.addOffsetField(3, recordBatchesVector);
+		builder.addShortField(0, METADATA_VERSION_V5);
+		builder.finish(builder.endTable());
+
+		return builder.toByteArray();
+	}
+
+	private int writeBlocks(FlatBufferBuilder builder, List<ArrowBlock> blocks) {
+		builder.startVector(24, blocks.size(), 8);
+		for (int i = blocks.size() - 1; i >= 0; i--) {
+			ArrowBlock block = blocks.get(i);
+
+			builder.prep(8, 24);
+			builder.putLong(block.bodyLength);
+			builder.pad(4);
+			builder.putInt(block.metadataLength);
+			builder.putLong(block.offset);
+		}
+		return builder.endVector();
+	}
+
+	/*
+	 * Each column is written as field node, followed by its buffers: validity
+	 * bitmap (empty, if column has no nulls) and values, offsets and data or
+	 * dictionary indices, depending on column's type; list columns are followed
+	 * by field node and buffers of their elements.
+	 */
+	@SuppressWarnings("unchecked")
+	private void writeColumn(ArrowBatchBody body, ArrowColumn column, int from, int to) {
+		List<Object> values = column.values.subList(from, to);
+
+		int nullCount = Collections.frequency(values, null);
+
+		body.addFieldNode(values.size(), nullCount);
+		body.addBuffer(validityBitmap(values, nullCount));
+
+		ArrowBuffer buffer = new ArrowBuffer();
+
+		switch (column.type) {
+
+		case BOOLEAN:
+			byte[] bitmap = new byte[(values.size() + 7) / 8];
+			for (int i = 0; i < values.size(); i++) {
+				if (Boolean.TRUE.equals(values.get(i))) {
+					bitmap[i / 8] |= (1 << (i % 8));
+				}
+			}
+			body.addBuffer(bitmap);
+			break;
+
+		case INT32:
+			for (Object value : values) {
+				buffer.writeIntLE((value != null) ? ((Number) value).intValue() : 0);
+			}
+			body.addBuffer(buffer.toByteArray());
+			break;
+
+		case INT64:
+			for (Object value : values) {
+				buffer.writeLongLE((value != null) ? ((Number) value).longValue() : 0L);
+			}
+			body.addBuffer(buffer.toByteArray());
+			break;
+
+		case FLOAT:
+			for (Object value : values) {
+				buffer.writeIntLE(Float.floatToIntBits((value != null) ? ((Number) value).floatValue() : 0f));
+			}
+			body.addBuffer(buffer.toByteArray());
+			break;
+
+		case DOUBLE:
+			// floats are converted using their string representation, so they are not widened to nearest double
+			for (Object value : values) {
+				buffer.writeLongLE(Double.doubleToLongBits((value == null) ? 0d
+						: (value instanceof Double) ? ((Double) value).doubleValue()
+								: Double.parseDouble(String.valueOf(value))));
+			}
+			body.addBuffer(buffer.toByteArray());
+			break;
+
+		case TIMESTAMP:
+			for (Object value : values) {
+				buffer.writeLongLE((value != null) ? ((Date) value).getTime() : 0L);
+			}
+			body.addBuffer(buffer.toByteArray());
+			break;
+
+		case ENUM:
+			for (Object value : values) {
+				buffer.writeIntLE((value != null) ? column.dictionaryIndices.get(String.valueOf(value)).intValue() : 0);
+			}
+			body.addBuffer(buffer.toByteArray());
+			break;
+
+		case STRING_LIST:
+			List<Object> elements = new ArrayList<>();
+
+			buffer.writeIntLE(0);
+			for (Object value : values) {
+				if (value != null) {
+					elements.addAll((List<String>) value);
+				}
+				buffer.writeIntLE(elements.size());
+			}
+			body.addBuffer(buffer.toByteArray());
+
+			int elementsNullCount = Collections.frequency(elements, null);
+
+			body.addFieldNode(elements.size(), elementsNullCount);
+			body.addBuffer(validityBitmap(elements, elementsNullCount));
+			writeStrings(body, elements);
+			break;
+
+		default:
+			writeStrings(body, values);
+			break;
+		}
+	}
+
+	private void writeStrings(ArrowBatchBody body, List<Object> values) {
+		ArrowBuffer offsets = new ArrowBuffer();
+		ArrowBuffer data = new ArrowBuffer();
+
+		offsets.writeIntLE(0);
+		for (Object value : values) {
+			if (value != null) {
+				data.writeBytes(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+			}
+			offsets.writeIntLE(data.size());
+		}
+
+		body.addBuffer(offsets.toByteArray());
+		body.addBuffer(data.toByteArray());
+	}
+
+	private byte[] validityBitmap(List<Object> values, int nullCount) {
+		if (nullCount == 0) {
+			return new byte[0];
+		}
+
+		byte[] bitmap = new byte[(values.size() + 7) / 8];
+		for (int i = 0; i < values.size(); i++) {
+			if (values.get(i) != null) {
+				bitmap[i / 8] |= (1 << (i % 8));
+			}
+		}
+		return bitmap;
+	}
+
+	private static int alignedLength(int length) {
+		return (length + ALIGNMENT - 1) & ~(ALIGNMENT - 1);
+	}
+
+	@Override
+	protected Map<Object, Object> validateExportOptions(Map<?, ?> options) throws EMFExportException {
+		Map<Object, Object> exportOptions = super.validateExportOptions(options);
+
+		try {
+			ipcFormat(exportOptions);
+
+		} catch (IllegalArgumentException e) {
+			throw new EMFExportException(String.format("Unsupported IPC format '%s'!",
+					exportOptions.get(EMFArrowExportOptions.OPTION_IPC_FORMAT)));
+		}
+
+		if (!(exportOptions.getOrDefault(EMFArrowExportOptions.OPTION_BATCH_SIZE,
+				DEFAULT_BATCH_SIZE) instanceof Integer) || (batchSize(exportOptions) < 1)) {
+			throw new EMFExportException(String.format("Unsupported batch size '%s'!",
+					exportOptions.get(EMFArrowExportOptions.OPTION_BATCH_SIZE)));
+		}
+
+		return exportOptions;
+	}
+
+	private EMFArrowIPCFormat ipcFormat(Map<Object, Object> exportOptions) {
+		return EMFArrowIPCFormat.valueOf(String
+				.valueOf(exportOptions.getOrDefault(EMFArrowExportOptions.OPTION_IPC_FORMAT, EMFArrowIPCFormat.FILE)));
+	}
+
+	private int batchSize(Map<Object, Object> exportOptions) {
+		return ((int) exportOptions.getOrDefault(EMFArrowExportOptions.OPTION_BATCH_SIZE, DEFAULT_BATCH_SIZE));
+	}
+
+	/**
+	 * Collects rows streamed from matrix into columns, which are written as Arrow
+	 * file to ZIP archive once matrix ends; all rows of matrix are thus held in
+	 * memory, as column types and dictionaries depend on all values (see
+	 * {@link EMFArrowExportOptions}).
+	 */
+	private class ArrowRowSink implements EMFExportRowSink {
+		private final ZipOutputStream zipOutputStream;
+		private final Map<Object, Object> exportOptions;
+
+		private Map<Integer, Object> columnHeaders;
+		private Map<Integer, List<Object>> columnsValues;
+
+		private ArrowRowSink(ZipOutputStream zipOutputStream, Map<Object, Object> exportOptions) {
+			this.zipOutputStream = zipOutputStream;
+			this.exportOptions = exportOptions;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#startMatrix(java.lang.String, java.util.Map, int)
+		 */
+		@Override
+		public void startMatrix(String matrixName, Map<Integer, Object> columnHeaders, int rowsCount) {
+			LOG.debug("Streaming Arrow file for matrix named '{}'", matrixName);
+
+			this.columnHeaders = new LinkedHashMap<>(columnHeaders);
+			this.columnsValues = new LinkedHashMap<>();
+			for (Integer columnKey : columnHeaders.keySet()) {
+				this.columnsValues.put(columnKey, new ArrayList<>(rowsCount));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#writeRow(java.lang.String, int, java.util.Map)
+		 */
+		@Override
+		public void writeRow(String matrixName, int rowKey, Map<Integer, Object> row) {
+			for (Integer columnKey : columnHeaders.keySet()) {
+				columnsValues.get(columnKey).add(convertValue(row.get(columnKey), exportOptions));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#endMatrix(java.lang.String)
+		 */
+		@Override
+		public void endMatrix(String matrixName) throws EMFExportException {
+			try {
+
+				List<ArrowColumn> columns = new ArrayList<>();
+				for (Map.Entry<Integer, Object> columnHeader : columnHeaders.entrySet()) {
+					columns.add(constructColumn(columnHeader.getValue(), columnsValues.get(columnHeader.getKey())));
+				}
+
+				writeArrowFileToZipEntry(zipOutputStream, matrixName, generateArrowFile(columns, exportOptions),
+						exportOptions);
+
+			} catch (IOException e) {
+				throw new EMFExportException(e);
+
+			} finally {
+				columnHeaders = null;
+				columnsValues = null;
+			}
+		}
+	}
+
+	private enum ArrowColumnType {
+		// @formatter:off
+		BOOLEAN(TYPE_BOOL),
+		INT32(TYPE_INT),
+		INT64(TYPE_INT),
+		FLOAT(TYPE_FLOATING_POINT),
+		DOUBLE(TYPE_FLOATING_POINT),
+		TIMESTAMP(TYPE_TIMESTAMP),
+		STRING(TYPE_UTF8),
+		// dictionary encoded strings; type of dictionary's values
+		ENUM(TYPE_UTF8),
+		STRING_LIST(TYPE_LIST);
+		// @formatter:on
+
+		private final byte typeType;
+
+		private ArrowColumnType(byte typeType) {
+			this.typeType = typeType;
+		}
+	}
+
+	private static class ArrowColumn {
+		private final String name;
+		private final ArrowColumnType type;
+		private final List<Object> values;
+		private final List<String> dictionary;
+		private final Map<String, Integer> dictionaryIndices;
+
+		private ArrowColumn(String name, ArrowColumnType type, List<Object> values, List<String> dictionary) {
+			this.name = name;
+			this.type = type;
+			this.values = values;
+			this.dictionary = dictionary;
+			this.dictionaryIndices = new HashMap<>();
+
+			if (dictionary != null) {
+				for (int i = 0; i < dictionary.size(); i++) {
+					dictionaryIndices.put(dictionary.get(i), Integer.valueOf(i));
+				}
+			}
+		}
+
+		private boolean isDictionaryEncoded() {
+			return (type == ArrowColumnType.ENUM);
+		}
+	}
+
+	/**
+	 * Location of message within Arrow file, as referenced by file's footer.
+	 */
+	private static class ArrowBlock {
+		private final long offset;
+		private final int metadataLength;
+		private final long bodyLength;
+
+		private ArrowBlock(long offset, int metadataLength, long bodyLength) {
+			this.offset = offset;
+			this.metadataLength = metadataLength;
+			this.bodyLength = bodyLength;
+		}
+	}
+
+	/**
+	 * Body of record or dictionary batch, i.e. buffers, each aligned, along with
+	 * field nodes and buffers' locations, as described by batch's metadata.
+	 */
+	private static class ArrowBatchBody {
+		private final ArrowBuffer buffer = new ArrowBuffer();
+
+		// length and null count of each field node
+		private final List<long[]> fieldNodes = new ArrayList<>();
+
+		// offset and length of each buffer
+		private final List<long[]> buffers = new ArrayList<>();
+
+		private void addFieldNode(long length, long nullCount) {
+			fieldNodes.add(new long[] { length, nullCount });
+		}
+
+		private void addBuffer(byte[] bytes) {
+			buffers.add(new long[] { buffer.size(), bytes.length });
+
+			buffer.writeBytes(bytes);
+			buffer.writePadding();
+		}
+	}
+
+	/**
+	 * In-memory buffer, supporting little-endian values and padding, as used by
+	 * Arrow files.
+	 */
+	private static class ArrowBuffer extends ByteArrayOutputStream {
+
+		private void writeIntLE(int value) {
+			write(value & 0xFF);
+			write((value >>> 8) & 0xFF);
+			write((value >>> 16) & 0xFF);
+			write((value >>> 24) & 0xFF);
+		}
+
+		private void writeLongLE(long value) {
+			writeIntLE((int) value);
+			writeIntLE((int) (value >>> 32));
+		}
+
+		private void writePadding() {
+			while ((size() % ALIGNMENT) != 0) {
+				write(0);
+			}
+		}
+	}
+
+	/**
+	 * Builds FlatBuffers, as used by Arrow files' metadata, back to front, i.e.
+	 * children (strings, vectors, nested tables) have to be created before
+	 * tables referencing those.
+	 */
+	private static class FlatBufferBuilder {
+		private ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+
+		// free space remaining at start of buffer
+		private int space = buffer.capacity();
+
+		private int minAlignment = 1;
+
+		// offsets of fields of table being built
+		private int[] vtable;
+		private int objectStart;
+
+		private int vectorElementsCount;
+
+		private int offset() {
+			return buffer.capacity() - space;
+		}
+
+		private void prep(int size, int additionalBytes) {
+			if (size > minAlignment) {
+				minAlignment = size;
+			}
+
+			int alignment = (~(offset() + additionalBytes) + 1) & (size - 1);
+
+			while (space < (alignment + size + additionalBytes)) {
+				grow();
+			}
+
+			pad(alignment);
+		}
+
+		private void grow() {
+			int capacity = buffer.capacity();
+
+			ByteBuffer grownBuffer = ByteBuffer.allocate(capacity * 2).order(ByteOrder.LITTLE_ENDIAN);
+			System.arraycopy(buffer.array(), 0, grownBuffer.array(), capacity, capacity);
+
+			buffer = grownBuffer;
+			space += capacity;
+		}
+
+		private void pad(int bytes) {
+			for (int i = 0; i < bytes; i++) {
+				buffer.put(--space, (byte) 0);
+			}
+		}
+
+		private void putInt(int value) {
+			buffer.putInt(space -= 4, value);
+		}
+
+		private void putLong(long value) {
+			buffer.putLong(space -= 8, value);
+		}
+
+		private void addByte(byte value) {
+			prep(1, 0);
+			buffer.put(--space, value);
+		}
+
+		private void addShort(short value) {
+			prep(2, 0);
+			buffer.putShort(space -= 2, value);
+		}
+
+		private void addInt(int value) {
+			prep(4, 0);
+			putInt(value);
+		}
+
+		private void addLong(long value) {
+			prep(8, 0);
+			putLong(value);
+		}
+
+		private void addOffset(int offset) {
+			prep(4, 0);
+			putInt(offset() - offset + 4);
+		}
+
+		// structs of two longs, i.e. field nodes and buffers
+		private void addStruct(long first, long second) {
+			prep(8, 16);
+			putLong(second);
+			putLong(first);
+		}
+
+		private void startTable(int fieldsCount) {
+			vtable = new int[fieldsCount];
+			objectStart = offset();
+		}
+
+		private void addByteField(int field, byte value) {
+			addByte(value);
+			vtable[field] = offset();
+		}
+
+		private void addBooleanField(int field, boolean value) {
+			addByteField(field, (byte) (value ? 1 : 0));
+		}
+
+		private void addShortField(int field, short value) {
+			addShort(value);
+			vtable[field] = offset();
+		}
+
+		private void addIntField(int field, int value) {
+			addInt(value);
+			vtable[field] = offset();
+		}
+
+		private void addLongField(int field, long value) {
+			addLong(value);
+			vtable[field] = offset();
+		}
+
+		private void addOffsetField(int field, int offset) {
+			addOffset(offset);
+			vtable[field] = offset();
+		}
+
+		private int endTable() {
+			// placeholder for offset to table's vtable
+			addInt(0);
+
+			int tableOffset = offset();
+
+			int fieldsCount = vtable.length;
+			while ((fieldsCount > 0) && (vtable[fieldsCount - 1] == 0)) {
+				fieldsCount--;
+			}
+
+			for (int i = fieldsCount - 1; i >= 0; i--) {
+				addShort((short) ((vtable[i] != 0) ? (tableOffset - vtable[i]) : 0));
+			}
+			addShort((short) (tableOffset - objectStart));
+			addShort((short) ((fieldsCount + 2) * 2));
+
+			buffer.putInt(buffer.capacity() - tableOffset, offset() - tableOffset);
+
+			vtable = null;
+
+			return tableOffset;
+		}
+
+		private void startVector(int elementSize, int elementsCount, int alignment) {
+			vectorElementsCount = elementsCount;
+
+			prep(4, elementSize * elementsCount);
+			prep(alignment, elementSize * elementsCount);
+		}
+
+		private int endVector() {
+			putInt(vectorElementsCount);
+			return offset();
+		}
+
+		private int createOffsetVector(int[] offsets) {
+			startVector(4, offsets.length, 4);
+			for (int i = offsets.length - 1; i >= 0; i--) {
+				addOffset(offsets[i]);
+			}
+			return endVector();
+		}
+
+		private int createString(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+			addByte((byte) 0);
+			startVector(1, bytes.length, 1);
+			space -= bytes.length;
+			System.arraycopy(bytes, 0, buffer.array(), space, bytes.length);
+			return endVector();
+		}
+
+		private void finish(int rootTable) {
+			prep(minAlignment, 4);
+			addOffset(rootTable);
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOfRange(buffer.array(), space, buffer.capacity());
+		}
+	}
+}
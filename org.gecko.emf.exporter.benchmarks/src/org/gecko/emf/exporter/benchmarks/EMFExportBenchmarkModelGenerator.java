@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import trees.CityTree;
+import trees.Dimension;
+import trees.Kind;
+import trees.Location;
+import trees.TreesFactory;
+import trees.TreesPackage;
+
+/**
+ * Generates models of configurable size, depth and references fan-out for
+ * benchmarking EMF exporters.
+ * 
+ * Model consists of city areas, each of which contains 'fanOut' sub-areas
+ * (down to given depth) and 'fanOut' city trees (see
+ * {@link TreesPackage#getCityTree()}), and references 'fanOut' neighbouring
+ * areas (non-containment references). Values are generated using fixed seed,
+ * so same parameters always result in same model.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public class EMFExportBenchmarkModelGenerator {
+
+	private static final String AREA_EPACKAGE_NAME = "areas";
+	private static final String AREA_EPACKAGE_NS_URI = "http://gecko.org/emf/exporter/benchmarks/areas/1.0";
+
+	private static final String[] KIND_NAMES = { "Acer platanoides", "Tilia cordata", "Quercus robur",
+			"Pinus sylvestris", "Betula pendula" };
+
+	private static final long SEED = 42L;
+
+	private final EClass areaEClass;
+	private final EAttribute areaIdEAttribute;
+	private final EAttribute areaNameEAttribute;
+	private final EAttribute areaPopulationEAttribute;
+	private final EReference areaSubAreasEReference;
+	private final EReference areaTreesEReference;
+	private final EReference areaNeighboursEReference;
+
+	private final TreesFactory treesFactory = TreesFactory.eINSTANCE;
+
+	private Random random;
+
+	private int treesCount;
+
+	public EMFExportBenchmarkModelGenerator() {
+		EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+
+		EPackage areaEPackage = ecoreFactory.createEPackage();
+		areaEPackage.setName(AREA_EPACKAGE_NAME);
+		areaEPackage.setNsPrefix(AREA_EPACKAGE_NAME);
+		areaEPackage.setNsURI(AREA_EPACKAGE_NS_URI);
+
+		areaEClass = ecoreFactory.createEClass();
+		areaEClass.setName("Area");
+		areaEPackage.getEClassifiers().add(areaEClass);
+
+		areaIdEAttribute = createEAttribute(areaEClass, "id", EcorePackage.Literals.ESTRING);
+		areaIdEAttribute.setID(true);
+		areaNameEAttribute = createEAttribute(areaEClass, "name", EcorePackage.Literals.ESTRING);
+		areaPopulationEAttribute = createEAttribute(areaEClass, "population", EcorePackage.Literals.EINT);
+
+		areaSubAreasEReference = createEReference(areaEClass, "subAreas", areaEClass, true);
+		areaTreesEReference = createEReference(areaEClass, "trees", TreesPackage.eINSTANCE.getCityTree(), true);
+		areaNeighboursEReference = createEReference(areaEClass, "neighbours", areaEClass, false);
+	}
+
+	/**
+	 * Generates model and returns its root areas, contained in one resource.
+	 * 
+	 * @param size   number of root areas
+	 * @param depth  number of levels of sub-areas below each root area
+	 * @param fanOut number of sub-areas, city trees and neighbours of each area
+	 * @return root areas
+	 */
+	public List<EObject> generate(int size, int depth, int fanOut) {
+		random = new Random(SEED);
+		treesCount = 0;
+
+		Resource resource = new ResourceImpl(URI.createURI("benchmark.areas"));
+
+		List<EObject> areas = new ArrayList<>();
+
+		for (int i = 0; i < size; i++) {
+			resource.getContents().add(createArea(String.valueOf(i), depth, fanOut, areas));
+		}
+
+		for (EObject area : areas) {
+			populateNeighbours(area, fanOut, areas);
+		}
+
+		return new ArrayList<>(resource.getContents());
+	}
+
+	@SuppressWarnings("unchecked")
+	private EObject createArea(String path, int depth, int fanOut, List<EObject> areas) {
+		EObject area = EcoreUtil.create(areaEClass);
+		area.eSet(areaIdEAttribute, "area_" + path);
+		area.eSet(areaNameEAttribute, "Area " + path);
+		area.eSet(areaPopulationEAttribute, random.nextInt(100000));
+
+		areas.add(area);
+
+		List<EObject> trees = (List<EObject>) area.eGet(areaTreesEReference);
+
+		for (int i = 0; i < fanOut; i++) {
+			trees.add(createCityTree());
+		}
+
+		if (depth > 0) {
+			List<EObject> subAreas = (List<EObject>) area.eGet(areaSubAreasEReference);
+
+			for (int i = 0; i < fanOut; i++) {
+				subAreas.add(createArea(path + "_" + i, (depth - 1), fanOut, areas));
+			}
+		}
+
+		return area;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void populateNeighbours(EObject area, int fanOut, List<EObject> areas) {
+		List<EObject> neighbours = (List<EObject>) area.eGet(areaNeighboursEReference);
+
+		for (int i = 0; i < fanOut; i++) {
+			EObject neighbour = areas.get(random.nextInt(areas.size()));
+
+			// references are unique, so duplicates are skipped by the list itself
+			if (neighbour != area) {
+				neighbours.add(neighbour);
+			}
+		}
+	}
+
+	private CityTree createCityTree() {
+		int number = treesCount++;
+
+		Location location = treesFactory.createLocation();
+		location.setLatitude(50.9 + random.nextDouble() / 10.0);
+		location.setLongitude(11.5 + random.nextDouble() / 10.0);
+		location.setAltitude(150.0 + random.nextDouble() * 100.0);
+		location.setName("Location " + number);
+		location.setDescription("Street " + random.nextInt(500));
+		location.setArea("District " + random.nextInt(20));
+
+		Kind kind = treesFactory.createKind();
+		kind.setName(KIND_NAMES[random.nextInt(KIND_NAMES.length)]);
+		kind.setDescription("Kind of tree " + number);
+		kind.setType(random.nextBoolean() ? "Deciduous" : "Conifer");
+
+		Dimension dimension = treesFactory.createDimension();
+		dimension.setDiameterTop(random.nextDouble() * 15.0);
+		dimension.setDiameterTrunk(random.nextDouble() * 2.0);
+		dimension.setExtentTrunk(random.nextDouble() * 6.0);
+		dimension.setHeight(String.valueOf(random.nextInt(40)));
+
+		CityTree cityTree = treesFactory.createCityTree();
+		cityTree.setId("tree_" + number);
+		cityTree.setNumber(String.valueOf(number));
+		cityTree.setYear(1900 + random.nextInt(123));
+		cityTree.setLocation(location);
+		cityTree.setKind(kind);
+		cityTree.setDimension(dimension);
+
+		return cityTree;
+	}
+
+	private EAttribute createEAttribute(EClass eClass, String name, EDataType eType) {
+		EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+		eAttribute.setName(name);
+		eAttribute.setEType(eType);
+		eClass.getEStructuralFeatures().add(eAttribute);
+		return eAttribute;
+	}
+
+	private EReference createEReference(EClass eClass, String name, EClass eType, boolean containment) {
+		EReference eReference = EcoreFactory.eINSTANCE.createEReference();
+		eReference.setName(name);
+		eReference.setEType(eType);
+		eReference.setContainment(containment);
+		eReference.setUpperBound(EReference.UNBOUNDED_MULTIPLICITY);
+		eClass.getEStructuralFeatures().add(eReference);
+		return eReference;
+	}
+}
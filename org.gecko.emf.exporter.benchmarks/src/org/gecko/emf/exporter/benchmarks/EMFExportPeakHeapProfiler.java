@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * JMH profiler reporting peak heap usage of each iteration, i.e. sum of peak
+ * usages of heap memory pools - which is an upper bound, as pools need not
+ * peak at the same time.
+ * 
+ * Enabled using '-prof org.gecko.emf.exporter.benchmarks.EMFExportPeakHeapProfiler'.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public class EMFExportPeakHeapProfiler implements InternalProfiler {
+
+	private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openjdk.jmh.profile.Profiler#getDescription()
+	 */
+	@Override
+	public String getDescription() {
+		return "Peak heap usage";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openjdk.jmh.profile.InternalProfiler#beforeIteration(org.openjdk.jmh.infra.BenchmarkParams, org.openjdk.jmh.infra.IterationParams)
+	 */
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+		for (MemoryPoolMXBean heapMemoryPool : heapMemoryPools()) {
+			heapMemoryPool.resetPeakUsage();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.openjdk.jmh.profile.InternalProfiler#afterIteration(org.openjdk.jmh.infra.BenchmarkParams, org.openjdk.jmh.infra.IterationParams, org.openjdk.jmh.results.IterationResult)
+	 */
+	@Override
+	public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+			IterationParams iterationParams, IterationResult result) {
+		long peakHeapUsage = 0;
+
+		for (MemoryPoolMXBean heapMemoryPool : heapMemoryPools()) {
+			peakHeapUsage += heapMemoryPool.getPeakUsage().getUsed();
+		}
+
+		return List.of(new ScalarResult("heap.peak", (peakHeapUsage / BYTES_PER_MEGABYTE), "MB",
+				AggregationPolicy.MAX));
+	}
+
+	private List<MemoryPoolMXBean> heapMemoryPools() {
+		// @formatter:off
+		return ManagementFactory.getMemoryPoolMXBeans()
+				.stream()
+				.filter(memoryPool -> memoryPool.getType() == MemoryType.HEAP)
+				.collect(Collectors.toList());
+		// @formatter:on
+	}
+}
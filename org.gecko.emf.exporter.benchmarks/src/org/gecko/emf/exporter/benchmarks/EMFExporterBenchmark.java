@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportOptions;
+import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.exporter.arrow.impl.EMFArrowExporter;
+import org.gecko.emf.exporter.csv.api.EMFCSVExportMode;
+import org.gecko.emf.exporter.csv.api.EMFCSVExportOptions;
+import org.gecko.emf.exporter.csv.impl.EMFCSVExporter;
+import org.gecko.emf.exporter.ods.impl.EMFODSExporter;
+import org.gecko.emf.exporter.parquet.impl.EMFParquetExporter;
+import org.gecko.emf.exporter.r_lang.impl.EMFRLangExporter;
+import org.gecko.emf.exporter.xlsx.impl.EMFXLSXExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+
+/**
+ * JMH benchmarks of EMF exporters, exporting models generated by
+ * {@link EMFExportBenchmarkModelGenerator} to discarding output stream.
+ * 
+ * Run using 'jmh' Gradle task, which reports throughput, allocation rate (GC
+ * profiler) and peak heap usage ({@link EMFExportPeakHeapProfiler}); model
+ * size, depth and references fan-out can be changed using JMH parameters,
+ * e.g. '-p size=1000 -p depth=3'.
+ * 
+ * @author Michal H. Siemaszko
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EMFExporterBenchmark {
+
+	// number of root areas
+	@Param({ "100" })
+	public int size;
+
+	// number of levels of sub-areas below each root area
+	@Param({ "2" })
+	public int depth;
+
+	// number of sub-areas, city trees and neighbours of each area
+	@Param({ "3" })
+	public int fanOut;
+
+	@Param({ "false" })
+	public boolean streaming;
+
+	@Param({ "1" })
+	public int parallelism;
+
+	private List<EObject> eObjects;
+
+	private EMFExporter csvExporter;
+	private EMFExporter xlsxExporter;
+	private EMFExporter odsExporter;
+	private EMFExporter rLangExporter;
+	private EMFExporter parquetExporter;
+	private EMFExporter arrowExporter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		eObjects = new EMFExportBenchmarkModelGenerator().generate(size, depth, fanOut);
+
+		csvExporter = new EMFCSVExporter();
+		xlsxExporter = new EMFXLSXExporter();
+		odsExporter = new EMFODSExporter();
+		rLangExporter = new EMFRLangExporter();
+		parquetExporter = new EMFParquetExporter();
+		arrowExporter = new EMFArrowExporter();
+	}
+
+	@Benchmark
+	public long exportToCSVInFlatMode() throws EMFExportException {
+		Map<Object, Object> exportOptions = exportOptions();
+		exportOptions.put(EMFExportOptions.OPTION_EXPORT_METADATA, false);
+		exportOptions.put(EMFExportOptions.OPTION_ADD_MAPPING_TABLE, false);
+		exportOptions.put(EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.FLAT);
+
+		return export(csvExporter, exportOptions);
+	}
+
+	@Benchmark
+	public long exportToCSVInZipMode() throws EMFExportException {
+		Map<Object, Object> exportOptions = exportOptions();
+		exportOptions.put(EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP);
+
+		return export(csvExporter, exportOptions);
+	}
+
+	@Benchmark
+	public long exportToXLSX() throws EMFExportException {
+		return export(xlsxExporter, exportOptions());
+	}
+
+	@Benchmark
+	public long exportToODS() throws EMFExportException {
+		return export(odsExporter, exportOptions());
+	}
+
+	@Benchmark
+	public long exportToRLang() throws EMFExportException {
+		return export(rLangExporter, exportOptions());
+	}
+
+	@Benchmark
+	public long exportToParquet() throws EMFExportException {
+		return export(parquetExporter, exportOptions());
+	}
+
+	@Benchmark
+	public long exportToArrow() throws EMFExportException {
+		return export(arrowExporter, exportOptions());
+	}
+
+	private Map<Object, Object> exportOptions() {
+		Map<Object, Object> exportOptions = new HashMap<>();
+		exportOptions.put(EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true);
+		exportOptions.put(EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true);
+		exportOptions.put(EMFExportOptions.OPTION_STREAMING, streaming);
+		exportOptions.put(EMFExportOptions.OPTION_PARALLELISM, parallelism);
+		return exportOptions;
+	}
+
+	/*
+	 * Number of bytes written is returned, so JMH consumes it and export cannot
+	 * be optimized away.
+	 */
+	private long export(EMFExporter exporter, Map<Object, Object> exportOptions) throws EMFExportException {
+		CountingOutputStream outputStream = new CountingOutputStream(ByteStreams.nullOutputStream());
+
+		exporter.exportEObjectsTo(eObjects, outputStream, exportOptions);
+
+		return outputStream.getCount();
+	}
+}
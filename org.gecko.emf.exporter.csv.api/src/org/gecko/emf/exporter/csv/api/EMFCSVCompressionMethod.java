@@ -0,0 +1,22 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.csv.api;
+
+/**
+ * Compression method of CSV files in ZIP export mode.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public enum EMFCSVCompressionMethod {
+	DEFLATED,
+	STORED;
+}
@@ -22,4 +22,14 @@ public interface EMFCSVExportOptions extends EMFExportOptions {
 	
 	// export mode to use
 	String OPTION_EXPORT_MODE = "OPTION_EXPORT_MODE";
+
+	// compression method of CSV files in ZIP export mode (defaults to
+	// EMFCSVCompressionMethod.DEFLATED); STORED can be used when ZIP archive is
+	// merely a container
+	String OPTION_COMPRESSION_METHOD = "COMPRESSION_METHOD";
+
+	// compression level of CSV files in ZIP export mode, from 0 (no compression)
+	// to 9 (best compression), when DEFLATED compression method is used (defaults
+	// to -1, i.e. default compression level)
+	String OPTION_COMPRESSION_LEVEL = "COMPRESSION_LEVEL";
 }
@@ -21,24 +21,44 @@ import static org.gecko.emf.csv.tests.helper.EMFCSVExporterTestHelper.createSimp
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.gecko.emf.csv.tests.helper.EMFCSVExporterTestHelper;
 import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrixMetrics;
+import org.gecko.emf.exporter.EMFExportMetrics;
+import org.gecko.emf.exporter.EMFExportMetricsListener;
 import org.gecko.emf.exporter.EMFExportOptions;
+import org.gecko.emf.exporter.EMFExportPhase;
+import org.gecko.emf.exporter.EMFExportPseudoIDStrategy;
+import org.gecko.emf.exporter.EMFExportSpoolFile;
 import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.exporter.csv.api.EMFCSVCompressionMethod;
 import org.gecko.emf.exporter.csv.api.EMFCSVExportMode;
 import org.gecko.emf.exporter.csv.api.EMFCSVExportOptions;
 import org.gecko.emf.exporter.csv.api.annotations.RequireEMFCSVExporter;
@@ -242,6 +262,47 @@ public class EMFCSVExporterTest {
 		// @formatter:on
 	}
 
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvFlatModeNonContainmenEnabledParallelismEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		List<String> flatMatrices = new ArrayList<>();
+
+		for (int parallelism : new int[] { 1, 4 }) {
+			Path filePath = Files.createTempFile(
+					"testExportExampleModelBasicEObjectsToCsvFlatModeNonContainmenEnabledParallelismEnabled", ".csv");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+				// @formatter:off
+				emfCsvExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily), fileOutputStream, 
+						Map.of(
+								EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+								EMFExportOptions.OPTION_PARALLELISM, parallelism, // defaults to 1
+								EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.FLAT
+							)
+						);
+				// @formatter:on
+			}
+
+			flatMatrices.add(Files.readString(filePath));
+		}
+
+		// references are resolved to same rows, regardless of whether matrices were
+		// populated in parallel
+		assertThat(flatMatrices.get(1)).isNotEmpty().isEqualTo(flatMatrices.get(0));
+	}
+
 	@Test
 	public void testExportExampleModelBasicEObjectsToCsvZipModeNonContainmentDisabled(
 			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
@@ -277,6 +338,387 @@ public class EMFCSVExporterTest {
 		// @formatter:on
 	}
 
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeStreamingEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToCsvZipModeStreamingEnabled",
+				".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfCsvExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true in ZIP export mode
+//						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to true in ZIP export mode
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_STREAMING, true, // defaults to false
+						EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+					)
+				);
+		// @formatter:on
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeStreamingEnabledSameAsStreamingDisabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		List<Map<String, String>> zipEntriesContents = new ArrayList<>();
+
+		for (boolean streaming : new boolean[] { false, true }) {
+
+			// @formatter:off
+			zipEntriesContents.add(exportEObjectsToCsvZipEntries(emfCsvExporterService, 
+					List.of(simpsonFamily, flintstonesFamily, businessPerson), 
+					Map.of(
+							EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+							EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+							EMFExportOptions.OPTION_STREAMING, streaming, // defaults to false
+							EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+						)
+					));
+			// @formatter:on
+		}
+
+		// streamed entries may be written in different order, but their contents
+		// are same as when matrices are exported at once
+		assertThat(zipEntriesContents.get(1)).isNotEmpty().isEqualTo(zipEntriesContents.get(0));
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeContentHashPseudoIDs(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToCsvZipModeContentHashPseudoIDs",
+				".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfCsvExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true in ZIP export mode
+//						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to true in ZIP export mode
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_PSEUDO_ID_STRATEGY, EMFExportPseudoIDStrategy.CONTENT_HASH, // defaults to SEQUENTIAL
+						EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+					)
+				);
+		// @formatter:on
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeContentHashPseudoIDsDeterministic(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		// @formatter:off
+		Map<?, ?> options = Map.of(
+				EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+				EMFExportOptions.OPTION_PSEUDO_ID_STRATEGY, EMFExportPseudoIDStrategy.CONTENT_HASH, // defaults to SEQUENTIAL
+				EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+			);
+		// @formatter:on
+
+		List<String> contactsPseudoIDs = exportedCsvZipEntryIDs(
+				exportEObjectsToCsvZipEntries(emfCsvExporterService, List.of(simpsonFamily), options), "Contact.csv");
+
+		List<String> contactsPseudoIDsExportedAgain = exportedCsvZipEntryIDs(
+				exportEObjectsToCsvZipEntries(emfCsvExporterService, List.of(simpsonFamily), options), "Contact.csv");
+
+		// same content results in same pseudo IDs across exports
+		assertThat(contactsPseudoIDs).isNotEmpty().doesNotHaveDuplicates();
+		assertThat(contactsPseudoIDsExportedAgain).isEqualTo(contactsPseudoIDs);
+
+		simpsonFamily.getFather().getContact().get(0).setValue("changed");
+
+		List<String> contactsPseudoIDsContentChanged = exportedCsvZipEntryIDs(
+				exportEObjectsToCsvZipEntries(emfCsvExporterService, List.of(simpsonFamily), options), "Contact.csv");
+
+		// only pseudo ID of EObject whose content changed differs
+		assertThat(contactsPseudoIDsContentChanged).hasSameSizeAs(contactsPseudoIDs);
+		assertThat(contactsPseudoIDsContentChanged).filteredOn(id -> !contactsPseudoIDs.contains(id)).hasSize(1);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeSequentialPseudoIDsSameAsIDs(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		// IDs equal to sequential pseudo IDs generated for contacts, which lack id
+		// field, apart from pseudo IDs' reserved prefix
+		simpsonFamily.getChildren().get(0).setId("Contact_1");
+		simpsonFamily.getChildren().get(1).setId("Contact_2");
+
+		// @formatter:off
+		Map<String, String> zipEntriesContents = exportEObjectsToCsvZipEntries(emfCsvExporterService, 
+				List.of(simpsonFamily), 
+				Map.of(
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+						EMFExportOptions.OPTION_PSEUDO_ID_STRATEGY, EMFExportPseudoIDStrategy.SEQUENTIAL, // defaults to SEQUENTIAL
+						EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+					)
+				);
+		// @formatter:on
+
+		List<String> contactsPseudoIDs = exportedCsvZipEntryIDs(zipEntriesContents, "Contact.csv");
+
+		assertThat(exportedCsvZipEntryIDs(zipEntriesContents, "Person.csv")).contains("Contact_1", "Contact_2");
+		assertThat(contactsPseudoIDs).isNotEmpty().doesNotHaveDuplicates().doesNotContain("Contact_1", "Contact_2");
+		assertThat(contactsPseudoIDs).allMatch(id -> id.startsWith("~"));
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeParallelismEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToCsvZipModeParallelismEnabled",
+				".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfCsvExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true in ZIP export mode
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_PARALLELISM, 4, // defaults to 1
+						EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+					)
+				);
+		// @formatter:on
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeParallelismEnabledEntriesOrder(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		List<List<String>> zipEntriesNames = new ArrayList<>();
+		List<Map<String, String>> zipEntriesContents = new ArrayList<>();
+
+		for (int parallelism : new int[] { 1, 4 }) {
+			Path filePath = Files.createTempFile(
+					"testExportExampleModelBasicEObjectsToCsvZipModeParallelismEnabledEntriesOrder", ".zip");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+				// @formatter:off
+				emfCsvExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily), fileOutputStream, 
+						Map.of(
+								EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+								EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+								EMFExportOptions.OPTION_PARALLELISM, parallelism, // defaults to 1
+								EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+							)
+						);
+				// @formatter:on
+			}
+
+			try (ZipFile zipFile = new ZipFile(filePath.toFile())) {
+				zipEntriesNames.add(zipFile.stream().map(ZipEntry::getName).collect(Collectors.toList()));
+
+				Map<String, String> contents = new TreeMap<>();
+				for (ZipEntry zipEntry : Collections.list(zipFile.entries())) {
+					try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+						contents.put(zipEntry.getName(), new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+					}
+				}
+				zipEntriesContents.add(contents);
+			}
+		}
+
+		// entries compressed in parallel are written in same order, and with same
+		// contents, as in sequential export
+		assertThat(zipEntriesNames.get(1)).isNotEmpty().isEqualTo(zipEntriesNames.get(0));
+		assertThat(zipEntriesContents.get(1)).isNotEmpty().isEqualTo(zipEntriesContents.get(0));
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeMetricsListener(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToCsvZipModeMetricsListener",
+				".zip");
+
+		AtomicReference<EMFExportMetrics> metricsReference = new AtomicReference<>();
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+			// @formatter:off
+			emfCsvExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily), fileOutputStream, 
+					Map.of(
+							EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+							EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+							EMFExportOptions.OPTION_METRICS_LISTENER, (EMFExportMetricsListener) metricsReference::set,
+							EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+						)
+					);
+			// @formatter:on
+		}
+
+		EMFExportMetrics metrics = metricsReference.get();
+		assertThat(metrics).isNotNull();
+		assertThat(metrics.getPhasesDurations()).containsKeys(EMFExportPhase.MATRICES_CONSTRUCTION,
+				EMFExportPhase.MATRICES_POPULATION, EMFExportPhase.METADATA_POPULATION, EMFExportPhase.SERIALIZATION);
+		assertThat(metrics.getMatricesMetrics()).extracting(EMFExportMatrixMetrics::getMatrixName).contains("Family",
+				"Person");
+		assertThat(metrics.getBytesWritten()).isEqualTo(Files.size(filePath));
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToCsvZipModeCompressionMethodStored(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToCsvZipModeCompressionMethodStored",
+				".zip");
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+			// @formatter:off
+			emfCsvExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily), fileOutputStream, 
+					Map.of(
+							EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+							EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+							EMFCSVExportOptions.OPTION_COMPRESSION_METHOD, EMFCSVCompressionMethod.STORED, // defaults to DEFLATED
+							EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+						)
+					);
+			// @formatter:on
+		}
+
+		try (ZipFile zipFile = new ZipFile(filePath.toFile())) {
+			assertThat(zipFile.stream().map(ZipEntry::getName)).contains("Family.csv", "Person.csv");
+			assertThat(zipFile.stream().map(ZipEntry::getMethod)).containsOnly(ZipEntry.STORED);
+		}
+	}
+
+	@Test
+	public void testExportExampleModelBasicInvalidCompressionLevelException(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfCsvExporterAware.getServices()).hasSize(1);
+		EMFExporter emfCsvExporterService = emfCsvExporterAware.getService();
+		assertThat(emfCsvExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicInvalidCompressionLevelException", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// compression level has to be in range of 0-9, or -1 for default
+		// compression level
+		assertThatExceptionOfType(EMFExportException.class).isThrownBy(() -> {
+			// @formatter:off
+			emfCsvExporterService.exportEObjectsTo(List.of(simpsonFamily), fileOutputStream, 
+					Map.of(
+							EMFCSVExportOptions.OPTION_COMPRESSION_LEVEL, 10,
+							EMFCSVExportOptions.OPTION_EXPORT_MODE, EMFCSVExportMode.ZIP
+						)
+					);
+			// @formatter:on
+		});
+	}
+
 	@Test
 	public void testExportUtilModelResourceToCsvFlatModeNonContainmentDisabled(
 			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFCSVExporter)") ServiceAware<EMFExporter> emfCsvExporterAware,
@@ -685,4 +1127,59 @@ public class EMFCSVExporterTest {
 				);
 		// @formatter:on
 	}
+
+
+	@Test
+	public void testSpoolFileDeletedOnPartialWriteFailure() throws Exception {
+		String spoolFilePrefix = "testSpoolFileDeletedOnPartialWriteFailure-" + UUID.randomUUID();
+
+		// write fails once part of spool file's contents is written
+		assertThatExceptionOfType(IOException.class).isThrownBy(() -> {
+			EMFExportSpoolFile.spool(spoolFilePrefix, ".csv", outputStream -> {
+				outputStream.write(new byte[64 * 1024]);
+				throw new IOException("Partial write failure");
+			});
+		}).withMessage("Partial write failure");
+
+		try (Stream<Path> tempFiles = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+			assertThat(tempFiles.map(Path::getFileName).map(Path::toString))
+					.noneMatch(fileName -> fileName.startsWith(spoolFilePrefix));
+		}
+	}
+
+	private Map<String, String> exportEObjectsToCsvZipEntries(EMFExporter emfCsvExporterService,
+			List<EObject> eObjects, Map<?, ?> options) throws Exception {
+		Path filePath = Files.createTempFile("exportEObjectsToCsvZipEntries", ".zip");
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+			emfCsvExporterService.exportEObjectsTo(eObjects, fileOutputStream, options);
+		}
+
+		Map<String, String> zipEntriesContents = new TreeMap<>();
+
+		try (ZipFile zipFile = new ZipFile(filePath.toFile())) {
+			for (ZipEntry zipEntry : Collections.list(zipFile.entries())) {
+				try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+					zipEntriesContents.put(zipEntry.getName(),
+							new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+				}
+			}
+		}
+
+		return zipEntriesContents;
+	}
+
+	/*
+	 * IDs are stored in first column of each entry, following header row.
+	 */
+	private List<String> exportedCsvZipEntryIDs(Map<String, String> zipEntriesContents, String zipEntryName) {
+		assertThat(zipEntriesContents).containsKey(zipEntryName);
+
+		// @formatter:off
+		return zipEntriesContents.get(zipEntryName).lines()
+				.skip(1)
+				.map(line -> line.substring(0, line.indexOf(',')))
+				.collect(Collectors.toList());
+		// @formatter:on
+	}
 }
@@ -11,38 +11,57 @@
  */
 package org.gecko.emf.exporter.csv.impl;
 
-import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.commons.compress.archivers.zip.ScatterZipOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntryRequest;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.eclipse.emf.ecore.EObject;
 import org.gecko.emf.exporter.AbstractEMFExporter;
 import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrix;
+import org.gecko.emf.exporter.EMFExportMetricsCollector;
+import org.gecko.emf.exporter.EMFExportPhase;
 import org.gecko.emf.exporter.EMFExportOptions;
+import org.gecko.emf.exporter.EMFExportRowSink;
+import org.gecko.emf.exporter.EMFExportSpoolFile;
 import org.gecko.emf.exporter.EMFExporter;
 import org.gecko.emf.exporter.annotation.ProvideEMFExporter;
 import org.gecko.emf.exporter.cells.EMFExportEObjectIDValueCell;
 import org.gecko.emf.exporter.cells.EMFExportEObjectManyReferencesValueCell;
 import org.gecko.emf.exporter.cells.EMFExportEObjectOneReferenceValueCell;
 import org.gecko.emf.exporter.cells.EMFExportEObjectReferenceValueCell;
+import org.gecko.emf.exporter.csv.api.EMFCSVCompressionMethod;
 import org.gecko.emf.exporter.csv.api.EMFCSVExportMode;
 import org.gecko.emf.exporter.csv.api.EMFCSVExportOptions;
 import org.gecko.emf.exporter.csv.api.EMFCSVExporterConstants;
@@ -50,19 +69,13 @@ import org.gecko.emf.exporter.headers.EMFExportEObjectColumnHeader;
 import org.gecko.emf.exporter.headers.EMFExportEObjectManyReferencesColumnHeader;
 import org.gecko.emf.exporter.headers.EMFExportEObjectOneReferenceColumnHeader;
 import org.gecko.emf.exporter.headers.EMFExportEObjectReferenceColumnHeader;
-import org.gecko.emf.exporter.keys.EMFExportColumnHasValueCompositeKey;
-import org.gecko.emf.exporter.keys.EMFExportColumnRefsMaxValueCountCompositeKey;
-import org.gecko.emf.exporter.keys.EMFExportRefHasValueCompositeKey;
-import org.gecko.emf.exporter.keys.EMFExportRefMatrixNameIDCompositeKey;
-import org.gecko.emf.exporter.keys.EMFExportRefsMaxValueCountCompositeKey;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
+import com.google.common.io.CountingOutputStream;
 
 import de.siegmar.fastcsv.writer.CsvWriter;
 
@@ -82,7 +95,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	private static final String REF_COLUMN_SUFFIX_PART = REF_COLUMN_SUFFIX.replaceFirst(".", "");
 
 	public EMFCSVExporter() {
-		super(LOG, Stopwatch.createStarted());
+		super(LOG);
 	}
 
 	/*
@@ -104,7 +117,9 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 
 				final Map<Object, Object> exportOptions = validateExportOptions(options);
 
-				LookupIndexesDTO lookupIndexesDTO = new LookupIndexesDTO();
+				final EMFExportMetricsCollector metricsCollector = new EMFExportMetricsCollector();
+
+				final CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
 
 				LOG.info("Starting export of {} EObject(s) to CSV format"
 						+ (!exportOptions.isEmpty() ? " with options" : ""), eObjects.size());
@@ -116,8 +131,15 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 				LOG.info("  Add mapping table: {}", addMappingTableEnabled(exportOptions));
 				LOG.info("  Show URIs instead of IDs (where applicable): {}", showURIsEnabled(exportOptions));
 				LOG.info("  Show columns containing references: {}", showREFsEnabled(exportOptions));
+				LOG.info("  Pseudo ID strategy: {}", pseudoIDStrategy(exportOptions));
+				LOG.info("  Compression method (ZIP mode): {}", compressionMethod(exportOptions));
+				LOG.info("  Compression level (ZIP mode): {}", compressionLevel(exportOptions));
+				LOG.info("  Streaming: {}", streamingEnabled(exportOptions));
+				LOG.info("  Parallelism: {}", parallelism(exportOptions));
+
+				exportMatricesToCSV(countingOutputStream, eObjects, exportOptions, metricsCollector);
 
-				exportMatricesToCSV(outputStream, eObjects, lookupIndexesDTO, exportOptions);
+				publishMetrics(metricsCollector, countingOutputStream.getCount(), exportOptions);
 
 			} catch (Exception e) {
 				throw new EMFExportException(e);
@@ -126,57 +148,172 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void exportMatricesToCSV(OutputStream outputStream, List<EObject> eObjects,
-			LookupIndexesDTO lookupIndexesDTO, Map<Object, Object> exportOptions)
+			Map<Object, Object> exportOptions, EMFExportMetricsCollector metricsCollector)
 			throws IOException, EMFExportException {
 
 		if (flatExportMode(exportOptions)) {
-			exportMatricesToCSVInFlatMode(outputStream, eObjects, lookupIndexesDTO, exportOptions);
+			exportMatricesToCSVInFlatMode(outputStream, eObjects, exportOptions, metricsCollector);
+
+		} else if (zipExportMode(exportOptions) && streamingEnabled(exportOptions)) {
+			streamMatricesToCSVInZipMode(outputStream, eObjects, exportOptions, metricsCollector);
 
 		} else if (zipExportMode(exportOptions)) {
-			exportMatricesToCSVInZipMode(outputStream, eObjects, lookupIndexesDTO, exportOptions);
+			exportMatricesToCSVInZipMode(outputStream, eObjects, exportOptions, metricsCollector);
 		}
 	}
 
+	private void streamMatricesToCSVInZipMode(OutputStream outputStream, List<EObject> eObjects,
+			Map<Object, Object> exportOptions, EMFExportMetricsCollector metricsCollector)
+			throws EMFExportException {
+
+		ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatricesSchema(eObjects, exportOptions,
+				metricsCollector);
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
+
+		LOG.info("Starting streaming of CSV files in ZIP mode");
+
+		try (ZipOutputStream zipOutputStream = createZipOutputStream(outputStream, exportOptions)) {
+			streamMatricesToSink(processedEObjectsDTO, exportOptions,
+					new CSVZipModeRowSink(zipOutputStream, exportOptions));
+
+		} catch (IOException e) {
+			throw new EMFExportException(e);
+		}
+
+		LOG.info("Finished streaming of CSV files in ZIP mode in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
 	private void exportMatricesToCSVInZipMode(OutputStream outputStream, List<EObject> eObjects,
-			LookupIndexesDTO lookupIndexesDTO, Map<Object, Object> exportOptions) throws EMFExportException {
+			Map<Object, Object> exportOptions, EMFExportMetricsCollector metricsCollector)
+			throws EMFExportException {
+
+		ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions,
+				metricsCollector);
 
-		ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions);
+		final Stopwatch stopwatch = Stopwatch.createStarted();
 
-		resetStopwatch();
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
 
 		LOG.info("Starting generation of CSV files in ZIP mode");
 
-		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
-			for (String matrixName : processedEObjectsDTO.matrixNameToMatrixMap.keySet()) {
-				LOG.debug("Generating CSV file for matrix named '{}'", matrixName);
+		try {
 
-				Table<Integer, Integer, Object> matrix = processedEObjectsDTO.matrixNameToMatrixMap.get(matrixName);
+			if (parallelism(exportOptions) > 1) {
+				exportMatricesToCSVInZipModeInParallel(outputStream, processedEObjectsDTO, exportOptions);
 
-				exportMatrixToCSVInZipMode(zipOutputStream, matrixName, matrix, exportOptions);
+			} else {
+				try (ZipOutputStream zipOutputStream = createZipOutputStream(outputStream, exportOptions)) {
+
+					for (String matrixName : processedEObjectsDTO.matrixNameToMatrixMap.keySet()) {
+						LOG.debug("Generating CSV file for matrix named '{}'", matrixName);
+
+						EMFExportMatrix matrix = processedEObjectsDTO.matrixNameToMatrixMap.get(matrixName);
+
+						exportMatrixToCSVInZipMode(zipOutputStream, matrixName, matrix, exportOptions);
+					}
+				}
 			}
 		} catch (IOException e) {
 			throw new EMFExportException(e);
 		}
 
-		LOG.info("Finished generation of CSV files in ZIP mode in {} second(s)", elapsedTimeInSeconds());
+		LOG.info("Finished generation of CSV files in ZIP mode in {} second(s)", elapsedTimeInSeconds(stopwatch));
 	}
 
+	/*
+	 * CSV files are generated and compressed in parallel, each written to
+	 * temporary file first and then to its own scatter ZIP stream, backed by
+	 * temporary file as well, while compressed ZIP entries - which have to be
+	 * written one after another - are copied as-is to ZIP archive in calling
+	 * thread, in same order as matrices.
+	 */
+	private void exportMatricesToCSVInZipModeInParallel(OutputStream outputStream,
+			ProcessedEObjectsDTO processedEObjectsDTO, Map<Object, Object> exportOptions)
+			throws IOException, EMFExportException {
+
+		// scatter ZIP streams created are tracked, so their temporary files are
+		// deleted even if some of the tasks fail
+		Queue<ScatterZipOutputStream> scatterZipOutputStreams = new ConcurrentLinkedQueue<>();
+
+		List<Callable<ScatterZipOutputStream>> tasks = new ArrayList<>();
+
+		for (String matrixName : processedEObjectsDTO.matrixNameToMatrixMap.keySet()) {
+			EMFExportMatrix matrix = processedEObjectsDTO.matrixNameToMatrixMap.get(matrixName);
+
+			tasks.add(() -> {
+				LOG.debug("Generating CSV file for matrix named '{}'", matrixName);
+
+				try (EMFExportSpoolFile csvFile = EMFExportSpoolFile.spool("emf-csv-entry", ".csv",
+						csvFileOutputStream -> generateCSV(matrix, csvFileOutputStream, exportOptions))) {
+
+					ScatterZipOutputStream scatterZipOutputStream = createScatterZipOutputStream(exportOptions);
+					scatterZipOutputStreams.add(scatterZipOutputStream);
+
+					// CSV file is read, and compressed, by scatter ZIP stream as entry is added
+					scatterZipOutputStream.addArchiveEntry(ZipArchiveEntryRequest.createZipArchiveEntryRequest(
+							constructZipArchiveEntry(matrixName, exportOptions), () -> {
+								try {
+									return csvFile.openInputStream();
+								} catch (IOException e) {
+									throw new UncheckedIOException(e);
+								}
+							}));
+
+					return scatterZipOutputStream;
+				}
+			});
+		}
+
+		try (ZipArchiveOutputStream zipArchiveOutputStream = new ZipArchiveOutputStream(outputStream)) {
+
+			for (ScatterZipOutputStream scatterZipOutputStream : invokeAll(tasks, exportOptions)) {
+				scatterZipOutputStream.writeTo(zipArchiveOutputStream);
+			}
+
+		} finally {
+			for (ScatterZipOutputStream scatterZipOutputStream : scatterZipOutputStreams) {
+				scatterZipOutputStream.close();
+			}
+		}
+	}
+
+	/*
+	 * CSV file is written directly to ZIP entry, without being buffered in memory
+	 * first.
+	 */
 	private void exportMatrixToCSVInZipMode(ZipOutputStream zipOutputStream, String matrixName,
-			Table<Integer, Integer, Object> matrix, Map<Object, Object> exportOptions) throws IOException {
-		final StringWriter csvStringWriter = new StringWriter();
+			EMFExportMatrix matrix, Map<Object, Object> exportOptions) throws IOException {
 
-		try (CsvWriter csvWriter = CsvWriter.builder().build(csvStringWriter)) {
+		try (CsvWriter csvWriter = CsvWriter.builder()
+				.build(createZipEntryWriter(zipOutputStream, matrixName, exportOptions))) {
 
 			writeCSVHeader(matrix, csvWriter);
 
 			writeCSVData(matrix, csvWriter, exportOptions);
+		}
+	}
+
+	/*
+	 * CSV file is written directly to given output stream, without being buffered
+	 * in memory first.
+	 */
+	private void generateCSV(EMFExportMatrix matrix, OutputStream outputStream, Map<Object, Object> exportOptions)
+			throws IOException {
+
+		try (CsvWriter csvWriter = CsvWriter.builder()
+				.build(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
 
-			writeZipEntry(zipOutputStream, matrixName, csvStringWriter);
+			writeCSVHeader(matrix, csvWriter);
+
+			writeCSVData(matrix, csvWriter, exportOptions);
 		}
 	}
 
 	private void exportMatricesToCSVInFlatMode(OutputStream outputStream, List<EObject> eObjects,
-			LookupIndexesDTO lookupIndexesDTO, Map<Object, Object> exportOptions)
+			Map<Object, Object> exportOptions, EMFExportMetricsCollector metricsCollector)
 			throws IOException, EMFExportException {
 
 		// validate if objects from list passed share the same hierarchy - this is only
@@ -184,28 +321,36 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		// mode
 		validateClassHierarchyForRootObjects(eObjects);
 
-		ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions);
+		ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions,
+				metricsCollector);
 
-		resetStopwatch();
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
 
 		LOG.info("Starting generation of CSV files in flat mode");
 
-		Map<String, Table<Integer, Integer, Object>> eObjectMatrixNameToMatrixMap = eObjectMatricesOnly(
+		Map<String, EMFExportMatrix> eObjectMatrixNameToMatrixMap = eObjectMatricesOnly(
 				processedEObjectsDTO.matrixNameToMatrixMap);
 
-		Table<Integer, Integer, Object> flatMatrix = HashBasedTable.create();
+		// computed once, so that constructing column headers and populating rows of
+		// flat matrix does not require repeated scans of matrices
+		FlatMatrixJoinPlan flatMatrixJoinPlan = new FlatMatrixJoinPlan(eObjectMatrixNameToMatrixMap,
+				processedEObjectsDTO);
+
+		EMFExportMatrix flatMatrix = createMatrix();
 
 		// skip matrices whose structural features are unpacked when constructing one
 		// reference / many references column headers (e.g. "Filter_Id" vs
 		// "filtering.Id") to avoid duplication of information presented
 		Set<String> nonRefMatrixNames = nonRefMatrixNames(eObjectMatrixNameToMatrixMap);
 
-		constructFlatMatrixColumnHeaders(eObjectMatrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+		constructFlatMatrixColumnHeaders(eObjectMatrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 				exportOptions, nonRefMatrixNames, flatMatrix);
 
 		validateMatrixColumnsSize(flatMatrix, "flat matrix");
 
-		populateFlatMatrixWithData(eObjectMatrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+		populateFlatMatrixWithData(eObjectMatrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 				nonRefMatrixNames, exportOptions, flatMatrix);
 
 		try (PrintWriter printWriterOutputStream = new PrintWriter(outputStream)) {
@@ -218,28 +363,28 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			}
 		}
 
-		LOG.info("Finished generation of CSV files in flat mode in {} second(s)", elapsedTimeInSeconds());
+		LOG.info("Finished generation of CSV files in flat mode in {} second(s)", elapsedTimeInSeconds(stopwatch));
 	}
 
-	private void constructFlatMatrixColumnHeaders(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
+	private void constructFlatMatrixColumnHeaders(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
 			Map<Object, Object> exportOptions, Set<String> nonRefMatrixNames,
-			Table<Integer, Integer, Object> flatMatrix) throws EMFExportException {
+			EMFExportMatrix flatMatrix) throws EMFExportException {
 		AtomicInteger flatMatrixColumnKey = new AtomicInteger(1);
 
 		for (String nonRefMatrixName : nonRefMatrixNames) {
-			constructFlatMatrixColumnHeaders(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+			constructFlatMatrixColumnHeaders(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 					exportOptions, flatMatrix, flatMatrixColumnKey, nonRefMatrixName);
 		}
 	}
 
-	private void constructFlatMatrixColumnHeaders(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
+	private void constructFlatMatrixColumnHeaders(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
 			AtomicInteger flatMatrixColumnKey, String nonRefMatrixName) throws EMFExportException {
-		Table<Integer, Integer, Object> nonRefMatrix = matrixNameToMatrixMap.get(nonRefMatrixName);
+		EMFExportMatrix nonRefMatrix = matrixNameToMatrixMap.get(nonRefMatrixName);
 
-		Map<Integer, Object> firstNonRefMatrixRow = nonRefMatrix.row(getMatrixRowKey(1));
+		Map<Integer, Object> firstNonRefMatrixRow = flatMatrixJoinPlan.columnHeaders(nonRefMatrix);
 
 		for (Map.Entry<Integer, Object> firstNonRefMatrixRowColumn : firstNonRefMatrixRow.entrySet()) {
 
@@ -247,7 +392,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			constructFlatMatrixColumnHeaders(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO, 
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					exportOptions,
 					flatMatrix, 
 					flatMatrixColumnKey,
@@ -260,10 +405,10 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void constructFlatMatrixColumnHeaders(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
-			AtomicInteger flatMatrixColumnKey, Table<Integer, Integer, Object> matrix, String matrixName,
+	private void constructFlatMatrixColumnHeaders(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
+			AtomicInteger flatMatrixColumnKey, EMFExportMatrix matrix, String matrixName,
 			EMFExportEObjectColumnHeader nonRefMatrixColumnHeader, Integer matrixRowColumnKey, Object rawColumnHeader,
 			String... columnHeaderNameParts) throws EMFExportException {
 
@@ -277,7 +422,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			constructFlatMatrixOneReferenceColumnHeaders(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO, 
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					exportOptions,
 					flatMatrix, 
 					flatMatrixColumnKey,
@@ -296,7 +441,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			constructFlatMatrixManyReferencesColumnHeaders(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO, 
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					exportOptions,
 					flatMatrix, 
 					flatMatrixColumnKey,
@@ -317,7 +462,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			constructNonContainmentDisabledOrSelfReferencingModelFlatMatrixColumnHeader(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO,
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					exportOptions,
 					flatMatrix, 
 					flatMatrixColumnKey,
@@ -330,7 +475,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			constructFlatMatrixColumnHeader(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO, 
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					flatMatrix, 
 					flatMatrixColumnKey,
 					nonRefMatrixColumnHeader, 
@@ -340,14 +485,14 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void constructNonContainmentDisabledOrSelfReferencingModelFlatMatrixColumnHeader(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
 			AtomicInteger flatMatrixColumnKey, Object rawColumnHeader, String... columnHeaderNameParts)
 			throws EMFExportException {
 
 		int columnRefsMaxValueCount = findColumnRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO,
-				lookupIndexesDTO, (EMFExportEObjectColumnHeader) rawColumnHeader);
+				flatMatrixJoinPlan, (EMFExportEObjectColumnHeader) rawColumnHeader);
 
 		if (columnRefsMaxValueCount > 0) {
 
@@ -372,12 +517,12 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void constructFlatMatrixColumnHeader(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Table<Integer, Integer, Object> flatMatrix, AtomicInteger flatMatrixColumnKey,
+	private void constructFlatMatrixColumnHeader(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			EMFExportMatrix flatMatrix, AtomicInteger flatMatrixColumnKey,
 			EMFExportEObjectColumnHeader nonRefMatrixColumnHeader, Object rawColumnHeader) throws EMFExportException {
 
-		boolean hasValue = hasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+		boolean hasValue = hasValue(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 				nonRefMatrixColumnHeader, (EMFExportEObjectColumnHeader) rawColumnHeader);
 
 		if (hasValue) {
@@ -391,13 +536,13 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void constructFlatMatrixOneReferenceColumnHeaders(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
 			AtomicInteger flatMatrixColumnKey, EMFExportEObjectColumnHeader nonRefMatrixColumnHeader,
 			Object rawColumnHeader, String... columnHeaderNameParts) throws EMFExportException {
 
-		boolean refHasValue = refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+		boolean refHasValue = refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 				nonRefMatrixColumnHeader, rawColumnHeader);
 
 		if (refHasValue) {
@@ -409,9 +554,9 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 
 			String refMatrixName = oneReferenceColumnHeader.getRefMatrixName();
 
-			Table<Integer, Integer, Object> refMatrix = matrixNameToMatrixMap.get(refMatrixName);
+			EMFExportMatrix refMatrix = matrixNameToMatrixMap.get(refMatrixName);
 
-			Map<Integer, Object> firstRefMatrixRow = refMatrix.row(getMatrixRowKey(1));
+			Map<Integer, Object> firstRefMatrixRow = flatMatrixJoinPlan.columnHeaders(refMatrix);
 
 			for (Map.Entry<Integer, Object> firstRefMatrixRowColumn : firstRefMatrixRow.entrySet()) {
 
@@ -427,7 +572,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 					constructFlatMatrixColumnHeaders(
 							matrixNameToMatrixMap,
 							processedEObjectsDTO, 
-							lookupIndexesDTO,
+							flatMatrixJoinPlan,
 							exportOptions,
 							flatMatrix, 
 							flatMatrixColumnKey, 
@@ -451,7 +596,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 					constructNonContainmentDisabledOrSelfReferencingModelFlatMatrixColumnHeader(
 							matrixNameToMatrixMap,
 							processedEObjectsDTO,
-							lookupIndexesDTO,
+							flatMatrixJoinPlan,
 							exportOptions,
 							flatMatrix, 
 							flatMatrixColumnKey,
@@ -463,7 +608,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 				} else {
 
 					boolean refFeatureHasValue = refHasValue(matrixNameToMatrixMap, processedEObjectsDTO,
-							lookupIndexesDTO, oneReferenceColumnHeader,
+							flatMatrixJoinPlan, oneReferenceColumnHeader,
 							(EMFExportEObjectColumnHeader) firstRefMatrixRowColumnValue);
 
 					if (refFeatureHasValue) {
@@ -482,14 +627,14 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void constructFlatMatrixManyReferencesColumnHeaders(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
-			AtomicInteger flatMatrixColumnKey, Table<Integer, Integer, Object> matrix,
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
+			AtomicInteger flatMatrixColumnKey, EMFExportMatrix matrix,
 			EMFExportEObjectColumnHeader nonRefMatrixColumnHeader, Integer matrixRowColumnKey, Object rawColumnHeader,
 			String... columnHeaderNameParts) throws EMFExportException {
 
-		int refsMaxValueCount = findRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+		int refsMaxValueCount = findRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 				matrix, nonRefMatrixColumnHeader, matrixRowColumnKey, rawColumnHeader);
 
 		if (refsMaxValueCount > 0) {
@@ -501,11 +646,11 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 
 			String refMatrixName = manyReferencesColumnHeader.getRefMatrixName();
 
-			Table<Integer, Integer, Object> refMatrix = matrixNameToMatrixMap.get(refMatrixName);
+			EMFExportMatrix refMatrix = matrixNameToMatrixMap.get(refMatrixName);
 
 			for (int colIndex = 0; colIndex < refsMaxValueCount; colIndex++) {
 
-				Map<Integer, Object> firstRefMatrixRow = refMatrix.row(getMatrixRowKey(1));
+				Map<Integer, Object> firstRefMatrixRow = flatMatrixJoinPlan.columnHeaders(refMatrix);
 
 				for (Map.Entry<Integer, Object> firstRefMatrixRowColumn : firstRefMatrixRow.entrySet()) {
 
@@ -521,7 +666,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 						constructFlatMatrixColumnHeaders(
 								matrixNameToMatrixMap,
 								processedEObjectsDTO, 
-								lookupIndexesDTO,
+								flatMatrixJoinPlan,
 								exportOptions,
 								flatMatrix, 
 								flatMatrixColumnKey, 
@@ -548,7 +693,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 						constructNonContainmentDisabledOrSelfReferencingModelFlatMatrixColumnHeader(
 								matrixNameToMatrixMap,
 								processedEObjectsDTO,
-								lookupIndexesDTO,
+								flatMatrixJoinPlan,
 								exportOptions,
 								flatMatrix, 
 								flatMatrixColumnKey,
@@ -562,7 +707,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 					} else {
 
 						boolean refFeatureHasValue = refHasValue(matrixNameToMatrixMap, processedEObjectsDTO,
-								lookupIndexesDTO, manyReferencesColumnHeader,
+								flatMatrixJoinPlan, manyReferencesColumnHeader,
 								(EMFExportEObjectColumnHeader) firstRefMatrixRowColumnValue);
 
 						if (refFeatureHasValue) {
@@ -586,7 +731,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void constructFlatMatrixColumnHeader(Table<Integer, Integer, Object> flatMatrix, String columnHeaderName,
+	private void constructFlatMatrixColumnHeader(EMFExportMatrix flatMatrix, String columnHeaderName,
 			AtomicInteger flatMatrixColumnKey) {
 
 		LOG.debug("Constructing column header name '{}'", columnHeaderName);
@@ -639,23 +784,24 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void populateFlatMatrixWithData(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO, Set<String> nonRefMatrixNames,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix) throws EMFExportException {
+	private void populateFlatMatrixWithData(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Set<String> nonRefMatrixNames, Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix)
+			throws EMFExportException {
 
 		// in flat mode, we only process non-ref matrices
 		for (String nonRefMatrixName : nonRefMatrixNames) {
-			populateFlatMatrixWithData(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO, exportOptions,
+			populateFlatMatrixWithData(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan, exportOptions,
 					flatMatrix, nonRefMatrixName);
 		}
 	}
 
-	private void populateFlatMatrixWithData(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix, String nonRefMatrixName)
+	private void populateFlatMatrixWithData(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix, String nonRefMatrixName)
 			throws EMFExportException {
 
-		Table<Integer, Integer, Object> nonRefMatrix = matrixNameToMatrixMap.get(nonRefMatrixName);
+		EMFExportMatrix nonRefMatrix = matrixNameToMatrixMap.get(nonRefMatrixName);
 
 		Map<Integer, Map<Integer, Object>> nonRefMatrixRowMap = nonRefMatrix.rowMap();
 
@@ -680,7 +826,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 				populateFlatMatrixWithData(
 						matrixNameToMatrixMap,
 						processedEObjectsDTO, 
-						lookupIndexesDTO,
+						flatMatrixJoinPlan,
 						exportOptions,
 						flatMatrix, 
 						flatMatrixColumnKey, 
@@ -696,10 +842,10 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void populateFlatMatrixWithData(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
-			AtomicInteger flatMatrixColumnKey, Table<Integer, Integer, Object> matrix, String matrixName,
+	private void populateFlatMatrixWithData(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
+			AtomicInteger flatMatrixColumnKey, EMFExportMatrix matrix, String matrixName,
 			Integer matrixRowNumber, EMFExportEObjectColumnHeader matrixColumnHeader,
 			EMFExportEObjectColumnHeader refMatrixColumnHeader, Integer matrixRowColumnKey,
 			Object rawMatrixRowColumnValue) throws EMFExportException {
@@ -714,7 +860,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			populateFlatMatrixOneReferenceColumnWithData(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO, 
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					exportOptions,
 					flatMatrix, 
 					flatMatrixColumnKey, 
@@ -736,7 +882,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			populateFlatMatrixManyReferencesColumnWithData(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO, 
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					exportOptions,
 					flatMatrix, 
 					flatMatrixColumnKey,
@@ -759,7 +905,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			populateNonContainmentDisabledOrSelfReferencingModelFlatMatrixColumnWithData(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO, 
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					exportOptions,
 					flatMatrix,
 					flatMatrixColumnKey, 
@@ -774,7 +920,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			populateFlatMatrixColumnWithData(
 					matrixNameToMatrixMap,
 					processedEObjectsDTO, 
-					lookupIndexesDTO,
+					flatMatrixJoinPlan,
 					exportOptions,
 					flatMatrix, 
 					flatMatrixColumnKey,
@@ -787,14 +933,14 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void populateNonContainmentDisabledOrSelfReferencingModelFlatMatrixColumnWithData(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
 			AtomicInteger flatMatrixColumnKey, Integer matrixRowNumber, EMFExportEObjectColumnHeader matrixColumnHeader,
 			Object rawMatrixRowColumnValue) throws EMFExportException {
 
 		int columnRefsMaxValueCount = findColumnRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO,
-				lookupIndexesDTO, matrixColumnHeader);
+				flatMatrixJoinPlan, matrixColumnHeader);
 
 		if (columnRefsMaxValueCount > 0) {
 
@@ -819,14 +965,14 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void populateFlatMatrixColumnWithData(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
+	private void populateFlatMatrixColumnWithData(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
 			AtomicInteger flatMatrixColumnKey, Integer matrixRowNumber, EMFExportEObjectColumnHeader matrixColumnHeader,
 			EMFExportEObjectColumnHeader refMatrixColumnHeader, Object rawMatrixRowColumnValue)
 			throws EMFExportException {
 
-		boolean hasValue = hasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO, matrixColumnHeader,
+		boolean hasValue = hasValue(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan, matrixColumnHeader,
 				refMatrixColumnHeader);
 
 		if (hasValue) {
@@ -836,7 +982,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void populateFlatMatrixColumnWithData(Map<Object, Object> exportOptions,
-			Table<Integer, Integer, Object> flatMatrix, AtomicInteger flatMatrixColumnKey, Integer rowKey,
+			EMFExportMatrix flatMatrix, AtomicInteger flatMatrixColumnKey, Integer rowKey,
 			Object value) {
 
 		if ((value == null) || (value instanceof Optional)) {
@@ -855,34 +1001,41 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void populateFlatMatrixOneReferenceColumnWithData(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
-			AtomicInteger flatMatrixColumnKey, Table<Integer, Integer, Object> matrix, Integer matrixRowNumber,
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
+			AtomicInteger flatMatrixColumnKey, EMFExportMatrix matrix, Integer matrixRowNumber,
 			EMFExportEObjectColumnHeader matrixColumnHeader, EMFExportEObjectColumnHeader refMatrixColumnHeader,
 			Integer matrixRowColumnKey, Object rawMatrixRowColumnValue) throws EMFExportException {
 
 		String refMatrixName = ((EMFExportEObjectOneReferenceValueCell) rawMatrixRowColumnValue).getRefMatrixName();
 
-		Table<Integer, Integer, Object> refMatrix = matrixNameToMatrixMap.get(refMatrixName);
+		EMFExportMatrix refMatrix = matrixNameToMatrixMap.get(refMatrixName);
 
 		if (((EMFExportEObjectOneReferenceValueCell) rawMatrixRowColumnValue).hasRefID()) {
 
-			String refID = ((EMFExportEObjectOneReferenceValueCell) rawMatrixRowColumnValue).getRefID();
+			int refOrdinal = ((EMFExportEObjectOneReferenceValueCell) rawMatrixRowColumnValue).getRefOrdinal();
 
-			int refMatrixRowKey = findRefMatrixRowKey(processedEObjectsDTO, refMatrixName, refID);
+			int refMatrixRowKey = findRefMatrixRowKey(processedEObjectsDTO, refMatrixName, refOrdinal);
 
 			if (refMatrixRowKey != -1) {
 
-				Map<Integer, Object> refMatrixRow = refMatrix.row(getMatrixRowKey(refMatrixRowKey));
+				int[] refMatrixColumnKeys = flatMatrixJoinPlan.columnKeys(refMatrix);
+				EMFExportEObjectColumnHeader[] refMatrixColumnHeaders = flatMatrixJoinPlan.columnHeadersByColumnKey(refMatrix);
 
-				for (Map.Entry<Integer, Object> refMatrixRowColumn : refMatrixRow.entrySet()) {
+				for (int refMatrixColumnKey : refMatrixColumnKeys) {
+
+					Object refMatrixRowColumnValue = refMatrix.get(getMatrixRowKey(refMatrixRowKey),
+							getMatrixColumnKey(refMatrixColumnKey));
+					if (refMatrixRowColumnValue == null) {
+						continue;
+					}
 
 					// @formatter:off
 					populateFlatMatrixWithData(
 							matrixNameToMatrixMap,
 							processedEObjectsDTO,
-							lookupIndexesDTO,
+							flatMatrixJoinPlan,
 							exportOptions,
 							flatMatrix,
 							flatMatrixColumnKey, 
@@ -890,9 +1043,9 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 							refMatrixName,
 							matrixRowNumber, 
 							(refMatrixColumnHeader != null) ? refMatrixColumnHeader : matrixColumnHeader,
-							(EMFExportEObjectColumnHeader) refMatrix.get(getMatrixRowKey(1), getMatrixColumnKey(refMatrixRowColumn.getKey())),
-							refMatrixRowColumn.getKey(),
-							refMatrixRowColumn.getValue());
+							refMatrixColumnHeaders[refMatrixColumnKey],
+							refMatrixColumnKey,
+							refMatrixRowColumnValue);
 					// @formatter:on
 				}
 			}
@@ -902,19 +1055,19 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			// must be created
 		} else {
 
-			boolean refHasValue = refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+			boolean refHasValue = refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 					matrixColumnHeader, refMatrixColumnHeader);
 
 			if (refHasValue) {
 
-				for (Map.Entry<Integer, Object> firstRefMatrixRowColumn : refMatrix.row(getMatrixRowKey(1))
+				for (Map.Entry<Integer, Object> firstRefMatrixRowColumn : flatMatrixJoinPlan.columnHeaders(refMatrix)
 						.entrySet()) {
 
 					// @formatter:off
 					boolean refFeatureHasValue = refHasValue(
 							matrixNameToMatrixMap,
 							processedEObjectsDTO,
-							lookupIndexesDTO,
+							flatMatrixJoinPlan,
 							matrix,
 							matrixRowColumnKey,
 							refMatrix,
@@ -931,36 +1084,44 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void populateFlatMatrixManyReferencesColumnWithData(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Map<Object, Object> exportOptions, Table<Integer, Integer, Object> flatMatrix,
-			AtomicInteger flatMatrixColumnKey, Table<Integer, Integer, Object> matrix, Integer matrixRowNumber,
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			Map<Object, Object> exportOptions, EMFExportMatrix flatMatrix,
+			AtomicInteger flatMatrixColumnKey, EMFExportMatrix matrix, Integer matrixRowNumber,
 			EMFExportEObjectColumnHeader matrixColumnHeader, EMFExportEObjectColumnHeader refMatrixColumnHeader,
 			Integer matrixRowColumnKey, Object rawMatrixRowColumnValue) throws EMFExportException {
 
 		String refMatrixName = ((EMFExportEObjectManyReferencesValueCell) rawMatrixRowColumnValue).getRefMatrixName();
 
-		Table<Integer, Integer, Object> refMatrix = matrixNameToMatrixMap.get(refMatrixName);
+		EMFExportMatrix refMatrix = matrixNameToMatrixMap.get(refMatrixName);
 
 		if (((EMFExportEObjectManyReferencesValueCell) rawMatrixRowColumnValue).hasRefIDs()) {
 
-			List<String> refIDs = ((EMFExportEObjectManyReferencesValueCell) rawMatrixRowColumnValue).getRefIDs();
+			EMFExportEObjectManyReferencesValueCell referencesValueCell = (EMFExportEObjectManyReferencesValueCell) rawMatrixRowColumnValue;
+
+			int[] refMatrixColumnKeys = flatMatrixJoinPlan.columnKeys(refMatrix);
+			EMFExportEObjectColumnHeader[] refMatrixColumnHeaders = flatMatrixJoinPlan.columnHeadersByColumnKey(refMatrix);
 
-			for (String refID : refIDs) {
+			for (int refIndex = 0; refIndex < referencesValueCell.getRefIDsCount(); refIndex++) {
 
-				int refMatrixRowKey = findRefMatrixRowKey(processedEObjectsDTO, refMatrixName, refID);
+				int refMatrixRowKey = findRefMatrixRowKey(processedEObjectsDTO, refMatrixName,
+						referencesValueCell.getRefOrdinal(refIndex));
 
 				if (refMatrixRowKey != -1) {
 
-					Map<Integer, Object> refMatrixRow = refMatrix.row(getMatrixRowKey(refMatrixRowKey));
+					for (int refMatrixColumnKey : refMatrixColumnKeys) {
 
-					for (Map.Entry<Integer, Object> refMatrixRowColumn : refMatrixRow.entrySet()) {
+						Object refMatrixRowColumnValue = refMatrix.get(getMatrixRowKey(refMatrixRowKey),
+								getMatrixColumnKey(refMatrixColumnKey));
+						if (refMatrixRowColumnValue == null) {
+							continue;
+						}
 
 						// @formatter:off
 						populateFlatMatrixWithData(
 								matrixNameToMatrixMap,
 								processedEObjectsDTO,
-								lookupIndexesDTO,
+								flatMatrixJoinPlan,
 								exportOptions,
 								flatMatrix,
 								flatMatrixColumnKey, 
@@ -968,9 +1129,9 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 								refMatrixName,
 								matrixRowNumber, 
 								(refMatrixColumnHeader != null) ? refMatrixColumnHeader : matrixColumnHeader,
-								(EMFExportEObjectColumnHeader) refMatrix.get(getMatrixRowKey(1), getMatrixColumnKey(refMatrixRowColumn.getKey())),
-								refMatrixRowColumn.getKey(),
-								refMatrixRowColumn.getValue());
+								refMatrixColumnHeaders[refMatrixColumnKey],
+								refMatrixColumnKey,
+								refMatrixRowColumnValue);
 						// @formatter:on
 					}
 				}
@@ -982,23 +1143,23 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		} else {
 
 			int refsMaxValueCount = (refMatrixColumnHeader != null && (matrixColumnHeader != refMatrixColumnHeader))
-					? findRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+					? findRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 							matrixColumnHeader, refMatrixColumnHeader)
-					: findColumnRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+					: findColumnRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 							matrixColumnHeader);
 
 			if (refsMaxValueCount > 0) {
 
 				for (int emptyRefId = 0; emptyRefId < refsMaxValueCount; emptyRefId++) {
 
-					for (Map.Entry<Integer, Object> firstRefMatrixRowColumn : refMatrix.row(getMatrixRowKey(1))
+					for (Map.Entry<Integer, Object> firstRefMatrixRowColumn : flatMatrixJoinPlan.columnHeaders(refMatrix)
 							.entrySet()) {
 
 						// @formatter:off
 						boolean refFeatureHasValue = refHasValue(
 								matrixNameToMatrixMap,
 								processedEObjectsDTO,
-								lookupIndexesDTO,
+								flatMatrixJoinPlan,
 								matrix,
 								matrixRowColumnKey,
 								refMatrix,
@@ -1015,31 +1176,13 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	@SuppressWarnings("unused")
-	private int findRefMatrixRowKey(ProcessedEObjectsDTO processedEObjectsDTO, String refID) {
-		if (processedEObjectsDTO.eObjectIDToMatrixNameMap.containsKey(refID)) {
-			return findRefMatrixRowKey(processedEObjectsDTO, processedEObjectsDTO.eObjectIDToMatrixNameMap.get(refID),
-					refID);
-		} else {
-			return -1;
-		}
-	}
-
-	private int findRefMatrixRowKey(ProcessedEObjectsDTO processedEObjectsDTO, String refMatrixName, String refID) {
-		EMFExportRefMatrixNameIDCompositeKey refMatrixNameIDCompositeKey = new EMFExportRefMatrixNameIDCompositeKey(
-				refMatrixName, refID);
-
-		Integer refMatrixRowKey = processedEObjectsDTO.refMatrixRowKeyIndex.get(refMatrixNameIDCompositeKey);
-		if (refMatrixRowKey != null) {
-			return refMatrixRowKey;
-		} else {
-			return -1;
-		}
+	private int findRefMatrixRowKey(ProcessedEObjectsDTO processedEObjectsDTO, String refMatrixName, int refOrdinal) {
+		return processedEObjectsDTO.eObjectOrdinalIndex.findRowKey(refOrdinal, refMatrixName);
 	}
 
-	private int findRefsMaxValueCount(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Table<Integer, Integer, Object> matrix, EMFExportEObjectColumnHeader nonRefMatrixColumnHeader,
+	private int findRefsMaxValueCount(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			EMFExportMatrix matrix, EMFExportEObjectColumnHeader nonRefMatrixColumnHeader,
 			Integer matrixRowColumnKey, Object refMatrixColumnHeader) throws EMFExportException {
 
 		int refsMaxValueCount = 0;
@@ -1051,35 +1194,19 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 						.equalsIgnoreCase(
 								((EMFExportEObjectReferenceColumnHeader) refMatrixColumnHeader).getMatrixName())) {
 
-			refsMaxValueCount = findRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
-					((EMFExportEObjectReferenceColumnHeader) nonRefMatrixColumnHeader).getMatrixName(),
-					((EMFExportEObjectReferenceColumnHeader) nonRefMatrixColumnHeader).getColumnHeaderName(),
-					((EMFExportEObjectReferenceColumnHeader) refMatrixColumnHeader).getMatrixName(),
-					((EMFExportEObjectReferenceColumnHeader) refMatrixColumnHeader).getColumnHeaderName());
+			refsMaxValueCount = findRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
+					nonRefMatrixColumnHeader, (EMFExportEObjectReferenceColumnHeader) refMatrixColumnHeader);
 
 		} else {
-			refsMaxValueCount = findRefsMaxValueCount(matrix, matrixRowColumnKey);
+			refsMaxValueCount = flatMatrixJoinPlan.columnRefsMaxValueCount(matrix, matrixRowColumnKey);
 
 		}
 
 		return refsMaxValueCount;
 	}
 
-	private int findRefsMaxValueCount(Table<Integer, Integer, Object> matrix, Integer matrixColIndex) {
-		int refsMaxValueCount = 0;
-
-		Map<Integer, Object> matrixColumn = matrix.column(matrixColIndex);
-		for (Map.Entry<Integer, Object> matrixColumnRow : matrixColumn.entrySet()) {
-			if (matrixColumnRow.getValue() instanceof EMFExportEObjectManyReferencesValueCell) {
-				refsMaxValueCount = Math.max(refsMaxValueCount,
-						((EMFExportEObjectManyReferencesValueCell) matrixColumnRow.getValue()).getRefIDsCount());
-			}
-		}
-		return refsMaxValueCount;
-	}
-
-	private int findRefsMaxValueCount(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
+	private int findRefsMaxValueCount(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
 			EMFExportEObjectColumnHeader matrixColumnHeader, EMFExportEObjectColumnHeader refMatrixColumnHeader)
 			throws EMFExportException {
 
@@ -1091,80 +1218,13 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			throw new EMFExportException(String.format("RefMatrix column header is required!"));
 		}
 
-		return findRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
-				((EMFExportEObjectColumnHeader) matrixColumnHeader).getMatrixName(),
-				((EMFExportEObjectColumnHeader) matrixColumnHeader).getColumnHeaderName(),
-				((EMFExportEObjectColumnHeader) refMatrixColumnHeader).getMatrixName(),
-				((EMFExportEObjectColumnHeader) refMatrixColumnHeader).getColumnHeaderName());
+		return flatMatrixJoinPlan.refsMaxValueCount(matrixColumnHeader, refMatrixColumnHeader);
 	}
 
-	private int findRefsMaxValueCount(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO, String matrixName,
-			String columnHeaderName, String refMatrixName, String refColumnHeaderName) throws EMFExportException {
-
-		EMFExportRefsMaxValueCountCompositeKey refsMaxValueCountCompositeKey = new EMFExportRefsMaxValueCountCompositeKey(
-				matrixName, columnHeaderName, refMatrixName, refColumnHeaderName);
-		if (lookupIndexesDTO.refsMaxValueCountIndex.containsKey(refsMaxValueCountCompositeKey)) {
-			return lookupIndexesDTO.refsMaxValueCountIndex.get(refsMaxValueCountCompositeKey);
-		}
-
-		int refsMaxValueCount = 0;
-
-		if (matrixNameToMatrixMap.containsKey(matrixName) && matrixNameToMatrixMap.containsKey(refMatrixName)) {
-
-			Table<Integer, Integer, Object> matrix = matrixNameToMatrixMap.get(matrixName);
-
-			Map<Integer, Object> firstMatrixRow = matrix.row(getMatrixRowKey(1));
-
-			Integer matrixColumnKey = findMatrixColumnKey(columnHeaderName, firstMatrixRow);
-			if (matrixColumnKey == null) {
-				throw new EMFExportException(String.format("Column named %s does not exist in matrix named %s!",
-						columnHeaderName, matrixName));
-			}
-
-			Table<Integer, Integer, Object> refMatrix = matrixNameToMatrixMap.get(refMatrixName);
-
-			Map<Integer, Object> firstRefMatrixRow = refMatrix.row(getMatrixRowKey(1));
-
-			Integer refMatrixColumnKey = findMatrixColumnKey(refColumnHeaderName, firstRefMatrixRow);
-			if (refMatrixColumnKey == null) {
-				throw new EMFExportException(String.format("Column named %s does not exist in matrix named %s!",
-						refColumnHeaderName, refMatrixName));
-			}
-
-			List<String> refIDs = findRefIDs(matrix, matrixColumnKey);
-
-			if (!refIDs.isEmpty()) {
-
-				for (String refID : refIDs) {
-
-					int refMatrixRowKey = findRefMatrixRowKey(processedEObjectsDTO, refMatrixName, refID);
-
-					if (refMatrixRowKey != -1) {
-
-						Object refMatrixColumnRowValue = refMatrix.get(getMatrixRowKey(refMatrixRowKey),
-								refMatrixColumnKey);
-
-						if (refMatrixColumnRowValue instanceof EMFExportEObjectManyReferencesValueCell) {
-							refsMaxValueCount = Math.max(refsMaxValueCount,
-									((EMFExportEObjectManyReferencesValueCell) refMatrixColumnRowValue)
-											.getRefIDsCount());
-						}
-					}
-				}
-			}
-
-			lookupIndexesDTO.refsMaxValueCountIndex.put(refsMaxValueCountCompositeKey,
-					Integer.valueOf(refsMaxValueCount));
-		}
-
-		return refsMaxValueCount;
-	}
-
-	private boolean refHasValue(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
-			Table<Integer, Integer, Object> matrix, Integer matrixRowColumnKey,
-			Table<Integer, Integer, Object> refMatrix, Integer refMatrixRowColumnKey) throws EMFExportException {
+	private boolean refHasValue(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
+			EMFExportMatrix matrix, Integer matrixRowColumnKey,
+			EMFExportMatrix refMatrix, Integer refMatrixRowColumnKey) throws EMFExportException {
 
 		Object matrixColumnHeader = matrix.get(getMatrixRowKey(1), matrixRowColumnKey);
 		if (matrixColumnHeader == null) {
@@ -1178,13 +1238,13 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 					refMatrixRowColumnKey, refMatrix));
 		}
 
-		return refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
+		return refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
 				(EMFExportEObjectColumnHeader) matrixColumnHeader,
 				(EMFExportEObjectColumnHeader) refMatrixColumnHeader);
 	}
 
-	private boolean refHasValue(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
+	private boolean refHasValue(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
 			EMFExportEObjectColumnHeader matrixColumnHeader, Object refMatrixColumnHeader) throws EMFExportException {
 
 		boolean refHasValue = true;
@@ -1195,15 +1255,15 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 				&& (((EMFExportEObjectReferenceColumnHeader) matrixColumnHeader).getRefMatrixName()).equalsIgnoreCase(
 						((EMFExportEObjectReferenceColumnHeader) refMatrixColumnHeader).getMatrixName())) {
 
-			refHasValue = refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO, matrixColumnHeader,
-					(EMFExportEObjectColumnHeader) refMatrixColumnHeader);
+			refHasValue = refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan,
+					matrixColumnHeader, (EMFExportEObjectColumnHeader) refMatrixColumnHeader);
 		}
 
 		return refHasValue;
 	}
 
-	private boolean refHasValue(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
+	private boolean refHasValue(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
 			EMFExportEObjectColumnHeader matrixColumnHeader, EMFExportEObjectColumnHeader refMatrixColumnHeader)
 			throws EMFExportException {
 
@@ -1215,203 +1275,18 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 			throw new EMFExportException(String.format("RefMatrix column header is required!"));
 		}
 
-		return refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
-				((EMFExportEObjectColumnHeader) matrixColumnHeader).getMatrixName(),
-				((EMFExportEObjectColumnHeader) matrixColumnHeader).getColumnHeaderName(),
-				((EMFExportEObjectColumnHeader) refMatrixColumnHeader).getMatrixName(),
-				((EMFExportEObjectColumnHeader) refMatrixColumnHeader).getColumnHeaderName());
-	}
-
-	private boolean refHasValue(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO, String matrixName,
-			String columnHeaderName, String refMatrixName, String refColumnHeaderName) throws EMFExportException {
-
-		boolean refHasValue = true;
-
-		if (!matrixName.equalsIgnoreCase(refMatrixName)) {
-
-			EMFExportRefHasValueCompositeKey refHasValueCompositeKey = new EMFExportRefHasValueCompositeKey(matrixName,
-					columnHeaderName, refMatrixName, refColumnHeaderName);
-			if (lookupIndexesDTO.refHasValueIndex.containsKey(refHasValueCompositeKey)) {
-				return lookupIndexesDTO.refHasValueIndex.get(refHasValueCompositeKey);
-			}
-
-			if (matrixNameToMatrixMap.containsKey(matrixName) && matrixNameToMatrixMap.containsKey(refMatrixName)) {
-
-				Table<Integer, Integer, Object> matrix = matrixNameToMatrixMap.get(matrixName);
-
-				Map<Integer, Object> firstMatrixRow = matrix.row(getMatrixRowKey(1));
-
-				Integer matrixColumnKey = findMatrixColumnKey(columnHeaderName, firstMatrixRow);
-				if (matrixColumnKey == null) {
-					throw new EMFExportException(String.format("Column named %s does not exist in matrix named %s!",
-							columnHeaderName, matrixName));
-				}
-
-				Table<Integer, Integer, Object> refMatrix = matrixNameToMatrixMap.get(refMatrixName);
-
-				Map<Integer, Object> firstRefMatrixRow = refMatrix.row(getMatrixRowKey(1));
-
-				Integer refMatrixColumnKey = findMatrixColumnKey(refColumnHeaderName, firstRefMatrixRow);
-				if (refMatrixColumnKey == null) {
-					throw new EMFExportException(String.format("Column named %s does not exist in matrix named %s!",
-							refColumnHeaderName, refMatrixName));
-				}
-
-				List<String> refIDs = findRefIDs(matrix, matrixColumnKey);
-
-				if (!refIDs.isEmpty()) {
-
-					boolean refIDsHaveValue = false;
-
-					for (String refID : refIDs) {
-
-						int refMatrixRowKey = findRefMatrixRowKey(processedEObjectsDTO, refMatrixName, refID);
-
-						if (refMatrixRowKey != -1) {
-
-							Object refMatrixColumnRowValue = refMatrix.get(getMatrixRowKey(refMatrixRowKey),
-									refMatrixColumnKey);
-
-							refIDsHaveValue = refHasValue(refIDsHaveValue, refMatrixColumnRowValue);
-						}
-					}
-
-					refHasValue = refIDsHaveValue;
-				}
-
-				lookupIndexesDTO.refHasValueIndex.put(refHasValueCompositeKey, Boolean.valueOf(refHasValue));
-			}
-		}
-
-		return refHasValue;
+		return flatMatrixJoinPlan.refHasValue(matrixColumnHeader, refMatrixColumnHeader);
 	}
 
-	private boolean refHasValue(boolean refHasValue, Object refMatrixColumnRowValue) {
-		if ((refMatrixColumnRowValue != null)
-				&& !(refMatrixColumnRowValue instanceof Optional && ((Optional<?>) refMatrixColumnRowValue).isEmpty())
-				&& (((refMatrixColumnRowValue instanceof EMFExportEObjectOneReferenceValueCell)
-						&& ((EMFExportEObjectOneReferenceValueCell) refMatrixColumnRowValue).hasRefID())
-						|| ((refMatrixColumnRowValue instanceof EMFExportEObjectManyReferencesValueCell)
-								&& ((EMFExportEObjectManyReferencesValueCell) refMatrixColumnRowValue).hasRefIDs())
-						|| ((refMatrixColumnRowValue instanceof EMFExportEObjectIDValueCell)
-								&& ((EMFExportEObjectIDValueCell) refMatrixColumnRowValue).hasValue())
-						|| (String.valueOf(refMatrixColumnRowValue) != null
-								&& !String.valueOf(refMatrixColumnRowValue).isEmpty()))) {
-			refHasValue = true;
-		}
-
-		return refHasValue;
-	}
-
-	private List<String> findRefIDs(Table<Integer, Integer, Object> matrix, Integer matrixColumnKey) {
-		List<String> refIDs = new ArrayList<>();
-
-		Map<Integer, Object> matrixColumn = matrix.column(matrixColumnKey);
-		for (Map.Entry<Integer, Object> matrixColumnRow : matrixColumn.entrySet()) {
-			Object matrixColumnRowValue = matrixColumnRow.getValue();
-
-			if (matrixColumnRowValue instanceof EMFExportEObjectColumnHeader) {
-				continue;
-			}
-
-			if (matrixColumnRowValue instanceof EMFExportEObjectIDValueCell) {
-				if (((EMFExportEObjectIDValueCell) matrixColumnRowValue).hasValue()) {
-					refIDs.add(((EMFExportEObjectIDValueCell) matrixColumnRowValue).getValue());
-				}
-			} else if (matrixColumnRowValue instanceof EMFExportEObjectOneReferenceValueCell) {
-				if (((EMFExportEObjectOneReferenceValueCell) matrixColumnRowValue).hasRefID()) {
-					refIDs.add(((EMFExportEObjectOneReferenceValueCell) matrixColumnRowValue).getRefID());
-				}
-
-			} else if (matrixColumnRowValue instanceof EMFExportEObjectManyReferencesValueCell) {
-				if (((EMFExportEObjectManyReferencesValueCell) matrixColumnRowValue).hasRefIDs()) {
-					refIDs.addAll(((EMFExportEObjectManyReferencesValueCell) matrixColumnRowValue).getRefIDs());
-				}
-			}
-		}
-
-		return refIDs;
-	}
-
-	private Integer findMatrixColumnKey(String columnHeaderName, Map<Integer, Object> matrixRow) {
-		Integer matrixColumnKey = null;
-
-		for (Map.Entry<Integer, Object> matrixRowColumn : matrixRow.entrySet()) {
-			Object value = matrixRowColumn.getValue();
-
-			if (value instanceof EMFExportEObjectColumnHeader && columnHeaderName
-					.equalsIgnoreCase(((EMFExportEObjectColumnHeader) value).getColumnHeaderName())) {
-				matrixColumnKey = matrixRowColumn.getKey();
-			}
-		}
-
-		return matrixColumnKey;
-	}
-
-	private boolean columnHasValue(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
+	private boolean columnHasValue(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
 			EMFExportEObjectColumnHeader matrixColumnHeader) throws EMFExportException {
 
 		if (matrixColumnHeader == null) {
 			throw new EMFExportException(String.format("Matrix column header is required!"));
 		}
 
-		return columnHasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
-				((EMFExportEObjectColumnHeader) matrixColumnHeader).getMatrixName(),
-				((EMFExportEObjectColumnHeader) matrixColumnHeader).getColumnHeaderName());
-	}
-
-	private boolean columnHasValue(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO, String matrixName,
-			String columnHeaderName) throws EMFExportException {
-
-		boolean columnHasValue = false;
-
-		EMFExportColumnHasValueCompositeKey columnHasValueCompositeKey = new EMFExportColumnHasValueCompositeKey(
-				matrixName, columnHeaderName);
-		if (lookupIndexesDTO.columnHasValueIndex.containsKey(columnHasValueCompositeKey)) {
-			return lookupIndexesDTO.columnHasValueIndex.get(columnHasValueCompositeKey);
-		}
-
-		if (matrixNameToMatrixMap.containsKey(matrixName)) {
-
-			Table<Integer, Integer, Object> matrix = matrixNameToMatrixMap.get(matrixName);
-
-			Map<Integer, Object> firstMatrixRow = matrix.row(getMatrixRowKey(1));
-
-			Integer matrixColumnKey = findMatrixColumnKey(columnHeaderName, firstMatrixRow);
-			if (matrixColumnKey == null) {
-				throw new EMFExportException(String.format("Column named %s does not exist in matrix named %s!",
-						columnHeaderName, matrixName));
-			}
-
-			columnHasValue = columnHasValue(matrix, matrixColumnKey);
-
-			lookupIndexesDTO.columnHasValueIndex.put(columnHasValueCompositeKey, Boolean.valueOf(columnHasValue));
-		}
-
-		return columnHasValue;
-	}
-
-	private boolean columnHasValue(Table<Integer, Integer, Object> matrix, Integer matrixColumnKey) {
-		boolean columnHasValue = false;
-
-		Map<Integer, Object> matrixColumn = matrix.column(matrixColumnKey);
-		for (Map.Entry<Integer, Object> matrixColumnRow : matrixColumn.entrySet()) {
-			Object matrixColumnRowValue = matrixColumnRow.getValue();
-
-			if (matrixColumnRowValue instanceof EMFExportEObjectColumnHeader) {
-				continue;
-			}
-
-			if (columnHasValue(matrixColumnRowValue)) {
-				columnHasValue = true;
-				break;
-			}
-		}
-
-		return columnHasValue;
+		return flatMatrixJoinPlan.columnHasValue(matrixColumnHeader);
 	}
 
 	private boolean columnHasValue(Object matrixColumnRowValue) {
@@ -1427,66 +1302,31 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 								&& !String.valueOf(matrixColumnRowValue).isEmpty())));
 	}
 
-	private int findColumnRefsMaxValueCount(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
+	private int findColumnRefsMaxValueCount(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
 			EMFExportEObjectColumnHeader matrixColumnHeader) throws EMFExportException {
 
 		if (matrixColumnHeader == null) {
 			throw new EMFExportException(String.format("Matrix column header is required!"));
 		}
 
-		return findColumnRefsMaxValueCount(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO,
-				((EMFExportEObjectColumnHeader) matrixColumnHeader).getMatrixName(),
-				((EMFExportEObjectColumnHeader) matrixColumnHeader).getColumnHeaderName());
+		return flatMatrixJoinPlan.columnRefsMaxValueCount(matrixColumnHeader);
 	}
 
-	private int findColumnRefsMaxValueCount(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO, String matrixName,
-			String columnHeaderName) throws EMFExportException {
-
-		EMFExportColumnRefsMaxValueCountCompositeKey columnRefsMaxValueCountCompositeKey = new EMFExportColumnRefsMaxValueCountCompositeKey(
-				matrixName, columnHeaderName);
-		if (lookupIndexesDTO.columnRefsMaxValueCountIndex.containsKey(columnRefsMaxValueCountCompositeKey)) {
-			return lookupIndexesDTO.columnRefsMaxValueCountIndex.get(columnRefsMaxValueCountCompositeKey);
-		}
-
-		int columnRefsMaxValueCount = 0;
-
-		if (matrixNameToMatrixMap.containsKey(matrixName)) {
-
-			Table<Integer, Integer, Object> matrix = matrixNameToMatrixMap.get(matrixName);
-
-			Map<Integer, Object> firstMatrixRow = matrix.row(getMatrixRowKey(1));
-
-			Integer matrixColumnKey = findMatrixColumnKey(columnHeaderName, firstMatrixRow);
-			if (matrixColumnKey == null) {
-				throw new EMFExportException(String.format("Column named %s does not exist in matrix named %s!",
-						columnHeaderName, matrixName));
-			}
-
-			columnRefsMaxValueCount = findRefsMaxValueCount(matrix, matrixColumnKey);
-
-			lookupIndexesDTO.columnRefsMaxValueCountIndex.put(columnRefsMaxValueCountCompositeKey,
-					Integer.valueOf(columnRefsMaxValueCount));
-		}
-
-		return columnRefsMaxValueCount;
-	}
-
-	private boolean hasValue(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
-			ProcessedEObjectsDTO processedEObjectsDTO, LookupIndexesDTO lookupIndexesDTO,
+	private boolean hasValue(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+			ProcessedEObjectsDTO processedEObjectsDTO, FlatMatrixJoinPlan flatMatrixJoinPlan,
 			EMFExportEObjectColumnHeader matrixColumnHeader, EMFExportEObjectColumnHeader refMatrixColumnHeader)
 			throws EMFExportException {
 
 		if (refMatrixColumnHeader != null && matrixColumnHeader != refMatrixColumnHeader) {
-			return refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO, matrixColumnHeader,
+			return refHasValue(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan, matrixColumnHeader,
 					refMatrixColumnHeader);
 		} else {
-			return columnHasValue(matrixNameToMatrixMap, processedEObjectsDTO, lookupIndexesDTO, matrixColumnHeader);
+			return columnHasValue(matrixNameToMatrixMap, processedEObjectsDTO, flatMatrixJoinPlan, matrixColumnHeader);
 		}
 	}
 
-	private Set<String> nonRefMatrixNames(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap) {
+	private Set<String> nonRefMatrixNames(Map<String, EMFExportMatrix> matrixNameToMatrixMap) {
 		Set<String> refMatrixNames = refMatrixNames(matrixNameToMatrixMap);
 
 		// @formatter:off
@@ -1496,11 +1336,11 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		// @formatter:on
 	}
 
-	private Set<String> refMatrixNames(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap) {
+	private Set<String> refMatrixNames(Map<String, EMFExportMatrix> matrixNameToMatrixMap) {
 		Set<String> filterMatrixNames = new HashSet<>();
 
 		for (String matrixName : matrixNameToMatrixMap.keySet()) {
-			Table<Integer, Integer, Object> matrix = matrixNameToMatrixMap.get(matrixName);
+			EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
 
 			Map<Integer, Object> firstRow = matrix.row(getMatrixRowKey(1));
 
@@ -1522,9 +1362,11 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		return filterMatrixNames;
 	}
 
-	private void writeCSVHeader(Table<Integer, Integer, Object> matrix, CsvWriter csvWriter) {
-		Map<Integer, Object> firstRow = matrix.row(getMatrixRowKey(1));
+	private void writeCSVHeader(EMFExportMatrix matrix, CsvWriter csvWriter) {
+		writeCSVHeader(matrix.row(getMatrixRowKey(1)), csvWriter);
+	}
 
+	private void writeCSVHeader(Map<Integer, Object> firstRow, CsvWriter csvWriter) {
 		// @formatter:off
 		List<String> firstRowValuesAsString = firstRow.values()
 				.stream()
@@ -1535,7 +1377,7 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		csvWriter.writeRow(firstRowValuesAsString);
 	}
 
-	private void writeCSVData(Table<Integer, Integer, Object> matrix, CsvWriter csvWriter,
+	private void writeCSVData(EMFExportMatrix matrix, CsvWriter csvWriter,
 			Map<Object, Object> exportOptions) {
 		Map<Integer, Map<Integer, Object>> matrixRowMap = matrix.rowMap();
 
@@ -1596,21 +1438,45 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void writeZipEntry(ZipOutputStream zipOutputStream, String matrixName, final StringWriter csvStringWriter)
+	private ZipOutputStream createZipOutputStream(OutputStream outputStream, Map<Object, Object> exportOptions) {
+		ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+		zipOutputStream.setLevel(compressionLevel(exportOptions));
+		return zipOutputStream;
+	}
+
+	private ScatterZipOutputStream createScatterZipOutputStream(Map<Object, Object> exportOptions)
 			throws IOException {
-		String zipEntryName = constructZipEntryName(matrixName);
-		ZipEntry zipEntry = new ZipEntry(zipEntryName);
-		zipOutputStream.putNextEntry(zipEntry);
+		return ScatterZipOutputStream.fileBased(Files.createTempFile("emf-csv-entry", ".zip").toFile(),
+				compressionLevel(exportOptions));
+	}
 
-		try (InputStream bais = new ByteArrayInputStream(csvStringWriter.toString().getBytes())) {
-			byte[] bytes = new byte[1024];
-			int length;
-			while ((length = bais.read(bytes)) >= 0) {
-				zipOutputStream.write(bytes, 0, length);
-			}
+	/*
+	 * Closing writer returned closes ZIP entry, but not ZIP archive itself.
+	 * Writer is not buffered, as CSV writer buffers characters written itself.
+	 */
+	private Writer createZipEntryWriter(ZipOutputStream zipOutputStream, String matrixName,
+			Map<Object, Object> exportOptions) throws IOException {
+		ZipEntry zipEntry = constructZipEntry(matrixName);
+
+		if (compressionMethod(exportOptions) == EMFCSVCompressionMethod.STORED) {
+			return new OutputStreamWriter(new StoredZipEntryOutputStream(zipOutputStream, zipEntry),
+					StandardCharsets.UTF_8);
 		}
 
-		zipOutputStream.closeEntry();
+		zipOutputStream.putNextEntry(zipEntry);
+
+		return new OutputStreamWriter(new ZipEntryOutputStream(zipOutputStream), StandardCharsets.UTF_8);
+	}
+
+	private ZipEntry constructZipEntry(String matrixName) {
+		return new ZipEntry(constructZipEntryName(matrixName));
+	}
+
+	private ZipArchiveEntry constructZipArchiveEntry(String matrixName, Map<Object, Object> exportOptions) {
+		ZipArchiveEntry zipArchiveEntry = new ZipArchiveEntry(constructZipEntryName(matrixName));
+		zipArchiveEntry.setMethod((compressionMethod(exportOptions) == EMFCSVCompressionMethod.STORED) ? ZipEntry.STORED
+				: ZipEntry.DEFLATED);
+		return zipArchiveEntry;
 	}
 
 	private String constructZipEntryName(String matrixName) {
@@ -1656,6 +1522,22 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 					"Incompatible combination of export options: neither 'export metadata' nor 'generate mapping table' options can be turned on in flat CSV export mode!");
 		}
 
+		try {
+			compressionMethod(exportOptions);
+
+		} catch (IllegalArgumentException e) {
+			throw new EMFExportException(String.format("Unsupported compression method '%s'!",
+					exportOptions.get(EMFCSVExportOptions.OPTION_COMPRESSION_METHOD)));
+		}
+
+		if (!(exportOptions.getOrDefault(EMFCSVExportOptions.OPTION_COMPRESSION_LEVEL,
+				Deflater.DEFAULT_COMPRESSION) instanceof Integer)
+				|| (compressionLevel(exportOptions) < Deflater.DEFAULT_COMPRESSION)
+				|| (compressionLevel(exportOptions) > Deflater.BEST_COMPRESSION)) {
+			throw new EMFExportException(String.format("Unsupported compression level '%s'!",
+					exportOptions.get(EMFCSVExportOptions.OPTION_COMPRESSION_LEVEL)));
+		}
+
 		return exportOptions;
 	}
 
@@ -1673,6 +1555,16 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		return exportOptions.get(EMFCSVExportOptions.OPTION_EXPORT_MODE);
 	}
 
+	private EMFCSVCompressionMethod compressionMethod(Map<Object, Object> exportOptions) {
+		return EMFCSVCompressionMethod.valueOf(String.valueOf(exportOptions
+				.getOrDefault(EMFCSVExportOptions.OPTION_COMPRESSION_METHOD, EMFCSVCompressionMethod.DEFLATED)));
+	}
+
+	private int compressionLevel(Map<Object, Object> exportOptions) {
+		return ((int) exportOptions.getOrDefault(EMFCSVExportOptions.OPTION_COMPRESSION_LEVEL,
+				Deflater.DEFAULT_COMPRESSION));
+	}
+
 	@Override
 	protected boolean exportMetadataEnabled(Map<Object, Object> exportOptions) {
 		if (flatExportMode(exportOptions)) {
@@ -1691,27 +1583,441 @@ public class EMFCSVExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	protected class LookupIndexesDTO {
-		// lookup index for storing information if specific one-to-one reference has
-		// value
-		public final Map<EMFExportRefHasValueCompositeKey, Boolean> refHasValueIndex;
+	/**
+	 * Flattening plan, computed once per export in flat mode for given matrices,
+	 * used when constructing column headers and populating rows of flat matrix.
+	 * 
+	 * Column headers and column keys (by column name) of each matrix are resolved
+	 * only once, while information whether column has value, max number of
+	 * references in column and the values referenced by column are computed in a
+	 * single pass over given column, on first use; information whether
+	 * referenced columns have value, as well as max number of references in
+	 * referenced columns, is computed for all columns of referenced matrix in a
+	 * single pass over referenced rows, also on first use. Afterwards, all
+	 * lookups are array lookups, indexed by column key.
+	 */
+	private class FlatMatrixJoinPlan {
+		private final Map<String, EMFExportMatrix> matrixNameToMatrixMap;
+		private final ProcessedEObjectsDTO processedEObjectsDTO;
+
+		private final Map<EMFExportMatrix, MatrixPlan> matrixToMatrixPlanMap;
+
+		private final Map<EMFExportEObjectColumnHeader, ColumnJoin> columnHeaderToColumnJoinMap;
+
+		public FlatMatrixJoinPlan(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
+				ProcessedEObjectsDTO processedEObjectsDTO) {
+			this.matrixNameToMatrixMap = matrixNameToMatrixMap;
+			this.processedEObjectsDTO = processedEObjectsDTO;
+			this.matrixToMatrixPlanMap = new IdentityHashMap<>();
+			this.columnHeaderToColumnJoinMap = new IdentityHashMap<>();
+
+			for (EMFExportMatrix matrix : matrixNameToMatrixMap.values()) {
+				matrixPlan(matrix);
+			}
+		}
+
+		public Map<Integer, Object> columnHeaders(EMFExportMatrix matrix) {
+			return matrixPlan(matrix).columnHeaders;
+		}
+
+		public int[] columnKeys(EMFExportMatrix matrix) {
+			return matrixPlan(matrix).columnKeys;
+		}
+
+		public EMFExportEObjectColumnHeader[] columnHeadersByColumnKey(EMFExportMatrix matrix) {
+			return matrixPlan(matrix).columnHeadersByColumnKey;
+		}
+
+		public boolean columnHasValue(EMFExportEObjectColumnHeader columnHeader) throws EMFExportException {
+			if (!matrixNameToMatrixMap.containsKey(columnHeader.getMatrixName())) {
+				return false;
+			}
+
+			return columnJoin(columnHeader).hasValue;
+		}
+
+		public int columnRefsMaxValueCount(EMFExportEObjectColumnHeader columnHeader) throws EMFExportException {
+			if (!matrixNameToMatrixMap.containsKey(columnHeader.getMatrixName())) {
+				return 0;
+			}
+
+			return columnJoin(columnHeader).refsMaxValueCount;
+		}
+
+		public int columnRefsMaxValueCount(EMFExportMatrix matrix, Integer columnKey) {
+			return matrixPlan(matrix).columnJoin(columnKey).refsMaxValueCount;
+		}
+
+		public boolean refHasValue(EMFExportEObjectColumnHeader columnHeader,
+				EMFExportEObjectColumnHeader refColumnHeader) throws EMFExportException {
+			if (columnHeader.getMatrixName().equalsIgnoreCase(refColumnHeader.getMatrixName())
+					|| !matrixNameToMatrixMap.containsKey(columnHeader.getMatrixName())
+					|| !matrixNameToMatrixMap.containsKey(refColumnHeader.getMatrixName())) {
+				return true;
+			}
+
+			ColumnJoin columnJoin = columnJoin(columnHeader);
+			ColumnJoin refColumnJoin = columnJoin(refColumnHeader);
+
+			return columnJoin.refJoin(refColumnHeader.getMatrixName(),
+					refColumnJoin.matrixPlan).hasValue[refColumnJoin.columnKey];
+		}
+
+		public int refsMaxValueCount(EMFExportEObjectColumnHeader columnHeader,
+				EMFExportEObjectColumnHeader refColumnHeader) throws EMFExportException {
+			if (!matrixNameToMatrixMap.containsKey(columnHeader.getMatrixName())
+					|| !matrixNameToMatrixMap.containsKey(refColumnHeader.getMatrixName())) {
+				return 0;
+			}
+
+			ColumnJoin columnJoin = columnJoin(columnHeader);
+			ColumnJoin refColumnJoin = columnJoin(refColumnHeader);
+
+			return columnJoin.refJoin(refColumnHeader.getMatrixName(),
+					refColumnJoin.matrixPlan).refsMaxValueCount[refColumnJoin.columnKey];
+		}
+
+		private MatrixPlan matrixPlan(EMFExportMatrix matrix) {
+			return matrixToMatrixPlanMap.computeIfAbsent(matrix, MatrixPlan::new);
+		}
+
+		private ColumnJoin columnJoin(EMFExportEObjectColumnHeader columnHeader) throws EMFExportException {
+			ColumnJoin columnJoin = columnHeaderToColumnJoinMap.get(columnHeader);
+			if (columnJoin == null) {
+				MatrixPlan matrixPlan = matrixPlan(matrixNameToMatrixMap.get(columnHeader.getMatrixName()));
+
+				Integer columnKey = matrixPlan.columnNameToColumnKeyMap.get(columnHeader.getColumnHeaderName());
+				if (columnKey == null) {
+					throw new EMFExportException(String.format("Column named %s does not exist in matrix named %s!",
+							columnHeader.getColumnHeaderName(), columnHeader.getMatrixName()));
+				}
+
+				columnJoin = matrixPlan.columnJoin(columnKey);
+
+				columnHeaderToColumnJoinMap.put(columnHeader, columnJoin);
+			}
+
+			return columnJoin;
+		}
+
+		private class MatrixPlan {
+			private final EMFExportMatrix matrix;
+
+			private final Map<Integer, Object> columnHeaders;
+
+			// in case of multiple columns with same name, last one is used
+			private final Map<String, Integer> columnNameToColumnKeyMap;
+
+			// column keys, in ascending order, and column headers, indexed by column key
+			private final int[] columnKeys;
+			private final EMFExportEObjectColumnHeader[] columnHeadersByColumnKey;
+
+			private final ColumnJoin[] columnJoins;
+
+			private MatrixPlan(EMFExportMatrix matrix) {
+				this.matrix = matrix;
+				this.columnHeaders = Collections.unmodifiableMap(matrix.row(getMatrixRowKey(1)));
+				this.columnNameToColumnKeyMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+				for (Map.Entry<Integer, Object> columnHeader : columnHeaders.entrySet()) {
+					if (columnHeader.getValue() instanceof EMFExportEObjectColumnHeader) {
+						columnNameToColumnKeyMap.put(
+								((EMFExportEObjectColumnHeader) columnHeader.getValue()).getColumnHeaderName(),
+								columnHeader.getKey());
+					}
+				}
+
+				int maxColumnKey = 0;
+				for (Integer columnKey : matrix.columnKeySet()) {
+					maxColumnKey = Math.max(maxColumnKey, columnKey.intValue());
+				}
+
+				this.columnKeys = matrix.columnKeySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+
+				this.columnHeadersByColumnKey = new EMFExportEObjectColumnHeader[maxColumnKey + 1];
+				for (Map.Entry<Integer, Object> columnHeader : columnHeaders.entrySet()) {
+					if (columnHeader.getValue() instanceof EMFExportEObjectColumnHeader) {
+						columnHeadersByColumnKey[columnHeader.getKey()] = (EMFExportEObjectColumnHeader) columnHeader
+								.getValue();
+					}
+				}
+
+				this.columnJoins = new ColumnJoin[maxColumnKey + 1];
+			}
+
+			private int columnKeysCount() {
+				return columnJoins.length;
+			}
+
+			private ColumnJoin columnJoin(Integer columnKey) {
+				ColumnJoin columnJoin = columnJoins[columnKey];
+				if (columnJoin == null) {
+					columnJoin = new ColumnJoin(this, columnKey);
+					columnJoins[columnKey] = columnJoin;
+				}
+				return columnJoin;
+			}
+		}
+
+		private class ColumnJoin {
+			private final MatrixPlan matrixPlan;
+			private final int columnKey;
+
+			private boolean hasValue;
+			private int refsMaxValueCount;
+
+			// ordinals of EObjects referenced by column
+			private int[] refOrdinals;
+			private int refOrdinalsCount;
+
+			private final Map<String, RefJoin> refMatrixNameToRefJoinMap;
+
+			private ColumnJoin(MatrixPlan matrixPlan, int columnKey) {
+				this.matrixPlan = matrixPlan;
+				this.columnKey = columnKey;
+				this.refOrdinals = new int[16];
+				this.refMatrixNameToRefJoinMap = new HashMap<>();
+
+				for (Object matrixColumnRowValue : matrixPlan.matrix.column(columnKey).values()) {
+					if (matrixColumnRowValue instanceof EMFExportEObjectColumnHeader) {
+						continue;
+					}
+
+					if (!hasValue && EMFCSVExporter.this.columnHasValue(matrixColumnRowValue)) {
+						hasValue = true;
+					}
+
+					if (matrixColumnRowValue instanceof EMFExportEObjectIDValueCell) {
+						if (((EMFExportEObjectIDValueCell) matrixColumnRowValue).hasValue()) {
+							addRefOrdinal(((EMFExportEObjectIDValueCell) matrixColumnRowValue).getOrdinal());
+						}
+					} else if (matrixColumnRowValue instanceof EMFExportEObjectOneReferenceValueCell) {
+						if (((EMFExportEObjectOneReferenceValueCell) matrixColumnRowValue).hasRefID()) {
+							addRefOrdinal(((EMFExportEObjectOneReferenceValueCell) matrixColumnRowValue).getRefOrdinal());
+						}
+					} else if (matrixColumnRowValue instanceof EMFExportEObjectManyReferencesValueCell) {
+						EMFExportEObjectManyReferencesValueCell referencesValueCell = (EMFExportEObjectManyReferencesValueCell) matrixColumnRowValue;
+
+						refsMaxValueCount = Math.max(refsMaxValueCount, referencesValueCell.getRefIDsCount());
+
+						for (int i = 0; i < referencesValueCell.getRefIDsCount(); i++) {
+							addRefOrdinal(referencesValueCell.getRefOrdinal(i));
+						}
+					}
+				}
+			}
+
+			private void addRefOrdinal(int refOrdinal) {
+				if (refOrdinalsCount == refOrdinals.length) {
+					refOrdinals = Arrays.copyOf(refOrdinals, refOrdinalsCount * 2);
+				}
+				refOrdinals[refOrdinalsCount++] = refOrdinal;
+			}
+
+			private RefJoin refJoin(String refMatrixName, MatrixPlan refMatrixPlan) {
+				return refMatrixNameToRefJoinMap.computeIfAbsent(refMatrixName,
+						name -> new RefJoin(this, name, refMatrixPlan));
+			}
+		}
+
+		private class RefJoin {
+			// indexed by column key of referenced matrix
+			private final boolean[] hasValue;
+			private final int[] refsMaxValueCount;
+
+			private RefJoin(ColumnJoin columnJoin, String refMatrixName, MatrixPlan refMatrixPlan) {
+				this.hasValue = new boolean[refMatrixPlan.columnKeysCount()];
+				this.refsMaxValueCount = new int[refMatrixPlan.columnKeysCount()];
+
+				if (columnJoin.refOrdinalsCount == 0) {
+					Arrays.fill(hasValue, true);
+					return;
+				}
+
+				Set<Integer> refMatrixColumnKeys = refMatrixPlan.matrix.columnKeySet();
+
+				for (int i = 0; i < columnJoin.refOrdinalsCount; i++) {
+
+					int refMatrixRowKey = findRefMatrixRowKey(processedEObjectsDTO, refMatrixName,
+							columnJoin.refOrdinals[i]);
+
+					if (refMatrixRowKey != -1) {
+
+						for (Integer refMatrixColumnKey : refMatrixColumnKeys) {
+
+							Object refMatrixColumnRowValue = refMatrixPlan.matrix.get(getMatrixRowKey(refMatrixRowKey),
+									refMatrixColumnKey);
+
+							if (!hasValue[refMatrixColumnKey]
+									&& EMFCSVExporter.this.columnHasValue(refMatrixColumnRowValue)) {
+								hasValue[refMatrixColumnKey] = true;
+							}
+
+							if (refMatrixColumnRowValue instanceof EMFExportEObjectManyReferencesValueCell) {
+								refsMaxValueCount[refMatrixColumnKey] = Math.max(
+										refsMaxValueCount[refMatrixColumnKey],
+										((EMFExportEObjectManyReferencesValueCell) refMatrixColumnRowValue)
+												.getRefIDsCount());
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes rows streamed from matrices directly to CSV files in ZIP archive, one
+	 * file per matrix.
+	 */
+	private class CSVZipModeRowSink implements EMFExportRowSink {
+		private final ZipOutputStream zipOutputStream;
+		private final Map<Object, Object> exportOptions;
+
+		private CsvWriter csvWriter;
+
+		private CSVZipModeRowSink(ZipOutputStream zipOutputStream, Map<Object, Object> exportOptions) {
+			this.zipOutputStream = zipOutputStream;
+			this.exportOptions = exportOptions;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#startMatrix(java.lang.String, java.util.Map, int)
+		 */
+		@Override
+		public void startMatrix(String matrixName, Map<Integer, Object> columnHeaders, int rowsCount)
+				throws EMFExportException {
+			LOG.debug("Streaming CSV file for matrix named '{}'", matrixName);
+
+			try {
+				csvWriter = CsvWriter.builder().build(createZipEntryWriter(zipOutputStream, matrixName, exportOptions));
+
+				writeCSVHeader(columnHeaders, csvWriter);
+
+			} catch (IOException e) {
+				throw new EMFExportException(e);
+			}
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#writeRow(java.lang.String, int, java.util.Map)
+		 */
+		@Override
+		public void writeRow(String matrixName, int rowKey, Map<Integer, Object> row) throws EMFExportException {
+			try {
+				csvWriter.writeRow(convertValues(row.values(), exportOptions));
+
+			} catch (UncheckedIOException e) {
+				throw new EMFExportException(e.getCause());
+			}
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#endMatrix(java.lang.String)
+		 */
+		@Override
+		public void endMatrix(String matrixName) throws EMFExportException {
+			try {
+				// closes ZIP entry as well
+				csvWriter.close();
+
+			} catch (IOException e) {
+				throw new EMFExportException(e);
+
+			} finally {
+				csvWriter = null;
+			}
+		}
+	}
+
+	/**
+	 * Passes bytes written through to current ZIP entry, while ignoring flushes;
+	 * closing it closes ZIP entry, while keeping ZIP archive open.
+	 */
+	private static class ZipEntryOutputStream extends FilterOutputStream {
+		private final ZipOutputStream zipOutputStream;
+
+		private ZipEntryOutputStream(ZipOutputStream zipOutputStream) {
+			super(zipOutputStream);
+			this.zipOutputStream = zipOutputStream;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.FilterOutputStream#write(byte[], int, int)
+		 */
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.FilterOutputStream#flush()
+		 */
+		@Override
+		public void flush() throws IOException {
+			// flushing is left to ZIP archive
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.FilterOutputStream#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			// ZIP archive is closed by its owner
+			zipOutputStream.closeEntry();
+		}
+	}
+
+	/**
+	 * Writes uncompressed ZIP entry, whose size and CRC-32 checksum have to be
+	 * known before its data is written: bytes written are spooled to temporary
+	 * file, and copied to ZIP archive when closed.
+	 */
+	private static class StoredZipEntryOutputStream extends FilterOutputStream {
+		private final ZipOutputStream zipOutputStream;
+		private final ZipEntry zipEntry;
+		private final EMFExportSpoolFile spoolFile;
+
+		private StoredZipEntryOutputStream(ZipOutputStream zipOutputStream, ZipEntry zipEntry) throws IOException {
+			this(zipOutputStream, zipEntry, EMFExportSpoolFile.create("emf-csv-entry", ".csv"));
+		}
+
+		private StoredZipEntryOutputStream(ZipOutputStream zipOutputStream, ZipEntry zipEntry,
+				EMFExportSpoolFile spoolFile) throws IOException {
+			super(spoolFile.openOutputStream());
+			this.zipOutputStream = zipOutputStream;
+			this.zipEntry = zipEntry;
+			this.spoolFile = spoolFile;
+		}
 
-		// lookup index for storing information about max number of references for
-		// specific one-to-many reference
-		public final Map<EMFExportRefsMaxValueCountCompositeKey, Integer> refsMaxValueCountIndex;
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.FilterOutputStream#write(byte[], int, int)
+		 */
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
 
-		// lookup index for storing information if specific column has value
-		public final Map<EMFExportColumnHasValueCompositeKey, Boolean> columnHasValueIndex;
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.FilterOutputStream#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			try (spoolFile) {
+				out.close();
 
-		// lookup index for storing information about max number of references for
-		// specific column of type one-to-many reference
-		public final Map<EMFExportColumnRefsMaxValueCountCompositeKey, Integer> columnRefsMaxValueCountIndex;
+				zipEntry.setMethod(ZipEntry.STORED);
 
-		public LookupIndexesDTO() {
-			this.refHasValueIndex = new HashMap<>();
-			this.refsMaxValueCountIndex = new HashMap<>();
-			this.columnHasValueIndex = new HashMap<>();
-			this.columnRefsMaxValueCountIndex = new HashMap<>();
+				spoolFile.copyToZipEntry(zipOutputStream, zipEntry);
+			}
 		}
 	}
 }
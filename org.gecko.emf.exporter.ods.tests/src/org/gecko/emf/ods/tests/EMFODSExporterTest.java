@@ -20,13 +20,30 @@ import static org.gecko.emf.ods.tests.helper.EMFODSExporterTestHelper.createRequ
 import static org.gecko.emf.ods.tests.helper.EMFODSExporterTestHelper.createSimpsonFamily;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EPackage;
@@ -56,6 +73,12 @@ import org.osgi.test.common.annotation.InjectService;
 import org.osgi.test.common.service.ServiceAware;
 import org.osgi.test.junit5.context.BundleContextExtension;
 import org.osgi.test.junit5.service.ServiceExtension;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import com.github.miachm.sods.Sheet;
+import com.github.miachm.sods.SpreadSheet;
 
 import trees.TreesPackage;
 
@@ -74,6 +97,10 @@ public class EMFODSExporterTest {
 
 	private static final String TREES_DATASET_XMI = System.getProperty("TREES_DATASET_XMI");
 
+	private static final String ODS_TABLE_NS = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+
+	private static final String ODS_STYLE_NS = "urn:oasis:names:tc:opendocument:xmlns:style:1.0";
+
 	@Order(value = -1)
 	@Test
 	public void testServices(
@@ -279,6 +306,228 @@ public class EMFODSExporterTest {
 		// @formatter:on
 	}
 
+	@Test
+	public void testExportExampleModelBasicEObjectsToOdsColumnsWidthsAndRowsHeights(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFODSExporter)") ServiceAware<EMFExporter> emfOdsExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfOdsExporterAware.getServices()).hasSize(1);
+		EMFExporter emfOdsExporterService = emfOdsExporterAware.getService();
+		assertThat(emfOdsExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		// 65 characters, i.e. 2 full lines of 30 characters when wrapped
+		simpsonFamily.getFather().setFirstName("Homer".repeat(13));
+
+		for (boolean streaming : new boolean[] { false, true }) {
+			Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToOdsColumnsWidthsAndRowsHeights",
+					".ods");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+				// @formatter:off
+				emfOdsExporterService.exportEObjectsTo(List.of(simpsonFamily), fileOutputStream, 
+						Map.of(
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+								EMFExportOptions.OPTION_EXPORT_METADATA, false, // defaults to true
+								EMFODSExportOptions.OPTION_ADJUST_COLUMN_WIDTH, true, // defaults to true
+								EMFExportOptions.OPTION_STREAMING, streaming // defaults to false
+							)
+						);
+				// @formatter:on
+			}
+
+			Document contentXml = readOdsContentXml(filePath);
+
+			Element personTable = getOdsTable(contentXml, "Person");
+
+			// width of column is 3mm per character of its longest value, e.g.
+			// 36 characters of UUIDs in ID columns
+			List<String> columnsWidths = getOdsColumnsProperties(contentXml, personTable, "column-width");
+			assertThat(columnsWidths).as("streaming: " + streaming).startsWith("108.0mm", "108.0mm")
+					.contains("195.0mm");
+
+			// height of row is 5mm per each full line of 30 characters of its wrapped
+			// value; height of other rows, including header row, is not set
+			List<String> rowsHeights = getOdsRowsProperties(contentXml, personTable, "row-height");
+			assertThat(rowsHeights).as("streaming: " + streaming).hasSize(6).startsWith((String) null);
+			assertThat(rowsHeights).as("streaming: " + streaming).filteredOn(Objects::nonNull)
+					.containsExactly("10.0mm");
+		}
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToOdsStreamingEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFODSExporter)") ServiceAware<EMFExporter> emfOdsExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfOdsExporterAware.getServices()).hasSize(1);
+		EMFExporter emfOdsExporterService = emfOdsExporterAware.getService();
+		assertThat(emfOdsExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToOdsStreamingEnabled", ".ods");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfOdsExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFODSExportOptions.OPTION_ADJUST_COLUMN_WIDTH, true, // defaults to true
+						EMFODSExportOptions.OPTION_GENERATE_LINKS, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_STREAMING, true // defaults to false
+					)
+				);
+		// @formatter:on
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToOdsStreamingEnabledSameAsStreamingDisabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFODSExporter)") ServiceAware<EMFExporter> emfOdsExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfOdsExporterAware.getServices()).hasSize(1);
+		EMFExporter emfOdsExporterService = emfOdsExporterAware.getService();
+		assertThat(emfOdsExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		List<SpreadSheet> spreadSheets = new ArrayList<>();
+
+		for (boolean streaming : new boolean[] { false, true }) {
+			Path filePath = Files.createTempFile(
+					"testExportExampleModelBasicEObjectsToOdsStreamingEnabledSameAsStreamingDisabled", ".ods");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+				// @formatter:off
+				emfOdsExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+						Map.of(
+								EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+								EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+								EMFODSExportOptions.OPTION_GENERATE_LINKS, true, // defaults to false
+								EMFExportOptions.OPTION_STREAMING, streaming // defaults to false
+							)
+						);
+				// @formatter:on
+			}
+
+			spreadSheets.add(new SpreadSheet(filePath.toFile()));
+		}
+
+		SpreadSheet spreadSheet = spreadSheets.get(0);
+		SpreadSheet streamedSpreadSheet = spreadSheets.get(1);
+
+		// @formatter:off
+		assertThat(streamedSpreadSheet.getSheets())
+			.extracting(Sheet::getName)
+			.isNotEmpty()
+			.containsExactlyElementsOf(spreadSheet.getSheets().stream().map(Sheet::getName).collect(Collectors.toList()));
+		// @formatter:on
+
+		for (Sheet sheet : spreadSheet.getSheets()) {
+			Sheet streamedSheet = streamedSpreadSheet.getSheet(sheet.getName());
+
+			Object[][] values = sheet.getDataRange().getValues();
+			Object[][] streamedValues = streamedSheet.getDataRange().getValues();
+
+			assertThat(streamedValues).as(sheet.getName()).hasSameDimensionsAs(values);
+
+			Set<Integer> dateColIndexes = new HashSet<>();
+
+			for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+				for (int colIndex = 0; colIndex < values[rowIndex].length; colIndex++) {
+					Object streamedValue = streamedValues[rowIndex][colIndex];
+
+					// dates are streamed as date cells, but written by SODS as text
+					if (streamedValue instanceof LocalDateTime) {
+						dateColIndexes.add(colIndex);
+
+						streamedValue = Date
+								.from(((LocalDateTime) streamedValue).atZone(ZoneId.systemDefault()).toInstant())
+								.toString();
+					}
+
+					assertThat(streamedValue).as(sheet.getName()).isEqualTo(values[rowIndex][colIndex]);
+				}
+			}
+
+			for (int colIndex = 0; colIndex < sheet.getMaxColumns(); colIndex++) {
+				if (!dateColIndexes.contains(colIndex)) {
+					assertThat(streamedSheet.getColumnWidth(colIndex)).as(sheet.getName())
+							.isEqualTo(sheet.getColumnWidth(colIndex));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testExportUtilModelEObjectsToOdsDatesFixedTimeZone(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFODSExporter)") ServiceAware<EMFExporter> emfOdsExporterAware)
+			throws Exception {
+
+		assertThat(emfOdsExporterAware.getServices()).hasSize(1);
+		EMFExporter emfOdsExporterService = emfOdsExporterAware.getService();
+		assertThat(emfOdsExporterService).isNotNull();
+
+		Request request = createRequest(UtilitiesFactory.eINSTANCE);
+		request.setFrom(Date.from(Instant.parse("2023-08-24T10:15:30.250Z")));
+
+		TimeZone defaultTimeZone = TimeZone.getDefault();
+		TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+
+		try {
+			Map<Boolean, Object> fromValues = new HashMap<>();
+
+			for (boolean streaming : new boolean[] { false, true }) {
+				Path filePath = Files.createTempFile("testExportUtilModelEObjectsToOdsDatesFixedTimeZone", ".ods");
+
+				try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+					// @formatter:off
+					emfOdsExporterService.exportEObjectsTo(List.of(request), fileOutputStream, 
+							Map.of(
+									EMFExportOptions.OPTION_EXPORT_METADATA, false, // defaults to true
+									EMFExportOptions.OPTION_STREAMING, streaming // defaults to false
+								)
+							);
+					// @formatter:on
+				}
+
+				Object[][] values = new SpreadSheet(filePath.toFile()).getSheet("Request").getDataRange().getValues();
+
+				fromValues.put(streaming, values[1][Arrays.asList(values[0]).indexOf("from")]);
+			}
+
+			// SODS writes dates as text, using Date#toString
+			assertThat(fromValues.get(false)).isEqualTo("Thu Aug 24 12:15:30 CEST 2023");
+
+			// streamed dates are date cells, in default time zone, of seconds
+			// precision
+			assertThat(fromValues.get(true)).isEqualTo(LocalDateTime.of(2023, 8, 24, 12, 15, 30));
+
+		} finally {
+			TimeZone.setDefault(defaultTimeZone);
+		}
+	}
+
 	@Test
 	public void testExportTreesModelEObjectsToODSNonContainmentEnabled(
 			@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
@@ -324,4 +573,93 @@ public class EMFODSExporterTest {
 				);
 		// @formatter:on		
 	}
+
+	private Document readOdsContentXml(Path filePath) throws Exception {
+		try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(filePath))) {
+			ZipEntry zipEntry;
+			while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+				if ("content.xml".equals(zipEntry.getName())) {
+					DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+					documentBuilderFactory.setNamespaceAware(true);
+
+					return documentBuilderFactory.newDocumentBuilder()
+							.parse(new ByteArrayInputStream(zipInputStream.readAllBytes()));
+				}
+			}
+		}
+
+		throw new AssertionError("No 'content.xml' entry in " + filePath);
+	}
+
+	private Element getOdsTable(Document contentXml, String tableName) {
+		NodeList tables = contentXml.getElementsByTagNameNS(ODS_TABLE_NS, "table");
+		for (int i = 0; i < tables.getLength(); i++) {
+			Element table = (Element) tables.item(i);
+			if (tableName.equals(table.getAttributeNS(ODS_TABLE_NS, "name"))) {
+				return table;
+			}
+		}
+
+		throw new AssertionError("No table named '" + tableName + "' in 'content.xml'");
+	}
+
+	/*
+	 * Values of given property of columns' styles, with repeated columns
+	 * expanded.
+	 */
+	private List<String> getOdsColumnsProperties(Document contentXml, Element table, String propertyName) {
+		Map<String, String> stylesProperties = getOdsStylesProperties(contentXml, "table-column-properties",
+				propertyName);
+
+		List<String> columnsProperties = new ArrayList<>();
+
+		NodeList columns = table.getElementsByTagNameNS(ODS_TABLE_NS, "table-column");
+		for (int i = 0; i < columns.getLength(); i++) {
+			Element column = (Element) columns.item(i);
+
+			String repeated = column.getAttributeNS(ODS_TABLE_NS, "number-columns-repeated");
+			int repeatedCount = repeated.isEmpty() ? 1 : Integer.parseInt(repeated);
+
+			for (int j = 0; j < repeatedCount; j++) {
+				columnsProperties.add(stylesProperties.get(column.getAttributeNS(ODS_TABLE_NS, "style-name")));
+			}
+		}
+
+		return columnsProperties;
+	}
+
+	/*
+	 * Values of given property of rows' styles, or null for rows without style.
+	 */
+	private List<String> getOdsRowsProperties(Document contentXml, Element table, String propertyName) {
+		Map<String, String> stylesProperties = getOdsStylesProperties(contentXml, "table-row-properties",
+				propertyName);
+
+		List<String> rowsProperties = new ArrayList<>();
+
+		NodeList rows = table.getElementsByTagNameNS(ODS_TABLE_NS, "table-row");
+		for (int i = 0; i < rows.getLength(); i++) {
+			Element row = (Element) rows.item(i);
+
+			rowsProperties.add(stylesProperties.get(row.getAttributeNS(ODS_TABLE_NS, "style-name")));
+		}
+
+		return rowsProperties;
+	}
+
+	private Map<String, String> getOdsStylesProperties(Document contentXml, String propertiesElementName,
+			String propertyName) {
+		Map<String, String> stylesProperties = new HashMap<>();
+
+		NodeList properties = contentXml.getElementsByTagNameNS(ODS_STYLE_NS, propertiesElementName);
+		for (int i = 0; i < properties.getLength(); i++) {
+			Element property = (Element) properties.item(i);
+			Element style = (Element) property.getParentNode();
+
+			stylesProperties.put(style.getAttributeNS(ODS_STYLE_NS, "name"),
+					property.getAttributeNS(ODS_STYLE_NS, propertyName));
+		}
+
+		return stylesProperties;
+	}
 }
@@ -11,21 +11,47 @@
  */
 package org.gecko.emf.exporter.ods.impl;
 
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.eclipse.emf.ecore.EObject;
 import org.gecko.emf.exporter.AbstractEMFExporter;
 import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrix;
+import org.gecko.emf.exporter.EMFExportMetricsCollector;
+import org.gecko.emf.exporter.EMFExportPhase;
+import org.gecko.emf.exporter.EMFExportRowSink;
 import org.gecko.emf.exporter.EMFExporter;
 import org.gecko.emf.exporter.annotation.ProvideEMFExporter;
 import org.gecko.emf.exporter.cells.EMFExportEObjectIDValueCell;
@@ -47,7 +73,7 @@ import com.github.miachm.sods.Sheet;
 import com.github.miachm.sods.SpreadSheet;
 import com.github.miachm.sods.Style;
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Table;
+import com.google.common.io.CountingOutputStream;
 
 /**
  * Implementation of the {@link EMFExporter} to provide support for exporting
@@ -62,10 +88,13 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 
 	private static final int MAX_CHAR_PER_LINE_DEFAULT = 30;
 
+	private static final String HEADER_BACKGROUND_COLOR = "#a3a3a3";
+	private static final String HEADER_FONT_COLOR = "#000000";
+
 	private static final Style HEADER_STYLE = new Style();
 	static {
-		HEADER_STYLE.setBackgroundColor(new Color("#a3a3a3"));
-		HEADER_STYLE.setFontColor(new Color("#000000"));
+		HEADER_STYLE.setBackgroundColor(new Color(HEADER_BACKGROUND_COLOR));
+		HEADER_STYLE.setFontColor(new Color(HEADER_FONT_COLOR));
 		HEADER_STYLE.setBold(true);
 		HEADER_STYLE.setTextAligment(Style.TEXT_ALIGMENT.Center);
 	}
@@ -77,8 +106,12 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 
 	private static final int ID_COLUMN_WIDTH = 23;
 
+	// number of characters of date formatted using date style of streamed
+	// documents ("YYYY-MM-DD HH:MM:SS")
+	private static final int DATE_CELL_CHARS_COUNT = 19;
+
 	public EMFODSExporter() {
-		super(LOG, Stopwatch.createStarted());
+		super(LOG);
 	}
 
 	/* 
@@ -97,6 +130,10 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 
 				final Map<Object, Object> exportOptions = validateExportOptions(options);
 
+				final EMFExportMetricsCollector metricsCollector = new EMFExportMetricsCollector();
+
+				final CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+
 				LOG.info("Starting export of {} EObject(s) to ODS format"
 						+ (!exportOptions.isEmpty() ? " with options" : ""), eObjects.size());
 				LOG.info("  Locale to use: {}", locale(exportOptions));
@@ -107,10 +144,17 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 				LOG.info("  Add mapping table: {}", addMappingTableEnabled(exportOptions));
 				LOG.info("  Show URIs instead of IDs (where applicable): {}", showURIsEnabled(exportOptions));
 				LOG.info("  Show columns containing references: {}", showREFsEnabled(exportOptions));
+				LOG.info("  Pseudo ID strategy: {}", pseudoIDStrategy(exportOptions));
+				LOG.info("  Streaming: {}", streamingEnabled(exportOptions));
+				LOG.info("  Parallelism: {}", parallelism(exportOptions));
+
+				ProcessedEObjectsDTO processedEObjectsDTO = streamingEnabled(exportOptions)
+						? exportEObjectsToMatricesSchema(eObjects, exportOptions, metricsCollector)
+						: exportEObjectsToMatrices(eObjects, exportOptions, metricsCollector);
 
-				ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions);
+				exportMatricesToODS(countingOutputStream, processedEObjectsDTO, exportOptions);
 
-				exportMatricesToODS(outputStream, processedEObjectsDTO, exportOptions);
+				publishMetrics(metricsCollector, countingOutputStream.getCount(), exportOptions);
 
 			} catch (Exception e) {
 				throw new EMFExportException(e);
@@ -119,13 +163,46 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void exportMatricesToODS(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
-			Map<Object, Object> exportOptions) throws IOException {
+			Map<Object, Object> exportOptions) throws IOException, XMLStreamException, EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
 
-		resetStopwatch();
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
 
 		LOG.info("Starting generation of ODS sheets");
 
-		Map<String, Table<Integer, Integer, Object>> matrixNameToEObjectMatrixMap = eObjectMatricesOnly(
+		if (processedEObjectsDTO.streaming) {
+			streamMatricesToODS(outputStream, processedEObjectsDTO, exportOptions);
+
+		} else {
+			exportMatricesToSpreadSheet(outputStream, processedEObjectsDTO, exportOptions);
+		}
+
+		LOG.info("Finished generation of ODS sheets in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
+	/*
+	 * When streaming, rows are written as those are constructed, bypassing
+	 * in-memory SODS spreadsheet model - content of each sheet is written to
+	 * temporary file first, since widths of its columns, which precede its rows,
+	 * are only known once all of its rows were written.
+	 */
+	private void streamMatricesToODS(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions) throws IOException, XMLStreamException, EMFExportException {
+
+		try (ODSStreamingDocumentWriter documentWriter = new ODSStreamingDocumentWriter()) {
+
+			streamMatricesToSink(processedEObjectsDTO, exportOptions,
+					new ODSRowSink(exportOptions, documentWriter));
+
+			documentWriter.save(outputStream);
+		}
+	}
+
+	private void exportMatricesToSpreadSheet(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions) throws IOException {
+
+		Map<String, EMFExportMatrix> matrixNameToEObjectMatrixMap = eObjectMatricesOnly(
 				processedEObjectsDTO.matrixNameToMatrixMap);
 
 		SpreadSheet document = new SpreadSheet();
@@ -133,46 +210,49 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 		exportMatricesToODS(matrixNameToEObjectMatrixMap, exportOptions, document);
 
 		if (exportMetadataEnabled(exportOptions)) {
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMetadataMatrixMap = metadataMatricesOnly(
+			Map<String, EMFExportMatrix> matrixNameToMetadataMatrixMap = metadataMatricesOnly(
 					processedEObjectsDTO.matrixNameToMatrixMap);
 
 			exportMatricesToODS(matrixNameToMetadataMatrixMap, exportOptions, document);
 		}
 
 		if (addMappingTableEnabled(exportOptions)) {
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMappingMatrixMap = mappingMatricesOnly(
+			Map<String, EMFExportMatrix> matrixNameToMappingMatrixMap = mappingMatricesOnly(
 					processedEObjectsDTO.matrixNameToMatrixMap);
 
 			exportMatricesToODS(matrixNameToMappingMatrixMap, exportOptions, document);
 		}
 
 		document.save(outputStream);
-
-		LOG.info("Finished generation of ODS sheets in {} second(s)", elapsedTimeInSeconds());
 	}
 
-	private void exportMatricesToODS(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap,
+	private void exportMatricesToODS(Map<String, EMFExportMatrix> matrixNameToMatrixMap,
 			Map<Object, Object> exportOptions, SpreadSheet document) throws IOException {
 		for (String matrixName : matrixNameToMatrixMap.keySet()) {
 			LOG.debug("Generating ODS sheet for matrix named '{}'", matrixName);
 
-			Table<Integer, Integer, Object> matrix = matrixNameToMatrixMap.get(matrixName);
+			EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
 
 			exportMatrixToODS(document, matrixName, matrix, exportOptions);
 		}
 	}
 
-	private void exportMatrixToODS(SpreadSheet document, String matrixName, Table<Integer, Integer, Object> matrix,
+	private void exportMatrixToODS(SpreadSheet document, String matrixName, EMFExportMatrix matrix,
 			Map<Object, Object> exportOptions) throws IOException {
 
 		Sheet sheet = getOrConstructODSSheetIfNotExists(document, matrixName);
 
-		constructODSSheetColumnHeaders(matrix, sheet, exportOptions);
+		ODSSheetDimensionsTracker sheetDimensionsTracker = new ODSSheetDimensionsTracker(matrix.rowKeySet().size(),
+				matrix.columnKeySet().size());
+
+		constructODSSheetColumnHeaders(matrix, sheet, exportOptions, sheetDimensionsTracker);
 
-		populateODSSheetWithData(document, matrix, sheet, exportOptions);
+		populateODSSheetWithData(document, matrix, sheet, exportOptions, sheetDimensionsTracker);
+
+		adjustRowsHeight(sheet, sheetDimensionsTracker);
 
 		if (adjustColumnWidthEnabled(exportOptions)) {
-			adjustColumnsWidth(sheet);
+			adjustColumnsWidth(sheet, sheetDimensionsTracker);
 		}
 	}
 
@@ -187,8 +267,8 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 		return sheet;
 	}
 
-	private void constructODSSheetColumnHeaders(Table<Integer, Integer, Object> matrix, Sheet sheet,
-			Map<Object, Object> exportOptions) {
+	private void constructODSSheetColumnHeaders(EMFExportMatrix matrix, Sheet sheet,
+			Map<Object, Object> exportOptions, ODSSheetDimensionsTracker sheetDimensionsTracker) {
 
 		Map<Integer, Object> matrixHeaderRow = matrix.row(getMatrixRowKey(1));
 
@@ -208,12 +288,13 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 		sheetHeaderRow.setStyle(HEADER_STYLE);
 
 		for (int colIndex = 0; colIndex < sheetColumnsCount; colIndex++) {
-			constructODSSheetColumnHeaderCell(sheetHeaderRow, colIndex, sheetColumnHeaders.get(colIndex));
+			constructODSSheetColumnHeaderCell(sheetHeaderRow, colIndex, sheetColumnHeaders.get(colIndex),
+					sheetDimensionsTracker);
 		}
 	}
 
-	private void populateODSSheetWithData(SpreadSheet document, Table<Integer, Integer, Object> matrix, Sheet sheet,
-			Map<Object, Object> exportOptions) {
+	private void populateODSSheetWithData(SpreadSheet document, EMFExportMatrix matrix, Sheet sheet,
+			Map<Object, Object> exportOptions, ODSSheetDimensionsTracker sheetDimensionsTracker) {
 		Map<Integer, Map<Integer, Object>> matrixRowMap = matrix.rowMap();
 
 		// @formatter:off
@@ -239,45 +320,47 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 			// @formatter:on
 
 			for (int colIndex = 0; colIndex < columnsCount; colIndex++) {
-				populateODSSheetCellWithData(document, sheetDataRow, colIndex, rowValues.get(colIndex), exportOptions);
+				populateODSSheetCellWithData(document, sheetDataRow, colIndex, rowValues.get(colIndex), exportOptions,
+						sheetDimensionsTracker);
 			}
 		}
 	}
 
 	private void populateODSSheetCellWithData(SpreadSheet document, Range sheetDataRow, int colIndex, Object value,
-			Map<Object, Object> exportOptions) {
+			Map<Object, Object> exportOptions, ODSSheetDimensionsTracker sheetDimensionsTracker) {
 
 		if ((value != null) && !(value instanceof Optional) && String.valueOf(value) != null) {
 
 			if (value instanceof EMFExportInternalIDValueCell) {
-				setInternalIDValueCell(sheetDataRow, colIndex, (EMFExportInternalIDValueCell) value);
+				setInternalIDValueCell(sheetDataRow, colIndex, (EMFExportInternalIDValueCell) value,
+						sheetDimensionsTracker);
 
 			} else if (value instanceof EMFExportEObjectIDValueCell) {
-				setIDValueCell(sheetDataRow, colIndex, (EMFExportEObjectIDValueCell) value);
+				setIDValueCell(sheetDataRow, colIndex, (EMFExportEObjectIDValueCell) value, sheetDimensionsTracker);
 
 			} else if (value instanceof EMFExportEObjectOneReferenceValueCell) {
 				setOneReferenceValueCell(document, sheetDataRow, colIndex,
-						(EMFExportEObjectOneReferenceValueCell) value, exportOptions);
+						(EMFExportEObjectOneReferenceValueCell) value, exportOptions, sheetDimensionsTracker);
 
 			} else if (value instanceof EMFExportEObjectManyReferencesValueCell) {
 				setManyReferencesValueCell(document, sheetDataRow, colIndex,
-						(EMFExportEObjectManyReferencesValueCell) value, exportOptions);
+						(EMFExportEObjectManyReferencesValueCell) value, exportOptions, sheetDimensionsTracker);
 
 			} else if (value instanceof EMFExportMappingMatrixReferenceValueCell) {
 				setMappingMatrixReferenceValueCell(document, sheetDataRow, colIndex,
-						(EMFExportMappingMatrixReferenceValueCell) value, exportOptions);
+						(EMFExportMappingMatrixReferenceValueCell) value, exportOptions, sheetDimensionsTracker);
 
 			} else if (value instanceof Date) {
-				setDateValueCell(sheetDataRow, colIndex, (Date) value);
+				setDateValueCell(sheetDataRow, colIndex, (Date) value, sheetDimensionsTracker);
 
 			} else if (value instanceof Number) {
-				setNumberValueCell(sheetDataRow, colIndex, (Number) value);
+				setNumberValueCell(sheetDataRow, colIndex, (Number) value, sheetDimensionsTracker);
 
 			} else if (value instanceof Boolean) {
-				setBooleanValueCell(sheetDataRow, colIndex, (Boolean) value);
+				setBooleanValueCell(sheetDataRow, colIndex, (Boolean) value, sheetDimensionsTracker);
 
 			} else {
-				setStringValueCell(sheetDataRow, colIndex, String.valueOf(value));
+				setStringValueCell(sheetDataRow, colIndex, String.valueOf(value), sheetDimensionsTracker);
 			}
 
 		} else {
@@ -285,57 +368,89 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void setInternalIDValueCell(Range dataRow, int colIndex, EMFExportInternalIDValueCell idValue) {
-		dataRow.getCell(0, colIndex).setValue(idValue.hasValue() ? idValue.getValue() : "");
+	private void setInternalIDValueCell(Range dataRow, int colIndex, EMFExportInternalIDValueCell idValue,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
+		String value = idValue.hasValue() ? idValue.getValue() : "";
+
+		dataRow.getCell(0, colIndex).setValue(value);
+
+		sheetDimensionsTracker.trackValue(colIndex, value);
 	}
 
-	private void setIDValueCell(Range dataRow, int colIndex, EMFExportEObjectIDValueCell idValue) {
-		dataRow.getCell(0, colIndex).setValue(idValue.hasValue() ? idValue.getValue() : "");
+	private void setIDValueCell(Range dataRow, int colIndex, EMFExportEObjectIDValueCell idValue,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
+		String value = idValue.hasValue() ? idValue.getValue() : "";
+
+		dataRow.getCell(0, colIndex).setValue(value);
+
+		sheetDimensionsTracker.trackValue(colIndex, value);
 	}
 
 	private void setOneReferenceValueCell(SpreadSheet document, Range dataRow, int colIndex,
-			EMFExportEObjectOneReferenceValueCell referenceValueCell, Map<Object, Object> exportOptions) {
+			EMFExportEObjectOneReferenceValueCell referenceValueCell, Map<Object, Object> exportOptions,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
 
-		String refValue = (showURIsEnabled(exportOptions) && !referenceValueCell.isSelfReferencingModel()
-				&& referenceValueCell.hasURI()) ? referenceValueCell.getURI()
-						: referenceValueCell.hasRefID() ? referenceValueCell.getRefID() : "";
+		String refValue = getOneReferenceValue(referenceValueCell, exportOptions);
 
 		if (generateLinks(exportOptions, referenceValueCell.hasRefID())) {
 			Sheet sheet = getOrConstructODSSheetIfNotExists(document, referenceValueCell.getRefMatrixName());
 
-			LinkedValue linkedValue = LinkedValue.builder().value(refValue).href(sheet).build();
+			LinkedValue linkedValue = LinkedValue.builder().value(refValue)
+					.href(constructSheetHref(sheet.getName())).build();
 			dataRow.getCell(0, colIndex).addLinkedValue(linkedValue);
+
+			sheetDimensionsTracker.trackLinkedValues(colIndex);
 		} else {
 			dataRow.getCell(0, colIndex).setValue(refValue);
+
+			sheetDimensionsTracker.trackValue(colIndex, refValue);
 		}
 	}
 
 	private void setManyReferencesValueCell(SpreadSheet document, Range dataRow, int colIndex,
-			EMFExportEObjectManyReferencesValueCell referencesValueCell, Map<Object, Object> exportOptions) {
+			EMFExportEObjectManyReferencesValueCell referencesValueCell, Map<Object, Object> exportOptions,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
 
 		if (generateLinks(exportOptions, referencesValueCell.hasRefIDs())) {
 			List<LinkedValue> linkedValues = new ArrayList<LinkedValue>();
 
 			Sheet sheet = getOrConstructODSSheetIfNotExists(document, referencesValueCell.getRefMatrixName());
 
-			List<String> refValues = (showURIsEnabled(exportOptions) && !referencesValueCell.isSelfReferencingModel()
-					&& referencesValueCell.hasURIs()) ? referencesValueCell.getURIs()
-							: referencesValueCell.hasRefIDs() ? referencesValueCell.getRefIDs()
-									: Collections.emptyList();
-
-			for (String refValue : refValues) {
-				LinkedValue linkedValue = LinkedValue.builder().value(refValue).href(sheet).build();
+			for (String refValue : getManyReferencesValues(referencesValueCell, exportOptions)) {
+				LinkedValue linkedValue = LinkedValue.builder().value(refValue)
+						.href(constructSheetHref(sheet.getName())).build();
 				linkedValues.add(linkedValue);
 			}
 
 			dataRow.getCell(0, colIndex).setLinkedValues(linkedValues);
 
+			if (!linkedValues.isEmpty()) {
+				sheetDimensionsTracker.trackLinkedValues(colIndex);
+			}
+
 		} else {
-			dataRow.getCell(0, colIndex)
-					.setValue(convertManyReferenceValuesToString(referencesValueCell, exportOptions));
+			String value = convertManyReferenceValuesToString(referencesValueCell, exportOptions);
+
+			dataRow.getCell(0, colIndex).setValue(value);
+
+			sheetDimensionsTracker.trackValue(colIndex, value);
 		}
 	}
 
+	private String getOneReferenceValue(EMFExportEObjectOneReferenceValueCell referenceValueCell,
+			Map<Object, Object> exportOptions) {
+		return (showURIsEnabled(exportOptions) && !referenceValueCell.isSelfReferencingModel()
+				&& referenceValueCell.hasURI()) ? referenceValueCell.getURI()
+						: referenceValueCell.hasRefID() ? referenceValueCell.getRefID() : "";
+	}
+
+	private List<String> getManyReferencesValues(EMFExportEObjectManyReferencesValueCell referencesValueCell,
+			Map<Object, Object> exportOptions) {
+		return (showURIsEnabled(exportOptions) && !referencesValueCell.isSelfReferencingModel()
+				&& referencesValueCell.hasURIs()) ? referencesValueCell.getURIs()
+						: referencesValueCell.hasRefIDs() ? referencesValueCell.getRefIDs() : Collections.emptyList();
+	}
+
 	private boolean generateLinks(Map<Object, Object> exportOptions, boolean refHasValue) {
 		return refHasValue && generateLinksEnabled(exportOptions) && exportNonContainmentEnabled(exportOptions);
 	}
@@ -365,88 +480,281 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void setMappingMatrixReferenceValueCell(SpreadSheet document, Range dataRow, int colIndex,
-			EMFExportMappingMatrixReferenceValueCell referenceValue, Map<Object, Object> exportOptions) {
+			EMFExportMappingMatrixReferenceValueCell referenceValue, Map<Object, Object> exportOptions,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
 
 		if (generateLinksEnabled(exportOptions)) {
 			Sheet sheet = getOrConstructODSSheetIfNotExists(document, referenceValue.getMatrixName());
 
-			LinkedValue linkedValue = LinkedValue.builder().value(referenceValue.getLabel()).href(sheet).build();
+			LinkedValue linkedValue = LinkedValue.builder().value(referenceValue.getLabel())
+					.href(constructSheetHref(sheet.getName())).build();
 			dataRow.getCell(0, colIndex).addLinkedValue(linkedValue);
+
+			sheetDimensionsTracker.trackLinkedValues(colIndex);
 		} else {
 			dataRow.getCell(0, colIndex).setValue(referenceValue.getLabel());
+
+			sheetDimensionsTracker.trackValue(colIndex, referenceValue.getLabel());
 		}
 	}
 
-	private void constructODSSheetColumnHeaderCell(Range sheetHeaderRow, int colIndex, String sheetHeaderName) {
+	private void constructODSSheetColumnHeaderCell(Range sheetHeaderRow, int colIndex, String sheetHeaderName,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
 		sheetHeaderRow.getCell(0, colIndex).setValue(sheetHeaderName);
+
+		sheetDimensionsTracker.trackValue(colIndex, sheetHeaderName);
 	}
 
-	private void setStringValueCell(Range sheetDataRow, int colIndex, String value) {
-		sheetDataRow.getCell(0, colIndex).setValue(value);
+	private void setStringValueCell(Range sheetDataRow, int colIndex, String value,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
+		Range cell = sheetDataRow.getCell(0, colIndex);
 
-		if ((value != null) && value.length() > MAX_CHAR_PER_LINE_DEFAULT) {
-			sheetDataRow.getCell(0, colIndex).setStyle(WRAPPED_DATA_CELL_STYLE);
+		cell.setValue(value);
 
-			adjustRowHeight(sheetDataRow.getSheet(), sheetDataRow.getRow(), value);
+		if (isWrappedValue(value)) {
+			cell.setStyle(WRAPPED_DATA_CELL_STYLE);
+
+			sheetDimensionsTracker.trackRowHeight(sheetDataRow.getRow(), calculateRowHeight(value));
 		}
+
+		sheetDimensionsTracker.trackValue(colIndex, value);
 	}
 
-	private void setDateValueCell(Range sheetDataRow, int colIndex, Date value) {
+	private void setDateValueCell(Range sheetDataRow, int colIndex, Date value,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
 		sheetDataRow.getCell(0, colIndex).setValue(value);
+
+		sheetDimensionsTracker.trackValue(colIndex, value);
 	}
 
-	private void setNumberValueCell(Range sheetDataRow, int colIndex, Number value) {
+	/*
+	 * Link to first cell of sheet - sheet name is quoted, as it may contain
+	 * characters such as spaces or dots, with quotes within it escaped by
+	 * doubling those.
+	 */
+	private static URI constructSheetHref(String sheetName) {
+		try {
+			return new URI(null, null, "'" + sheetName.replace("'", "''") + "'.A1");
+
+		} catch (URISyntaxException e) {
+			throw new IllegalArgumentException(String.format("Invalid sheet name '%s'!", sheetName), e);
+		}
+	}
+
+	private void setNumberValueCell(Range sheetDataRow, int colIndex, Number value,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
 		sheetDataRow.getCell(0, colIndex).setValue(value.floatValue());
+
+		sheetDimensionsTracker.trackValue(colIndex, value.floatValue());
 	}
 
-	private void setBooleanValueCell(Range sheetDataRow, int colIndex, Boolean value) {
+	private void setBooleanValueCell(Range sheetDataRow, int colIndex, Boolean value,
+			ODSSheetDimensionsTracker sheetDimensionsTracker) {
 		sheetDataRow.getCell(0, colIndex).setValue(value.booleanValue());
+
+		sheetDimensionsTracker.trackValue(colIndex, value);
 	}
 
 	private void setVoidValueCell(Range sheetDataRow, int colIndex) {
 		sheetDataRow.getCell(0, colIndex).clear();
 	}
 
-	private void adjustRowHeight(Sheet sheet, int rowIndex, String value) {
-		sheet.setRowHeight(rowIndex, calculateRowHeight(value));
+	private boolean isWrappedValue(String value) {
+		return ((value != null) && value.length() > MAX_CHAR_PER_LINE_DEFAULT);
 	}
 
-	private Double calculateRowHeight(String value) {
+	private double calculateRowHeight(String value) {
 		return (Double.valueOf(value.length() / MAX_CHAR_PER_LINE_DEFAULT) * 5);
 	}
 
-	private void adjustColumnsWidth(Sheet sheet) {
-		int columnsCount = sheet.getMaxColumns();
+	private void adjustRowsHeight(Sheet sheet, ODSSheetDimensionsTracker sheetDimensionsTracker) {
+		for (int rowIndex = 0; rowIndex < sheet.getMaxRows(); rowIndex++) {
+			double rowHeight = sheetDimensionsTracker.getRowHeight(rowIndex);
 
-		int rowsCount = sheet.getMaxRows();
+			if (rowHeight > 0) {
+				sheet.setRowHeight(rowIndex, rowHeight);
+			}
+		}
+	}
+
+	private void adjustColumnsWidth(Sheet sheet, ODSSheetDimensionsTracker sheetDimensionsTracker) {
+		int columnsCount = sheet.getMaxColumns();
 
 		for (int colIndex = 0; colIndex < columnsCount; colIndex++) {
+			sheet.setColumnWidth(colIndex, calculateColumnWidth(sheetDimensionsTracker.getColumnCharsCount(colIndex)));
+		}
+	}
+
+	private void streamODSSheetColumnHeaders(Map<Integer, Object> columnHeaders,
+			ODSStreamingDocumentWriter documentWriter, ODSSheetDimensionsTracker sheetDimensionsTracker)
+			throws XMLStreamException {
+
+		documentWriter.startRow(0);
 
-			int colMaxCharsCount = 0;
+		int colIndex = 0;
 
-			for (int rowIndex = 0; rowIndex < rowsCount; rowIndex++) {
+		for (Object columnHeader : columnHeaders.values()) {
+			String sheetHeaderName = String.valueOf(columnHeader);
 
-				if ((sheet.getRange(rowIndex, colIndex).getLinkedValues() != null)
-						&& (sheet.getRange(rowIndex, colIndex).getLinkedValues().length > 0)
-						&& (sheet.getRange(rowIndex, colIndex).getLinkedValues()[0].length > 0)
-						&& !sheet.getRange(rowIndex, colIndex).getLinkedValues()[0][0].isEmpty()) {
+			documentWriter.writeHeaderCell(sheetHeaderName);
+
+			sheetDimensionsTracker.trackValue(colIndex++, sheetHeaderName);
+		}
 
-					colMaxCharsCount = Math.max(colMaxCharsCount, ID_COLUMN_WIDTH);
+		documentWriter.endRow();
+	}
+
+	private void streamODSSheetRowWithData(Map<Integer, Object> row, Map<Object, Object> exportOptions,
+			ODSStreamingDocumentWriter documentWriter, ODSSheetDimensionsTracker sheetDimensionsTracker)
+			throws XMLStreamException {
+
+		// height of row has to be known before its cells are written
+		double rowHeight = 0;
+
+		for (Object value : row.values()) {
+			if (isStringValue(value) && isWrappedValue(String.valueOf(value))) {
+				rowHeight = Math.max(rowHeight, calculateRowHeight(String.valueOf(value)));
+			}
+		}
+
+		documentWriter.startRow(rowHeight);
+
+		int colIndex = 0;
+
+		for (Object value : row.values()) {
+			streamODSSheetCellWithData(colIndex++, value, exportOptions, documentWriter, sheetDimensionsTracker);
+		}
 
+		documentWriter.endRow();
+	}
+
+	private void streamODSSheetCellWithData(int colIndex, Object value, Map<Object, Object> exportOptions,
+			ODSStreamingDocumentWriter documentWriter, ODSSheetDimensionsTracker sheetDimensionsTracker)
+			throws XMLStreamException {
+
+		if ((value != null) && !(value instanceof Optional) && String.valueOf(value) != null) {
+
+			if (value instanceof EMFExportInternalIDValueCell) {
+				EMFExportInternalIDValueCell idValue = (EMFExportInternalIDValueCell) value;
+
+				streamStringValueCell(colIndex, (idValue.hasValue() ? idValue.getValue() : ""), false, documentWriter,
+						sheetDimensionsTracker);
+
+			} else if (value instanceof EMFExportEObjectIDValueCell) {
+				EMFExportEObjectIDValueCell idValue = (EMFExportEObjectIDValueCell) value;
+
+				streamStringValueCell(colIndex, (idValue.hasValue() ? idValue.getValue() : ""), false, documentWriter,
+						sheetDimensionsTracker);
+
+			} else if (value instanceof EMFExportEObjectOneReferenceValueCell) {
+				EMFExportEObjectOneReferenceValueCell referenceValueCell = (EMFExportEObjectOneReferenceValueCell) value;
+
+				String refValue = getOneReferenceValue(referenceValueCell, exportOptions);
+
+				if (generateLinks(exportOptions, referenceValueCell.hasRefID())) {
+					streamLinkedValuesCell(colIndex, List.of(refValue), referenceValueCell.getRefMatrixName(),
+							documentWriter, sheetDimensionsTracker);
 				} else {
+					streamStringValueCell(colIndex, refValue, false, documentWriter, sheetDimensionsTracker);
+				}
 
-					Object cellValue = sheet.getRange(rowIndex, colIndex).getValue();
+			} else if (value instanceof EMFExportEObjectManyReferencesValueCell) {
+				EMFExportEObjectManyReferencesValueCell referencesValueCell = (EMFExportEObjectManyReferencesValueCell) value;
 
-					if (cellValue != null && String.valueOf(cellValue) != null) {
-						colMaxCharsCount = Math.max(colMaxCharsCount, String.valueOf(cellValue).length());
-					}
+				if (generateLinks(exportOptions, referencesValueCell.hasRefIDs())) {
+					streamLinkedValuesCell(colIndex, getManyReferencesValues(referencesValueCell, exportOptions),
+							referencesValueCell.getRefMatrixName(), documentWriter, sheetDimensionsTracker);
+				} else {
+					streamStringValueCell(colIndex,
+							convertManyReferenceValuesToString(referencesValueCell, exportOptions), false,
+							documentWriter, sheetDimensionsTracker);
 				}
+
+			} else if (value instanceof EMFExportMappingMatrixReferenceValueCell) {
+				EMFExportMappingMatrixReferenceValueCell referenceValue = (EMFExportMappingMatrixReferenceValueCell) value;
+
+				if (generateLinksEnabled(exportOptions)) {
+					streamLinkedValuesCell(colIndex, List.of(referenceValue.getLabel()),
+							referenceValue.getMatrixName(), documentWriter, sheetDimensionsTracker);
+				} else {
+					streamStringValueCell(colIndex, referenceValue.getLabel(), false, documentWriter,
+							sheetDimensionsTracker);
+				}
+
+			} else if (value instanceof Date) {
+				documentWriter.writeDateCell((Date) value);
+
+				sheetDimensionsTracker.trackCharsCount(colIndex, DATE_CELL_CHARS_COUNT);
+
+			} else if (value instanceof Number) {
+				documentWriter.writeFloatCell(((Number) value).floatValue());
+
+				sheetDimensionsTracker.trackValue(colIndex, ((Number) value).floatValue());
+
+			} else if (value instanceof Boolean) {
+				documentWriter.writeBooleanCell((Boolean) value);
+
+				sheetDimensionsTracker.trackValue(colIndex, value);
+
+			} else {
+				String stringValue = String.valueOf(value);
+
+				streamStringValueCell(colIndex, stringValue, isWrappedValue(stringValue), documentWriter,
+						sheetDimensionsTracker);
 			}
 
-			sheet.setColumnWidth(colIndex, calculateColumnWidth(colMaxCharsCount));
+		} else {
+			documentWriter.writeEmptyCell();
+		}
+	}
+
+	/*
+	 * Whether value is populated as plain string, as opposed to cells of
+	 * specific types.
+	 */
+	private boolean isStringValue(Object value) {
+		// @formatter:off
+		return (value != null) 
+				&& !(value instanceof Optional) 
+				&& !(value instanceof EMFExportInternalIDValueCell)
+				&& !(value instanceof EMFExportEObjectIDValueCell)
+				&& !(value instanceof EMFExportEObjectOneReferenceValueCell)
+				&& !(value instanceof EMFExportEObjectManyReferencesValueCell)
+				&& !(value instanceof EMFExportMappingMatrixReferenceValueCell) 
+				&& !(value instanceof Date)
+				&& !(value instanceof Number) 
+				&& !(value instanceof Boolean);
+		// @formatter:on
+	}
+
+	private void streamStringValueCell(int colIndex, String value, boolean wrapped,
+			ODSStreamingDocumentWriter documentWriter, ODSSheetDimensionsTracker sheetDimensionsTracker)
+			throws XMLStreamException {
+		documentWriter.writeStringCell(value, wrapped);
+
+		sheetDimensionsTracker.trackValue(colIndex, value);
+	}
+
+	private void streamLinkedValuesCell(int colIndex, List<String> linkedValues, String linkedSheetName,
+			ODSStreamingDocumentWriter documentWriter, ODSSheetDimensionsTracker sheetDimensionsTracker)
+			throws XMLStreamException {
+		documentWriter.writeLinkedValuesCell(linkedValues, linkedSheetName);
+
+		if (!linkedValues.isEmpty()) {
+			sheetDimensionsTracker.trackLinkedValues(colIndex);
 		}
 	}
 
+	private double[] calculateColumnsWidths(int columnsCount, ODSSheetDimensionsTracker sheetDimensionsTracker) {
+		double[] columnsWidths = new double[columnsCount];
+
+		for (int colIndex = 0; colIndex < columnsCount; colIndex++) {
+			columnsWidths[colIndex] = calculateColumnWidth(sheetDimensionsTracker.getColumnCharsCount(colIndex));
+		}
+
+		return columnsWidths;
+	}
+
 	private Double calculateColumnWidth(int charsCount) {
 		return (Double.valueOf(charsCount) * 3);
 	}
@@ -470,4 +778,644 @@ public class EMFODSExporter extends AbstractEMFExporter implements EMFExporter {
 	private boolean generateLinksEnabled(Map<Object, Object> exportOptions) {
 		return ((boolean) exportOptions.getOrDefault(EMFODSExportOptions.OPTION_GENERATE_LINKS, Boolean.FALSE));
 	}
+
+	/**
+	 * Tracks number of characters of longest value of each column and height of
+	 * each row of sheet, as cells are populated - so that sheet does not have to
+	 * be scanned again once populated, which requires range to be constructed for
+	 * each cell.
+	 */
+	private static final class ODSSheetDimensionsTracker {
+
+		private int[] columnsCharsCounts;
+		private double[] rowsHeights;
+
+		private ODSSheetDimensionsTracker(int rowsCount, int columnsCount) {
+			this.columnsCharsCounts = new int[columnsCount];
+			this.rowsHeights = new double[rowsCount];
+		}
+
+		private void trackValue(int colIndex, Object value) {
+			if ((value != null) && String.valueOf(value) != null) {
+				trackCharsCount(colIndex, String.valueOf(value).length());
+			}
+		}
+
+		/**
+		 * Text of linked values is not taken into account - width of ID column is
+		 * used instead.
+		 */
+		private void trackLinkedValues(int colIndex) {
+			trackCharsCount(colIndex, ID_COLUMN_WIDTH);
+		}
+
+		private void trackCharsCount(int colIndex, int charsCount) {
+			if (colIndex >= columnsCharsCounts.length) {
+				columnsCharsCounts = Arrays.copyOf(columnsCharsCounts, (colIndex + 1));
+			}
+
+			columnsCharsCounts[colIndex] = Math.max(columnsCharsCounts[colIndex], charsCount);
+		}
+
+		private void trackRowHeight(int rowIndex, double rowHeight) {
+			if (rowIndex >= rowsHeights.length) {
+				rowsHeights = Arrays.copyOf(rowsHeights, Math.max((rowIndex + 1), (rowsHeights.length * 2)));
+			}
+
+			rowsHeights[rowIndex] = Math.max(rowsHeights[rowIndex], rowHeight);
+		}
+
+		private int getColumnCharsCount(int colIndex) {
+			return (colIndex < columnsCharsCounts.length) ? columnsCharsCounts[colIndex] : 0;
+		}
+
+		private double getRowHeight(int rowIndex) {
+			return (rowIndex < rowsHeights.length) ? rowsHeights[rowIndex] : 0;
+		}
+	}
+
+	/**
+	 * Writes rows streamed from matrices to sheets of ODS document written by
+	 * {@link ODSStreamingDocumentWriter}, one sheet per matrix.
+	 */
+	private class ODSRowSink implements EMFExportRowSink {
+		private final Map<Object, Object> exportOptions;
+		private final ODSStreamingDocumentWriter documentWriter;
+
+		private int columnsCount;
+		private ODSSheetDimensionsTracker sheetDimensionsTracker;
+
+		private ODSRowSink(Map<Object, Object> exportOptions, ODSStreamingDocumentWriter documentWriter) {
+			this.exportOptions = exportOptions;
+			this.documentWriter = documentWriter;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#startMatrix(java.lang.String, java.util.Map, int)
+		 */
+		@Override
+		public void startMatrix(String matrixName, Map<Integer, Object> columnHeaders, int rowsCount)
+				throws EMFExportException {
+			LOG.debug("Generating ODS sheet for matrix named '{}'", matrixName);
+
+			columnsCount = columnHeaders.size();
+
+			// row heights are written along with rows, so only column widths are
+			// tracked
+			sheetDimensionsTracker = new ODSSheetDimensionsTracker(0, columnsCount);
+
+			try {
+				documentWriter.startSheet(matrixName);
+
+				streamODSSheetColumnHeaders(columnHeaders, documentWriter, sheetDimensionsTracker);
+
+			} catch (IOException | XMLStreamException e) {
+				throw new EMFExportException(e);
+			}
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#writeRow(java.lang.String, int, java.util.Map)
+		 */
+		@Override
+		public void writeRow(String matrixName, int rowKey, Map<Integer, Object> row) throws EMFExportException {
+			try {
+				streamODSSheetRowWithData(row, exportOptions, documentWriter, sheetDimensionsTracker);
+
+			} catch (XMLStreamException e) {
+				throw new EMFExportException(e);
+			}
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#endMatrix(java.lang.String)
+		 */
+		@Override
+		public void endMatrix(String matrixName) throws EMFExportException {
+			try {
+				documentWriter.endSheet(columnsCount, (adjustColumnWidthEnabled(exportOptions)
+						? calculateColumnsWidths(columnsCount, sheetDimensionsTracker)
+						: null));
+
+			} catch (IOException | XMLStreamException e) {
+				throw new EMFExportException(e);
+			}
+
+			sheetDimensionsTracker = null;
+		}
+	}
+
+	/**
+	 * Writes ODS document using StAX, without constructing its model in memory.
+	 * 
+	 * Rows of each sheet are written to temporary file, which is copied to
+	 * document's content once document is saved - preceded by sheet's columns,
+	 * and styles of rows and columns used in all sheets, as those are only known
+	 * once all rows were written. Sheets which are linked to, but were not
+	 * written, are added to document empty.
+	 */
+	private static final class ODSStreamingDocumentWriter implements Closeable {
+
+		private static final String MIMETYPE = "application/vnd.oasis.opendocument.spreadsheet";
+		private static final String ODF_VERSION = "1.2";
+
+		private static final String OFFICE_NS = "urn:oasis:names:tc:opendocument:xmlns:office:1.0";
+		private static final String STYLE_NS = "urn:oasis:names:tc:opendocument:xmlns:style:1.0";
+		private static final String TEXT_NS = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+		private static final String TABLE_NS = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+		private static final String FO_NS = "urn:oasis:names:tc:opendocument:xmlns:xsl-fo-compatible:1.0";
+		private static final String NUMBER_NS = "urn:oasis:names:tc:opendocument:xmlns:datastyle:1.0";
+		private static final String XLINK_NS = "http://www.w3.org/1999/xlink";
+		private static final String MANIFEST_NS = "urn:oasis:names:tc:opendocument:xmlns:manifest:1.0";
+
+		private static final String HEADER_CELL_STYLE_NAME = "ce-header";
+		private static final String WRAPPED_CELL_STYLE_NAME = "ce-wrapped";
+		private static final String DATE_CELL_STYLE_NAME = "ce-date";
+		private static final String DATE_DATA_STYLE_NAME = "N-date";
+
+		private static final DateTimeFormatter DATE_VALUE_FORMATTER = DateTimeFormatter
+				.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+		private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+
+		private final List<ODSStreamedSheet> sheets = new ArrayList<>();
+		// names of sheets, in order sheets are first started or linked to - same
+		// as order sheets are appended to document in, when it is not streamed
+		private final Set<String> sheetNames = new LinkedHashSet<>();
+
+		private final Map<Double, String> columnStyleNames = new LinkedHashMap<>();
+		private final Map<Double, String> rowStyleNames = new LinkedHashMap<>();
+
+		private ODSStreamedSheet sheet;
+		private OutputStream sheetOutputStream;
+		private XMLStreamWriter sheetWriter;
+
+		private void startSheet(String sheetName) throws IOException, XMLStreamException {
+			sheet = new ODSStreamedSheet(sheetName, Files.createTempFile("emf-ods-sheet", ".xml"));
+			sheets.add(sheet);
+			sheetNames.add(sheetName);
+
+			sheetOutputStream = new BufferedOutputStream(Files.newOutputStream(sheet.rowsFile));
+			sheetWriter = xmlOutputFactory.createXMLStreamWriter(sheetOutputStream, StandardCharsets.UTF_8.name());
+		}
+
+		private void startRow(double rowHeight) throws XMLStreamException {
+			sheetWriter.writeStartElement("table", "table-row", TABLE_NS);
+
+			if (rowHeight > 0) {
+				sheetWriter.writeAttribute("table", TABLE_NS, "style-name",
+						getStyleName(rowStyleNames, "ro", rowHeight));
+			}
+		}
+
+		private void writeHeaderCell(String value) throws XMLStreamException {
+			sheetWriter.writeStartElement("table", "table-cell", TABLE_NS);
+			sheetWriter.writeAttribute("table", TABLE_NS, "style-name", HEADER_CELL_STYLE_NAME);
+			sheetWriter.writeAttribute("office", OFFICE_NS, "value-type", "string");
+			writeParagraphs(sheetWriter, value);
+			sheetWriter.writeEndElement();
+		}
+
+		private void writeStringCell(String value, boolean wrapped) throws XMLStreamException {
+			sheetWriter.writeStartElement("table", "table-cell", TABLE_NS);
+
+			if (wrapped) {
+				sheetWriter.writeAttribute("table", TABLE_NS, "style-name", WRAPPED_CELL_STYLE_NAME);
+			}
+
+			sheetWriter.writeAttribute("office", OFFICE_NS, "value-type", "string");
+			writeParagraphs(sheetWriter, value);
+			sheetWriter.writeEndElement();
+		}
+
+		private void writeLinkedValuesCell(List<String> linkedValues, String linkedSheetName)
+				throws XMLStreamException {
+			sheetNames.add(linkedSheetName);
+
+			sheetWriter.writeStartElement("table", "table-cell", TABLE_NS);
+			sheetWriter.writeAttribute("office", OFFICE_NS, "value-type", "string");
+
+			for (String linkedValue : linkedValues) {
+				sheetWriter.writeStartElement("text", "p", TEXT_NS);
+				sheetWriter.writeStartElement("text", "a", TEXT_NS);
+				sheetWriter.writeAttribute("xlink", XLINK_NS, "type", "simple");
+				sheetWriter.writeAttribute("xlink", XLINK_NS, "href",
+						constructSheetHref(linkedSheetName).toString());
+				writeText(sheetWriter, linkedValue);
+				sheetWriter.writeEndElement();
+				sheetWriter.writeEndElement();
+			}
+
+			sheetWriter.writeEndElement();
+		}
+
+		/*
+		 * Dates are written as date cells, in default time zone and of seconds
+		 * precision - unlike SODS, which writes those as text, when document is not
+		 * streamed.
+		 */
+		private void writeDateCell(Date value) throws XMLStreamException {
+			String dateValue = DATE_VALUE_FORMATTER
+					.format(LocalDateTime.ofInstant(value.toInstant(), ZoneId.systemDefault()));
+
+			sheetWriter.writeStartElement("table", "table-cell", TABLE_NS);
+			sheetWriter.writeAttribute("table", TABLE_NS, "style-name", DATE_CELL_STYLE_NAME);
+			sheetWriter.writeAttribute("office", OFFICE_NS, "value-type", "date");
+			sheetWriter.writeAttribute("office", OFFICE_NS, "date-value", dateValue);
+			writeParagraphs(sheetWriter, dateValue.replace('T', ' '));
+			sheetWriter.writeEndElement();
+		}
+
+		private void writeFloatCell(float value) throws XMLStreamException {
+			sheetWriter.writeStartElement("table", "table-cell", TABLE_NS);
+			sheetWriter.writeAttribute("office", OFFICE_NS, "value-type", "float");
+			sheetWriter.writeAttribute("office", OFFICE_NS, "value", String.valueOf(value));
+			writeParagraphs(sheetWriter, String.valueOf(value));
+			sheetWriter.writeEndElement();
+		}
+
+		private void writeBooleanCell(boolean value) throws XMLStreamException {
+			sheetWriter.writeStartElement("table", "table-cell", TABLE_NS);
+			sheetWriter.writeAttribute("office", OFFICE_NS, "value-type", "boolean");
+			sheetWriter.writeAttribute("office", OFFICE_NS, "boolean-value", String.valueOf(value));
+			writeParagraphs(sheetWriter, String.valueOf(value));
+			sheetWriter.writeEndElement();
+		}
+
+		private void writeEmptyCell() throws XMLStreamException {
+			sheetWriter.writeEmptyElement("table", "table-cell", TABLE_NS);
+		}
+
+		private void endRow() throws XMLStreamException {
+			sheetWriter.writeEndElement();
+		}
+
+		/**
+		 * Ends current sheet.
+		 * 
+		 * @param columnsCount
+		 * @param columnsWidths widths of columns, in millimeters, or null, if
+		 *                      default widths should be used
+		 * @throws IOException
+		 * @throws XMLStreamException
+		 */
+		private void endSheet(int columnsCount, double[] columnsWidths) throws IOException, XMLStreamException {
+			closeSheetWriter();
+
+			sheet.columnsCount = columnsCount;
+
+			if (columnsWidths != null) {
+				sheet.columnsStyleNames = new String[columnsWidths.length];
+
+				for (int colIndex = 0; colIndex < columnsWidths.length; colIndex++) {
+					sheet.columnsStyleNames[colIndex] = getStyleName(columnStyleNames, "co", columnsWidths[colIndex]);
+				}
+			}
+
+			sheet = null;
+		}
+
+		private void save(OutputStream outputStream) throws IOException, XMLStreamException {
+			try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+				// mimetype has to be first entry of document, stored uncompressed
+				writeMimetypeEntry(zipOutputStream);
+
+				writeXMLEntry(zipOutputStream, "META-INF/manifest.xml", this::writeManifest);
+
+				writeXMLEntry(zipOutputStream, "styles.xml", this::writeStyles);
+
+				writeXMLEntry(zipOutputStream, "content.xml", this::writeContent);
+			}
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.io.Closeable#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			try {
+				closeSheetWriter();
+
+			} catch (XMLStreamException e) {
+				throw new IOException(e);
+
+			} finally {
+				for (ODSStreamedSheet streamedSheet : sheets) {
+					Files.deleteIfExists(streamedSheet.rowsFile);
+				}
+			}
+		}
+
+		private void closeSheetWriter() throws IOException, XMLStreamException {
+			if (sheetWriter != null) {
+				try {
+					sheetWriter.close();
+
+				} finally {
+					sheetWriter = null;
+
+					sheetOutputStream.close();
+					sheetOutputStream = null;
+				}
+			}
+		}
+
+		private String getStyleName(Map<Double, String> styleNames, String styleNamePrefix, double size) {
+			return styleNames.computeIfAbsent(size, s -> styleNamePrefix + styleNames.size());
+		}
+
+		private void writeMimetypeEntry(ZipOutputStream zipOutputStream) throws IOException {
+			byte[] mimetype = MIMETYPE.getBytes(StandardCharsets.US_ASCII);
+
+			CRC32 crc = new CRC32();
+			crc.update(mimetype);
+
+			ZipEntry zipEntry = new ZipEntry("mimetype");
+			zipEntry.setMethod(ZipEntry.STORED);
+			zipEntry.setSize(mimetype.length);
+			zipEntry.setCompressedSize(mimetype.length);
+			zipEntry.setCrc(crc.getValue());
+
+			zipOutputStream.putNextEntry(zipEntry);
+			zipOutputStream.write(mimetype);
+			zipOutputStream.closeEntry();
+		}
+
+		private void writeXMLEntry(ZipOutputStream zipOutputStream, String entryName, XMLEntryContentWriter contentWriter)
+				throws IOException, XMLStreamException {
+			zipOutputStream.putNextEntry(new ZipEntry(entryName));
+
+			XMLStreamWriter writer = xmlOutputFactory.createXMLStreamWriter(zipOutputStream,
+					StandardCharsets.UTF_8.name());
+
+			writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+
+			contentWriter.write(writer, zipOutputStream);
+
+			writer.writeEndDocument();
+			writer.flush();
+
+			// closing writer does not close underlying stream
+			writer.close();
+
+			zipOutputStream.closeEntry();
+		}
+
+		private void writeManifest(XMLStreamWriter writer, OutputStream outputStream) throws XMLStreamException {
+			writer.writeStartElement("manifest", "manifest", MANIFEST_NS);
+			writer.writeNamespace("manifest", MANIFEST_NS);
+			writer.writeAttribute("manifest", MANIFEST_NS, "version", ODF_VERSION);
+
+			writeManifestFileEntry(writer, "/", MIMETYPE);
+			writeManifestFileEntry(writer, "content.xml", "text/xml");
+			writeManifestFileEntry(writer, "styles.xml", "text/xml");
+
+			writer.writeEndElement();
+		}
+
+		private void writeManifestFileEntry(XMLStreamWriter writer, String fullPath, String mediaType)
+				throws XMLStreamException {
+			writer.writeEmptyElement("manifest", "file-entry", MANIFEST_NS);
+			writer.writeAttribute("manifest", MANIFEST_NS, "full-path", fullPath);
+			writer.writeAttribute("manifest", MANIFEST_NS, "media-type", mediaType);
+
+			if ("/".equals(fullPath)) {
+				writer.writeAttribute("manifest", MANIFEST_NS, "version", ODF_VERSION);
+			}
+		}
+
+		private void writeStyles(XMLStreamWriter writer, OutputStream outputStream) throws XMLStreamException {
+			writer.writeStartElement("office", "document-styles", OFFICE_NS);
+			writer.writeNamespace("office", OFFICE_NS);
+			writer.writeAttribute("office", OFFICE_NS, "version", ODF_VERSION);
+			writer.writeEndElement();
+		}
+
+		private void writeContent(XMLStreamWriter writer, OutputStream outputStream)
+				throws IOException, XMLStreamException {
+			writer.writeStartElement("office", "document-content", OFFICE_NS);
+			writer.writeNamespace("office", OFFICE_NS);
+			writer.writeNamespace("style", STYLE_NS);
+			writer.writeNamespace("text", TEXT_NS);
+			writer.writeNamespace("table", TABLE_NS);
+			writer.writeNamespace("fo", FO_NS);
+			writer.writeNamespace("number", NUMBER_NS);
+			writer.writeNamespace("xlink", XLINK_NS);
+			writer.writeAttribute("office", OFFICE_NS, "version", ODF_VERSION);
+
+			writeAutomaticStyles(writer);
+
+			writer.writeStartElement("office", "body", OFFICE_NS);
+			writer.writeStartElement("office", "spreadsheet", OFFICE_NS);
+
+			Map<String, ODSStreamedSheet> sheetNameToStreamedSheetMap = new HashMap<>();
+
+			for (ODSStreamedSheet streamedSheet : sheets) {
+				sheetNameToStreamedSheetMap.put(streamedSheet.sheetName, streamedSheet);
+			}
+
+			// sheets which are linked to, but were not streamed, are written empty
+			for (String sheetName : sheetNames) {
+				ODSStreamedSheet streamedSheet = sheetNameToStreamedSheetMap.get(sheetName);
+
+				if (streamedSheet != null) {
+					writeSheet(writer, outputStream, streamedSheet);
+				} else {
+					writeEmptySheet(writer, sheetName);
+				}
+			}
+
+			writer.writeEndElement();
+			writer.writeEndElement();
+			writer.writeEndElement();
+		}
+
+		private void writeAutomaticStyles(XMLStreamWriter writer) throws XMLStreamException {
+			writer.writeStartElement("office", "automatic-styles", OFFICE_NS);
+
+			writer.writeStartElement("number", "date-style", NUMBER_NS);
+			writer.writeAttribute("style", STYLE_NS, "name", DATE_DATA_STYLE_NAME);
+			writeDateStylePart(writer, "year");
+			writeDateStyleText(writer, "-");
+			writeDateStylePart(writer, "month");
+			writeDateStyleText(writer, "-");
+			writeDateStylePart(writer, "day");
+			writeDateStyleText(writer, " ");
+			writeDateStylePart(writer, "hours");
+			writeDateStyleText(writer, ":");
+			writeDateStylePart(writer, "minutes");
+			writeDateStyleText(writer, ":");
+			writeDateStylePart(writer, "seconds");
+			writer.writeEndElement();
+
+			writer.writeStartElement("style", "style", STYLE_NS);
+			writer.writeAttribute("style", STYLE_NS, "name", HEADER_CELL_STYLE_NAME);
+			writer.writeAttribute("style", STYLE_NS, "family", "table-cell");
+			writer.writeEmptyElement("style", "table-cell-properties", STYLE_NS);
+			writer.writeAttribute("fo", FO_NS, "background-color", HEADER_BACKGROUND_COLOR);
+			writer.writeEmptyElement("style", "paragraph-properties", STYLE_NS);
+			writer.writeAttribute("fo", FO_NS, "text-align", "center");
+			writer.writeEmptyElement("style", "text-properties", STYLE_NS);
+			writer.writeAttribute("fo", FO_NS, "font-weight", "bold");
+			writer.writeAttribute("fo", FO_NS, "color", HEADER_FONT_COLOR);
+			writer.writeEndElement();
+
+			writer.writeStartElement("style", "style", STYLE_NS);
+			writer.writeAttribute("style", STYLE_NS, "name", WRAPPED_CELL_STYLE_NAME);
+			writer.writeAttribute("style", STYLE_NS, "family", "table-cell");
+			writer.writeEmptyElement("style", "table-cell-properties", STYLE_NS);
+			writer.writeAttribute("fo", FO_NS, "wrap-option", "wrap");
+			writer.writeEndElement();
+
+			writer.writeStartElement("style", "style", STYLE_NS);
+			writer.writeAttribute("style", STYLE_NS, "name", DATE_CELL_STYLE_NAME);
+			writer.writeAttribute("style", STYLE_NS, "family", "table-cell");
+			writer.writeAttribute("style", STYLE_NS, "data-style-name", DATE_DATA_STYLE_NAME);
+			writer.writeEndElement();
+
+			for (Map.Entry<Double, String> columnStyleName : columnStyleNames.entrySet()) {
+				writer.writeStartElement("style", "style", STYLE_NS);
+				writer.writeAttribute("style", STYLE_NS, "name", columnStyleName.getValue());
+				writer.writeAttribute("style", STYLE_NS, "family", "table-column");
+				writer.writeEmptyElement("style", "table-column-properties", STYLE_NS);
+				writer.writeAttribute("style", STYLE_NS, "column-width", columnStyleName.getKey() + "mm");
+				writer.writeEndElement();
+			}
+
+			for (Map.Entry<Double, String> rowStyleName : rowStyleNames.entrySet()) {
+				writer.writeStartElement("style", "style", STYLE_NS);
+				writer.writeAttribute("style", STYLE_NS, "name", rowStyleName.getValue());
+				writer.writeAttribute("style", STYLE_NS, "family", "table-row");
+				writer.writeEmptyElement("style", "table-row-properties", STYLE_NS);
+				writer.writeAttribute("style", STYLE_NS, "row-height", rowStyleName.getKey() + "mm");
+				writer.writeEndElement();
+			}
+
+			writer.writeEndElement();
+		}
+
+		private void writeDateStylePart(XMLStreamWriter writer, String part) throws XMLStreamException {
+			writer.writeEmptyElement("number", part, NUMBER_NS);
+			writer.writeAttribute("number", NUMBER_NS, "style", "long");
+		}
+
+		private void writeDateStyleText(XMLStreamWriter writer, String text) throws XMLStreamException {
+			writer.writeStartElement("number", "text", NUMBER_NS);
+			writer.writeCharacters(text);
+			writer.writeEndElement();
+		}
+
+		private void writeSheet(XMLStreamWriter writer, OutputStream outputStream, ODSStreamedSheet streamedSheet)
+				throws IOException, XMLStreamException {
+			writer.writeStartElement("table", "table", TABLE_NS);
+			writer.writeAttribute("table", TABLE_NS, "name", streamedSheet.sheetName);
+
+			if (streamedSheet.columnsStyleNames != null) {
+				for (String columnStyleName : streamedSheet.columnsStyleNames) {
+					writer.writeEmptyElement("table", "table-column", TABLE_NS);
+					writer.writeAttribute("table", TABLE_NS, "style-name", columnStyleName);
+				}
+
+			} else {
+				writer.writeEmptyElement("table", "table-column", TABLE_NS);
+				writer.writeAttribute("table", TABLE_NS, "number-columns-repeated",
+						String.valueOf(Math.max(1, streamedSheet.columnsCount)));
+			}
+
+			// rows are copied as is, once start tag of last element is closed
+			writer.writeCharacters("");
+			writer.flush();
+
+			Files.copy(streamedSheet.rowsFile, outputStream);
+
+			writer.writeEndElement();
+		}
+
+		private void writeEmptySheet(XMLStreamWriter writer, String sheetName) throws XMLStreamException {
+			writer.writeStartElement("table", "table", TABLE_NS);
+			writer.writeAttribute("table", TABLE_NS, "name", sheetName);
+			writer.writeEmptyElement("table", "table-column", TABLE_NS);
+			writer.writeEmptyElement("table", "table-row", TABLE_NS);
+			writer.writeEndElement();
+		}
+
+		/*
+		 * Each line of text is written as separate paragraph; consecutive spaces
+		 * and tabs, which would otherwise be collapsed, are written as elements.
+		 */
+		private static void writeParagraphs(XMLStreamWriter writer, String text) throws XMLStreamException {
+			int lineStart = 0;
+			int lineEnd;
+
+			while ((lineEnd = text.indexOf('\n', lineStart)) >= 0) {
+				writeParagraph(writer, text.substring(lineStart,
+						((lineEnd > lineStart) && (text.charAt(lineEnd - 1) == '\r')) ? (lineEnd - 1) : lineEnd));
+
+				lineStart = (lineEnd + 1);
+			}
+
+			writeParagraph(writer, text.substring(lineStart));
+		}
+
+		private static void writeParagraph(XMLStreamWriter writer, String line) throws XMLStreamException {
+			writer.writeStartElement("text", "p", TEXT_NS);
+			writeText(writer, line);
+			writer.writeEndElement();
+		}
+
+		private static void writeText(XMLStreamWriter writer, String text) throws XMLStreamException {
+			int segmentStart = 0;
+
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+
+				if (c == '\t') {
+					writer.writeCharacters(text.substring(segmentStart, i));
+					writer.writeEmptyElement("text", "tab", TEXT_NS);
+					segmentStart = (i + 1);
+
+				} else if ((c == ' ') && ((i == 0) || (text.charAt(i - 1) == ' ') || (i == text.length() - 1))) {
+					int spacesEnd = i;
+
+					while ((spacesEnd < text.length()) && (text.charAt(spacesEnd) == ' ')) {
+						spacesEnd++;
+					}
+
+					writer.writeCharacters(text.substring(segmentStart, i));
+					writer.writeEmptyElement("text", "s", TEXT_NS);
+
+					if ((spacesEnd - i) > 1) {
+						writer.writeAttribute("text", TEXT_NS, "c", String.valueOf(spacesEnd - i));
+					}
+
+					segmentStart = spacesEnd;
+					i = (spacesEnd - 1);
+				}
+			}
+
+			writer.writeCharacters(text.substring(segmentStart));
+		}
+
+		@FunctionalInterface
+		private interface XMLEntryContentWriter {
+			void write(XMLStreamWriter writer, OutputStream outputStream) throws IOException, XMLStreamException;
+		}
+
+		private static final class ODSStreamedSheet {
+			private final String sheetName;
+			private final Path rowsFile;
+
+			private int columnsCount;
+			private String[] columnsStyleNames;
+
+			private ODSStreamedSheet(String sheetName, Path rowsFile) {
+				this.sheetName = sheetName;
+				this.rowsFile = rowsFile;
+			}
+		}
+	}
 }
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.parquet.api;
+
+import org.gecko.emf.exporter.EMFExportOptions;
+
+/**
+ * Parquet export options.
+ * 
+ * Each Parquet file is written as single row group, therefore streaming (see
+ * {@link EMFExportOptions#OPTION_STREAMING}) does not bound memory used by
+ * Parquet exporter: rows are not kept as matrix, but values of all rows of
+ * matrix are still collected in memory, column by column, before its Parquet
+ * file is written. Parquet files themselves are written to temporary files
+ * before those are stored in ZIP archive.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public interface EMFParquetExportOptions extends EMFExportOptions {
+
+	// compression codec of Parquet files' pages (defaults to
+	// EMFParquetCompressionCodec.GZIP); Parquet files are stored in ZIP archive as
+	// they are, unless UNCOMPRESSED codec is used
+	String OPTION_COMPRESSION_CODEC = "COMPRESSION_CODEC";
+
+	// compression level of GZIP compression codec, from 0 (no compression) to 9
+	// (best compression) (defaults to -1, i.e. default compression level)
+	String OPTION_COMPRESSION_LEVEL = "COMPRESSION_LEVEL";
+}
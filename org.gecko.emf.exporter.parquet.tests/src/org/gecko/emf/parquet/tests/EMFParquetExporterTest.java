@@ -0,0 +1,526 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.parquet.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gecko.emf.parquet.tests.helper.EMFParquetExporterTestHelper.createBusinessPerson;
+import static org.gecko.emf.parquet.tests.helper.EMFParquetExporterTestHelper.createFlintstonesFamily;
+import static org.gecko.emf.parquet.tests.helper.EMFParquetExporterTestHelper.createInteropPersons;
+import static org.gecko.emf.parquet.tests.helper.EMFParquetExporterTestHelper.createRequest;
+import static org.gecko.emf.parquet.tests.helper.EMFParquetExporterTestHelper.createSimpsonFamily;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.gecko.emf.exporter.EMFExportOptions;
+import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.exporter.parquet.api.EMFParquetCompressionCodec;
+import org.gecko.emf.exporter.parquet.api.EMFParquetExportOptions;
+import org.gecko.emf.exporter.parquet.api.annotations.RequireEMFParquetExporter;
+import org.gecko.emf.osgi.annotation.require.RequireEMF;
+import org.gecko.emf.osgi.example.model.basic.BasicFactory;
+import org.gecko.emf.osgi.example.model.basic.BasicPackage;
+import org.gecko.emf.osgi.example.model.basic.BusinessPerson;
+import org.gecko.emf.osgi.example.model.basic.Family;
+import org.gecko.emf.osgi.example.model.basic.Person;
+import org.gecko.emf.parquet.tests.helper.ParquetFileReader;
+import org.gecko.emf.parquet.tests.helper.ParquetFileReader.ParquetColumn;
+import org.gecko.emf.parquet.tests.helper.ParquetFileReader.ParquetFile;
+import org.gecko.emf.parquet.tests.helper.ParquetFileReader.SchemaElement;
+import org.gecko.emf.utilities.Request;
+import org.gecko.emf.utilities.UtilitiesFactory;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.commons.annotation.Testable;
+import org.osgi.framework.ServiceReference;
+import org.osgi.test.common.annotation.InjectService;
+import org.osgi.test.common.service.ServiceAware;
+import org.osgi.test.junit5.context.BundleContextExtension;
+import org.osgi.test.junit5.service.ServiceExtension;
+
+import trees.TreesPackage;
+
+/**
+ * EMF Parquet exporter integration test.
+ *
+ * @author Michal H. Siemaszko
+ */
+@Testable
+@ExtendWith(BundleContextExtension.class)
+@ExtendWith(ServiceExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@RequireEMFParquetExporter
+@RequireEMF
+public class EMFParquetExporterTest {
+
+	private static final String TREES_DATASET_XMI = System.getProperty("TREES_DATASET_XMI");
+
+	private static final String INTEROP_PERSON_PARQUET = System.getProperty("INTEROP_PERSON_PARQUET");
+
+	private static final byte[] PARQUET_FILE_MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+	@Order(value = -1)
+	@Test
+	public void testServices(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware) {
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		ServiceReference<EMFExporter> emfParquetExporterReference = emfParquetExporterAware.getServiceReference();
+		assertThat(emfParquetExporterReference).isNotNull();
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToParquet(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		EMFExporter emfParquetExporterService = emfParquetExporterAware.getService();
+		assertThat(emfParquetExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToParquet", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfParquetExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+//						EMFParquetExportOptions.OPTION_COMPRESSION_CODEC, EMFParquetCompressionCodec.GZIP // defaults to GZIP
+					)
+				);
+		// @formatter:on
+
+		assertParquetFiles(filePath);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToParquetParallelismEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		EMFExporter emfParquetExporterService = emfParquetExporterAware.getService();
+		assertThat(emfParquetExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToParquetParallelismEnabled", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfParquetExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_PARALLELISM, 4 // defaults to 1
+					)
+				);
+		// @formatter:on
+
+		assertParquetFiles(filePath);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToParquetStreamingEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		EMFExporter emfParquetExporterService = emfParquetExporterAware.getService();
+		assertThat(emfParquetExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToParquetStreamingEnabled", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfParquetExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_STREAMING, true // defaults to false
+					)
+				);
+		// @formatter:on
+
+		assertParquetFiles(filePath);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToParquetCompressionDisabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		EMFExporter emfParquetExporterService = emfParquetExporterAware.getService();
+		assertThat(emfParquetExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToParquetCompressionDisabled", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfParquetExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, false, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFParquetExportOptions.OPTION_COMPRESSION_CODEC, EMFParquetCompressionCodec.UNCOMPRESSED // defaults to GZIP
+					)
+				);
+		// @formatter:on
+
+		assertParquetFiles(filePath);
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToParquetReadBack(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		EMFExporter emfParquetExporterService = emfParquetExporterAware.getService();
+		assertThat(emfParquetExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		// person without relatives, whose many-reference value should be read back as empty list
+		Person stonyFlintstone = flintstonesFamily.getChildren().get(1);
+		stonyFlintstone.getRelatives().clear();
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToParquetReadBack", ".zip");
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+			// @formatter:off
+			emfParquetExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily), fileOutputStream,
+					Map.of(
+							EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+							EMFExportOptions.OPTION_ADD_MAPPING_TABLE, false // defaults to false
+						)
+					);
+			// @formatter:on
+		}
+
+		Map<String, byte[]> parquetFiles = readParquetFiles(filePath);
+		assertThat(parquetFiles).containsKey("Person.parquet");
+
+		ParquetFile personParquetFile = ParquetFileReader.read(parquetFiles.get("Person.parquet"));
+
+		// @formatter:off
+		Map<String, Person> personsById = Stream.of(simpsonFamily, flintstonesFamily)
+				.flatMap(family -> Stream.concat(Stream.of(family.getFather(), family.getMother()), family.getChildren().stream()))
+				.collect(Collectors.toMap(Person::getId, Function.identity()));
+		// @formatter:on
+
+		assertThat(personParquetFile.getRowsCount()).isEqualTo(personsById.size());
+
+		// schema
+		SchemaElement genderSchemaElement = personParquetFile.getSchemaElement("gender");
+		assertThat(genderSchemaElement.getType()).isEqualTo(ParquetFileReader.TYPE_BYTE_ARRAY);
+		assertThat(genderSchemaElement.getRepetitionType()).isEqualTo(ParquetFileReader.REPETITION_OPTIONAL);
+		assertThat(genderSchemaElement.getConvertedType()).isEqualTo(ParquetFileReader.CONVERTED_TYPE_ENUM);
+
+		SchemaElement bigIntSchemaElement = personParquetFile.getSchemaElement("bigInt");
+		assertThat(bigIntSchemaElement.getType()).isEqualTo(ParquetFileReader.TYPE_BYTE_ARRAY);
+		assertThat(bigIntSchemaElement.getConvertedType()).isEqualTo(ParquetFileReader.CONVERTED_TYPE_UTF8);
+
+		SchemaElement relativesSchemaElement = personParquetFile.getSchemaElement("relatives._ref");
+		assertThat(relativesSchemaElement.getType()).isNull();
+		assertThat(relativesSchemaElement.getConvertedType()).isEqualTo(ParquetFileReader.CONVERTED_TYPE_LIST);
+		assertThat(relativesSchemaElement.getChildrenCount()).isEqualTo(1);
+
+		// values
+		ParquetColumn idColumn = personParquetFile.getColumn("id");
+		ParquetColumn firstNameColumn = personParquetFile.getColumn("firstName");
+		ParquetColumn genderColumn = personParquetFile.getColumn("gender");
+		ParquetColumn bigIntColumn = personParquetFile.getColumn("bigInt");
+		ParquetColumn relativesColumn = personParquetFile.getColumn("relatives._ref");
+
+		// enum values are dictionary encoded, dictionary holding literals in order of declaration
+		// @formatter:off
+		assertThat(genderColumn.getDictionary()).containsExactlyElementsOf(basicPackage.getGenderType().getELiterals().stream()
+				.map(EEnumLiteral::getLiteral)
+				.collect(Collectors.toList()));
+		// @formatter:on
+
+		assertThat(relativesColumn.getPath()).containsExactly("relatives._ref", "list", "element");
+
+		assertThat(idColumn.getValues()).containsExactlyInAnyOrderElementsOf(personsById.keySet());
+
+		for (int i = 0; i < idColumn.getValues().size(); i++) {
+			Person person = personsById.get(idColumn.getValues().get(i));
+
+			assertThat(firstNameColumn.getValues().get(i)).isEqualTo(person.getFirstName());
+			assertThat(genderColumn.getValues().get(i)).isEqualTo(person.getGender().getLiteral());
+			assertThat(bigIntColumn.getValues().get(i))
+					.isEqualTo((person.getBigInt() != null) ? person.getBigInt().toString() : null);
+			assertThat(relativesColumn.getValues().get(i))
+					.isEqualTo(person.getRelatives().stream().map(Person::getId).collect(Collectors.toList()));
+		}
+
+		assertThat(bigIntColumn.getValues()).contains((Object) null);
+		assertThat(relativesColumn.getValues().get(idColumn.getValues().indexOf(stonyFlintstone.getId())))
+				.isEqualTo(List.of());
+	}
+
+	/*
+	 * Reference file was written by Apache Parquet (parquet-mr) from rows it read
+	 * from file exported from same persons, using plain encoding and no
+	 * dictionaries; exported file should hold same schema and same values.
+	 */
+	@Test
+	public void testExportDynamicModelEObjectsToParquetSameAsReferenceFile(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware)
+			throws Exception {
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		EMFExporter emfParquetExporterService = emfParquetExporterAware.getService();
+		assertThat(emfParquetExporterService).isNotNull();
+
+		ParquetFile referenceParquetFile = ParquetFileReader
+				.read(Files.readAllBytes(Path.of(INTEROP_PERSON_PARQUET)));
+		assertThat(referenceParquetFile.getCreatedBy()).startsWith("parquet-mr");
+
+		for (boolean streaming : new boolean[] { false, true }) {
+			Path filePath = Files.createTempFile("testExportDynamicModelEObjectsToParquetSameAsReferenceFile", ".zip");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+				// @formatter:off
+				emfParquetExporterService.exportEObjectsTo(createInteropPersons(), fileOutputStream,
+						Map.of(
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true,
+								EMFExportOptions.OPTION_EXPORT_METADATA, false,
+								EMFExportOptions.OPTION_ADD_MAPPING_TABLE, false,
+								EMFExportOptions.OPTION_SHOW_URIS, false,
+								EMFExportOptions.OPTION_STREAMING, streaming
+							)
+						);
+				// @formatter:on
+			}
+
+			Map<String, byte[]> parquetFiles = readParquetFiles(filePath);
+			assertThat(parquetFiles).containsOnlyKeys("Person.parquet");
+
+			ParquetFile personParquetFile = ParquetFileReader.read(parquetFiles.get("Person.parquet"));
+
+			// schema
+			assertThat(personParquetFile.getSchemaElements()).usingRecursiveFieldByFieldElementComparator()
+					.containsExactlyElementsOf(referenceParquetFile.getSchemaElements());
+
+			// values
+			assertThat(personParquetFile.getRowsCount()).isEqualTo(referenceParquetFile.getRowsCount());
+			assertThat(personParquetFile.getColumnNames())
+					.containsExactlyElementsOf(referenceParquetFile.getColumnNames());
+
+			for (String columnName : referenceParquetFile.getColumnNames()) {
+				ParquetColumn column = personParquetFile.getColumn(columnName);
+				ParquetColumn referenceColumn = referenceParquetFile.getColumn(columnName);
+
+				assertThat(column.getPath()).isEqualTo(referenceColumn.getPath());
+				assertThat(column.getPhysicalType()).isEqualTo(referenceColumn.getPhysicalType());
+				assertThat(column.getValues()).as(columnName).isEqualTo(referenceColumn.getValues());
+			}
+
+			assertThat(personParquetFile.getColumn("age").getValues()).containsExactly(20, 30, 40, 50);
+			assertThat(personParquetFile.getColumn("birthDate").getValues()).containsExactly(631182600000L,
+					717582600000L, 803982600000L, null);
+			assertThat(personParquetFile.getColumn("friends._ref").getValues()).containsExactly(
+					List.of("person_1", "person_2"), List.of("person_0"), List.of(), List.of());
+		}
+	}
+
+	@Test
+	public void testExportUtilModelEObjectsToParquet(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware)
+			throws Exception {
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		EMFExporter emfParquetExporterService = emfParquetExporterAware.getService();
+		assertThat(emfParquetExporterService).isNotNull();
+
+		Request request1 = createRequest(UtilitiesFactory.eINSTANCE);
+
+		Request request2 = createRequest(UtilitiesFactory.eINSTANCE);
+
+		Request request3 = createRequest(UtilitiesFactory.eINSTANCE);
+
+		Path filePath = Files.createTempFile("testExportUtilModelEObjectsToParquet", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfParquetExporterService.exportEObjectsTo(List.of(request1, request2, request3), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+					)
+				);
+		// @formatter:on
+
+		assertParquetFiles(filePath);
+	}
+
+	@Test
+	public void testExportTreesModelEObjectsToParquet(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFParquetExporter)") ServiceAware<EMFExporter> emfParquetExporterAware)
+			throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertThat(emfParquetExporterAware.getServices()).hasSize(1);
+		EMFExporter emfParquetExporterService = emfParquetExporterAware.getService();
+		assertThat(emfParquetExporterService).isNotNull();
+
+		// register model
+		EPackage.Registry packageRegistry = resourceSet.getPackageRegistry();
+		packageRegistry.put(TreesPackage.eNS_URI, TreesPackage.eINSTANCE);
+
+		// register xmi
+		Map<String, Object> extensionFactoryMap = Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap();
+		extensionFactoryMap.put("xmi", new XMIResourceFactoryImpl());
+
+		Resource resource = resourceSet.getResource(URI.createFileURI(new File(TREES_DATASET_XMI).getAbsolutePath()),
+				true);
+
+		Path filePath = Files.createTempFile("testExportTreesModelEObjectsToParquet", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfParquetExporterService.exportEObjectsTo(resource.getContents(), fileOutputStream,
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+					)
+				);
+		// @formatter:on
+
+		assertParquetFiles(filePath);
+	}
+
+	private Map<String, byte[]> readParquetFiles(Path filePath) throws Exception {
+		Map<String, byte[]> parquetFiles = new HashMap<>();
+
+		try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(filePath))) {
+			ZipEntry zipEntry;
+
+			while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+				parquetFiles.put(zipEntry.getName(), zipInputStream.readAllBytes());
+			}
+		}
+
+		return parquetFiles;
+	}
+
+	/*
+	 * Each entry of ZIP archive should be Parquet file, i.e. begin and end with
+	 * Parquet's magic number.
+	 */
+	private void assertParquetFiles(Path filePath) throws Exception {
+		int parquetFilesCount = 0;
+
+		try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(filePath))) {
+			ZipEntry zipEntry;
+
+			while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+				assertThat(zipEntry.getName()).endsWith(".parquet");
+
+				byte[] parquetFile = zipInputStream.readAllBytes();
+
+				assertThat(Arrays.copyOfRange(parquetFile, 0, 4)).isEqualTo(PARQUET_FILE_MAGIC);
+				assertThat(Arrays.copyOfRange(parquetFile, parquetFile.length - 4, parquetFile.length))
+						.isEqualTo(PARQUET_FILE_MAGIC);
+
+				parquetFilesCount++;
+			}
+		}
+
+		assertThat(parquetFilesCount).isPositive();
+	}
+}
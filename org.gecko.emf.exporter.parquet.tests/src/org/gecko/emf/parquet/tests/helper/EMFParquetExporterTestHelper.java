@@ -0,0 +1,499 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.parquet.tests.helper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.apache.commons.text.RandomStringGenerator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.ETypedElement;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.gecko.emf.osgi.example.model.basic.Address;
+import org.gecko.emf.osgi.example.model.basic.BasicFactory;
+import org.gecko.emf.osgi.example.model.basic.BasicPackage;
+import org.gecko.emf.osgi.example.model.basic.BusinessPerson;
+import org.gecko.emf.osgi.example.model.basic.Contact;
+import org.gecko.emf.osgi.example.model.basic.ContactContextType;
+import org.gecko.emf.osgi.example.model.basic.ContactType;
+import org.gecko.emf.osgi.example.model.basic.EmployeeInfo;
+import org.gecko.emf.osgi.example.model.basic.Family;
+import org.gecko.emf.osgi.example.model.basic.GenderType;
+import org.gecko.emf.osgi.example.model.basic.Person;
+import org.gecko.emf.osgi.example.model.basic.Tag;
+import org.gecko.emf.osgi.example.model.basic.util.BasicResourceFactoryImpl;
+import org.gecko.emf.utilities.Filter;
+import org.gecko.emf.utilities.Request;
+import org.gecko.emf.utilities.Sort;
+import org.gecko.emf.utilities.SortType;
+import org.gecko.emf.utilities.UtilitiesFactory;
+
+public class EMFParquetExporterTestHelper {
+
+	public static Request createRequest(UtilitiesFactory uf) {
+		Request request = uf.createRequest();
+
+		Instant now = Instant.now();
+
+		request.setId(UUID.randomUUID().toString());
+		request.setFrom(Date.from(now));
+		request.setTo(Date.from(now.plus(7, ChronoUnit.DAYS)));
+
+		Sort sort = uf.createSort();
+		sort.setIndex(0);
+		sort.setField("cartoon");
+		sort.setType(SortType.ASCENDING);
+
+		request.getSorting().add(sort);
+
+		Filter filter = uf.createFilter();
+		filter.setIndex(0);
+		filter.setField("cartoon");
+		filter.getValue().add("Simpsons");
+
+		request.getFiltering().add(filter);
+
+		return request;
+	}
+
+	public static Family createSimpsonFamily(BasicFactory bf) {
+		Family simpsonFamily = bf.createFamily();
+		simpsonFamily.setId("Simpsons");
+
+		Address address = createSimpsonsAddress(bf);
+
+		Person homerSimpson = createHomerSimpson(bf, address);
+		simpsonFamily.setFather(homerSimpson);
+
+		Person margeSimpson = createMargeSimpson(bf, address);
+		simpsonFamily.setMother(margeSimpson);
+
+		Person bartSimpson = createBartSimpson(bf, address);
+		simpsonFamily.getChildren().add(bartSimpson);
+
+		Person lisaSimpson = createLisaSimpson(bf, address);
+		simpsonFamily.getChildren().add(lisaSimpson);
+
+		Person maggieSimpson = createMaggieSimpson(bf, address);
+		simpsonFamily.getChildren().add(maggieSimpson);
+
+		homerSimpson.getRelatives().add(margeSimpson);
+		homerSimpson.getRelatives().add(bartSimpson);
+		homerSimpson.getRelatives().add(lisaSimpson);
+		homerSimpson.getRelatives().add(maggieSimpson);
+
+		margeSimpson.getRelatives().add(homerSimpson);
+		margeSimpson.getRelatives().add(bartSimpson);
+		margeSimpson.getRelatives().add(lisaSimpson);
+		margeSimpson.getRelatives().add(maggieSimpson);
+
+		bartSimpson.getRelatives().add(homerSimpson);
+		bartSimpson.getRelatives().add(margeSimpson);
+		bartSimpson.getRelatives().add(lisaSimpson);
+		bartSimpson.getRelatives().add(maggieSimpson);
+
+		lisaSimpson.getRelatives().add(homerSimpson);
+		lisaSimpson.getRelatives().add(margeSimpson);
+		lisaSimpson.getRelatives().add(bartSimpson);
+		lisaSimpson.getRelatives().add(maggieSimpson);
+
+		maggieSimpson.getRelatives().add(homerSimpson);
+		maggieSimpson.getRelatives().add(margeSimpson);
+		maggieSimpson.getRelatives().add(lisaSimpson);
+		maggieSimpson.getRelatives().add(maggieSimpson);
+
+		homerSimpson.getTags().add(createMultiLevelTag(bf, createUniquePrefix(10)));
+
+		homerSimpson.setBigInt(BigInteger.TEN);
+
+		homerSimpson.getBigDec().add(BigDecimal.ZERO);
+		homerSimpson.getBigDec().add(BigDecimal.ONE);
+		homerSimpson.getBigDec().add(BigDecimal.TEN);
+
+		homerSimpson.setImage(createByteArr());
+
+		homerSimpson.getProperties().putAll(createProperties(createUniquePrefix(10)));
+
+		return simpsonFamily;
+	}
+
+	public static Address createSimpsonsAddress(BasicFactory bf) {
+		return createAddress(bf, "742 Evergreen Terrace", "Springfield", "97482");
+	}
+
+	public static Person createHomerSimpson(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Homer", "Simpson", GenderType.MALE, address);
+
+		p.getContact().add(createHomePhoneContact(bf, p));
+		p.getContact().add(createHomeMobileContact(bf, p));
+		p.getContact().add(createHomeWhatsAppContact(bf, p));
+		p.getContact().add(createHomeEmailContact(bf, p));
+		p.getContact().add(createHomeSkypeContact(bf, p));
+		p.getContact().add(createHomeWebAddressContact(bf, p));
+
+		return p;
+	}
+
+	public static Person createMargeSimpson(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Marge", "Simpson", GenderType.FEMALE, address);
+
+		p.getContact().add(createHomePhoneContact(bf, p));
+		p.getContact().add(createHomeMobileContact(bf, p));
+		p.getContact().add(createHomeWhatsAppContact(bf, p));
+		p.getContact().add(createHomeEmailContact(bf, p));
+		p.getContact().add(createHomeSkypeContact(bf, p));
+		p.getContact().add(createHomeWebAddressContact(bf, p));
+
+		return p;
+	}
+
+	public static Person createBartSimpson(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Bart", "Simpson", GenderType.MALE, address);
+
+		return p;
+	}
+
+	public static Person createLisaSimpson(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Lisa", "Simpson", GenderType.FEMALE, address);
+
+		return p;
+	}
+
+	public static Person createMaggieSimpson(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Maggie", "Simpson", GenderType.FEMALE, address);
+
+		return p;
+	}
+
+	public static Family createFlintstonesFamily(BasicFactory bf) {
+		Family flintstonesFamily = bf.createFamily();
+		flintstonesFamily.setId("Flintstones");
+
+		Address address = createFlintstonesAddress(bf);
+
+		Person fredFlintstone = createFredFlintstone(bf, address);
+		flintstonesFamily.setFather(fredFlintstone);
+
+		Person wilmaFlintstone = createWilmaFlintstone(bf, address);
+		flintstonesFamily.setMother(wilmaFlintstone);
+
+		Person pebblesFlintstone = createPebblesFlintstone(bf, address);
+		flintstonesFamily.getChildren().add(pebblesFlintstone);
+
+		Person stonyFlintstone = createStonyFlintstone(bf, address);
+		flintstonesFamily.getChildren().add(stonyFlintstone);
+
+		fredFlintstone.getRelatives().add(wilmaFlintstone);
+		fredFlintstone.getRelatives().add(pebblesFlintstone);
+		fredFlintstone.getRelatives().add(stonyFlintstone);
+
+		wilmaFlintstone.getRelatives().add(fredFlintstone);
+		wilmaFlintstone.getRelatives().add(pebblesFlintstone);
+		wilmaFlintstone.getRelatives().add(stonyFlintstone);
+
+		pebblesFlintstone.getRelatives().add(fredFlintstone);
+		pebblesFlintstone.getRelatives().add(wilmaFlintstone);
+		pebblesFlintstone.getRelatives().add(stonyFlintstone);
+
+		stonyFlintstone.getRelatives().add(fredFlintstone);
+		stonyFlintstone.getRelatives().add(wilmaFlintstone);
+		stonyFlintstone.getRelatives().add(pebblesFlintstone);
+
+		fredFlintstone.getTags().add(createMultiLevelTag(bf, createUniquePrefix(10)));
+
+		fredFlintstone.setBigInt(BigInteger.TEN);
+
+		fredFlintstone.getBigDec().add(BigDecimal.ZERO);
+		fredFlintstone.getBigDec().add(BigDecimal.ONE);
+		fredFlintstone.getBigDec().add(BigDecimal.TEN);
+
+		fredFlintstone.setImage(createByteArr());
+
+		fredFlintstone.getProperties().putAll(createProperties(createUniquePrefix(10)));
+
+		return flintstonesFamily;
+	}
+
+	private static Address createFlintstonesAddress(BasicFactory bf) {
+		return createAddress(bf, "301 Cobblestone Way", "Bedrock", "70777");
+	}
+
+	private static Person createFredFlintstone(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Fred", "Flintstone", GenderType.MALE, address);
+
+		p.getContact().add(createHomePhoneContact(bf, p));
+		p.getContact().add(createHomeMobileContact(bf, p));
+		p.getContact().add(createHomeWhatsAppContact(bf, p));
+		p.getContact().add(createHomeEmailContact(bf, p));
+		p.getContact().add(createHomeSkypeContact(bf, p));
+		p.getContact().add(createHomeWebAddressContact(bf, p));
+
+		return p;
+	}
+
+	private static Person createWilmaFlintstone(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Wilma", "Flintstone", GenderType.FEMALE, address);
+
+		p.getContact().add(createHomePhoneContact(bf, p));
+		p.getContact().add(createHomeMobileContact(bf, p));
+		p.getContact().add(createHomeWhatsAppContact(bf, p));
+		p.getContact().add(createHomeEmailContact(bf, p));
+		p.getContact().add(createHomeSkypeContact(bf, p));
+		p.getContact().add(createHomeWebAddressContact(bf, p));
+
+		return p;
+	}
+
+	private static Person createPebblesFlintstone(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Pebbles", "Flintstone", GenderType.FEMALE, address);
+
+		return p;
+	}
+
+	private static Person createStonyFlintstone(BasicFactory bf, Address address) {
+		Person p = createPerson(bf, "Stony", "Flintstone", GenderType.MALE, address);
+
+		return p;
+	}
+
+	public static BusinessPerson createBusinessPerson(BasicFactory bf) {
+		BusinessPerson bp = bf.createBusinessPerson();
+
+		bp.setId(UUID.randomUUID().toString());
+		bp.setFirstName("Thomas");
+		bp.setLastName("Edison");
+		bp.setGender(GenderType.MALE);
+
+		bp.setCompanyIdCardNumber(UUID.randomUUID().toString());
+
+		EmployeeInfo nikolaTesla = bf.createEmployeeInfo();
+		nikolaTesla.setPosition("one-time employee");
+		bp.getEmployeeInfo().add(nikolaTesla);
+
+		return bp;
+	}
+
+	private static Person createPerson(BasicFactory bf, String firstName, String lastName, GenderType gender,
+			Address address) {
+		Person p = bf.createPerson();
+
+		p.setId(UUID.randomUUID().toString());
+		p.setFirstName(firstName);
+		p.setLastName(lastName);
+		p.setGender(gender);
+
+		p.setAddress(address);
+
+		return p;
+	}
+
+	private static Address createAddress(BasicFactory bf, String street, String city, String zip) {
+		Address a = bf.createAddress();
+
+		a.setId(UUID.randomUUID().toString());
+		a.setStreet(street);
+		a.setCity(city);
+		a.setZip(zip);
+
+		return a;
+	}
+
+	private static Contact createHomePhoneContact(BasicFactory bf, Person p) {
+		return createContact(bf, ContactType.PHONE, ContactContextType.HOME, UUID.randomUUID().toString());
+	}
+
+	private static Contact createHomeMobileContact(BasicFactory bf, Person p) {
+		return createContact(bf, ContactType.MOBILE, ContactContextType.HOME, UUID.randomUUID().toString());
+	}
+
+	private static Contact createHomeWhatsAppContact(BasicFactory bf, Person p) {
+		return createContact(bf, ContactType.WHATSAPP, ContactContextType.HOME, UUID.randomUUID().toString());
+	}
+
+	private static Contact createHomeEmailContact(BasicFactory bf, Person p) {
+		return createContact(bf, ContactType.EMAIL, ContactContextType.HOME, UUID.randomUUID().toString());
+	}
+
+	private static Contact createHomeSkypeContact(BasicFactory bf, Person p) {
+		return createContact(bf, ContactType.SKYPE, ContactContextType.HOME, UUID.randomUUID().toString());
+	}
+
+	private static Contact createHomeWebAddressContact(BasicFactory bf, Person p) {
+		return createContact(bf, ContactType.WEBADDRESS, ContactContextType.HOME, UUID.randomUUID().toString());
+	}
+
+	private static Contact createContact(BasicFactory bf, ContactType type, ContactContextType context, String value) {
+		Contact c = bf.createContact();
+
+		c.setContext(context);
+		c.setType(type);
+		c.setValue(value);
+
+		return c;
+	}
+
+	public static Tag createMultiLevelTag(BasicFactory bf, String namePrefix) {
+		Tag t1 = createTag(bf, namePrefix, "tag_level_1", "tag_level_1_value", "tag_level_1_description");
+
+		t1.setTag(createTag(bf, namePrefix, "tag_level_2", "tag_level_2_value", "tag_level_2_description"));
+
+		t1.getTags().add(createTag(bf, namePrefix, "tag_level_3", "tag_level_3_value", "tag_level_3_description"));
+
+		return t1;
+	}
+
+	private static Tag createTag(BasicFactory bf, String namePrefix, String name, String value, String description) {
+		Tag t = bf.createTag();
+
+		t.setName(namePrefix + "_" + name);
+		t.setValue(value);
+		t.setDescription(description);
+
+		return t;
+	}
+
+	public static byte[] createByteArr() {
+		byte[] b = new byte[20];
+		new Random().nextBytes(b);
+		return b;
+	}
+
+	public static Map<String, String> createProperties(String namePrefix) {
+		Map<String, String> props = new HashMap<String, String>();
+
+		props.put(createPropertyName(namePrefix, "prop_1"), "prop_1_value");
+		props.put(createPropertyName(namePrefix, "prop_2"), "prop_2_value");
+		props.put(createPropertyName(namePrefix, "prop_3"), "prop_3_value");
+		props.put(createPropertyName(namePrefix, "prop_4"), "prop_4_value");
+
+		return props;
+	}
+
+	private static String createPropertyName(String prefix, String name) {
+		return (prefix + "_" + name);
+	}
+
+	/**
+	 * Creates persons of dynamic model, holding attribute of each type exported
+	 * as well as many-valued reference, with fixed values - including IDs - so
+	 * that files exported from them can be compared with reference files.
+	 */
+	public static List<EObject> createInteropPersons() {
+		EPackage interopPackage = EcoreFactory.eINSTANCE.createEPackage();
+		interopPackage.setName("interop");
+		interopPackage.setNsPrefix("interop");
+		interopPackage.setNsURI("http://gecko.org/emf/tests/interop");
+
+		EEnum colorEEnum = EcoreFactory.eINSTANCE.createEEnum();
+		colorEEnum.setName("Color");
+		for (String literal : List.of("RED", "GREEN", "BLUE")) {
+			EEnumLiteral colorEEnumLiteral = EcoreFactory.eINSTANCE.createEEnumLiteral();
+			colorEEnumLiteral.setName(literal);
+			colorEEnumLiteral.setLiteral(literal);
+			colorEEnumLiteral.setValue(colorEEnum.getELiterals().size());
+			colorEEnum.getELiterals().add(colorEEnumLiteral);
+		}
+		interopPackage.getEClassifiers().add(colorEEnum);
+
+		EClass personEClass = EcoreFactory.eINSTANCE.createEClass();
+		personEClass.setName("Person");
+		interopPackage.getEClassifiers().add(personEClass);
+
+		EAttribute idEAttribute = createEAttribute(personEClass, "id", EcorePackage.Literals.ESTRING);
+		idEAttribute.setID(true);
+		EAttribute nameEAttribute = createEAttribute(personEClass, "name", EcorePackage.Literals.ESTRING);
+		EAttribute ageEAttribute = createEAttribute(personEClass, "age", EcorePackage.Literals.EINT);
+		EAttribute heightEAttribute = createEAttribute(personEClass, "height", EcorePackage.Literals.EDOUBLE);
+		EAttribute marriedEAttribute = createEAttribute(personEClass, "married", EcorePackage.Literals.EBOOLEAN);
+		EAttribute birthDateEAttribute = createEAttribute(personEClass, "birthDate", EcorePackage.Literals.EDATE);
+		EAttribute favouriteColorEAttribute = createEAttribute(personEClass, "favouriteColor", colorEEnum);
+
+		EReference friendsEReference = EcoreFactory.eINSTANCE.createEReference();
+		friendsEReference.setName("friends");
+		friendsEReference.setEType(personEClass);
+		friendsEReference.setUpperBound(ETypedElement.UNBOUNDED_MULTIPLICITY);
+		personEClass.getEStructuralFeatures().add(friendsEReference);
+
+		List<EObject> persons = new ArrayList<>();
+
+		for (int i = 0; i < 4; i++) {
+			EObject person = EcoreUtil.create(personEClass);
+			person.eSet(idEAttribute, "person_" + i);
+			// one person without name, another without birth date
+			person.eSet(nameEAttribute, (i != 2) ? ("Name " + i) : null);
+			person.eSet(ageEAttribute, Integer.valueOf(20 + (i * 10)));
+			person.eSet(heightEAttribute, Double.valueOf((155 + (i * 10)) / 100.0));
+			person.eSet(marriedEAttribute, Boolean.valueOf((i % 2) == 0));
+			person.eSet(birthDateEAttribute,
+					(i != 3) ? Date.from(Instant.parse("1990-01-01T08:30:00Z").plus(i * 1000L, ChronoUnit.DAYS)) : null);
+			person.eSet(favouriteColorEAttribute, colorEEnum.getELiterals().get(i % 3).getInstance());
+			persons.add(person);
+		}
+
+		// one person with many friends, one with single friend, others without friends
+		setFriends(persons.get(0), friendsEReference, persons.get(1), persons.get(2));
+		setFriends(persons.get(1), friendsEReference, persons.get(0));
+
+		return persons;
+	}
+
+	private static EAttribute createEAttribute(EClass eClass, String name, EClassifier eType) {
+		EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+		eAttribute.setName(name);
+		eAttribute.setEType(eType);
+		eClass.getEStructuralFeatures().add(eAttribute);
+		return eAttribute;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void setFriends(EObject person, EReference friendsEReference, EObject... friends) {
+		((List<EObject>) person.eGet(friendsEReference)).addAll(List.of(friends));
+	}
+
+	public static ResourceSet createBasicPackageResourceSet(BasicPackage bp) {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		resourceSet.getPackageRegistry().put(BasicPackage.eNS_URI, bp);
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("test", new BasicResourceFactoryImpl());
+		resourceSet.getResourceFactoryRegistry().getContentTypeToFactoryMap().put(BasicPackage.eCONTENT_TYPE,
+				new BasicResourceFactoryImpl());
+		return resourceSet;
+	}
+
+	public static String createUniquePrefix(int maxChars) {
+		// @formatter:off
+		return new RandomStringGenerator.Builder()
+				.withinRange('a', 'z')
+				.build()
+				.generate(maxChars);
+		// @formatter:on
+	}
+}
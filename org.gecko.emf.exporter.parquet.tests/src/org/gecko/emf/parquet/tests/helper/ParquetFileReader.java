@@ -0,0 +1,711 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.parquet.tests.helper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Minimal reader of Parquet files, as written by Parquet exporter (single row
+ * group, data pages version 1, PLAIN and dictionary encodings, uncompressed or
+ * GZIP compressed pages), used to verify files exported, as Apache Parquet's
+ * own reader depends on Hadoop.
+ *
+ * @author Michal H. Siemaszko
+ */
+public class ParquetFileReader {
+
+	/* physical types */
+	public static final int TYPE_BOOLEAN = 0;
+	public static final int TYPE_INT32 = 1;
+	public static final int TYPE_INT64 = 2;
+	public static final int TYPE_FLOAT = 4;
+	public static final int TYPE_DOUBLE = 5;
+	public static final int TYPE_BYTE_ARRAY = 6;
+
+	/* field repetition types */
+	public static final int REPETITION_REQUIRED = 0;
+	public static final int REPETITION_OPTIONAL = 1;
+	public static final int REPETITION_REPEATED = 2;
+
+	/* converted types */
+	public static final int CONVERTED_TYPE_UTF8 = 0;
+	public static final int CONVERTED_TYPE_LIST = 3;
+	public static final int CONVERTED_TYPE_ENUM = 4;
+
+	private static final byte[] PARQUET_FILE_MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+	private static final int PAGE_TYPE_DATA_PAGE = 0;
+	private static final int PAGE_TYPE_DICTIONARY_PAGE = 2;
+
+	private static final int CODEC_UNCOMPRESSED = 0;
+	private static final int CODEC_GZIP = 2;
+
+	private ParquetFileReader() {
+	}
+
+	/**
+	 * Reads schema and values of all columns of Parquet file.
+	 *
+	 * @param parquetFile
+	 * @return
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	public static ParquetFile read(byte[] parquetFile) throws IOException {
+		if (!Arrays.equals(PARQUET_FILE_MAGIC, Arrays.copyOfRange(parquetFile, 0, 4)) || !Arrays
+				.equals(PARQUET_FILE_MAGIC, Arrays.copyOfRange(parquetFile, parquetFile.length - 4, parquetFile.length))) {
+			throw new IOException("Not a Parquet file!");
+		}
+
+		int fileMetadataLength = readIntLE(parquetFile, parquetFile.length - 8);
+
+		Map<Integer, Object> fileMetadata = new ThriftCompactReader(parquetFile,
+				parquetFile.length - 8 - fileMetadataLength).readStruct();
+
+		List<SchemaElement> schemaElements = new ArrayList<>();
+		for (Object schemaElement : (List<Object>) fileMetadata.get(2)) {
+			schemaElements.add(new SchemaElement((Map<Integer, Object>) schemaElement));
+		}
+
+		Map<List<String>, int[]> pathToMaxLevelsMap = new HashMap<>();
+		Iterator<SchemaElement> schemaElementsIterator = schemaElements.iterator();
+		collectMaxLevels(schemaElementsIterator, schemaElementsIterator.next(), List.of(), 0, 0, pathToMaxLevelsMap);
+
+		long rowsCount = ((Number) fileMetadata.get(3)).longValue();
+
+		Map<String, ParquetColumn> columns = new LinkedHashMap<>();
+
+		for (Object rowGroup : (List<Object>) fileMetadata.get(4)) {
+			for (Object columnChunk : (List<Object>) ((Map<Integer, Object>) rowGroup).get(1)) {
+				Map<Integer, Object> columnMetadata = (Map<Integer, Object>) ((Map<Integer, Object>) columnChunk)
+						.get(3);
+
+				List<String> path = new ArrayList<>();
+				for (Object pathElement : (List<Object>) columnMetadata.get(3)) {
+					path.add(new String((byte[]) pathElement, StandardCharsets.UTF_8));
+				}
+
+				int[] maxLevels = pathToMaxLevelsMap.get(path);
+				if (maxLevels == null) {
+					throw new IOException(String.format("Column %s is not present in schema!", path));
+				}
+
+				columns.put(path.get(0),
+						readColumnChunk(parquetFile, columnMetadata, path, maxLevels[0], maxLevels[1]));
+			}
+		}
+
+		String createdBy = fileMetadata.containsKey(6)
+				? new String((byte[]) fileMetadata.get(6), StandardCharsets.UTF_8)
+				: null;
+
+		return new ParquetFile(rowsCount, schemaElements, columns, createdBy);
+	}
+
+	/*
+	 * Schema elements are stored in depth-first order, each group followed by its
+	 * children; optional and repeated fields increase max definition level, while
+	 * repeated fields increase max repetition level as well.
+	 */
+	private static void collectMaxLevels(Iterator<SchemaElement> schemaElements, SchemaElement schemaElement,
+			List<String> path, int maxDefinitionLevel, int maxRepetitionLevel,
+			Map<List<String>, int[]> pathToMaxLevelsMap) {
+
+		if (schemaElement.getChildrenCount() == null) {
+			pathToMaxLevelsMap.put(path, new int[] { maxDefinitionLevel, maxRepetitionLevel });
+			return;
+		}
+
+		for (int i = 0; i < schemaElement.getChildrenCount().intValue(); i++) {
+			SchemaElement childSchemaElement = schemaElements.next();
+
+			List<String> childPath = new ArrayList<>(path);
+			childPath.add(childSchemaElement.getName());
+
+			int repetitionType = childSchemaElement.getRepetitionType().intValue();
+
+			collectMaxLevels(schemaElements, childSchemaElement, childPath,
+					maxDefinitionLevel + ((repetitionType != REPETITION_REQUIRED) ? 1 : 0),
+					maxRepetitionLevel + ((repetitionType == REPETITION_REPEATED) ? 1 : 0), pathToMaxLevelsMap);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ParquetColumn readColumnChunk(byte[] parquetFile, Map<Integer, Object> columnMetadata,
+			List<String> path, int maxDefinitionLevel, int maxRepetitionLevel) throws IOException {
+
+		int physicalType = ((Number) columnMetadata.get(1)).intValue();
+		int codec = ((Number) columnMetadata.get(4)).intValue();
+		long valuesCount = ((Number) columnMetadata.get(5)).longValue();
+
+		int position = (int) ((Number) (columnMetadata.containsKey(11) ? columnMetadata.get(11)
+				: columnMetadata.get(9))).longValue();
+
+		List<String> dictionary = null;
+		List<Integer> repetitionLevels = new ArrayList<>();
+		List<Integer> definitionLevels = new ArrayList<>();
+		List<Object> nonNullValues = new ArrayList<>();
+
+		long valuesRead = 0;
+
+		while (valuesRead < valuesCount) {
+			ThriftCompactReader pageHeaderReader = new ThriftCompactReader(parquetFile, position);
+			Map<Integer, Object> pageHeader = pageHeaderReader.readStruct();
+
+			int pageType = ((Number) pageHeader.get(1)).intValue();
+			int compressedPageSize = ((Number) pageHeader.get(3)).intValue();
+
+			position = pageHeaderReader.position;
+
+			byte[] page = Arrays.copyOfRange(parquetFile, position, position + compressedPageSize);
+			position += compressedPageSize;
+
+			if (codec == CODEC_GZIP) {
+				try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(page))) {
+					page = inputStream.readAllBytes();
+				}
+			} else if (codec != CODEC_UNCOMPRESSED) {
+				throw new IOException(String.format("Unsupported compression codec %d!", codec));
+			}
+
+			if (pageType == PAGE_TYPE_DICTIONARY_PAGE) {
+				int dictionarySize = ((Number) ((Map<Integer, Object>) pageHeader.get(7)).get(1)).intValue();
+
+				PageReader pageReader = new PageReader(page);
+
+				dictionary = new ArrayList<>(dictionarySize);
+				for (int i = 0; i < dictionarySize; i++) {
+					dictionary.add((String) pageReader.readPlainValue(TYPE_BYTE_ARRAY));
+				}
+
+			} else if (pageType == PAGE_TYPE_DATA_PAGE) {
+				int pageValuesCount = ((Number) ((Map<Integer, Object>) pageHeader.get(5)).get(1)).intValue();
+
+				PageReader pageReader = new PageReader(page);
+
+				if (maxRepetitionLevel > 0) {
+					repetitionLevels.addAll(pageReader.readLevels(pageValuesCount, maxRepetitionLevel));
+				} else {
+					repetitionLevels.addAll(Collections.nCopies(pageValuesCount, 0));
+				}
+
+				List<Integer> pageDefinitionLevels = pageReader.readLevels(pageValuesCount, maxDefinitionLevel);
+				definitionLevels.addAll(pageDefinitionLevels);
+
+				int pageNonNullValuesCount = Collections.frequency(pageDefinitionLevels, maxDefinitionLevel);
+
+				if (dictionary != null) {
+					int bitWidth = pageReader.readByte();
+
+					for (int index : pageReader.readRLEBitPackedHybrid(pageNonNullValuesCount, bitWidth)) {
+						nonNullValues.add(dictionary.get(index));
+					}
+
+				} else if (physicalType == TYPE_BOOLEAN) {
+					for (int bit : pageReader.readBitPacked(pageNonNullValuesCount, 1)) {
+						nonNullValues.add(Boolean.valueOf(bit == 1));
+					}
+
+				} else {
+					for (int i = 0; i < pageNonNullValuesCount; i++) {
+						nonNullValues.add(pageReader.readPlainValue(physicalType));
+					}
+				}
+
+				valuesRead += pageValuesCount;
+
+			} else {
+				throw new IOException(String.format("Unsupported page type %d!", pageType));
+			}
+		}
+
+		return new ParquetColumn(path, physicalType, dictionary, assembleValues(repetitionLevels,
+				definitionLevels, nonNullValues, maxDefinitionLevel, maxRepetitionLevel));
+	}
+
+	/*
+	 * Values of list columns are assembled into lists, one per row: definition
+	 * level of 0 denotes null list, levels below max definition level denote
+	 * empty list or null element, respectively.
+	 */
+	private static List<Object> assembleValues(List<Integer> repetitionLevels, List<Integer> definitionLevels,
+			List<Object> nonNullValues, int maxDefinitionLevel, int maxRepetitionLevel) {
+
+		List<Object> values = new ArrayList<>();
+		Iterator<Object> nonNullValuesIterator = nonNullValues.iterator();
+
+		List<Object> elements = null;
+
+		for (int i = 0; i < definitionLevels.size(); i++) {
+			int definitionLevel = definitionLevels.get(i).intValue();
+
+			if (maxRepetitionLevel == 0) {
+				values.add((definitionLevel == maxDefinitionLevel) ? nonNullValuesIterator.next() : null);
+				continue;
+			}
+
+			if (repetitionLevels.get(i).intValue() == 0) {
+				elements = (definitionLevel > 0) ? new ArrayList<>() : null;
+				values.add(elements);
+			}
+
+			if (definitionLevel == maxDefinitionLevel) {
+				elements.add(nonNullValuesIterator.next());
+			} else if (definitionLevel == maxDefinitionLevel - 1) {
+				elements.add(null);
+			}
+		}
+
+		return values;
+	}
+
+	private static int readIntLE(byte[] bytes, int position) {
+		return (bytes[position] & 0xFF) | ((bytes[position + 1] & 0xFF) << 8) | ((bytes[position + 2] & 0xFF) << 16)
+				| ((bytes[position + 3] & 0xFF) << 24);
+	}
+
+	private static int bitWidth(int maxValue) {
+		return Math.max(1, 32 - Integer.numberOfLeadingZeros(maxValue));
+	}
+
+	public static class ParquetFile {
+		private final long rowsCount;
+		private final List<SchemaElement> schemaElements;
+		private final Map<String, ParquetColumn> columns;
+		private final String createdBy;
+
+		private ParquetFile(long rowsCount, List<SchemaElement> schemaElements, Map<String, ParquetColumn> columns,
+				String createdBy) {
+			this.rowsCount = rowsCount;
+			this.schemaElements = schemaElements;
+			this.columns = columns;
+			this.createdBy = createdBy;
+		}
+
+		public long getRowsCount() {
+			return rowsCount;
+		}
+
+		public List<SchemaElement> getSchemaElements() {
+			return schemaElements;
+		}
+
+		/**
+		 * Returns first schema element with given name.
+		 *
+		 * @param name
+		 * @return
+		 */
+		public SchemaElement getSchemaElement(String name) {
+			for (SchemaElement schemaElement : schemaElements) {
+				if (name.equals(schemaElement.getName())) {
+					return schemaElement;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Returns column with given name, i.e. first element of its path.
+		 *
+		 * @param name
+		 * @return
+		 */
+		public ParquetColumn getColumn(String name) {
+			return columns.get(name);
+		}
+
+		public List<String> getColumnNames() {
+			return new ArrayList<>(columns.keySet());
+		}
+
+		/**
+		 * Returns name and version of application which wrote file.
+		 *
+		 * @return
+		 */
+		public String getCreatedBy() {
+			return createdBy;
+		}
+	}
+
+	public static class SchemaElement {
+		private final Integer type;
+		private final Integer repetitionType;
+		private final String name;
+		private final Integer childrenCount;
+		private final Integer convertedType;
+
+		private SchemaElement(Map<Integer, Object> schemaElement) {
+			this.type = intValue(schemaElement.get(1));
+			this.repetitionType = intValue(schemaElement.get(3));
+			this.name = new String((byte[]) schemaElement.get(4), StandardCharsets.UTF_8);
+			this.childrenCount = intValue(schemaElement.get(5));
+			this.convertedType = intValue(schemaElement.get(6));
+		}
+
+		private static Integer intValue(Object value) {
+			return (value != null) ? Integer.valueOf(((Number) value).intValue()) : null;
+		}
+
+		public Integer getType() {
+			return type;
+		}
+
+		public Integer getRepetitionType() {
+			return repetitionType;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getChildrenCount() {
+			return childrenCount;
+		}
+
+		public Integer getConvertedType() {
+			return convertedType;
+		}
+	}
+
+	public static class ParquetColumn {
+		private final List<String> path;
+		private final int physicalType;
+		private final List<String> dictionary;
+		private final List<Object> values;
+
+		private ParquetColumn(List<String> path, int physicalType, List<String> dictionary, List<Object> values) {
+			this.path = path;
+			this.physicalType = physicalType;
+			this.dictionary = dictionary;
+			this.values = values;
+		}
+
+		public List<String> getPath() {
+			return path;
+		}
+
+		public int getPhysicalType() {
+			return physicalType;
+		}
+
+		/**
+		 * Returns dictionary, if column is dictionary encoded, or
+		 * <code>null</code> otherwise.
+		 *
+		 * @return
+		 */
+		public List<String> getDictionary() {
+			return dictionary;
+		}
+
+		/**
+		 * Returns values of column, one per row: nulls for null values, lists
+		 * for list columns.
+		 *
+		 * @return
+		 */
+		public List<Object> getValues() {
+			return values;
+		}
+	}
+
+	private static class PageReader {
+		private final byte[] page;
+		private int position;
+
+		private PageReader(byte[] page) {
+			this.page = page;
+		}
+
+		private int readByte() {
+			return page[position++] & 0xFF;
+		}
+
+		/*
+		 * Levels are encoded using RLE / bit-packing hybrid encoding, prefixed with
+		 * length of encoded data.
+		 */
+		private List<Integer> readLevels(int count, int maxLevel) {
+			int length = readIntLE(page, position);
+			position += 4;
+
+			int end = position + length;
+
+			List<Integer> levels = new ArrayList<>(count);
+			for (int level : readRLEBitPackedHybrid(count, bitWidth(maxLevel))) {
+				levels.add(Integer.valueOf(level));
+			}
+
+			position = end;
+
+			return levels;
+		}
+
+		private int[] readRLEBitPackedHybrid(int count, int bitWidth) {
+			int[] values = new int[count];
+			int i = 0;
+
+			while (i < count) {
+				long header = readUnsignedVarInt();
+
+				if ((header & 1) == 0) {
+					int runLength = (int) (header >>> 1);
+
+					int value = 0;
+					for (int j = 0; j < (bitWidth + 7) / 8; j++) {
+						value |= readByte() << (8 * j);
+					}
+
+					for (int j = 0; j < runLength && i < count; j++) {
+						values[i++] = value;
+					}
+
+				} else {
+					int[] bitPackedValues = readBitPacked((int) (header >>> 1) * 8, bitWidth);
+
+					for (int j = 0; j < bitPackedValues.length && i < count; j++) {
+						values[i++] = bitPackedValues[j];
+					}
+				}
+			}
+
+			return values;
+		}
+
+		/*
+		 * Values are packed starting from least significant bit, padded with zeros
+		 * to multiple of 8 values.
+		 */
+		private int[] readBitPacked(int count, int bitWidth) {
+			int paddedCount = ((count + 7) / 8) * 8;
+
+			int[] values = new int[count];
+
+			long bits = 0;
+			int bitsCount = 0;
+
+			for (int i = 0; i < paddedCount; i++) {
+				while (bitsCount < bitWidth) {
+					bits |= ((long) readByte()) << bitsCount;
+					bitsCount += 8;
+				}
+
+				if (i < count) {
+					values[i] = (int) (bits & ((1L << bitWidth) - 1));
+				}
+
+				bits >>>= bitWidth;
+				bitsCount -= bitWidth;
+			}
+
+			return values;
+		}
+
+		private Object readPlainValue(int physicalType) throws IOException {
+			switch (physicalType) {
+
+			case TYPE_INT32: {
+				int value = readIntLE(page, position);
+				position += 4;
+				return Integer.valueOf(value);
+			}
+
+			case TYPE_INT64: {
+				long value = (readIntLE(page, position) & 0xFFFFFFFFL)
+						| ((long) readIntLE(page, position + 4) << 32);
+				position += 8;
+				return Long.valueOf(value);
+			}
+
+			case TYPE_FLOAT: {
+				float value = Float.intBitsToFloat(readIntLE(page, position));
+				position += 4;
+				return Float.valueOf(value);
+			}
+
+			case TYPE_DOUBLE: {
+				double value = Double.longBitsToDouble((readIntLE(page, position) & 0xFFFFFFFFL)
+						| ((long) readIntLE(page, position + 4) << 32));
+				position += 8;
+				return Double.valueOf(value);
+			}
+
+			case TYPE_BYTE_ARRAY: {
+				int length = readIntLE(page, position);
+				position += 4;
+				String value = new String(page, position, length, StandardCharsets.UTF_8);
+				position += length;
+				return value;
+			}
+
+			default:
+				throw new IOException(String.format("Unsupported physical type %d!", physicalType));
+			}
+		}
+
+		private long readUnsignedVarInt() {
+			long value = 0;
+			int shift = 0;
+			int b;
+			do {
+				b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return value;
+		}
+	}
+
+	/**
+	 * Reads Thrift structures encoded using compact protocol, as used by Parquet
+	 * files' metadata and page headers; structures are read as maps of field IDs
+	 * to values of fields.
+	 */
+	private static class ThriftCompactReader {
+		private static final int TYPE_BOOLEAN_TRUE = 1;
+		private static final int TYPE_BOOLEAN_FALSE = 2;
+		private static final int TYPE_BYTE = 3;
+		private static final int TYPE_I16 = 4;
+		private static final int TYPE_I32 = 5;
+		private static final int TYPE_I64 = 6;
+		private static final int TYPE_DOUBLE = 7;
+		private static final int TYPE_BINARY = 8;
+		private static final int TYPE_LIST = 9;
+		private static final int TYPE_SET = 10;
+		private static final int TYPE_STRUCT = 12;
+
+		private final byte[] bytes;
+		private int position;
+
+		private ThriftCompactReader(byte[] bytes, int position) {
+			this.bytes = bytes;
+			this.position = position;
+		}
+
+		private Map<Integer, Object> readStruct() throws IOException {
+			Map<Integer, Object> fields = new HashMap<>();
+			int lastFieldId = 0;
+
+			while (true) {
+				int fieldHeader = readByte();
+
+				if (fieldHeader == 0) {
+					return fields;
+				}
+
+				int fieldType = fieldHeader & 0x0F;
+				int fieldIdDelta = fieldHeader >>> 4;
+
+				int fieldId = (fieldIdDelta != 0) ? lastFieldId + fieldIdDelta : (int) readZigZagVarInt();
+
+				fields.put(Integer.valueOf(fieldId), readValue(fieldType));
+
+				lastFieldId = fieldId;
+			}
+		}
+
+		private Object readValue(int type) throws IOException {
+			switch (type) {
+
+			case TYPE_BOOLEAN_TRUE:
+				return Boolean.TRUE;
+
+			case TYPE_BOOLEAN_FALSE:
+				return Boolean.FALSE;
+
+			case TYPE_BYTE:
+				return Long.valueOf((byte) readByte());
+
+			case TYPE_I16:
+			case TYPE_I32:
+			case TYPE_I64:
+				return Long.valueOf(readZigZagVarInt());
+
+			case TYPE_DOUBLE: {
+				double value = Double.longBitsToDouble(
+						(readIntLE(bytes, position) & 0xFFFFFFFFL) | ((long) readIntLE(bytes, position + 4) << 32));
+				position += 8;
+				return Double.valueOf(value);
+			}
+
+			case TYPE_BINARY: {
+				int length = (int) readUnsignedVarInt();
+				byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+				position += length;
+				return value;
+			}
+
+			case TYPE_LIST:
+			case TYPE_SET: {
+				int listHeader = readByte();
+
+				int size = listHeader >>> 4;
+				int elementType = listHeader & 0x0F;
+
+				if (size == 15) {
+					size = (int) readUnsignedVarInt();
+				}
+
+				List<Object> elements = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					// booleans within lists are encoded as single bytes
+					elements.add((elementType == TYPE_BOOLEAN_TRUE || elementType == TYPE_BOOLEAN_FALSE)
+							? Boolean.valueOf(readByte() == TYPE_BOOLEAN_TRUE)
+							: readValue(elementType));
+				}
+				return elements;
+			}
+
+			case TYPE_STRUCT:
+				return readStruct();
+
+			default:
+				throw new IOException(String.format("Unsupported Thrift type %d!", type));
+			}
+		}
+
+		private int readByte() {
+			return bytes[position++] & 0xFF;
+		}
+
+		private long readUnsignedVarInt() {
+			long value = 0;
+			int shift = 0;
+			int b;
+			do {
+				b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return value;
+		}
+
+		private long readZigZagVarInt() {
+			long value = readUnsignedVarInt();
+			return (value >>> 1) ^ -(value & 1);
+		}
+	}
+}
@@ -0,0 +1,1363 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter.parquet.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.gecko.emf.exporter.AbstractEMFExporter;
+import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrix;
+import org.gecko.emf.exporter.EMFExportMetricsCollector;
+import org.gecko.emf.exporter.EMFExportPhase;
+import org.gecko.emf.exporter.EMFExportRowSink;
+import org.gecko.emf.exporter.EMFExportSpoolFile;
+import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.exporter.annotation.ProvideEMFExporter;
+import org.gecko.emf.exporter.cells.EMFExportEObjectIDValueCell;
+import org.gecko.emf.exporter.cells.EMFExportEObjectManyReferencesValueCell;
+import org.gecko.emf.exporter.cells.EMFExportEObjectOneReferenceValueCell;
+import org.gecko.emf.exporter.cells.EMFExportEObjectReferenceValueCell;
+import org.gecko.emf.exporter.cells.EMFExportInternalIDValueCell;
+import org.gecko.emf.exporter.headers.EMFExportEObjectGenericColumnHeader;
+import org.gecko.emf.exporter.headers.EMFExportEObjectManyReferencesColumnHeader;
+import org.gecko.emf.exporter.parquet.api.EMFParquetCompressionCodec;
+import org.gecko.emf.exporter.parquet.api.EMFParquetExportOptions;
+import org.gecko.emf.exporter.parquet.api.EMFParquetExporterConstants;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.io.CountingOutputStream;
+
+/**
+ * Implementation of the {@link EMFExporter} to provide support for exporting
+ * EMF resources and lists of EMF objects as Apache Parquet files, one per
+ * matrix, stored in ZIP archive.
+ *
+ * Parquet files are written by exporter itself (format version 1, single row
+ * group, PLAIN and dictionary encodings), as Apache Parquet's own writer
+ * depends on Hadoop.
+ *
+ * @author Michal H. Siemaszko
+ */
+@Component(name = EMFParquetExporterConstants.EMF_EXPORTER_NAME, scope = ServiceScope.PROTOTYPE)
+@ProvideEMFExporter(name = EMFParquetExporterConstants.EMF_EXPORTER_NAME)
+public class EMFParquetExporter extends AbstractEMFExporter implements EMFExporter {
+	private static final Logger LOG = LoggerFactory.getLogger(EMFParquetExporter.class);
+
+	private static final String PARQUET_FILE_EXTENSION = "parquet";
+
+	private static final byte[] PARQUET_FILE_MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+	private static final String PARQUET_FILE_CREATED_BY = "Gecko EMF Parquet Exporter";
+
+	private static final int PARQUET_FILE_VERSION = 1;
+
+	// maximum number of rows written to single data page
+	private static final int DATA_PAGE_ROWS_COUNT = 20_000;
+
+	private static final int DEFAULT_COMPRESSION_LEVEL = -1;
+	private static final int BEST_COMPRESSION_LEVEL = 9;
+
+	private static final String SCHEMA_ROOT_NAME = "schema";
+	private static final String SCHEMA_LIST_NAME = "list";
+	private static final String SCHEMA_ELEMENT_NAME = "element";
+
+	/* physical types */
+	private static final int TYPE_BOOLEAN = 0;
+	private static final int TYPE_INT32 = 1;
+	private static final int TYPE_INT64 = 2;
+	private static final int TYPE_FLOAT = 4;
+	private static final int TYPE_DOUBLE = 5;
+	private static final int TYPE_BYTE_ARRAY = 6;
+
+	/* field repetition types */
+	private static final int REPETITION_OPTIONAL = 1;
+	private static final int REPETITION_REPEATED = 2;
+
+	/* converted types, still used by readers not supporting logical types */
+	private static final int CONVERTED_TYPE_NONE = -1;
+	private static final int CONVERTED_TYPE_UTF8 = 0;
+	private static final int CONVERTED_TYPE_LIST = 3;
+	private static final int CONVERTED_TYPE_ENUM = 4;
+	private static final int CONVERTED_TYPE_TIMESTAMP_MILLIS = 9;
+
+	/* logical types (field IDs of LogicalType union) */
+	private static final int LOGICAL_TYPE_NONE = -1;
+	private static final int LOGICAL_TYPE_STRING = 1;
+	private static final int LOGICAL_TYPE_LIST = 3;
+	private static final int LOGICAL_TYPE_ENUM = 4;
+	private static final int LOGICAL_TYPE_TIMESTAMP = 8;
+
+	/* time units (field IDs of TimeUnit union) */
+	private static final int TIME_UNIT_MILLIS = 1;
+
+	/* encodings */
+	private static final int ENCODING_PLAIN = 0;
+	private static final int ENCODING_PLAIN_DICTIONARY = 2;
+	private static final int ENCODING_RLE = 3;
+
+	/* page types */
+	private static final int PAGE_TYPE_DATA_PAGE = 0;
+	private static final int PAGE_TYPE_DICTIONARY_PAGE = 2;
+
+	/* compression codecs */
+	private static final int CODEC_UNCOMPRESSED = 0;
+	private static final int CODEC_GZIP = 2;
+
+	public EMFParquetExporter() {
+		super(LOG);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExporter#exportEObjectsTo(java.util.List, java.io.OutputStream, java.util.Map)
+	 */
+	@Override
+	public void exportEObjectsTo(List<EObject> eObjects, OutputStream outputStream, Map<?, ?> options)
+			throws EMFExportException {
+		Objects.requireNonNull(eObjects, "At least one EObject is required for export!");
+		Objects.requireNonNull(outputStream, "Output stream is required for export!");
+
+		if (!eObjects.isEmpty()) {
+
+			try {
+
+				final Map<Object, Object> exportOptions = validateExportOptions(options);
+
+				final EMFExportMetricsCollector metricsCollector = new EMFExportMetricsCollector();
+
+				final CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+
+				LOG.info("Starting export of {} EObject(s) to Parquet files"
+						+ (!exportOptions.isEmpty() ? " with options" : ""), eObjects.size());
+				LOG.info("  Locale to use: {}", locale(exportOptions));
+				LOG.info("  Export non-containment references: {}", exportNonContainmentEnabled(exportOptions));
+				LOG.info("  Export metadata: {}", exportMetadataEnabled(exportOptions));
+				LOG.info("  Add mapping table: {}", addMappingTableEnabled(exportOptions));
+				LOG.info("  Show URIs instead of IDs (where applicable): {}", showURIsEnabled(exportOptions));
+				LOG.info("  Show columns containing references: {}", showREFsEnabled(exportOptions));
+				LOG.info("  Pseudo ID strategy: {}", pseudoIDStrategy(exportOptions));
+				LOG.info("  Compression codec: {}", compressionCodec(exportOptions));
+				LOG.info("  Compression level: {}", compressionLevel(exportOptions));
+				LOG.info("  Streaming: {}", streamingEnabled(exportOptions));
+				LOG.info("  Parallelism: {}", parallelism(exportOptions));
+
+				if (streamingEnabled(exportOptions)) {
+					ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatricesSchema(eObjects,
+							exportOptions, metricsCollector);
+
+					streamMatricesToParquet(countingOutputStream, processedEObjectsDTO, exportOptions);
+
+				} else {
+					ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions,
+							metricsCollector);
+
+					exportMatricesToParquet(countingOutputStream, processedEObjectsDTO, exportOptions);
+				}
+
+				publishMetrics(metricsCollector, countingOutputStream.getCount(), exportOptions);
+
+			} catch (Exception e) {
+				throw new EMFExportException(e);
+			}
+		}
+	}
+
+	private void streamMatricesToParquet(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions) throws EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
+
+		LOG.info("Starting streaming of Parquet files");
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+
+			streamMatricesToSink(processedEObjectsDTO, exportOptions, new ParquetRowSink(zipOutputStream, exportOptions));
+
+		} catch (IOException e) {
+			throw new EMFExportException(e);
+		}
+
+		LOG.info("Finished streaming of Parquet files in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
+	/*
+	 * Parquet files are generated in parallel, if enabled, and written to ZIP
+	 * archive in same order as matrices (EObjects' matrices first, followed by
+	 * metadata and mapping tables, if enabled).
+	 */
+	private void exportMatricesToParquet(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions) throws EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
+
+		LOG.info("Starting generation of Parquet files");
+
+		Map<String, EMFExportMatrix> matrixNameToMatrixMap = new LinkedHashMap<>(
+				eObjectMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+
+		if (exportMetadataEnabled(exportOptions)) {
+			matrixNameToMatrixMap.putAll(metadataMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+		}
+
+		if (addMappingTableEnabled(exportOptions)) {
+			matrixNameToMatrixMap.putAll(mappingMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+		}
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+
+			if (parallelism(exportOptions) > 1) {
+				List<String> matrixNames = new ArrayList<>(matrixNameToMatrixMap.keySet());
+
+				// Parquet files generated are tracked, so those are deleted even if some
+				// of the tasks fail
+				Queue<EMFExportSpoolFile> parquetFiles = new ConcurrentLinkedQueue<>();
+
+				List<Callable<EMFExportSpoolFile>> tasks = new ArrayList<>();
+
+				for (String matrixName : matrixNames) {
+					EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
+
+					tasks.add(() -> {
+						LOG.debug("Generating Parquet file for matrix named '{}'", matrixName);
+
+						EMFExportSpoolFile parquetFile = generateParquetFile(constructColumns(exportOptions, matrix), exportOptions);
+						parquetFiles.add(parquetFile);
+
+						return parquetFile;
+					});
+				}
+
+				try {
+					List<EMFExportSpoolFile> generatedParquetFiles = invokeAll(tasks, exportOptions);
+
+					for (int i = 0; i < matrixNames.size(); i++) {
+						writeParquetFileToZipEntry(zipOutputStream, matrixNames.get(i), generatedParquetFiles.get(i),
+								exportOptions);
+					}
+
+				} finally {
+					for (EMFExportSpoolFile parquetFile : parquetFiles) {
+						parquetFile.close();
+					}
+				}
+
+			} else {
+
+				for (String matrixName : matrixNameToMatrixMap.keySet()) {
+					LOG.debug("Generating Parquet file for matrix named '{}'", matrixName);
+
+					EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
+
+					try (EMFExportSpoolFile parquetFile = generateParquetFile(constructColumns(exportOptions, matrix),
+							exportOptions)) {
+						writeParquetFileToZipEntry(zipOutputStream, matrixName, parquetFile, exportOptions);
+					}
+				}
+			}
+
+		} catch (IOException e) {
+			throw new EMFExportException(e);
+		}
+
+		LOG.info("Finished generation of Parquet files in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
+	/*
+	 * Parquet file with compressed pages is stored in ZIP archive as it is, so
+	 * it is not compressed twice; size and CRC-32 of stored entry are those of
+	 * spooled Parquet file.
+	 */
+	private void writeParquetFileToZipEntry(ZipOutputStream zipOutputStream, String matrixName,
+			EMFExportSpoolFile parquetFile, Map<Object, Object> exportOptions) throws IOException {
+
+		ZipEntry zipEntry = new ZipEntry(constructZipEntryName(matrixName));
+
+		if (compressionCodec(exportOptions) != EMFParquetCompressionCodec.UNCOMPRESSED) {
+			zipEntry.setMethod(ZipEntry.STORED);
+		}
+
+		parquetFile.copyToZipEntry(zipOutputStream, zipEntry);
+	}
+
+	private String constructZipEntryName(String matrixName) {
+		String normalizedMatrixName = matrixName.strip().replaceAll("[()]", "").replaceAll("(?U)[^\\w\\._]+", "_");
+
+		StringBuilder sb = new StringBuilder(100);
+		sb.append(normalizedMatrixName);
+		sb.append(".");
+		sb.append(PARQUET_FILE_EXTENSION);
+		return sb.toString();
+	}
+
+	private List<ParquetColumn> constructColumns(Map<Object, Object> exportOptions, EMFExportMatrix matrix) {
+		List<ParquetColumn> columns = new ArrayList<>();
+
+		for (Integer matrixColumnKey : matrix.columnKeySet()) {
+			Map<Integer, Object> matrixColumn = matrix.column(matrixColumnKey);
+
+			Object columnHeader = matrixColumn.get(1);
+
+			List<Object> values = new ArrayList<>(matrixColumn.size());
+
+			for (Integer matrixRowKey : matrix.rowKeySet()) {
+				if (matrixRowKey.intValue() > 1) {
+					values.add(convertValue(matrixColumn.get(matrixRowKey), exportOptions));
+				}
+			}
+
+			columns.add(constructColumn(columnHeader, values));
+		}
+		return columns;
+	}
+
+	@SuppressWarnings("unchecked")
+	private ParquetColumn constructColumn(Object columnHeader, List<Object> values) {
+		ParquetColumnType columnType = extractColumnType(columnHeader, values);
+
+		// e.g. many references columns pointing to mapping tables
+		if (columnType != ParquetColumnType.STRING_LIST) {
+			values.replaceAll(v -> (v instanceof List)
+					? (((List<String>) v).isEmpty() ? null : String.join(", ", (List<String>) v))
+					: v);
+		}
+
+		List<String> dictionary = (columnType == ParquetColumnType.ENUM) ? extractDictionary(columnHeader, values)
+				: null;
+
+		return new ParquetColumn(columnHeader.toString(), columnType, values, dictionary);
+	}
+
+	/*
+	 * Type of columns holding EObjects' single-valued attributes values is
+	 * derived from attribute's type, as long as all values are of matching
+	 * type; type of all other columns is derived from values themselves.
+	 */
+	private ParquetColumnType extractColumnType(Object columnHeader, List<Object> values) {
+		if ((columnHeader instanceof EMFExportEObjectManyReferencesColumnHeader)
+				&& isColumnTypeApplicable(ParquetColumnType.STRING_LIST, values)) {
+			return ParquetColumnType.STRING_LIST;
+		}
+
+		if ((columnHeader instanceof EMFExportEObjectGenericColumnHeader)
+				&& ((EMFExportEObjectGenericColumnHeader) columnHeader).hasEAttribute()) {
+			EMFExportEObjectGenericColumnHeader genericColumnHeader = (EMFExportEObjectGenericColumnHeader) columnHeader;
+
+			if (genericColumnHeader.hasEEnum()) {
+				return ParquetColumnType.ENUM;
+			}
+
+			ParquetColumnType columnType = extractColumnType(genericColumnHeader.getEAttribute());
+
+			if ((columnType != null) && isColumnTypeApplicable(columnType, values)) {
+				return columnType;
+			}
+		}
+
+		return inferColumnType(values);
+	}
+
+	private ParquetColumnType extractColumnType(EAttribute eAttribute) {
+		if (eAttribute.isMany()) {
+			return ParquetColumnType.STRING;
+		}
+
+		Class<?> instanceClass = eAttribute.getEAttributeType().getInstanceClass();
+
+		if (instanceClass == null) {
+			return null;
+		} else if ((instanceClass == boolean.class) || (instanceClass == Boolean.class)) {
+			return ParquetColumnType.BOOLEAN;
+		} else if ((instanceClass == int.class) || (instanceClass == Integer.class) || (instanceClass == short.class)
+				|| (instanceClass == Short.class) || (instanceClass == byte.class) || (instanceClass == Byte.class)) {
+			return ParquetColumnType.INT32;
+		} else if ((instanceClass == long.class) || (instanceClass == Long.class)) {
+			return ParquetColumnType.INT64;
+		} else if ((instanceClass == float.class) || (instanceClass == Float.class)) {
+			return ParquetColumnType.FLOAT;
+		} else if ((instanceClass == BigDecimal.class) || (instanceClass == BigInteger.class)) {
+			// written as strings, so that neither precision nor magnitude is lost
+			return ParquetColumnType.STRING;
+		} else if ((instanceClass == double.class) || Number.class.isAssignableFrom(instanceClass)) {
+			return ParquetColumnType.DOUBLE;
+		} else if (Date.class.isAssignableFrom(instanceClass)) {
+			return ParquetColumnType.TIMESTAMP;
+		} else {
+			return ParquetColumnType.STRING;
+		}
+	}
+
+	private boolean isColumnTypeApplicable(ParquetColumnType columnType, List<Object> values) {
+		for (Object value : values) {
+			if ((value != null) && !isColumnTypeApplicable(columnType, value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isColumnTypeApplicable(ParquetColumnType columnType, Object value) {
+		switch (columnType) {
+
+		case BOOLEAN:
+			return (value instanceof Boolean);
+
+		case INT32:
+		case INT64:
+		case FLOAT:
+		case DOUBLE:
+			return (value instanceof Number);
+
+		case TIMESTAMP:
+			return (value instanceof Date);
+
+		case STRING_LIST:
+			return (value instanceof List);
+
+		default:
+			return true;
+		}
+	}
+
+	private ParquetColumnType inferColumnType(List<Object> values) {
+		ParquetColumnType columnType = null;
+
+		for (Object value : values) {
+			if (value != null) {
+				ParquetColumnType valueColumnType = inferColumnType(value);
+
+				if (columnType == null) {
+					columnType = valueColumnType;
+				} else if (columnType != valueColumnType) {
+					return ParquetColumnType.STRING;
+				}
+			}
+		}
+
+		return (columnType != null) ? columnType : ParquetColumnType.STRING;
+	}
+
+	private ParquetColumnType inferColumnType(Object value) {
+		if (value instanceof Boolean) {
+			return ParquetColumnType.BOOLEAN;
+		} else if (value instanceof Integer) {
+			return ParquetColumnType.INT32;
+		} else if (value instanceof Long) {
+			return ParquetColumnType.INT64;
+		} else if (value instanceof Float) {
+			return ParquetColumnType.FLOAT;
+		} else if (value instanceof Double) {
+			return ParquetColumnType.DOUBLE;
+		} else if (value instanceof Date) {
+			return ParquetColumnType.TIMESTAMP;
+		} else {
+			return ParquetColumnType.STRING;
+		}
+	}
+
+	/*
+	 * All EEnum's literals are used as dictionary, in order those are declared
+	 * in, so that dictionary does not depend on values exported, followed by any
+	 * other values (e.g. literals of EEnums which changed since model was
+	 * created).
+	 */
+	private List<String> extractDictionary(Object columnHeader, List<Object> values) {
+		Set<String> dictionary = new LinkedHashSet<>();
+
+		for (EEnumLiteral eEnumLiteral : ((EMFExportEObjectGenericColumnHeader) columnHeader).getEEnum()
+				.getELiterals()) {
+			dictionary.add(eEnumLiteral.getLiteral());
+		}
+
+		for (Object value : values) {
+			if (value != null) {
+				dictionary.add(String.valueOf(value));
+			}
+		}
+
+		return new ArrayList<>(dictionary);
+	}
+
+	/*
+	 * Empty cells are converted to nulls, written as Parquet nulls; references
+	 * are converted to IDs (or URIs, if enabled) of EObjects referenced - list of
+	 * those, for many references, which is empty if no EObjects are referenced.
+	 */
+	private Object convertValue(Object v, Map<Object, Object> exportOptions) {
+		if ((v == null) || (v instanceof Optional)) {
+			return null;
+		}
+
+		boolean showURIs = showURIsEnabled(exportOptions) && (v instanceof EMFExportEObjectReferenceValueCell)
+				&& !((EMFExportEObjectReferenceValueCell) v).isSelfReferencingModel();
+
+		if (v instanceof EMFExportEObjectOneReferenceValueCell) {
+			EMFExportEObjectOneReferenceValueCell oneReferenceValueCell = (EMFExportEObjectOneReferenceValueCell) v;
+
+			if (showURIs) {
+				return oneReferenceValueCell.hasURI() ? oneReferenceValueCell.getURI() : null;
+			} else {
+				return oneReferenceValueCell.hasRefID() ? oneReferenceValueCell.getRefID() : null;
+			}
+
+		} else if (v instanceof EMFExportEObjectManyReferencesValueCell) {
+			EMFExportEObjectManyReferencesValueCell manyReferencesValueCell = (EMFExportEObjectManyReferencesValueCell) v;
+
+			List<String> values;
+			if (showURIs) {
+				values = manyReferencesValueCell.hasURIs() ? manyReferencesValueCell.getURIs()
+						: Collections.emptyList();
+			} else {
+				values = manyReferencesValueCell.hasRefIDs() ? manyReferencesValueCell.getRefIDs()
+						: Collections.emptyList();
+			}
+
+			return values;
+
+		} else if (v instanceof EMFExportEObjectIDValueCell) {
+			return ((EMFExportEObjectIDValueCell) v).hasValue() ? ((EMFExportEObjectIDValueCell) v).getValue()
+					: null;
+
+		} else if (v instanceof EMFExportInternalIDValueCell) {
+			return ((EMFExportInternalIDValueCell) v).hasValue() ? ((EMFExportInternalIDValueCell) v).getValue()
+					: null;
+
+		} else if ((v instanceof Boolean) || (v instanceof Number) || (v instanceof Date)) {
+			return v;
+
+		} else {
+			return String.valueOf(v);
+		}
+	}
+
+	/*
+	 * Parquet file is written to temporary file as its pages are encoded,
+	 * rather than to memory; caller is responsible for closing it.
+	 */
+	private EMFExportSpoolFile generateParquetFile(List<ParquetColumn> columns, Map<Object, Object> exportOptions)
+			throws IOException, EMFExportException {
+
+		return EMFExportSpoolFile.spool("emf-parquet-entry", ".parquet",
+				parquetFileOutputStream -> writeParquetFile(new CountingOutputStream(parquetFileOutputStream),
+						columns, exportOptions));
+	}
+
+	private void writeParquetFile(CountingOutputStream parquetFile, List<ParquetColumn> columns,
+			Map<Object, Object> exportOptions) throws IOException, EMFExportException {
+
+		int rowsCount = !columns.isEmpty() ? columns.get(0).values.size() : 0;
+
+		parquetFile.write(PARQUET_FILE_MAGIC);
+
+		List<ParquetColumnChunk> columnChunks = new ArrayList<>();
+
+		for (ParquetColumn column : columns) {
+			columnChunks.add(writeColumnChunk(parquetFile, column, rowsCount, exportOptions));
+		}
+
+		ParquetBuffer fileMetadata = new ParquetBuffer();
+
+		writeFileMetadata(new ThriftCompactWriter(fileMetadata), columns, columnChunks, rowsCount,
+				exportOptions);
+
+		int fileMetadataLength = fileMetadata.size();
+
+		fileMetadata.writeIntLE(fileMetadataLength);
+		fileMetadata.writeBytes(PARQUET_FILE_MAGIC);
+
+		fileMetadata.writeTo(parquetFile);
+	}
+
+	/*
+	 * Column chunk consists of dictionary page, for columns which are
+	 * dictionary encoded, followed by data pages, each holding up to
+	 * DATA_PAGE_ROWS_COUNT rows.
+	 */
+	private ParquetColumnChunk writeColumnChunk(CountingOutputStream parquetFile, ParquetColumn column,
+			int rowsCount, Map<Object, Object> exportOptions) throws IOException, EMFExportException {
+
+		ParquetColumnChunk columnChunk = new ParquetColumnChunk();
+		columnChunk.fileOffset = parquetFile.getCount();
+
+		Map<String, Integer> dictionaryIndexes = null;
+
+		if (column.isDictionaryEncoded()) {
+			dictionaryIndexes = new HashMap<>();
+
+			ParquetBuffer dictionaryPage = new ParquetBuffer();
+
+			for (String value : column.dictionary) {
+				dictionaryIndexes.put(value, Integer.valueOf(dictionaryIndexes.size()));
+
+				writePlainValue(dictionaryPage, ParquetColumnType.STRING, value);
+			}
+
+			columnChunk.dictionaryPageOffset = parquetFile.getCount();
+
+			writePage(parquetFile, columnChunk, PAGE_TYPE_DICTIONARY_PAGE, ENCODING_PLAIN_DICTIONARY,
+					column.dictionary.size(), dictionaryPage, exportOptions);
+		}
+
+		columnChunk.dataPageOffset = parquetFile.getCount();
+
+		int fromRow = 0;
+
+		do {
+			int toRow = Math.min(fromRow + DATA_PAGE_ROWS_COUNT, rowsCount);
+
+			writeDataPage(parquetFile, columnChunk, column, dictionaryIndexes, fromRow, toRow, exportOptions);
+
+			fromRow = toRow;
+
+		} while (fromRow < rowsCount);
+
+		return columnChunk;
+	}
+
+	/*
+	 * Data page holds repetition levels (for list columns only) and definition
+	 * levels, each prefixed with its length, followed by non-null values.
+	 */
+	private void writeDataPage(CountingOutputStream parquetFile, ParquetColumnChunk columnChunk,
+			ParquetColumn column, Map<String, Integer> dictionaryIndexes, int fromRow, int toRow,
+			Map<Object, Object> exportOptions) throws IOException, EMFExportException {
+
+		int valuesCount = 0;
+
+		for (int row = fromRow; row < toRow; row++) {
+			Object value = column.values.get(row);
+
+			valuesCount += (value instanceof List) ? Math.max(((List<?>) value).size(), 1) : 1;
+		}
+
+		int[] repetitionLevels = new int[valuesCount];
+		int[] definitionLevels = new int[valuesCount];
+		List<Object> nonNullValues = new ArrayList<>(valuesCount);
+
+		int i = 0;
+
+		for (int row = fromRow; row < toRow; row++) {
+			Object value = column.values.get(row);
+
+			if (value == null) {
+				definitionLevels[i++] = 0;
+
+			} else if (column.type == ParquetColumnType.STRING_LIST) {
+				List<?> elements = (List<?>) value;
+
+				if (elements.isEmpty()) {
+					definitionLevels[i++] = 1;
+				}
+
+				for (int j = 0; j < elements.size(); j++) {
+					repetitionLevels[i] = (j == 0) ? 0 : 1;
+
+					if (elements.get(j) == null) {
+						definitionLevels[i++] = 2;
+					} else {
+						definitionLevels[i++] = 3;
+						nonNullValues.add(elements.get(j));
+					}
+				}
+
+			} else {
+				definitionLevels[i++] = 1;
+				nonNullValues.add(value);
+			}
+		}
+
+		ParquetBuffer dataPage = new ParquetBuffer();
+
+		if (column.maxRepetitionLevel() > 0) {
+			writeLevels(dataPage, repetitionLevels, column.maxRepetitionLevel());
+		}
+
+		writeLevels(dataPage, definitionLevels, column.maxDefinitionLevel());
+
+		if (dictionaryIndexes != null) {
+			int[] indexes = new int[nonNullValues.size()];
+
+			for (int j = 0; j < indexes.length; j++) {
+				indexes[j] = dictionaryIndexes.get(String.valueOf(nonNullValues.get(j))).intValue();
+			}
+
+			int bitWidth = bitWidth(dictionaryIndexes.size() - 1);
+
+			dataPage.write(bitWidth);
+			writeRLEBitPackedHybrid(dataPage, indexes, bitWidth);
+
+		} else if (column.type == ParquetColumnType.BOOLEAN) {
+			int[] bits = new int[nonNullValues.size()];
+
+			for (int j = 0; j < bits.length; j++) {
+				bits[j] = ((Boolean) nonNullValues.get(j)).booleanValue() ? 1 : 0;
+			}
+
+			writeBitPacked(dataPage, bits, 0, bits.length, 1);
+
+		} else {
+			for (Object value : nonNullValues) {
+				writePlainValue(dataPage, column.type, value);
+			}
+		}
+
+		writePage(parquetFile, columnChunk, PAGE_TYPE_DATA_PAGE,
+				column.isDictionaryEncoded() ? ENCODING_PLAIN_DICTIONARY : ENCODING_PLAIN, valuesCount, dataPage,
+				exportOptions);
+	}
+
+	private void writePage(CountingOutputStream parquetFile, ParquetColumnChunk columnChunk, int pageType,
+			int encoding, int valuesCount, ParquetBuffer page, Map<Object, Object> exportOptions)
+			throws IOException, EMFExportException {
+
+		byte[] uncompressedPage = page.toByteArray();
+		byte[] compressedPage = compressPage(uncompressedPage, exportOptions);
+
+		ParquetBuffer pageHeader = new ParquetBuffer();
+
+		ThriftCompactWriter writer = new ThriftCompactWriter(pageHeader);
+		writer.writeStructBegin();
+		writer.writeI32Field(1, pageType);
+		writer.writeI32Field(2, uncompressedPage.length);
+		writer.writeI32Field(3, compressedPage.length);
+
+		if (pageType == PAGE_TYPE_DICTIONARY_PAGE) {
+			writer.writeStructFieldBegin(7);
+			writer.writeI32Field(1, valuesCount);
+			writer.writeI32Field(2, encoding);
+			writer.writeStructEnd();
+
+		} else {
+			writer.writeStructFieldBegin(5);
+			writer.writeI32Field(1, valuesCount);
+			writer.writeI32Field(2, encoding);
+			writer.writeI32Field(3, ENCODING_RLE);
+			writer.writeI32Field(4, ENCODING_RLE);
+			writer.writeStructEnd();
+
+			columnChunk.valuesCount += valuesCount;
+		}
+
+		writer.writeStructEnd();
+
+		pageHeader.writeTo(parquetFile);
+		parquetFile.write(compressedPage);
+
+		columnChunk.totalUncompressedSize += pageHeader.size() + uncompressedPage.length;
+		columnChunk.totalCompressedSize += pageHeader.size() + compressedPage.length;
+	}
+
+	private byte[] compressPage(byte[] page, Map<Object, Object> exportOptions) throws EMFExportException {
+		if (compressionCodec(exportOptions) == EMFParquetCompressionCodec.UNCOMPRESSED) {
+			return page;
+		}
+
+		int compressionLevel = compressionLevel(exportOptions);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(page.length / 2 + 64);
+
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(baos) {
+			{
+				def.setLevel(compressionLevel);
+			}
+		}) {
+			gzipOutputStream.write(page);
+
+		} catch (IOException e) {
+			throw new EMFExportException(e);
+		}
+
+		return baos.toByteArray();
+	}
+
+	/*
+	 * Levels are encoded using RLE / bit-packing hybrid encoding, prefixed with
+	 * length of encoded data.
+	 */
+	private void writeLevels(ParquetBuffer buffer, int[] levels, int maxLevel) {
+		ParquetBuffer encodedLevels = new ParquetBuffer();
+
+		writeRLEBitPackedHybrid(encodedLevels, levels, bitWidth(maxLevel));
+
+		buffer.writeIntLE(encodedLevels.size());
+		buffer.writeBytes(encodedLevels.toByteArray());
+	}
+
+	/*
+	 * Runs of at least 8 repeated values are RLE encoded, while all other values
+	 * are bit-packed in groups of 8 - last group is padded with zeros, which
+	 * readers ignore, as number of values is known to them.
+	 */
+	private void writeRLEBitPackedHybrid(ParquetBuffer buffer, int[] values, int bitWidth) {
+		int i = 0;
+
+		while (i < values.length) {
+			int runLength = runLength(values, i);
+
+			if (runLength >= 8) {
+				buffer.writeUnsignedVarInt((long) runLength << 1);
+				writeRLEValue(buffer, values[i], bitWidth);
+				i += runLength;
+
+			} else {
+				int from = i;
+				int groupsCount = 0;
+
+				do {
+					i += 8;
+					groupsCount++;
+				} while ((i < values.length) && (groupsCount < 63) && (runLength(values, i) < 8));
+
+				buffer.writeUnsignedVarInt(((long) groupsCount << 1) | 1);
+				writeBitPacked(buffer, values, from, Math.min(i, values.length), bitWidth);
+				i = Math.min(i, values.length);
+			}
+		}
+	}
+
+	private int runLength(int[] values, int from) {
+		int to = from + 1;
+
+		while ((to < values.length) && (values[to] == values[from])) {
+			to++;
+		}
+		return (to - from);
+	}
+
+	private void writeRLEValue(ParquetBuffer buffer, int value, int bitWidth) {
+		for (int i = 0; i < (bitWidth + 7) / 8; i++) {
+			buffer.write((value >>> (8 * i)) & 0xFF);
+		}
+	}
+
+	/*
+	 * Values are packed starting from least significant bit, padded with zeros
+	 * to multiple of 8 values.
+	 */
+	private void writeBitPacked(ParquetBuffer buffer, int[] values, int from, int to, int bitWidth) {
+		int paddedTo = from + (((to - from) + 7) / 8) * 8;
+
+		long bits = 0;
+		int bitsCount = 0;
+
+		for (int i = from; i < paddedTo; i++) {
+			long value = (i < to) ? values[i] : 0;
+
+			bits |= (value << bitsCount);
+			bitsCount += bitWidth;
+
+			while (bitsCount >= 8) {
+				buffer.write((int) (bits & 0xFF));
+				bits >>>= 8;
+				bitsCount -= 8;
+			}
+		}
+	}
+
+	private int bitWidth(int maxValue) {
+		return Math.max(1, 32 - Integer.numberOfLeadingZeros(maxValue));
+	}
+
+	/*
+	 * Floating point values other than doubles are converted using their string
+	 * representation, so they are not widened to nearest double.
+	 */
+	private void writePlainValue(ParquetBuffer buffer, ParquetColumnType columnType, Object value) {
+		switch (columnType) {
+
+		case INT32:
+			buffer.writeIntLE(((Number) value).intValue());
+			break;
+
+		case INT64:
+			buffer.writeLongLE(((Number) value).longValue());
+			break;
+
+		case FLOAT:
+			buffer.writeIntLE(Float.floatToIntBits(((Number) value).floatValue()));
+			break;
+
+		case DOUBLE:
+			buffer.writeLongLE(Double.doubleToLongBits((value instanceof Double) ? ((Double) value).doubleValue()
+					: Double.parseDouble(String.valueOf(value))));
+			break;
+
+		case TIMESTAMP:
+			buffer.writeLongLE(((Date) value).getTime());
+			break;
+
+		default:
+			byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+			buffer.writeIntLE(bytes.length);
+			buffer.writeBytes(bytes);
+			break;
+		}
+	}
+
+	private void writeFileMetadata(ThriftCompactWriter writer, List<ParquetColumn> columns,
+			List<ParquetColumnChunk> columnChunks, int rowsCount, Map<Object, Object> exportOptions) {
+
+		int schemaElementsCount = 1;
+		for (ParquetColumn column : columns) {
+			schemaElementsCount += (column.type == ParquetColumnType.STRING_LIST) ? 3 : 1;
+		}
+
+		writer.writeStructBegin();
+		writer.writeI32Field(1, PARQUET_FILE_VERSION);
+
+		writer.writeListFieldBegin(2, ThriftCompactWriter.TYPE_STRUCT, schemaElementsCount);
+
+		writer.writeStructBegin();
+		writer.writeStringField(4, SCHEMA_ROOT_NAME);
+		writer.writeI32Field(5, columns.size());
+		writer.writeStructEnd();
+
+		for (ParquetColumn column : columns) {
+			writeSchemaElements(writer, column);
+		}
+
+		writer.writeI64Field(3, rowsCount);
+
+		writer.writeListFieldBegin(4, ThriftCompactWriter.TYPE_STRUCT, 1);
+		writer.writeStructBegin();
+
+		writer.writeListFieldBegin(1, ThriftCompactWriter.TYPE_STRUCT, columns.size());
+
+		long totalByteSize = 0;
+
+		for (int i = 0; i < columns.size(); i++) {
+			writeColumnChunkMetadata(writer, columns.get(i), columnChunks.get(i), exportOptions);
+
+			totalByteSize += columnChunks.get(i).totalUncompressedSize;
+		}
+
+		writer.writeI64Field(2, totalByteSize);
+		writer.writeI64Field(3, rowsCount);
+		writer.writeStructEnd();
+
+		writer.writeStringField(6, PARQUET_FILE_CREATED_BY);
+		writer.writeStructEnd();
+	}
+
+	/*
+	 * Many references columns are written using 3-level list structure, i.e.
+	 * optional group annotated as list, holding repeated group 'list' with
+	 * single optional field 'element'.
+	 */
+	private void writeSchemaElements(ThriftCompactWriter writer, ParquetColumn column) {
+		if (column.type == ParquetColumnType.STRING_LIST) {
+			writeSchemaElement(writer, -1, REPETITION_OPTIONAL, column.name, 1, CONVERTED_TYPE_LIST,
+					LOGICAL_TYPE_LIST);
+			writeSchemaElement(writer, -1, REPETITION_REPEATED, SCHEMA_LIST_NAME, 1, CONVERTED_TYPE_NONE,
+					LOGICAL_TYPE_NONE);
+			writeSchemaElement(writer, column.type.physicalType, REPETITION_OPTIONAL, SCHEMA_ELEMENT_NAME, -1,
+					column.type.convertedType, column.type.logicalType);
+		} else {
+			writeSchemaElement(writer, column.type.physicalType, REPETITION_OPTIONAL, column.name, -1,
+					column.type.convertedType, column.type.logicalType);
+		}
+	}
+
+	private void writeSchemaElement(ThriftCompactWriter writer, int physicalType, int repetitionType, String name,
+			int childrenCount, int convertedType, int logicalType) {
+
+		writer.writeStructBegin();
+
+		if (physicalType >= 0) {
+			writer.writeI32Field(1, physicalType);
+		}
+
+		writer.writeI32Field(3, repetitionType);
+		writer.writeStringField(4, name);
+
+		if (childrenCount >= 0) {
+			writer.writeI32Field(5, childrenCount);
+		}
+
+		if (convertedType != CONVERTED_TYPE_NONE) {
+			writer.writeI32Field(6, convertedType);
+		}
+
+		if (logicalType != LOGICAL_TYPE_NONE) {
+			writer.writeStructFieldBegin(10);
+			writer.writeStructFieldBegin(logicalType);
+
+			if (logicalType == LOGICAL_TYPE_TIMESTAMP) {
+				writer.writeBoolField(1, true);
+				writer.writeStructFieldBegin(2);
+				writer.writeStructFieldBegin(TIME_UNIT_MILLIS);
+				writer.writeStructEnd();
+				writer.writeStructEnd();
+			}
+
+			writer.writeStructEnd();
+			writer.writeStructEnd();
+		}
+
+		writer.writeStructEnd();
+	}
+
+	private void writeColumnChunkMetadata(ThriftCompactWriter writer, ParquetColumn column,
+			ParquetColumnChunk columnChunk, Map<Object, Object> exportOptions) {
+
+		List<String> path = (column.type == ParquetColumnType.STRING_LIST)
+				? List.of(column.name, SCHEMA_LIST_NAME, SCHEMA_ELEMENT_NAME)
+				: List.of(column.name);
+
+		writer.writeStructBegin();
+		writer.writeI64Field(2, columnChunk.fileOffset);
+
+		writer.writeStructFieldBegin(3);
+		writer.writeI32Field(1, column.type.physicalType);
+
+		writer.writeListFieldBegin(2, ThriftCompactWriter.TYPE_I32, 2);
+		writer.writeI32(column.isDictionaryEncoded() ? ENCODING_PLAIN_DICTIONARY : ENCODING_PLAIN);
+		writer.writeI32(ENCODING_RLE);
+
+		writer.writeListFieldBegin(3, ThriftCompactWriter.TYPE_BINARY, path.size());
+		for (String pathElement : path) {
+			writer.writeString(pathElement);
+		}
+
+		writer.writeI32Field(4,
+				(compressionCodec(exportOptions) == EMFParquetCompressionCodec.GZIP) ? CODEC_GZIP : CODEC_UNCOMPRESSED);
+		writer.writeI64Field(5, columnChunk.valuesCount);
+		writer.writeI64Field(6, columnChunk.totalUncompressedSize);
+		writer.writeI64Field(7, columnChunk.totalCompressedSize);
+		writer.writeI64Field(9, columnChunk.dataPageOffset);
+
+		if (column.isDictionaryEncoded()) {
+			writer.writeI64Field(11, columnChunk.dictionaryPageOffset);
+		}
+
+		writer.writeStructEnd();
+		writer.writeStructEnd();
+	}
+
+	@Override
+	protected Map<Object, Object> validateExportOptions(Map<?, ?> options) throws EMFExportException {
+		Map<Object, Object> exportOptions = super.validateExportOptions(options);
+
+		try {
+			compressionCodec(exportOptions);
+
+		} catch (IllegalArgumentException e) {
+			throw new EMFExportException(String.format("Unsupported compression codec '%s'!",
+					exportOptions.get(EMFParquetExportOptions.OPTION_COMPRESSION_CODEC)));
+		}
+
+		if (!(exportOptions.getOrDefault(EMFParquetExportOptions.OPTION_COMPRESSION_LEVEL,
+				DEFAULT_COMPRESSION_LEVEL) instanceof Integer)
+				|| (compressionLevel(exportOptions) < DEFAULT_COMPRESSION_LEVEL)
+				|| (compressionLevel(exportOptions) > BEST_COMPRESSION_LEVEL)) {
+			throw new EMFExportException(String.format("Unsupported compression level '%s'!",
+					exportOptions.get(EMFParquetExportOptions.OPTION_COMPRESSION_LEVEL)));
+		}
+
+		return exportOptions;
+	}
+
+	private EMFParquetCompressionCodec compressionCodec(Map<Object, Object> exportOptions) {
+		return EMFParquetCompressionCodec.valueOf(String.valueOf(exportOptions
+				.getOrDefault(EMFParquetExportOptions.OPTION_COMPRESSION_CODEC, EMFParquetCompressionCodec.GZIP)));
+	}
+
+	private int compressionLevel(Map<Object, Object> exportOptions) {
+		return ((int) exportOptions.getOrDefault(EMFParquetExportOptions.OPTION_COMPRESSION_LEVEL,
+				DEFAULT_COMPRESSION_LEVEL));
+	}
+
+	/**
+	 * Collects rows streamed from matrix into columns, which are written as
+	 * Parquet file to ZIP archive once matrix ends.
+	 */
+	private class ParquetRowSink implements EMFExportRowSink {
+		private final ZipOutputStream zipOutputStream;
+		private final Map<Object, Object> exportOptions;
+
+		private Map<Integer, Object> columnHeaders;
+		private Map<Integer, List<Object>> columnsValues;
+
+		private ParquetRowSink(ZipOutputStream zipOutputStream, Map<Object, Object> exportOptions) {
+			this.zipOutputStream = zipOutputStream;
+			this.exportOptions = exportOptions;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#startMatrix(java.lang.String, java.util.Map, int)
+		 */
+		@Override
+		public void startMatrix(String matrixName, Map<Integer, Object> columnHeaders, int rowsCount) {
+			LOG.debug("Streaming Parquet file for matrix named '{}'", matrixName);
+
+			this.columnHeaders = new LinkedHashMap<>(columnHeaders);
+			this.columnsValues = new LinkedHashMap<>();
+			for (Integer columnKey : columnHeaders.keySet()) {
+				this.columnsValues.put(columnKey, new ArrayList<>(rowsCount));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#writeRow(java.lang.String, int, java.util.Map)
+		 */
+		@Override
+		public void writeRow(String matrixName, int rowKey, Map<Integer, Object> row) {
+			for (Integer columnKey : columnHeaders.keySet()) {
+				columnsValues.get(columnKey).add(convertValue(row.get(columnKey), exportOptions));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#endMatrix(java.lang.String)
+		 */
+		@Override
+		public void endMatrix(String matrixName) throws EMFExportException {
+			try {
+
+				List<ParquetColumn> columns = new ArrayList<>();
+				for (Map.Entry<Integer, Object> columnHeader : columnHeaders.entrySet()) {
+					columns.add(constructColumn(columnHeader.getValue(), columnsValues.get(columnHeader.getKey())));
+				}
+
+				writeParquetFileToZipEntry(zipOutputStream, matrixName,
+						generateParquetFile(columns, exportOptions), exportOptions);
+
+			} catch (IOException e) {
+				throw new EMFExportException(e);
+
+			} finally {
+				columnHeaders = null;
+				columnsValues = null;
+			}
+		}
+	}
+
+	private enum ParquetColumnType {
+		// @formatter:off
+		BOOLEAN(TYPE_BOOLEAN, CONVERTED_TYPE_NONE, LOGICAL_TYPE_NONE),
+		INT32(TYPE_INT32, CONVERTED_TYPE_NONE, LOGICAL_TYPE_NONE),
+		INT64(TYPE_INT64, CONVERTED_TYPE_NONE, LOGICAL_TYPE_NONE),
+		FLOAT(TYPE_FLOAT, CONVERTED_TYPE_NONE, LOGICAL_TYPE_NONE),
+		DOUBLE(TYPE_DOUBLE, CONVERTED_TYPE_NONE, LOGICAL_TYPE_NONE),
+		TIMESTAMP(TYPE_INT64, CONVERTED_TYPE_TIMESTAMP_MILLIS, LOGICAL_TYPE_TIMESTAMP),
+		STRING(TYPE_BYTE_ARRAY, CONVERTED_TYPE_UTF8, LOGICAL_TYPE_STRING),
+		ENUM(TYPE_BYTE_ARRAY, CONVERTED_TYPE_ENUM, LOGICAL_TYPE_ENUM),
+		// list of strings; type of list's elements
+		STRING_LIST(TYPE_BYTE_ARRAY, CONVERTED_TYPE_UTF8, LOGICAL_TYPE_STRING);
+		// @formatter:on
+
+		private final int physicalType;
+		private final int convertedType;
+		private final int logicalType;
+
+		private ParquetColumnType(int physicalType, int convertedType, int logicalType) {
+			this.physicalType = physicalType;
+			this.convertedType = convertedType;
+			this.logicalType = logicalType;
+		}
+	}
+
+	private static class ParquetColumn {
+		private final String name;
+		private final ParquetColumnType type;
+		private final List<Object> values;
+		private final List<String> dictionary;
+
+		private ParquetColumn(String name, ParquetColumnType type, List<Object> values, List<String> dictionary) {
+			this.name = name;
+			this.type = type;
+			this.values = values;
+			this.dictionary = dictionary;
+		}
+
+		private boolean isDictionaryEncoded() {
+			return ((dictionary != null) && !dictionary.isEmpty());
+		}
+
+		private int maxRepetitionLevel() {
+			return (type == ParquetColumnType.STRING_LIST) ? 1 : 0;
+		}
+
+		private int maxDefinitionLevel() {
+			return (type == ParquetColumnType.STRING_LIST) ? 3 : 1;
+		}
+	}
+
+	private static class ParquetColumnChunk {
+		private long fileOffset;
+		private long dataPageOffset;
+		private long dictionaryPageOffset;
+		private long valuesCount;
+		private long totalUncompressedSize;
+		private long totalCompressedSize;
+	}
+
+	/**
+	 * In-memory buffer, supporting little-endian and variable-length encoded
+	 * values, as used by Parquet files.
+	 */
+	private static class ParquetBuffer extends ByteArrayOutputStream {
+
+		private void writeIntLE(int value) {
+			write(value & 0xFF);
+			write((value >>> 8) & 0xFF);
+			write((value >>> 16) & 0xFF);
+			write((value >>> 24) & 0xFF);
+		}
+
+		private void writeLongLE(long value) {
+			writeIntLE((int) value);
+			writeIntLE((int) (value >>> 32));
+		}
+
+		private void writeUnsignedVarInt(long value) {
+			while ((value & ~0x7FL) != 0) {
+				write((int) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			write((int) value);
+		}
+	}
+
+	/**
+	 * Writes Thrift structures using compact protocol, as used by Parquet files'
+	 * metadata and page headers.
+	 */
+	private static class ThriftCompactWriter {
+		private static final int TYPE_BOOLEAN_TRUE = 1;
+		private static final int TYPE_BOOLEAN_FALSE = 2;
+		private static final int TYPE_I32 = 5;
+		private static final int TYPE_I64 = 6;
+		private static final int TYPE_BINARY = 8;
+		private static final int TYPE_LIST = 9;
+		private static final int TYPE_STRUCT = 12;
+
+		private final ParquetBuffer buffer;
+
+		// IDs of last fields written, of structures enclosing current one
+		private final Deque<Integer> lastFieldIds = new ArrayDeque<>();
+
+		private int lastFieldId;
+
+		private ThriftCompactWriter(ParquetBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		private void writeStructBegin() {
+			lastFieldIds.push(Integer.valueOf(lastFieldId));
+			lastFieldId = 0;
+		}
+
+		private void writeStructEnd() {
+			buffer.write(0);
+			lastFieldId = lastFieldIds.pop().intValue();
+		}
+
+		private void writeStructFieldBegin(int fieldId) {
+			writeFieldBegin(fieldId, TYPE_STRUCT);
+			writeStructBegin();
+		}
+
+		private void writeListFieldBegin(int fieldId, int elementType, int size) {
+			writeFieldBegin(fieldId, TYPE_LIST);
+
+			if (size < 15) {
+				buffer.write((size << 4) | elementType);
+			} else {
+				buffer.write(0xF0 | elementType);
+				buffer.writeUnsignedVarInt(size);
+			}
+		}
+
+		private void writeBoolField(int fieldId, boolean value) {
+			writeFieldBegin(fieldId, value ? TYPE_BOOLEAN_TRUE : TYPE_BOOLEAN_FALSE);
+		}
+
+		private void writeI32Field(int fieldId, int value) {
+			writeFieldBegin(fieldId, TYPE_I32);
+			writeI32(value);
+		}
+
+		private void writeI64Field(int fieldId, long value) {
+			writeFieldBegin(fieldId, TYPE_I64);
+			buffer.writeUnsignedVarInt((value << 1) ^ (value >> 63));
+		}
+
+		private void writeStringField(int fieldId, String value) {
+			writeFieldBegin(fieldId, TYPE_BINARY);
+			writeString(value);
+		}
+
+		private void writeI32(int value) {
+			buffer.writeUnsignedVarInt(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+		}
+
+		private void writeString(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			buffer.writeUnsignedVarInt(bytes.length);
+			buffer.writeBytes(bytes);
+		}
+
+		/*
+		 * Field ID is written as delta from last field's ID, if possible.
+		 */
+		private void writeFieldBegin(int fieldId, int fieldType) {
+			int fieldIdDelta = fieldId - lastFieldId;
+
+			if ((fieldIdDelta > 0) && (fieldIdDelta <= 15)) {
+				buffer.write((fieldIdDelta << 4) | fieldType);
+			} else {
+				buffer.write(fieldType);
+				writeI32(fieldId);
+			}
+
+			lastFieldId = fieldId;
+		}
+	}
+}
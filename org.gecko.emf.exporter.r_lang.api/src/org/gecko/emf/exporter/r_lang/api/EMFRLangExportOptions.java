@@ -23,4 +23,23 @@ public interface EMFRLangExportOptions extends EMFExportOptions {
 	// one data frame per RData file, contained in ZIP archive; otherwise all data
 	// frames will be output to same RData file (list of data frames)
 	String OPTION_DATAFRAME_PER_FILE = "DATAFRAME_PER_FILE";
+
+	// compression method of RData files (defaults to
+	// EMFRLangCompressionMethod.NONE); when used together with one data frame per
+	// file, compressed RData files are stored in ZIP archive as they are
+	String OPTION_COMPRESSION_METHOD = "COMPRESSION_METHOD";
+
+	// compression level of RData files, from 0 (no compression) to 9 (best
+	// compression), or from 1 to 9 for BZIP2 compression method (defaults to -1,
+	// i.e. default compression level of compression method used)
+	String OPTION_COMPRESSION_LEVEL = "COMPRESSION_LEVEL";
+
+	// columns holding values of single-valued EEnum attributes are written as R
+	// factors, with all EEnum's literals as levels (defaults to false)
+	String OPTION_EENUMS_AS_FACTORS = "EENUMS_AS_FACTORS";
+
+	// other string columns with at most that many distinct values are written as
+	// R factors, with values sorted as levels (defaults to 0, i.e. disabled); in
+	// factors, empty values are written as NA
+	String OPTION_FACTOR_MAX_LEVELS = "FACTOR_MAX_LEVELS";
 }
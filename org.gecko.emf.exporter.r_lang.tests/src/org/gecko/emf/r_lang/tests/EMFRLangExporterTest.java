@@ -18,21 +18,34 @@ import static org.gecko.emf.r_lang.tests.helper.EMFRLangExporterTestHelper.creat
 import static org.gecko.emf.r_lang.tests.helper.EMFRLangExporterTestHelper.createSimpsonFamily;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EEnumLiteral;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.gecko.emf.exporter.EMFExportOptions;
 import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.exporter.r_lang.api.EMFRLangCompressionMethod;
 import org.gecko.emf.exporter.r_lang.api.EMFRLangExportOptions;
 import org.gecko.emf.exporter.r_lang.api.annotations.RequireEMFRLangExporter;
 import org.gecko.emf.osgi.annotation.require.RequireEMF;
@@ -40,6 +53,7 @@ import org.gecko.emf.osgi.example.model.basic.BasicFactory;
 import org.gecko.emf.osgi.example.model.basic.BasicPackage;
 import org.gecko.emf.osgi.example.model.basic.BusinessPerson;
 import org.gecko.emf.osgi.example.model.basic.Family;
+import org.gecko.emf.osgi.example.model.basic.Person;
 import org.gecko.emf.utilities.Request;
 import org.gecko.emf.utilities.UtilitiesFactory;
 import org.junit.jupiter.api.MethodOrderer;
@@ -115,6 +129,42 @@ public class EMFRLangExporterTest {
 		// @formatter:on
 	}
 
+	@Test
+	public void testExportExampleModelBasicEObjectsToRLangOneDataframePerFileParallelismEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFRLangExporter)") ServiceAware<EMFExporter> emfRLangExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfRLangExporterAware.getServices()).hasSize(1);
+		EMFExporter emfRLangExporterService = emfRLangExporterAware.getService();
+		assertThat(emfRLangExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile(
+				"testExportExampleModelBasicEObjectsToRLangOneDataframePerFileParallelismEnabled", ".zip");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfRLangExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_PARALLELISM, 4 // defaults to 1
+//						EMFRLangExportOptions.OPTION_DATAFRAME_PER_FILE, true // defaults to true
+					)
+				);
+		// @formatter:on
+	}
+
 	@Test
 	public void testExportExampleModelBasicEObjectsToRLangAllDataframesInOneFile(
 			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFRLangExporter)") ServiceAware<EMFExporter> emfRLangExporterAware,
@@ -150,6 +200,180 @@ public class EMFRLangExporterTest {
 		// @formatter:on
 	}
 
+	@Test
+	public void testExportExampleModelBasicEObjectsToRLangAllDataframesInOneFileStreamingEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFRLangExporter)") ServiceAware<EMFExporter> emfRLangExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfRLangExporterAware.getServices()).hasSize(1);
+		EMFExporter emfRLangExporterService = emfRLangExporterAware.getService();
+		assertThat(emfRLangExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile(
+				"testExportExampleModelBasicEObjectsToRLangAllDataframesInOneFileStreamingEnabled", ".RData");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfRLangExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_STREAMING, true, // defaults to false
+						EMFRLangExportOptions.OPTION_DATAFRAME_PER_FILE, false // defaults to true
+					)
+				);
+		// @formatter:on
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToRLangAllDataframesInOneFileGzipCompressionEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFRLangExporter)") ServiceAware<EMFExporter> emfRLangExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfRLangExporterAware.getServices()).hasSize(1);
+		EMFExporter emfRLangExporterService = emfRLangExporterAware.getService();
+		assertThat(emfRLangExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile(
+				"testExportExampleModelBasicEObjectsToRLangAllDataframesInOneFileGzipCompressionEnabled", ".RData");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfRLangExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFRLangExportOptions.OPTION_DATAFRAME_PER_FILE, false, // defaults to true
+						EMFRLangExportOptions.OPTION_COMPRESSION_METHOD, EMFRLangCompressionMethod.GZIP // defaults to NONE
+//						EMFRLangExportOptions.OPTION_COMPRESSION_LEVEL, 6 // defaults to -1
+					)
+				);
+		// @formatter:on
+
+		try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(filePath))) {
+			assertThat(new String(inputStream.readNBytes(7), StandardCharsets.US_ASCII)).isEqualTo("RDX2\nX\n");
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testExportExampleModelBasicEObjectsToRLangAllDataframesInOneFileFactorsEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFRLangExporter)") ServiceAware<EMFExporter> emfRLangExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfRLangExporterAware.getServices()).hasSize(1);
+		EMFExporter emfRLangExporterService = emfRLangExporterAware.getService();
+		assertThat(emfRLangExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile(
+				"testExportExampleModelBasicEObjectsToRLangAllDataframesInOneFileFactorsEnabled", ".RData");
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+			// @formatter:off
+			emfRLangExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+					Map.of(
+							EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//							EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+							EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//							EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//							EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+							EMFRLangExportOptions.OPTION_DATAFRAME_PER_FILE, false, // defaults to true
+							EMFRLangExportOptions.OPTION_EENUMS_AS_FACTORS, true, // defaults to false
+							EMFRLangExportOptions.OPTION_FACTOR_MAX_LEVELS, 4 // defaults to 0
+						)
+					);
+			// @formatter:on
+		}
+
+		Map<String, Object> dataFrames;
+		try (DataInputStream inputStream = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(filePath)))) {
+			assertThat(new String(inputStream.readNBytes(7), StandardCharsets.US_ASCII)).isEqualTo("RDX2\nX\n");
+
+			// format version, version of R which wrote file, minimal version of R needed to read it
+			inputStream.readInt();
+			inputStream.readInt();
+			inputStream.readInt();
+
+			dataFrames = (Map<String, Object>) readRDataItem(inputStream);
+
+			assertThat(inputStream.read()).isEqualTo(-1);
+		}
+
+		assertThat(dataFrames).containsKey("Person");
+		RDataVector personDataFrame = (RDataVector) dataFrames.get("Person");
+		assertThat(personDataFrame.type).isEqualTo(VECSXP);
+		assertThat(((RDataVector) personDataFrame.attributes.get("class")).values).containsExactly("data.frame");
+
+		List<Object> columnNames = ((RDataVector) personDataFrame.attributes.get("names")).values;
+		assertThat(columnNames).contains("id", "gender");
+
+		RDataVector idColumn = (RDataVector) personDataFrame.values.get(columnNames.indexOf("id"));
+		RDataVector genderColumn = (RDataVector) personDataFrame.values.get(columnNames.indexOf("gender"));
+
+		// EEnum column is written as factor, i.e. integer codes of levels, which
+		// are literals of EEnum, in order those are declared in
+		// @formatter:off
+		List<String> expectedLevels = basicPackage.getGenderType().getELiterals().stream()
+				.map(EEnumLiteral::getLiteral)
+				.collect(Collectors.toList());
+		// @formatter:on
+
+		assertThat(genderColumn.type).isEqualTo(INTSXP);
+		assertThat(((RDataVector) genderColumn.attributes.get("class")).values).containsExactly("factor");
+		assertThat(((RDataVector) genderColumn.attributes.get("levels")).values)
+				.containsExactlyElementsOf(expectedLevels);
+
+		Map<String, Person> personsByID = new HashMap<>();
+		for (Family family : List.of(simpsonFamily, flintstonesFamily)) {
+			personsByID.put(family.getFather().getId(), family.getFather());
+			personsByID.put(family.getMother().getId(), family.getMother());
+			for (Person child : family.getChildren()) {
+				personsByID.put(child.getId(), child);
+			}
+		}
+
+		assertThat(idColumn.values).hasSameSizeAs(personsByID.keySet());
+
+		List<Integer> expectedCodes = new ArrayList<>();
+		for (Object id : idColumn.values) {
+			assertThat(personsByID).containsKey((String) id);
+			expectedCodes.add(expectedLevels.indexOf(personsByID.get(id).getGender().getLiteral()) + 1);
+		}
+
+		assertThat(genderColumn.values).containsExactlyElementsOf(expectedCodes);
+	}
+
 	@Test
 	public void testExportUtilModelEObjectsToRLangOneDataframePerFile(
 			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFRLangExporter)") ServiceAware<EMFExporter> emfRLangExporterAware)
@@ -307,4 +531,99 @@ public class EMFRLangExporterTest {
 				);				
 		// @formatter:on
 	}
+
+	private static final int SYMSXP = 1;
+	private static final int LISTSXP = 2;
+	private static final int CHARSXP = 9;
+	private static final int LGLSXP = 10;
+	private static final int INTSXP = 13;
+	private static final int REALSXP = 14;
+	private static final int STRSXP = 16;
+	private static final int VECSXP = 19;
+	private static final int NILVALUE_SXP = 254;
+
+	/*
+	 * Reads item of RData file serialized in XDR format, as written by exporter:
+	 * pairlists are read as maps of their tags to their values, symbols and
+	 * scalar strings as strings, and vectors as their values along with their
+	 * attributes.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object readRDataItem(DataInputStream inputStream) throws IOException {
+		int flags = inputStream.readInt();
+		int type = (flags & 0xFF);
+		boolean hasAttributes = ((flags & (1 << 9)) != 0);
+		boolean hasTag = ((flags & (1 << 10)) != 0);
+
+		switch (type) {
+
+		case NILVALUE_SXP:
+			return null;
+
+		case SYMSXP:
+			return readRDataItem(inputStream);
+
+		case CHARSXP: {
+			int length = inputStream.readInt();
+			return (length == -1) ? null : new String(inputStream.readNBytes(length), StandardCharsets.UTF_8);
+		}
+
+		case LISTSXP: {
+			if (hasAttributes) {
+				readRDataItem(inputStream);
+			}
+
+			String tag = hasTag ? (String) readRDataItem(inputStream) : null;
+
+			Map<String, Object> pairs = new LinkedHashMap<>();
+			pairs.put(tag, readRDataItem(inputStream));
+
+			Map<String, Object> nextPairs = (Map<String, Object>) readRDataItem(inputStream);
+			if (nextPairs != null) {
+				pairs.putAll(nextPairs);
+			}
+
+			return pairs;
+		}
+
+		case LGLSXP:
+		case INTSXP:
+		case REALSXP:
+		case STRSXP:
+		case VECSXP: {
+			int length = inputStream.readInt();
+
+			List<Object> values = new ArrayList<>(length);
+			for (int i = 0; i < length; i++) {
+				if (type == REALSXP) {
+					values.add(inputStream.readDouble());
+				} else if (type == STRSXP || type == VECSXP) {
+					values.add(readRDataItem(inputStream));
+				} else {
+					values.add(inputStream.readInt());
+				}
+			}
+
+			Map<String, Object> attributes = hasAttributes ? (Map<String, Object>) readRDataItem(inputStream)
+					: Collections.emptyMap();
+
+			return new RDataVector(type, values, attributes);
+		}
+
+		default:
+			throw new IOException(String.format("Unexpected type of item in RData file: %d", type));
+		}
+	}
+
+	private static class RDataVector {
+		private final int type;
+		private final List<Object> values;
+		private final Map<String, Object> attributes;
+
+		private RDataVector(int type, List<Object> values, Map<String, Object> attributes) {
+			this.type = type;
+			this.values = values;
+			this.attributes = attributes;
+		}
+	}
 }
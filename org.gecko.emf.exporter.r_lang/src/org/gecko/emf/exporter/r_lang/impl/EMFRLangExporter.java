@@ -11,34 +11,55 @@
  */
 package org.gecko.emf.exporter.r_lang.impl;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
-import java.util.function.IntFunction;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.commons.compress.archivers.zip.ScatterZipOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntryRequest;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipParameters;
+import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
+import org.apache.commons.compress.compressors.xz.XZUtils;
+import org.eclipse.emf.ecore.EEnumLiteral;
 import org.eclipse.emf.ecore.EObject;
 import org.gecko.emf.exporter.AbstractEMFExporter;
 import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrix;
+import org.gecko.emf.exporter.EMFExportMetricsCollector;
+import org.gecko.emf.exporter.EMFExportPhase;
+import org.gecko.emf.exporter.EMFExportRowSink;
+import org.gecko.emf.exporter.EMFExportSpoolFile;
 import org.gecko.emf.exporter.EMFExporter;
 import org.gecko.emf.exporter.annotation.ProvideEMFExporter;
 import org.gecko.emf.exporter.cells.EMFExportEObjectManyReferencesValueCell;
 import org.gecko.emf.exporter.cells.EMFExportEObjectOneReferenceValueCell;
 import org.gecko.emf.exporter.cells.EMFExportEObjectReferenceValueCell;
+import org.gecko.emf.exporter.headers.EMFExportEObjectGenericColumnHeader;
+import org.gecko.emf.exporter.r_lang.api.EMFRLangCompressionMethod;
 import org.gecko.emf.exporter.r_lang.api.EMFRLangExportOptions;
 import org.gecko.emf.exporter.r_lang.api.EMFRLangExporterConstants;
 import org.osgi.service.component.annotations.Component;
@@ -47,12 +68,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.ListMultimap;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
-import com.google.common.collect.Table;
-import com.google.common.primitives.Bytes;
+import com.google.common.io.CountingOutputStream;
 
 /**
  * Implementation of the {@link EMFExporter} to provide support for exporting
@@ -67,6 +85,15 @@ public class EMFRLangExporter extends AbstractEMFExporter implements EMFExporter
 
 	private static final String RDATA_FILE_EXTENSION = "RData";
 
+	private static final byte[] RDATA_FILE_MAGIC = "RDX2\nX\n".getBytes();
+
+	// default level of compression method used, i.e. 6 for GZIP and XZ, and 9
+	// for BZIP2, same as used by R's 'save' function (except for XZ, as its
+	// best compression preset requires several hundred MB of memory)
+	private static final int DEFAULT_COMPRESSION_LEVEL = -1;
+	private static final int BEST_COMPRESSION_LEVEL = 9;
+	private static final int XZ_DEFAULT_PRESET = 6;
+
 	@SuppressWarnings("unused")
 	private static final int NILSXP = 0; /* nil = NULL */
 	private static final int SYMSXP = 1; /* symbols */
@@ -136,12 +163,8 @@ public class EMFRLangExporter extends AbstractEMFExporter implements EMFExporter
 	private static final String OPTION_ENCODE_FLAGS_HAS_ATTR_BIT_MASK = "ENCODE_FLAGS_HAS_ATTR_BIT_MASK ";
 	private static final String OPTION_ENCODE_FLAGS_HAS_TAG_BIT_MASK = "ENCODE_FLAGS_HAS_TAG_BIT_MASK";
 
-	private static final String TYPES_TYPE = "type";
-	private static final String TYPES_KEYS = "keys";
-	private static final String TYPES_TYPES = "types";
-
 	public EMFRLangExporter() {
-		super(LOG, Stopwatch.createStarted());
+		super(LOG);
 	}
 
 	/* 
@@ -160,6 +183,10 @@ public class EMFRLangExporter extends AbstractEMFExporter implements EMFExporter
 
 				final Map<Object, Object> exportOptions = validateExportOptions(options);
 
+				final EMFExportMetricsCollector metricsCollector = new EMFExportMetricsCollector();
+
+				final CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+
 				LOG.info("Starting export of {} EObject(s) to R language data frames"
 						+ (!exportOptions.isEmpty() ? " with options" : ""), eObjects.size());
 				LOG.info("  Locale to use: {}", locale(exportOptions));
@@ -168,193 +195,458 @@ public class EMFRLangExporter extends AbstractEMFExporter implements EMFExporter
 				LOG.info("  Add mapping table: {}", addMappingTableEnabled(exportOptions));
 				LOG.info("  Show URIs instead of IDs (where applicable): {}", showURIsEnabled(exportOptions));
 				LOG.info("  Show columns containing references: {}", showREFsEnabled(exportOptions));
+				LOG.info("  Pseudo ID strategy: {}", pseudoIDStrategy(exportOptions));
 				LOG.info("  Dataframe per file: {}", dataframePerFileEnabled(exportOptions));
+				LOG.info("  Compression method: {}", compressionMethod(exportOptions));
+				LOG.info("  Compression level: {}", compressionLevel(exportOptions));
+				LOG.info("  EEnums as factors: {}", eEnumsAsFactorsEnabled(exportOptions));
+				LOG.info("  Factor max levels: {}", factorMaxLevels(exportOptions));
+				LOG.info("  Streaming: {}", streamingEnabled(exportOptions));
+				LOG.info("  Parallelism: {}", parallelism(exportOptions));
+
+				if (streamingEnabled(exportOptions)) {
+					ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatricesSchema(eObjects,
+							exportOptions, metricsCollector);
 
-				ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions);
+					streamMatricesToRLang(countingOutputStream, processedEObjectsDTO, exportOptions);
 
-				if (dataframePerFileEnabled(exportOptions)) {
-					exportMatricesToRLangInOneDataframePerFileMode(outputStream, processedEObjectsDTO, exportOptions);
 				} else {
-					exportMatricesToRLangInAllDataframesInOneFileMode(outputStream, processedEObjectsDTO,
-							exportOptions);
+					ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions,
+							metricsCollector);
+
+					if (dataframePerFileEnabled(exportOptions)) {
+						exportMatricesToRLangInOneDataframePerFileMode(countingOutputStream, processedEObjectsDTO,
+								exportOptions);
+					} else {
+						exportMatricesToRLangInAllDataframesInOneFileMode(countingOutputStream,
+								processedEObjectsDTO, exportOptions);
+					}
 				}
 
+				publishMetrics(metricsCollector, countingOutputStream.getCount(), exportOptions);
+
 			} catch (Exception e) {
 				throw new EMFExportException(e);
 			}
 		}
 	}
 
+	private void streamMatricesToRLang(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions) throws EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
+
+		LOG.info("Starting streaming of R language data frames in {} mode",
+				(dataframePerFileEnabled(exportOptions) ? "one dataframe per file" : "all dataframes in one file"));
+
+		try {
+
+			if (dataframePerFileEnabled(exportOptions)) {
+
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+					streamMatricesToSink(processedEObjectsDTO, exportOptions,
+							new RLangRowSink(zipOutputStream, exportOptions));
+				}
+
+			} else {
+
+				OutputStream rDataOutputStream = compressingOutputStream(outputStream, exportOptions);
+
+				XDRWriter writer = new XDRWriter(rDataOutputStream);
+
+				writeRDataFileHeader(writer);
+
+				streamMatricesToSink(processedEObjectsDTO, exportOptions, new RLangRowSink(writer, exportOptions));
+
+				writer.writeInt(NILVALUESXP);
+
+				writer.flush();
+
+				rDataOutputStream.close();
+			}
+
+		} catch (IOException e) {
+			throw new EMFExportException(e);
+		}
+
+		LOG.info("Finished streaming of R language data frames in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
 	private void exportMatricesToRLangInAllDataframesInOneFileMode(OutputStream outputStream,
 			ProcessedEObjectsDTO processedEObjectsDTO, Map<Object, Object> exportOptions) throws EMFExportException {
 
-		resetStopwatch();
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
 
 		LOG.info("Starting generation of R language data frames in all dataframes in one file mode");
 
 		try {
 
-			writeRDataFileHeader(outputStream);
+			OutputStream rDataOutputStream = compressingOutputStream(outputStream, exportOptions);
+
+			XDRWriter writer = new XDRWriter(rDataOutputStream);
 
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap = Map
-					.copyOf(processedEObjectsDTO.matrixNameToMatrixMap);
+			writeRDataFileHeader(writer);
 
-			Map<String, Multimap<String, Object>> dataFrames = new LinkedHashMap<>();
+			// immutable copy would iterate in different order on each run
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap = new LinkedHashMap<>(
+					processedEObjectsDTO.matrixNameToMatrixMap);
 
-			List<Multimap<String, Object>> dataFramesMetadata = new ArrayList<>();
+			List<String> matrixNames = new ArrayList<>(matrixNameToMatrixMap.keySet());
 
-			for (String matrixName : matrixNameToMatrixMap.keySet()) {
-				LOG.debug("Generating R language data frame for matrix named '{}'", matrixName);
+			// data frames are constructed in parallel, if enabled, and written in
+			// order of matrices
+			List<Callable<List<DataFrameColumn>>> tasks = new ArrayList<>();
+
+			for (String matrixName : matrixNames) {
+				EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
 
-				Table<Integer, Integer, Object> matrix = matrixNameToMatrixMap.get(matrixName);
+				tasks.add(() -> {
+					LOG.debug("Generating R language data frame for matrix named '{}'", matrixName);
+
+					return constructDataFrame(exportOptions, matrix);
+				});
+			}
 
-				ListMultimap<String, Object> dataFrame = constructDataFrame(exportOptions, matrix);
-				dataFrames.put(matrixName, dataFrame);
+			List<List<DataFrameColumn>> constructedDataFrames = invokeAll(tasks, exportOptions);
 
-				List<ValueType> dataFrameTypes = extractDataFrameTypes(exportOptions, matrix);
+			Map<String, List<DataFrameColumn>> dataFrames = new LinkedHashMap<>();
 
-				ListMultimap<String, Object> dataFrameMetadata = constructDataFrameMetadata(dataFrame, dataFrameTypes);
-				dataFramesMetadata.add(dataFrameMetadata);
+			for (int i = 0; i < matrixNames.size(); i++) {
+				dataFrames.put(matrixNames.get(i), constructedDataFrames.get(i));
 			}
 
-			writeRDataFileData(outputStream, dataFrames, dataFramesMetadata);
+			writeRDataFileData(writer, dataFrames);
 
-			outputStream.close();
+			writer.flush();
+
+			rDataOutputStream.close();
 
 		} catch (IOException e) {
 			throw new EMFExportException(e);
 		}
 
-		LOG.info("Finished generation of R language data frames in {} second(s)", elapsedTimeInSeconds());
+		LOG.info("Finished generation of R language data frames in {} second(s)", elapsedTimeInSeconds(stopwatch));
 	}
 
 	private void exportMatricesToRLangInOneDataframePerFileMode(OutputStream outputStream,
 			ProcessedEObjectsDTO processedEObjectsDTO, Map<Object, Object> exportOptions) throws EMFExportException {
 
-		resetStopwatch();
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
 
 		LOG.info("Starting generation of R language data frames in one dataframe per file mode");
 
-		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+		try {
 
-			Map<String, Table<Integer, Integer, Object>> matrixNameToEObjectMatrixMap = eObjectMatricesOnly(
-					processedEObjectsDTO.matrixNameToMatrixMap);
+			if (parallelism(exportOptions) > 1) {
+				exportMatricesToRLangInParallel(outputStream, processedEObjectsDTO, exportOptions);
 
-			exportMatricesToRLang(zipOutputStream, processedEObjectsDTO, exportOptions, matrixNameToEObjectMatrixMap);
+			} else {
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
 
-			if (exportMetadataEnabled(exportOptions)) {
-				Map<String, Table<Integer, Integer, Object>> matrixNameToMetadataMatrixMap = metadataMatricesOnly(
-						processedEObjectsDTO.matrixNameToMatrixMap);
+					Map<String, EMFExportMatrix> matrixNameToEObjectMatrixMap = eObjectMatricesOnly(
+							processedEObjectsDTO.matrixNameToMatrixMap);
 
-				exportMatricesToRLang(zipOutputStream, processedEObjectsDTO, exportOptions,
-						matrixNameToMetadataMatrixMap);
-			}
+					exportMatricesToRLang(zipOutputStream, processedEObjectsDTO, exportOptions,
+							matrixNameToEObjectMatrixMap);
 
-			if (addMappingTableEnabled(exportOptions)) {
-				Map<String, Table<Integer, Integer, Object>> matrixNameToMappingMatrixMap = mappingMatricesOnly(
-						processedEObjectsDTO.matrixNameToMatrixMap);
+					if (exportMetadataEnabled(exportOptions)) {
+						Map<String, EMFExportMatrix> matrixNameToMetadataMatrixMap = metadataMatricesOnly(
+								processedEObjectsDTO.matrixNameToMatrixMap);
 
-				exportMatricesToRLang(zipOutputStream, processedEObjectsDTO, exportOptions,
-						matrixNameToMappingMatrixMap);
-			}
+						exportMatricesToRLang(zipOutputStream, processedEObjectsDTO, exportOptions,
+								matrixNameToMetadataMatrixMap);
+					}
+
+					if (addMappingTableEnabled(exportOptions)) {
+						Map<String, EMFExportMatrix> matrixNameToMappingMatrixMap = mappingMatricesOnly(
+								processedEObjectsDTO.matrixNameToMatrixMap);
 
+						exportMatricesToRLang(zipOutputStream, processedEObjectsDTO, exportOptions,
+								matrixNameToMappingMatrixMap);
+					}
+				}
+			}
 		} catch (IOException e) {
 			throw new EMFExportException(e);
 		}
 
-		LOG.info("Finished generation of R language data frames in {} second(s)", elapsedTimeInSeconds());
+		LOG.info("Finished generation of R language data frames in {} second(s)", elapsedTimeInSeconds(stopwatch));
 	}
 
 	private void exportMatricesToRLang(ZipOutputStream zipOutputStream, ProcessedEObjectsDTO processedEObjectsDTO,
-			Map<Object, Object> exportOptions, Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap)
+			Map<Object, Object> exportOptions, Map<String, EMFExportMatrix> matrixNameToMatrixMap)
 			throws IOException, EMFExportException {
 
 		for (String matrixName : matrixNameToMatrixMap.keySet()) {
 			LOG.debug("Generating R language data frame for matrix named '{}'", matrixName);
 
-			Table<Integer, Integer, Object> matrix = matrixNameToMatrixMap.get(matrixName);
+			EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
 
 			exportMatrixToRLang(exportOptions, matrixName, matrix, zipOutputStream);
 		}
 	}
 
+	/*
+	 * RData files are generated and compressed in parallel, each written to
+	 * temporary file first and then to its own scatter ZIP stream, backed by
+	 * temporary file as well, while compressed ZIP entries -
+	 * which have to be written one after another - are copied as-is to ZIP archive
+	 * in calling thread, in same order as matrices (data frames first, followed by
+	 * metadata and mapping tables, if enabled).
+	 */
+	private void exportMatricesToRLangInParallel(OutputStream outputStream,
+			ProcessedEObjectsDTO processedEObjectsDTO, Map<Object, Object> exportOptions)
+			throws IOException, EMFExportException {
+
+		Map<String, EMFExportMatrix> matrixNameToMatrixMap = new LinkedHashMap<>(
+				eObjectMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+
+		if (exportMetadataEnabled(exportOptions)) {
+			matrixNameToMatrixMap.putAll(metadataMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+		}
+
+		if (addMappingTableEnabled(exportOptions)) {
+			matrixNameToMatrixMap.putAll(mappingMatricesOnly(processedEObjectsDTO.matrixNameToMatrixMap));
+		}
+
+		// scatter ZIP streams created are tracked, so their temporary files are
+		// deleted even if some of the tasks fail
+		Queue<ScatterZipOutputStream> scatterZipOutputStreams = new ConcurrentLinkedQueue<>();
+
+		List<Callable<ScatterZipOutputStream>> tasks = new ArrayList<>();
+
+		for (String matrixName : matrixNameToMatrixMap.keySet()) {
+			EMFExportMatrix matrix = matrixNameToMatrixMap.get(matrixName);
+
+			tasks.add(() -> {
+				LOG.debug("Generating R language data frame for matrix named '{}'", matrixName);
+
+				List<DataFrameColumn> dataFrame = constructDataFrame(exportOptions, matrix);
+
+				try (EMFExportSpoolFile rDataFile = EMFExportSpoolFile.spool("emf-rdata-entry", ".rdata",
+						rDataFileOutputStream -> generateRDataFile(rDataFileOutputStream, matrixName, dataFrame,
+								exportOptions))) {
+
+					ScatterZipOutputStream scatterZipOutputStream = ScatterZipOutputStream
+							.fileBased(Files.createTempFile("emf-rdata-entry", ".zip").toFile());
+					scatterZipOutputStreams.add(scatterZipOutputStream);
+
+					// RData file is read, and compressed, by scatter ZIP stream as entry is added
+					scatterZipOutputStream.addArchiveEntry(ZipArchiveEntryRequest.createZipArchiveEntryRequest(
+							constructZipArchiveEntry(matrixName, exportOptions), () -> {
+								try {
+									return rDataFile.openInputStream();
+								} catch (IOException e) {
+									throw new UncheckedIOException(e);
+								}
+							}));
+
+					return scatterZipOutputStream;
+				}
+			});
+		}
+
+		try (ZipArchiveOutputStream zipArchiveOutputStream = new ZipArchiveOutputStream(outputStream)) {
+
+			for (ScatterZipOutputStream scatterZipOutputStream : invokeAll(tasks, exportOptions)) {
+				scatterZipOutputStream.writeTo(zipArchiveOutputStream);
+			}
+
+		} finally {
+			for (ScatterZipOutputStream scatterZipOutputStream : scatterZipOutputStreams) {
+				scatterZipOutputStream.close();
+			}
+		}
+	}
+
 	private void exportMatrixToRLang(Map<Object, Object> exportOptions, String matrixName,
-			Table<Integer, Integer, Object> matrix, ZipOutputStream zipOutputStream)
+			EMFExportMatrix matrix, ZipOutputStream zipOutputStream)
+			throws IOException, EMFExportException {
+
+		writeDataFrameToZipEntry(zipOutputStream, matrixName, constructDataFrame(exportOptions, matrix),
+				exportOptions);
+	}
+
+	private void writeDataFrameToZipEntry(ZipOutputStream zipOutputStream, String matrixName,
+			List<DataFrameColumn> dataFrame, Map<Object, Object> exportOptions)
 			throws IOException, EMFExportException {
 
-		ListMultimap<String, Object> dataFrame = constructDataFrame(exportOptions, matrix);
+		if (compressionMethod(exportOptions) != EMFRLangCompressionMethod.NONE) {
+			writeCompressedDataFrameToZipEntry(zipOutputStream, matrixName, dataFrame, exportOptions);
+			return;
+		}
+
+		zipOutputStream.putNextEntry(new ZipEntry(constructZipEntryName(matrixName)));
+
+		// written directly to ZIP entry, without buffering whole file in memory
+		// first; writer is only flushed, as closing it would close ZIP stream
+		writeRDataFile(zipOutputStream, matrixName, dataFrame);
+
+		zipOutputStream.closeEntry();
+	}
+
+	/*
+	 * Compressed RData file is stored in ZIP archive as it is, so it is not
+	 * compressed twice; as stored entries require their size and CRC-32 to be
+	 * known up front, RData file is spooled to temporary file first.
+	 */
+	private void writeCompressedDataFrameToZipEntry(ZipOutputStream zipOutputStream, String matrixName,
+			List<DataFrameColumn> dataFrame, Map<Object, Object> exportOptions)
+			throws IOException, EMFExportException {
+
+		try (EMFExportSpoolFile rDataFile = EMFExportSpoolFile.spool("emf-rdata-entry", ".rdata",
+				rDataFileOutputStream -> generateRDataFile(rDataFileOutputStream, matrixName, dataFrame,
+						exportOptions))) {
+
+			ZipEntry zipEntry = new ZipEntry(constructZipEntryName(matrixName));
+			zipEntry.setMethod(ZipEntry.STORED);
+
+			rDataFile.copyToZipEntry(zipOutputStream, zipEntry);
+		}
+	}
+
+	/*
+	 * Closes output stream passed once RData file is written, as compressors
+	 * have to be closed for their trailers to be written.
+	 */
+	private void generateRDataFile(OutputStream outputStream, String matrixName, List<DataFrameColumn> dataFrame,
+			Map<Object, Object> exportOptions) throws IOException, EMFExportException {
+
+		try (OutputStream rDataOutputStream = compressingOutputStream(outputStream, exportOptions)) {
+			writeRDataFile(rDataOutputStream, matrixName, dataFrame);
+		}
+	}
+
+	private OutputStream compressingOutputStream(OutputStream outputStream, Map<Object, Object> exportOptions)
+			throws IOException {
 
-		List<ValueType> dataFrameTypes = extractDataFrameTypes(exportOptions, matrix);
+		int compressionLevel = compressionLevel(exportOptions);
 
-		ListMultimap<String, Object> dataFrameMetadata = constructDataFrameMetadata(dataFrame, dataFrameTypes);
+		switch (compressionMethod(exportOptions)) {
 
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+		case GZIP:
+			GzipParameters gzipParameters = new GzipParameters();
+			gzipParameters.setCompressionLevel(compressionLevel);
+			return new GzipCompressorOutputStream(outputStream, gzipParameters);
 
-			writeRDataFileHeader(baos);
+		case BZIP2:
+			return new BZip2CompressorOutputStream(outputStream,
+					(compressionLevel == DEFAULT_COMPRESSION_LEVEL) ? BZip2CompressorOutputStream.MAX_BLOCKSIZE
+							: compressionLevel);
 
-			writeRDataFileData(baos, Map.of(matrixName, dataFrame), List.of(dataFrameMetadata));
+		case XZ:
+			return new XZCompressorOutputStream(outputStream,
+					(compressionLevel == DEFAULT_COMPRESSION_LEVEL) ? XZ_DEFAULT_PRESET : compressionLevel);
 
-			writeZipEntry(zipOutputStream, matrixName, baos);
+		default:
+			return outputStream;
 		}
 	}
 
-	private ListMultimap<String, Object> constructDataFrame(Map<Object, Object> exportOptions,
-			Table<Integer, Integer, Object> matrix) {
-		ListMultimap<String, Object> dataFrame = MultimapBuilder.linkedHashKeys().arrayListValues().build();
+	private void writeRDataFile(OutputStream outputStream, String matrixName, List<DataFrameColumn> dataFrame)
+			throws EMFExportException {
+
+		XDRWriter writer = new XDRWriter(outputStream);
+
+		writeRDataFileHeader(writer);
 
-		Set<Integer> matrixColumnKeys = matrix.columnKeySet();
+		writeRDataFileData(writer, Map.of(matrixName, dataFrame));
 
-		for (Integer matrixColumnKey : matrixColumnKeys) {
+		writer.flush();
+	}
+
+	/*
+	 * Type of each column is derived once, from its first value; values are
+	 * converted once as well, while column is read from matrix.
+	 */
+	private List<DataFrameColumn> constructDataFrame(Map<Object, Object> exportOptions, EMFExportMatrix matrix) {
+		List<DataFrameColumn> dataFrame = new ArrayList<>();
+
+		for (Integer matrixColumnKey : matrix.columnKeySet()) {
 			Map<Integer, Object> matrixColumn = matrix.column(matrixColumnKey);
 
-			String matrixColumnHeader = matrixColumn.get(1).toString();
+			Iterator<Object> matrixColumnValues = matrixColumn.values().iterator();
 
-			List<Object> matrixColumnValues = matrixColumn.values().stream().skip(1)
-					.map(v -> convertValue(v, exportOptions)).collect(Collectors.toList());
+			// first value is column header
+			DataFrameColumn dataFrameColumn = new DataFrameColumn(matrixColumnValues.next(),
+					matrixColumn.size() - 1);
 
-			dataFrame.putAll(matrixColumnHeader, matrixColumnValues);
+			while (matrixColumnValues.hasNext()) {
+				dataFrameColumn.add(convertValue(matrixColumnValues.next(), exportOptions));
+			}
+
+			dataFrameColumn.complete(exportOptions);
+
+			dataFrame.add(dataFrameColumn);
 		}
 		return dataFrame;
 	}
 
-	private List<ValueType> extractDataFrameTypes(Map<Object, Object> exportOptions,
-			Table<Integer, Integer, Object> matrix) {
-		List<ValueType> dataFrameTypes = new ArrayList<>();
+	private ValueType extractValueType(Object value) {
+		if (value instanceof Integer) {
+			return ValueType.INT;
+		} else if (value instanceof Double || value instanceof Float) {
+			return ValueType.REAL;
+		} else if (value instanceof Boolean) {
+			return ValueType.LOGICAL;
+		} else {
+			return ValueType.STRING;
+		}
+	}
+
+	/*
+	 * Only columns holding EObjects' attributes values are considered - for
+	 * EEnums, all literals are used as levels, in order those are declared in, so
+	 * that levels do not depend on values exported; for other columns, levels are
+	 * sorted, same as done by R's 'factor' function.
+	 */
+	private List<String> extractFactorLevels(Map<Object, Object> exportOptions, Object columnHeader,
+			String[] values, int length) {
 
-		Set<Integer> matrixColumnKeys = matrix.columnKeySet();
+		if (!(columnHeader instanceof EMFExportEObjectGenericColumnHeader)) {
+			return null;
+		}
 
-		for (Integer matrixColumnKey : matrixColumnKeys) {
-			Map<Integer, Object> matrixColumn = matrix.column(matrixColumnKey);
+		EMFExportEObjectGenericColumnHeader genericColumnHeader = (EMFExportEObjectGenericColumnHeader) columnHeader;
 
-			List<Object> matrixColumnValues = matrixColumn.values().stream().skip(1)
-					.map(v -> convertValue(v, exportOptions)).collect(Collectors.toList());
-
-			for (Object matrixColumnValue : matrixColumnValues) {
-				if (matrixColumnValue instanceof Integer) {
-					dataFrameTypes.add(ValueType.INT);
-					break;
-				} else if (matrixColumnValue instanceof Double || matrixColumnValue instanceof Float) {
-					dataFrameTypes.add(ValueType.REAL);
-					break;
-				} else if (matrixColumnValue instanceof Boolean) {
-					dataFrameTypes.add(ValueType.LOGICAL);
-					break;
-				} else {
-					dataFrameTypes.add(ValueType.STRING);
-					break;
+		if (genericColumnHeader.hasEEnum() && eEnumsAsFactorsEnabled(exportOptions)) {
+			Set<String> levels = new LinkedHashSet<>();
+
+			for (EEnumLiteral eEnumLiteral : genericColumnHeader.getEEnum().getELiterals()) {
+				levels.add(eEnumLiteral.getLiteral());
+			}
+
+			// e.g. literals of EEnums which changed since model was created
+			for (int i = 0; i < length; i++) {
+				if (!values[i].isEmpty()) {
+					levels.add(values[i]);
 				}
 			}
+
+			return new ArrayList<>(levels);
 		}
-		return dataFrameTypes;
-	}
 
-	private ListMultimap<String, Object> constructDataFrameMetadata(ListMultimap<String, Object> dataFrame,
-			List<ValueType> dataFrameTypes) {
-		ListMultimap<String, Object> dataFrameMetadata = MultimapBuilder.linkedHashKeys().arrayListValues().build();
-		dataFrameMetadata.put(TYPES_TYPE, ValueType.DATAFRAME);
-		dataFrameMetadata.putAll(TYPES_KEYS, dataFrame.keySet());
-		dataFrameMetadata.putAll(TYPES_TYPES, dataFrameTypes);
-		return dataFrameMetadata;
+		int factorMaxLevels = factorMaxLevels(exportOptions);
+
+		if (factorMaxLevels > 0) {
+			Set<String> levels = new TreeSet<>();
+
+			for (int i = 0; i < length; i++) {
+				if (!values[i].isEmpty() && levels.add(values[i]) && (levels.size() > factorMaxLevels)) {
+					return null;
+				}
+			}
+
+			return new ArrayList<>(levels);
+		}
+
+		return null;
 	}
 
 	private Object convertValue(Object v, Map<Object, Object> exportOptions) {
@@ -399,21 +691,11 @@ public class EMFRLangExporter extends AbstractEMFExporter implements EMFExporter
 		}
 	}
 
-	private void writeZipEntry(ZipOutputStream zipOutputStream, String matrixName, ByteArrayOutputStream baos)
-			throws IOException {
-		String zipEntryName = constructZipEntryName(matrixName);
-		ZipEntry zipEntry = new ZipEntry(zipEntryName);
-		zipOutputStream.putNextEntry(zipEntry);
-
-		try (InputStream bais = new ByteArrayInputStream(baos.toByteArray())) {
-			byte[] bytes = new byte[1024];
-			int length;
-			while ((length = bais.read(bytes)) >= 0) {
-				zipOutputStream.write(bytes, 0, length);
-			}
-		}
-
-		zipOutputStream.closeEntry();
+	private ZipArchiveEntry constructZipArchiveEntry(String matrixName, Map<Object, Object> exportOptions) {
+		ZipArchiveEntry zipArchiveEntry = new ZipArchiveEntry(constructZipEntryName(matrixName));
+		zipArchiveEntry.setMethod((compressionMethod(exportOptions) != EMFRLangCompressionMethod.NONE) ? ZipEntry.STORED
+				: ZipEntry.DEFLATED);
+		return zipArchiveEntry;
 	}
 
 	private String constructZipEntryName(String matrixName) {
@@ -436,18 +718,6 @@ public class EMFRLangExporter extends AbstractEMFExporter implements EMFExporter
 		return s + (p * 256) + (v * 65536);
 	}
 
-	private ByteBuffer encodeInt(int value) {
-		ByteBuffer buf = ByteBuffer.allocate(4);
-		buf.putInt(value);
-		return buf;
-	}
-
-	private ByteBuffer encodeReal(double value) {
-		ByteBuffer buf = ByteBuffer.allocate(8);
-		buf.putDouble(value);
-		return buf;
-	}
-
 	private int encodeFlags(int base_type, Map<String, Boolean> options) {
 		if (options == null) {
 			options = new HashMap<>();
@@ -470,333 +740,498 @@ public class EMFRLangExporter extends AbstractEMFExporter implements EMFExporter
 		return flags;
 	}
 
-	private void writeRDataFileHeader(OutputStream stream) {
-		write(stream, "RDX2\nX\n".getBytes());
-		write(stream, encodeInt(2).array());
-		write(stream, encodeInt(packedVersion(3, 0, 0)).array());
-		write(stream, encodeInt(packedVersion(2, 3, 0)).array());
+	private void writeRDataFileHeader(XDRWriter writer) throws EMFExportException {
+		writer.writeBytes(RDATA_FILE_MAGIC);
+		writer.writeInt(2);
+		writer.writeInt(packedVersion(3, 0, 0));
+		writer.writeInt(packedVersion(2, 3, 0));
 	}
 
-	private void writeValue(OutputStream stream, Object[] value, ValueType valueType) throws Exception {
+	private void writeValue(XDRWriter writer, Collection<?> values, ValueType valueType)
+			throws EMFExportException {
 
 		switch (valueType) {
 
 		case INT:
-			intVector(stream, convertToArrayOf(value, new ValueOfConverter<Integer>() {
+			writer.writeInt(encodeFlags(INTSXP, null));
+			writer.writeInt(values.size());
 
-				@Override
-				public Integer apply(Object obj) {
-					if (obj == null || String.valueOf(obj).isEmpty()) {
-						return Integer.valueOf(-1);
-					}
-
-					return Integer.valueOf(String.valueOf(obj));
-				}
-			}, Integer[]::new));
+			for (Object value : values) {
+				writer.writeInt(intValue(value));
+			}
 
 			break;
 
 		case REAL:
-			realVector(stream, convertToArrayOf(value, new ValueOfConverter<Double>() {
-
-				@Override
-				public Double apply(Object obj) {
-					if (obj == null || String.valueOf(obj).isEmpty()) {
-						return Double.valueOf(-1);
-					}
+			writer.writeInt(encodeFlags(REALSXP, null));
+			writer.writeInt(values.size());
 
-					return Double.valueOf(String.valueOf(obj));
-				}
-			}, Double[]::new));
+			for (Object value : values) {
+				writer.writeDouble(realValue(value));
+			}
 
 			break;
 
 		case LOGICAL:
-			logicalVector(stream, convertToArrayOf(value, new ValueOfConverter<Boolean>() {
+			writer.writeInt(encodeFlags(LGLSXP, null));
+			writer.writeInt(values.size());
 
-				@Override
-				public Boolean apply(Object obj) {
-					return Boolean.valueOf(String.valueOf(obj));
-				}
-			}, Boolean[]::new));
+			for (Object value : values) {
+				writer.writeInt(logicalValue(value) ? 1 : 0);
+			}
 
 			break;
 
 		case STRING:
-			stringVector(stream, convertToArrayOf(value, new ValueOfConverter<String>() {
-
-				@Override
-				public String apply(Object obj) {
-					if (obj == null) {
-						return "";
-					}
+			writer.writeInt(encodeFlags(STRSXP, null));
+			writer.writeInt(values.size());
 
-					return String.valueOf(obj);
-				}
-			}, String[]::new));
+			for (Object value : values) {
+				stringScalar(writer, (value != null) ? String.valueOf(value) : "");
+			}
 
 			break;
 
 		default:
-			throw new Exception("No valid value type specified!");
+			throw new EMFExportException("No valid value type specified!");
 		}
 	}
 
-	private <T> T[] convertToArrayOf(Object[] values, ValueOfConverter<T> valueOfConverter,
-			IntFunction<T[]> arrayTenerator) {
-		return Arrays.stream(values).map(value -> valueOfConverter.apply(value)).toArray(arrayTenerator);
-	}
-
-	private void writeVector(OutputStream stream, Object[] vector, ScalarWriter<Object> method)
+	/*
+	 * Factor is written as integer vector of 1-based indexes of levels, with
+	 * 'levels' and 'class' attributes; empty values are written as NA.
+	 */
+	private void writeFactor(XDRWriter writer, String[] values, int length, List<String> levels)
 			throws EMFExportException {
 
-		applyForEach(List.of(vector), new ForEachApplier<Object, Integer>() {
+		Map<String, Integer> levelToIndexMap = new HashMap<>();
+		for (int i = 0; i < levels.size(); i++) {
+			levelToIndexMap.put(levels.get(i), Integer.valueOf(i + 1));
+		}
 
-			@Override
-			public void apply(Object element, Integer index) {
-				write(stream, method.apply(element));
-			}
-		});
-	}
+		writer.writeInt(encodeFlags(INTSXP, Map.of(OPTION_ENCODE_FLAGS_IS_OBJECT_BIT_MASK, Boolean.TRUE,
+				OPTION_ENCODE_FLAGS_HAS_ATTR_BIT_MASK, Boolean.TRUE)));
+		writer.writeInt(length);
 
-	private byte[] stringScalar(String string) {
-		ByteBuffer type = encodeInt(CHARSXP | (ASCII_MASK << 12));
+		for (int i = 0; i < length; i++) {
+			Integer levelIndex = levelToIndexMap.get(values[i]);
 
-		if (string == null) {
-			type = encodeInt(CHARSXP);
-			return Bytes.concat(type.array(), encodeInt(NA_STRING).array());
+			writer.writeInt((levelIndex != null) ? levelIndex.intValue() : NA_INT);
 		}
 
-		byte[] stringByteArr = string.getBytes();
+		writer.writeInt(encodeFlags(LISTSXP, Map.of(OPTION_ENCODE_FLAGS_HAS_TAG_BIT_MASK, Boolean.TRUE)));
+		symbol(writer, "levels");
+		writeValue(writer, levels, ValueType.STRING);
 
-		byte[] stringByteArrLength = encodeInt(stringByteArr.length).array();
+		writer.writeInt(encodeFlags(LISTSXP, Map.of(OPTION_ENCODE_FLAGS_HAS_TAG_BIT_MASK, Boolean.TRUE)));
+		symbol(writer, "class");
+		writeValue(writer, List.of("factor"), ValueType.STRING);
 
-		return Bytes.concat(type.array(), stringByteArrLength, stringByteArr);
+		writer.writeInt(NILVALUESXP);
 	}
 
-	private byte[] realScalar(Double realScalar) {
-		if (realScalar == null) {
-			return encodeReal(NA_REAL).array();
+	private int intValue(Object value) {
+		if (value instanceof Integer) {
+			return ((Integer) value).intValue();
+		}
+
+		if (value == null || String.valueOf(value).isEmpty()) {
+			return -1;
 		}
 
-		return encodeReal(realScalar).array();
+		return Integer.parseInt(String.valueOf(value));
 	}
 
-	private byte[] intScalar(Integer intScalar) {
-		if (intScalar == null) {
-			return encodeInt(NA_INT).array();
+	/*
+	 * Values other than doubles (e.g. floats) are converted using their string
+	 * representation, so they are not widened to nearest double.
+	 */
+	private double realValue(Object value) {
+		if (value instanceof Double) {
+			return ((Double) value).doubleValue();
 		}
 
-		return encodeInt(intScalar).array();
+		if (value == null || String.valueOf(value).isEmpty()) {
+			return -1;
+		}
+
+		return Double.parseDouble(String.valueOf(value));
 	}
 
-	private byte[] logicalScalar(Boolean boolScalar) {
-		if (boolScalar == null) {
-			return encodeInt(NA_INT).array();
+	private boolean logicalValue(Object value) {
+		if (value instanceof Boolean) {
+			return ((Boolean) value).booleanValue();
 		}
 
-		return encodeInt(boolScalar.booleanValue() ? 1 : 0).array();
+		return Boolean.parseBoolean(String.valueOf(value));
 	}
 
-	private void stringVector(OutputStream stream, String[] vector) throws EMFExportException {
+	private void stringScalar(XDRWriter writer, String string) throws EMFExportException {
+		if (string == null) {
+			writer.writeInt(CHARSXP);
+			writer.writeInt(NA_STRING);
+			return;
+		}
 
-		write(stream, encodeInt(encodeFlags(STRSXP, null)).array());
+		byte[] stringByteArr = string.getBytes();
 
-		write(stream, encodeInt(vector.length).array());
+		writer.writeInt(CHARSXP | (ASCII_MASK << 12));
+		writer.writeInt(stringByteArr.length);
+		writer.writeBytes(stringByteArr);
+	}
 
-		writeVector(stream, vector, new ScalarWriter<Object>() {
+	private void symbol(XDRWriter writer, String string) throws EMFExportException {
+		writer.writeInt(encodeFlags(SYMSXP, null));
+		stringScalar(writer, string);
+	}
 
-			@Override
-			public byte[] apply(Object t) {
-				return stringScalar(String.valueOf(t));
-			}
-		});
+	private void writeRDataFileData(XDRWriter writer, Map<String, List<DataFrameColumn>> dataFrames)
+			throws EMFExportException {
+
+		for (Map.Entry<String, List<DataFrameColumn>> dataFrame : dataFrames.entrySet()) {
+			writeRDataFilePair(writer, dataFrame.getKey(), dataFrame.getValue());
+		}
+
+		writer.writeInt(NILVALUESXP);
 	}
 
-	private void realVector(OutputStream stream, Double[] vector) throws EMFExportException {
+	private void writeRDataFilePair(XDRWriter writer, String key, List<DataFrameColumn> dataFrame)
+			throws EMFExportException {
 
-		write(stream, encodeInt(encodeFlags(REALSXP, null)).array());
+		writer.writeInt(encodeFlags(LISTSXP, Map.of(OPTION_ENCODE_FLAGS_HAS_TAG_BIT_MASK, Boolean.TRUE)));
 
-		write(stream, encodeInt(vector.length).array());
+		symbol(writer, key);
 
-		writeVector(stream, vector, new ScalarWriter<Object>() {
+		writer.writeInt(encodeFlags(VECSXP, Map.of(OPTION_ENCODE_FLAGS_IS_OBJECT_BIT_MASK, Boolean.TRUE,
+				OPTION_ENCODE_FLAGS_HAS_ATTR_BIT_MASK, Boolean.TRUE)));
 
-			@Override
-			public byte[] apply(Object t) {
-				if (!(t instanceof Double)) {
-					throw new IllegalArgumentException("Expecting object of type Double, not + " + t.getClass());
-				}
-				return realScalar((Double) t);
-			}
-		});
+		writer.writeInt(dataFrame.size());
+
+		int length = !dataFrame.isEmpty() ? dataFrame.get(0).length : 0;
+
+		LOG.debug("Writing data frame of length " + length);
+
+		List<String> names = new ArrayList<>();
+
+		for (DataFrameColumn dataFrameColumn : dataFrame) {
+			dataFrameColumn.write(writer);
+
+			names.add(dataFrameColumn.name);
+		}
+
+		writeRDataFileMetadata(writer, names, length);
 	}
 
-	private void intVector(OutputStream stream, Integer[] vector) throws EMFExportException {
+	private void writeRDataFileMetadata(XDRWriter writer, List<String> keys, int length) throws EMFExportException {
+		ListMultimap<String, Object> dataFrameMetadata = MultimapBuilder.linkedHashKeys().arrayListValues().build();
+		dataFrameMetadata.putAll("names", keys);
+		dataFrameMetadata.putAll("class", List.of("data.frame"));
+		dataFrameMetadata.putAll("row.names", List.of(NA_INT, (-1 * length)));
+
+		List<String> dataFrameMetadataColumnNames = List.of("names", "row.names", "class");
 
-		write(stream, encodeInt(encodeFlags(INTSXP, null)).array());
+		List<ValueType> dataFrameMetadataColumnTypes = List.of(ValueType.STRING, ValueType.INT, ValueType.STRING);
 
-		write(stream, encodeInt(vector.length).array());
+		// TODO: attributes - if needed ?
 
-		writeVector(stream, vector, new ScalarWriter<Object>() {
+		applyForEach(dataFrameMetadataColumnNames, new ForEachApplier<String, Integer>() {
 
 			@Override
-			public byte[] apply(Object t) {
-				if (!(t instanceof Integer)) {
-					throw new IllegalArgumentException("Expecting object of type Integer, not + " + t.getClass());
-				}
+			public void apply(String attributeName, Integer idx) throws EMFExportException {
 
-				return intScalar((Integer) t);
+				writer.writeInt(encodeFlags(LISTSXP, Map.of(OPTION_ENCODE_FLAGS_HAS_TAG_BIT_MASK, Boolean.TRUE)));
+
+				symbol(writer, attributeName);
+
+				writeValue(writer, dataFrameMetadata.get(attributeName),
+						dataFrameMetadataColumnTypes.get(idx.intValue()));
 			}
 		});
+
+		writer.writeInt(NILVALUESXP);
 	}
 
-	private void logicalVector(OutputStream stream, Boolean[] vector) throws EMFExportException {
+	@Override
+	protected Map<Object, Object> validateExportOptions(Map<?, ?> options) throws EMFExportException {
+		Map<Object, Object> exportOptions = super.validateExportOptions(options);
 
-		write(stream, encodeInt(encodeFlags(LGLSXP, null)).array());
+		try {
+			compressionMethod(exportOptions);
 
-		write(stream, encodeInt(vector.length).array());
+		} catch (IllegalArgumentException e) {
+			throw new EMFExportException(String.format("Unsupported compression method '%s'!",
+					exportOptions.get(EMFRLangExportOptions.OPTION_COMPRESSION_METHOD)));
+		}
 
-		writeVector(stream, vector, new ScalarWriter<Object>() {
+		if ((compressionMethod(exportOptions) == EMFRLangCompressionMethod.XZ)
+				&& !XZUtils.isXZCompressionAvailable()) {
+			throw new EMFExportException(
+					"XZ compression method is not available, as XZ for Java library is not present!");
+		}
 
-			@Override
-			public byte[] apply(Object t) {
-				if (!(t instanceof Boolean)) {
-					throw new IllegalArgumentException("Expecting object of type Boolean, not + " + t.getClass());
-				}
+		if (!(exportOptions.getOrDefault(EMFRLangExportOptions.OPTION_COMPRESSION_LEVEL,
+				DEFAULT_COMPRESSION_LEVEL) instanceof Integer)
+				|| (compressionLevel(exportOptions) < DEFAULT_COMPRESSION_LEVEL)
+				|| (compressionLevel(exportOptions) > BEST_COMPRESSION_LEVEL)
+				|| ((compressionMethod(exportOptions) == EMFRLangCompressionMethod.BZIP2)
+						&& (compressionLevel(exportOptions) == 0))) {
+			throw new EMFExportException(String.format("Unsupported compression level '%s'!",
+					exportOptions.get(EMFRLangExportOptions.OPTION_COMPRESSION_LEVEL)));
+		}
 
-				return logicalScalar((Boolean) t);
-			}
-		});
+		if (!(exportOptions.getOrDefault(EMFRLangExportOptions.OPTION_FACTOR_MAX_LEVELS,
+				Integer.valueOf(0)) instanceof Integer) || (factorMaxLevels(exportOptions) < 0)) {
+			throw new EMFExportException(String.format("Unsupported factor max levels '%s'!",
+					exportOptions.get(EMFRLangExportOptions.OPTION_FACTOR_MAX_LEVELS)));
+		}
+
+		return exportOptions;
 	}
 
-	private void symbol(OutputStream stream, String string) {
-		write(stream, encodeInt(encodeFlags(SYMSXP, null)).array());
-		write(stream, stringScalar(string));
+	private boolean dataframePerFileEnabled(Map<Object, Object> exportOptions) {
+		return ((boolean) exportOptions.getOrDefault(EMFRLangExportOptions.OPTION_DATAFRAME_PER_FILE, Boolean.TRUE));
 	}
 
-	private void writeRDataFileData(OutputStream stream, Map<String, Multimap<String, Object>> pairsMap,
-			List<Multimap<String, Object>> typesList) throws EMFExportException {
+	private boolean eEnumsAsFactorsEnabled(Map<Object, Object> exportOptions) {
+		return ((boolean) exportOptions.getOrDefault(EMFRLangExportOptions.OPTION_EENUMS_AS_FACTORS, Boolean.FALSE));
+	}
 
-		List<String> keysList = List.copyOf(pairsMap.keySet());
+	private int factorMaxLevels(Map<Object, Object> exportOptions) {
+		return ((int) exportOptions.getOrDefault(EMFRLangExportOptions.OPTION_FACTOR_MAX_LEVELS, Integer.valueOf(0)));
+	}
 
-		applyForEach(keysList, new ForEachApplier<String, Integer>() {
+	private EMFRLangCompressionMethod compressionMethod(Map<Object, Object> exportOptions) {
+		return EMFRLangCompressionMethod.valueOf(String.valueOf(exportOptions
+				.getOrDefault(EMFRLangExportOptions.OPTION_COMPRESSION_METHOD, EMFRLangCompressionMethod.NONE)));
+	}
 
-			@Override
-			public void apply(String key, Integer idx) throws EMFExportException {
+	private int compressionLevel(Map<Object, Object> exportOptions) {
+		return ((int) exportOptions.getOrDefault(EMFRLangExportOptions.OPTION_COMPRESSION_LEVEL,
+				DEFAULT_COMPRESSION_LEVEL));
+	}
 
-				try {
+	/**
+	 * Collects rows streamed from matrix into data frame, which is written once
+	 * matrix ends - either to separate file in ZIP archive, or as next pair in
+	 * single file, depending on export mode used.
+	 */
+	private class RLangRowSink implements EMFExportRowSink {
+		private final ZipOutputStream zipOutputStream;
+		private final XDRWriter writer;
+		private final Map<Object, Object> exportOptions;
 
-					write(stream,
-							encodeInt(encodeFlags(LISTSXP, Map.of(OPTION_ENCODE_FLAGS_HAS_TAG_BIT_MASK, Boolean.TRUE)))
-									.array());
+		private Map<Integer, DataFrameColumn> dataFrame;
 
-					symbol(stream, key);
+		private RLangRowSink(ZipOutputStream zipOutputStream, Map<Object, Object> exportOptions) {
+			this.zipOutputStream = zipOutputStream;
+			this.writer = null;
+			this.exportOptions = exportOptions;
+		}
 
-					Multimap<String, Object> typesMap = typesList.get(idx.intValue());
+		private RLangRowSink(XDRWriter writer, Map<Object, Object> exportOptions) {
+			this.zipOutputStream = null;
+			this.writer = writer;
+			this.exportOptions = exportOptions;
+		}
 
-					ValueType valueType = ValueType.valueOf(Iterables.get(typesMap.get(TYPES_TYPE), 0).toString());
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#startMatrix(java.lang.String, java.util.Map, int)
+		 */
+		@Override
+		public void startMatrix(String matrixName, Map<Integer, Object> columnHeaders, int rowsCount) {
+			LOG.debug("Streaming R language data frame for matrix named '{}'", matrixName);
+
+			this.dataFrame = new LinkedHashMap<>();
+			for (Map.Entry<Integer, Object> columnHeader : columnHeaders.entrySet()) {
+				this.dataFrame.put(columnHeader.getKey(), new DataFrameColumn(columnHeader.getValue(), rowsCount));
+			}
+		}
 
-					if (ValueType.DATAFRAME != valueType) {
-						throw new IllegalArgumentException("Expecting DATAFRAME value type!");
-					}
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#writeRow(java.lang.String, int, java.util.Map)
+		 */
+		@Override
+		public void writeRow(String matrixName, int rowKey, Map<Integer, Object> row) {
+			for (Map.Entry<Integer, DataFrameColumn> dataFrameColumn : dataFrame.entrySet()) {
+				dataFrameColumn.getValue().add(convertValue(row.get(dataFrameColumn.getKey()), exportOptions));
+			}
+		}
 
-					List<String> typesKeys = typesMap.get(TYPES_KEYS).stream().map(typesKey -> ((String) typesKey))
-							.collect(Collectors.toList());
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#endMatrix(java.lang.String)
+		 */
+		@Override
+		public void endMatrix(String matrixName) throws EMFExportException {
+			List<DataFrameColumn> dataFrameColumns = new ArrayList<>(dataFrame.values());
 
-					List<ValueType> typesTypes = typesMap.get(TYPES_TYPES).stream()
-							.map(typesType -> ValueType.valueOf(typesType.toString())).collect(Collectors.toList());
+			for (DataFrameColumn dataFrameColumn : dataFrameColumns) {
+				dataFrameColumn.complete(exportOptions);
+			}
 
-					writeRDataFileData(stream, pairsMap.get(key), typesKeys, typesTypes);
+			try {
 
-				} catch (Exception e) {
-					throw new EMFExportException(e);
+				if (zipOutputStream != null) {
+					writeDataFrameToZipEntry(zipOutputStream, matrixName, dataFrameColumns, exportOptions);
+				} else {
+					writeRDataFilePair(writer, matrixName, dataFrameColumns);
 				}
 
-			}
-		});
+			} catch (IOException e) {
+				throw new EMFExportException(e);
 
-		write(stream, encodeInt(NILVALUESXP).array());
+			} finally {
+				dataFrame = null;
+			}
+		}
 	}
 
-	private void writeRDataFileData(OutputStream stream, Multimap<String, Object> value, List<String> keys,
-			List<ValueType> types) throws EMFExportException {
+	/**
+	 * Column of data frame, which values are stored in vector of type derived
+	 * from first value added - integers and logicals in int vector, reals in
+	 * double vector, and remaining values in string vector, written as factor
+	 * if levels are extracted for it once column is complete.
+	 */
+	private class DataFrameColumn {
+		private final Object header;
+		private final String name;
+		private final int capacity;
+
+		private ValueType type;
+		private int[] ints;
+		private double[] reals;
+		private String[] strings;
+		private List<String> levels;
+		private int length;
+
+		private DataFrameColumn(Object header, int capacity) {
+			this.header = header;
+			this.name = header.toString();
+			this.capacity = Math.max(0, capacity);
+		}
 
-		write(stream, encodeInt(encodeFlags(VECSXP, Map.of(OPTION_ENCODE_FLAGS_IS_OBJECT_BIT_MASK, Boolean.TRUE,
-				OPTION_ENCODE_FLAGS_HAS_ATTR_BIT_MASK, Boolean.TRUE))).array());
+		private void add(Object value) {
+			if (type == null) {
+				type = extractValueType(value);
+			}
 
-		write(stream, encodeInt(keys.size()).array());
+			ensureCapacity();
 
-		int length = value.get(keys.get(0)).size();
+			switch (type) {
 
-		LOG.debug("Writing data frame of length " + length);
+			case INT:
+				ints[length] = intValue(value);
+				break;
 
-		applyForEach(keys, new ForEachApplier<String, Integer>() {
+			case LOGICAL:
+				ints[length] = logicalValue(value) ? 1 : 0;
+				break;
 
-			@Override
-			public void apply(String key, Integer idx) throws EMFExportException {
+			case REAL:
+				reals[length] = realValue(value);
+				break;
 
-				try {
-					writeValue(stream, value.get(key).stream().toArray(Object[]::new), types.get(idx.intValue()));
-				} catch (Exception e) {
-					throw new EMFExportException(e);
-				}
+			default:
+				strings[length] = (value != null) ? String.valueOf(value) : "";
+				break;
 			}
-		});
 
-		writeRDataFileMetadata(stream, keys, length);
-	}
-
-	private void writeRDataFileMetadata(OutputStream stream, List<String> keys, int length) throws EMFExportException {
-		ListMultimap<String, Object> dataFrameMetadata = MultimapBuilder.linkedHashKeys().arrayListValues().build();
-		dataFrameMetadata.putAll("names", keys);
-		dataFrameMetadata.putAll("class", List.of("data.frame"));
-		dataFrameMetadata.putAll("row.names", List.of(NA_INT, (-1 * length)));
+			length++;
+		}
 
-		List<String> dataFrameMetadataColumnNames = List.of("names", "row.names", "class");
+		private void complete(Map<Object, Object> exportOptions) {
+			if (type == null) {
+				type = ValueType.STRING;
+				strings = new String[0];
+			}
 
-		List<ValueType> dataFrameMetadataColumnTypes = List.of(ValueType.STRING, ValueType.INT, ValueType.STRING);
+			if (type == ValueType.STRING) {
+				levels = extractFactorLevels(exportOptions, header, strings, length);
 
-		// TODO: attributes - if needed ?
+				if (levels != null) {
+					type = ValueType.FACTOR;
+				}
+			}
+		}
 
-		applyForEach(dataFrameMetadataColumnNames, new ForEachApplier<String, Integer>() {
+		private void write(XDRWriter writer) throws EMFExportException {
+			switch (type) {
+
+			case INT:
+				writer.writeInt(encodeFlags(INTSXP, null));
+				writer.writeInt(length);
+				writer.writeInts(ints, length);
+				break;
+
+			case LOGICAL:
+				writer.writeInt(encodeFlags(LGLSXP, null));
+				writer.writeInt(length);
+				writer.writeInts(ints, length);
+				break;
+
+			case REAL:
+				writer.writeInt(encodeFlags(REALSXP, null));
+				writer.writeInt(length);
+				writer.writeDoubles(reals, length);
+				break;
+
+			case FACTOR:
+				writeFactor(writer, strings, length, levels);
+				break;
+
+			default:
+				writer.writeInt(encodeFlags(STRSXP, null));
+				writer.writeInt(length);
+
+				for (int i = 0; i < length; i++) {
+					stringScalar(writer, strings[i]);
+				}
 
-			@Override
-			public void apply(String attributeName, Integer idx) throws EMFExportException {
+				break;
+			}
+		}
 
-				try {
+		private void ensureCapacity() {
+			switch (type) {
 
-					write(stream,
-							encodeInt(encodeFlags(LISTSXP, Map.of(OPTION_ENCODE_FLAGS_HAS_TAG_BIT_MASK, Boolean.TRUE)))
-									.array());
+			case INT:
+			case LOGICAL:
+				if (ints == null) {
+					ints = new int[capacity];
+				}
 
-					symbol(stream, attributeName);
+				if (length == ints.length) {
+					ints = Arrays.copyOf(ints, (ints.length * 2) + 1);
+				}
+				break;
 
-					writeValue(stream, dataFrameMetadata.get(attributeName).stream().toArray(Object[]::new),
-							dataFrameMetadataColumnTypes.get(idx.intValue()));
+			case REAL:
+				if (reals == null) {
+					reals = new double[capacity];
+				}
 
-				} catch (Exception e) {
-					throw new EMFExportException(e);
+				if (length == reals.length) {
+					reals = Arrays.copyOf(reals, (reals.length * 2) + 1);
 				}
-			}
-		});
+				break;
 
-		write(stream, encodeInt(NILVALUESXP).array());
-	}
+			default:
+				if (strings == null) {
+					strings = new String[capacity];
+				}
 
-	private void write(OutputStream stream, byte[] buffer) {
-		try {
-			stream.write(buffer);
-		} catch (IOException e) {
-			e.printStackTrace();
+				if (length == strings.length) {
+					strings = Arrays.copyOf(strings, (strings.length * 2) + 1);
+				}
+				break;
+			}
 		}
 	}
 
-	private boolean dataframePerFileEnabled(Map<Object, Object> exportOptions) {
-		return ((boolean) exportOptions.getOrDefault(EMFRLangExportOptions.OPTION_DATAFRAME_PER_FILE, Boolean.TRUE));
-	}
-
 	private enum ValueType {
-		STRING, INT, REAL, LOGICAL, DATAFRAME;
+		STRING, INT, REAL, LOGICAL, FACTOR;
 	}
 
 	@FunctionalInterface
@@ -804,13 +1239,102 @@ public class EMFRLangExporter extends AbstractEMFExporter implements EMFExporter
 		public void apply(T t, U u) throws EMFExportException;
 	}
 
-	@FunctionalInterface
-	private interface ScalarWriter<T> {
-		public byte[] apply(T t);
-	}
+	/**
+	 * Writes values encoded in XDR format (big-endian), as used by RData files,
+	 * to output stream - values are put into buffer, which is reused and only
+	 * written to output stream once full or when flushed, so that no arrays are
+	 * allocated per value written.
+	 */
+	private static class XDRWriter {
+		private static final int BUFFER_CAPACITY = 64 * 1024;
 
-	@FunctionalInterface
-	private interface ValueOfConverter<T> {
-		public T apply(Object obj);
+		private final OutputStream outputStream;
+		private final ByteBuffer buffer;
+
+		private XDRWriter(OutputStream outputStream) {
+			this.outputStream = outputStream;
+			this.buffer = ByteBuffer.allocate(BUFFER_CAPACITY);
+		}
+
+		private void writeInt(int value) throws EMFExportException {
+			ensureRemaining(Integer.BYTES);
+			buffer.putInt(value);
+		}
+
+		private void writeDouble(double value) throws EMFExportException {
+			ensureRemaining(Double.BYTES);
+			buffer.putDouble(value);
+		}
+
+		/*
+		 * Ints are put into buffer in bulk, as many at once as fit in it.
+		 */
+		private void writeInts(int[] values, int length) throws EMFExportException {
+			int offset = 0;
+
+			while (offset < length) {
+				ensureRemaining(Integer.BYTES);
+
+				int count = Math.min(length - offset, buffer.remaining() / Integer.BYTES);
+
+				buffer.asIntBuffer().put(values, offset, count);
+				buffer.position(buffer.position() + (count * Integer.BYTES));
+
+				offset += count;
+			}
+		}
+
+		private void writeDoubles(double[] values, int length) throws EMFExportException {
+			int offset = 0;
+
+			while (offset < length) {
+				ensureRemaining(Double.BYTES);
+
+				int count = Math.min(length - offset, buffer.remaining() / Double.BYTES);
+
+				buffer.asDoubleBuffer().put(values, offset, count);
+				buffer.position(buffer.position() + (count * Double.BYTES));
+
+				offset += count;
+			}
+		}
+
+		private void writeBytes(byte[] bytes) throws EMFExportException {
+			if (bytes.length > buffer.capacity()) {
+				flush();
+				write(bytes, bytes.length);
+				return;
+			}
+
+			ensureRemaining(bytes.length);
+			buffer.put(bytes);
+		}
+
+		/*
+		 * Only writes buffered values to output stream, which is not flushed
+		 * itself, nor closed.
+		 */
+		private void flush() throws EMFExportException {
+			write(buffer.array(), buffer.position());
+			buffer.clear();
+		}
+
+		private void ensureRemaining(int length) throws EMFExportException {
+			if (buffer.remaining() < length) {
+				flush();
+			}
+		}
+
+		private void write(byte[] bytes, int length) throws EMFExportException {
+			if (length == 0) {
+				return;
+			}
+
+			try {
+				outputStream.write(bytes, 0, length);
+			} catch (IOException e) {
+				throw new EMFExportException(e);
+			}
+		}
 	}
 }
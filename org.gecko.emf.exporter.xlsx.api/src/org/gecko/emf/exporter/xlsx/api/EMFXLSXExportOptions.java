@@ -23,9 +23,22 @@ public interface EMFXLSXExportOptions extends EMFExportOptions {
 	// automatically adjust column width based on contents
 	String OPTION_ADJUST_COLUMN_WIDTH = "ADJUST_COLUMN_WIDTH";
 
+	// number of first data rows of each sheet whose contents column width is
+	// adjusted to (defaults to all rows)
+	String OPTION_COLUMN_WIDTH_SAMPLE_SIZE = "COLUMN_WIDTH_SAMPLE_SIZE";
+
 	// generate links for references
 	String OPTION_GENERATE_LINKS = "GENERATE_LINKS";
 
 	// freeze header row
 	String OPTION_FREEZE_HEADER_ROW = "FREEZE_HEADER_ROW";
+
+	// number of most recent rows of each sheet kept in memory when streaming (see
+	// OPTION_STREAMING), older rows are flushed to temporary files (defaults to
+	// 100)
+	String OPTION_ROW_ACCESS_WINDOW_SIZE = "ROW_ACCESS_WINDOW_SIZE";
+
+	// compress temporary files rows are flushed to when streaming (defaults to
+	// false)
+	String OPTION_COMPRESS_TEMP_FILES = "COMPRESS_TEMP_FILES";
 }
@@ -31,6 +31,7 @@ import static org.gecko.emf.xlsx.tests.helper.EMFXLSXExporterTestHelper.createUn
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.File;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -40,6 +41,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -340,6 +347,170 @@ public class EMFXLSXExporterTest {
 		// @formatter:on
 	}
 
+	@Test
+	public void testExportExampleModelBasicEObjectsToXlsxStreamingEnabled(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFXLSXExporter)") ServiceAware<EMFExporter> emfXlsxExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfXlsxExporterAware.getServices()).hasSize(1);
+		EMFExporter emfXlsxExporterService = emfXlsxExporterAware.getService();
+		assertThat(emfXlsxExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToXlsxStreamingEnabled", ".xlsx");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfXlsxExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+//						EMFExportOptions.OPTION_EXPORT_METADATA, true, // defaults to true
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+//						EMFXLSXExportOptions.OPTION_ADJUST_COLUMN_WIDTH, true, // defaults to true
+//						EMFXLSXExportOptions.OPTION_GENERATE_LINKS, false // defaults to false
+//						EMFXLSXExportOptions.OPTION_FREEZE_HEADER_ROW, true // defaults to true
+//						EMFExportOptions.OPTION_SHOW_URIS, true, // defaults to true
+//						EMFExportOptions.OPTION_SHOW_REFS, true, // defaults to true
+						EMFExportOptions.OPTION_STREAMING, true // defaults to false
+					)
+				);
+		// @formatter:on
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToXlsxStreamingEnabledRowAccessWindow(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFXLSXExporter)") ServiceAware<EMFExporter> emfXlsxExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfXlsxExporterAware.getServices()).hasSize(1);
+		EMFExporter emfXlsxExporterService = emfXlsxExporterAware.getService();
+		assertThat(emfXlsxExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToXlsxStreamingEnabledRowAccessWindow",
+				".xlsx");
+
+		OutputStream fileOutputStream = Files.newOutputStream(filePath);
+
+		// @formatter:off
+		emfXlsxExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+				Map.of(
+						EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+						EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+						EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+						EMFXLSXExportOptions.OPTION_GENERATE_LINKS, true, // defaults to false
+						EMFExportOptions.OPTION_STREAMING, true, // defaults to false
+						EMFXLSXExportOptions.OPTION_ROW_ACCESS_WINDOW_SIZE, 2, // defaults to 100
+						EMFXLSXExportOptions.OPTION_COMPRESS_TEMP_FILES, true // defaults to false
+					)
+				);
+		// @formatter:on
+	}
+
+	@Test
+	public void testExportExampleModelBasicEObjectsToXlsxColumnWidthSampleSize(
+			@InjectService(cardinality = 1, timeout = 4000, filter = "(component.name=EMFXLSXExporter)") ServiceAware<EMFExporter> emfXlsxExporterAware,
+			@InjectService BasicFactory basicFactory, @InjectService BasicPackage basicPackage) throws Exception {
+
+		assertThat(emfXlsxExporterAware.getServices()).hasSize(1);
+		EMFExporter emfXlsxExporterService = emfXlsxExporterAware.getService();
+		assertThat(emfXlsxExporterService).isNotNull();
+
+		Family simpsonFamily = createSimpsonFamily(basicFactory);
+
+		Family flintstonesFamily = createFlintstonesFamily(basicFactory);
+
+		// persons of second family are exported after those of first family, i.e.
+		// beyond sampled rows
+		String longFirstName = "Fred".repeat(20);
+		flintstonesFamily.getFather().setFirstName(longFirstName);
+
+		BusinessPerson businessPerson = createBusinessPerson(basicFactory);
+
+		Path filePath = Files.createTempFile("testExportExampleModelBasicEObjectsToXlsxColumnWidthSampleSize",
+				".xlsx");
+
+		int columnWidthSampleSize = 2;
+
+		try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+
+			// @formatter:off
+			emfXlsxExporterService.exportEObjectsTo(List.of(simpsonFamily, flintstonesFamily, businessPerson), fileOutputStream, 
+					Map.of(
+							EMFExportOptions.OPTION_LOCALE, Locale.GERMANY,
+							EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true, // defaults to false
+							EMFExportOptions.OPTION_ADD_MAPPING_TABLE, true, // defaults to false
+							EMFXLSXExportOptions.OPTION_ADJUST_COLUMN_WIDTH, true, // defaults to true
+							EMFXLSXExportOptions.OPTION_COLUMN_WIDTH_SAMPLE_SIZE, columnWidthSampleSize // defaults to all rows
+						)
+					);
+			// @formatter:on
+		}
+
+		DataFormatter dataFormatter = new DataFormatter(Locale.GERMANY);
+
+		try (InputStream fileInputStream = Files.newInputStream(filePath);
+				Workbook workbook = new XSSFWorkbook(fileInputStream)) {
+
+			Sheet personSheet = workbook.getSheet("Person");
+			assertThat(personSheet).isNotNull();
+
+			Row headerRow = personSheet.getRow(0);
+			assertThat(headerRow).isNotNull();
+
+			int firstNameColIndex = -1;
+			for (Cell headerCell : headerRow) {
+				if ("firstName".equals(dataFormatter.formatCellValue(headerCell))) {
+					firstNameColIndex = headerCell.getColumnIndex();
+				}
+			}
+			assertThat(firstNameColIndex).isNotNegative();
+
+			// width is derived from header and sampled rows only, plus padding of 2
+			// characters, in units of 1/256th of character width
+			int sampledCharsCount = 0;
+			int notSampledCharsCount = 0;
+
+			for (int rowIndex = 0; rowIndex <= personSheet.getLastRowNum(); rowIndex++) {
+				Row row = personSheet.getRow(rowIndex);
+				Cell cell = (row != null) ? row.getCell(firstNameColIndex) : null;
+				int charsCount = (cell != null) ? dataFormatter.formatCellValue(cell).length() : 0;
+
+				if (rowIndex <= columnWidthSampleSize) {
+					sampledCharsCount = Math.max(sampledCharsCount, charsCount);
+				} else {
+					notSampledCharsCount = Math.max(notSampledCharsCount, charsCount);
+				}
+			}
+
+			assertThat(notSampledCharsCount).isEqualTo(longFirstName.length());
+			assertThat(sampledCharsCount).isLessThan(longFirstName.length());
+
+			assertThat(personSheet.getColumnWidth(firstNameColIndex)).isEqualTo((sampledCharsCount + 2) * 256);
+
+			// all columns' widths are set and bounded by maximum width allowed
+			for (Cell headerCell : headerRow) {
+				int columnWidth = personSheet.getColumnWidth(headerCell.getColumnIndex());
+
+				assertThat(columnWidth).isGreaterThanOrEqualTo(
+						(dataFormatter.formatCellValue(headerCell).length() + 2) * 256);
+				assertThat(columnWidth).isLessThanOrEqualTo(255 * 256);
+			}
+		}
+	}
+
 	@Test
 	public void testExportUtilModelResourceToXlsxNonContainmentEnabled(
 			@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
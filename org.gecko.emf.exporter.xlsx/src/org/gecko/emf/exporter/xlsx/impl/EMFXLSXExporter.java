@@ -13,6 +13,7 @@ package org.gecko.emf.exporter.xlsx.impl;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
@@ -33,11 +34,16 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFFont;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.eclipse.emf.ecore.EObject;
 import org.gecko.emf.exporter.AbstractEMFExporter;
 import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrix;
+import org.gecko.emf.exporter.EMFExportMetricsCollector;
+import org.gecko.emf.exporter.EMFExportPhase;
+import org.gecko.emf.exporter.EMFExportRowSink;
 import org.gecko.emf.exporter.EMFExporter;
 import org.gecko.emf.exporter.annotation.ProvideEMFExporter;
 import org.gecko.emf.exporter.cells.EMFExportEObjectIDValueCell;
@@ -53,7 +59,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Table;
+import com.google.common.io.CountingOutputStream;
 
 /**
  * Implementation of the {@link EMFExporter} to provide support for exporting
@@ -66,8 +72,11 @@ import com.google.common.collect.Table;
 public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter {
 	private static final Logger LOG = LoggerFactory.getLogger(EMFXLSXExporter.class);
 
+	// number of characters of date formatted using built-in format 22 ("m/d/yy h:mm")
+	private static final int DATE_CELL_CHARS_COUNT = 16;
+
 	public EMFXLSXExporter() {
-		super(LOG, Stopwatch.createStarted());
+		super(LOG);
 	}
 
 	/* 
@@ -86,20 +95,34 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 
 				final Map<Object, Object> exportOptions = validateExportOptions(options);
 
+				final EMFExportMetricsCollector metricsCollector = new EMFExportMetricsCollector();
+
+				final CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+
 				LOG.info("Starting export of {} EObject(s) to XLSX format"
 						+ (!exportOptions.isEmpty() ? " with options" : ""), eObjects.size());
 				LOG.info("  Locale to use: {}", locale(exportOptions));
 				LOG.info("  Export non-containment references: {}", exportNonContainmentEnabled(exportOptions));
 				LOG.info("  Export metadata: {}", exportMetadataEnabled(exportOptions));
 				LOG.info("  Adjust column width: {}", adjustColumnWidthEnabled(exportOptions));
+				LOG.info("  Column width sample size: {}", columnWidthSampleSize(exportOptions));
 				LOG.info("  Generate links for references: {}", generateLinksEnabled(exportOptions));
 				LOG.info("  Add mapping table: {}", addMappingTableEnabled(exportOptions));
 				LOG.info("  Show URIs instead of IDs (where applicable): {}", showURIsEnabled(exportOptions));
 				LOG.info("  Show columns containing references: {}", showREFsEnabled(exportOptions));
+				LOG.info("  Pseudo ID strategy: {}", pseudoIDStrategy(exportOptions));
+				LOG.info("  Streaming: {}", streamingEnabled(exportOptions));
+				LOG.info("  Row access window size (when streaming): {}", rowAccessWindowSize(exportOptions));
+				LOG.info("  Compress temporary files (when streaming): {}", compressTempFilesEnabled(exportOptions));
+				LOG.info("  Parallelism: {}", parallelism(exportOptions));
 
-				ProcessedEObjectsDTO processedEObjectsDTO = exportEObjectsToMatrices(eObjects, exportOptions);
+				ProcessedEObjectsDTO processedEObjectsDTO = streamingEnabled(exportOptions)
+						? exportEObjectsToMatricesSchema(eObjects, exportOptions, metricsCollector)
+						: exportEObjectsToMatrices(eObjects, exportOptions, metricsCollector);
 
-				exportMatricesToXLSX(outputStream, processedEObjectsDTO, exportOptions);
+				exportMatricesToXLSX(countingOutputStream, processedEObjectsDTO, exportOptions);
+
+				publishMetrics(metricsCollector, countingOutputStream.getCount(), exportOptions);
 
 			} catch (Exception e) {
 				throw new EMFExportException(e);
@@ -108,62 +131,102 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 	}
 
 	private void exportMatricesToXLSX(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
-			Map<Object, Object> exportOptions) throws IOException {
+			Map<Object, Object> exportOptions) throws IOException, EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
 
-		resetStopwatch();
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.SERIALIZATION);
 
 		LOG.info("Starting generation of XLSX sheets");
 
-		Map<String, Table<Integer, Integer, Object>> matrixNameToEObjectMatrixMap = eObjectMatricesOnly(
+		try (Workbook workbook = createWorkbook(processedEObjectsDTO, exportOptions)) {
+
+			try {
+				exportMatricesToXLSX(outputStream, processedEObjectsDTO, exportOptions, workbook);
+
+			} finally {
+				disposeWorkbook(workbook);
+			}
+		}
+
+		LOG.info("Finished generation of XLSX sheets in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
+	/*
+	 * When streaming, rows are written to SXSSF workbook, which keeps only
+	 * configured number of most recent rows of each sheet in memory and flushes
+	 * older rows to temporary files, so memory used does not depend on number of
+	 * rows exported.
+	 */
+	private Workbook createWorkbook(ProcessedEObjectsDTO processedEObjectsDTO, Map<Object, Object> exportOptions) {
+		if (processedEObjectsDTO.streaming) {
+			return new SXSSFWorkbook(null, rowAccessWindowSize(exportOptions), compressTempFilesEnabled(exportOptions));
+		}
+
+		return new XSSFWorkbook();
+	}
+
+	private void disposeWorkbook(Workbook workbook) {
+		if (workbook instanceof SXSSFWorkbook) {
+			((SXSSFWorkbook) workbook).dispose();
+		}
+	}
+
+	private void exportMatricesToXLSX(OutputStream outputStream, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions, Workbook workbook) throws IOException, EMFExportException {
+
+		Map<String, EMFExportMatrix> matrixNameToEObjectMatrixMap = eObjectMatricesOnly(
 				processedEObjectsDTO.matrixNameToMatrixMap);
 
-		try (Workbook workbook = new XSSFWorkbook()) {
+		XSSFFont headerCellFont = createHeaderCellFont(workbook);
 
-			XSSFFont headerCellFont = createHeaderCellFont(workbook);
+		CellStyle headerCellStyle = createHeaderCellStyle(workbook, headerCellFont);
 
-			CellStyle headerCellStyle = createHeaderCellStyle(workbook, headerCellFont);
+		XSSFFont dataCellFont = createDataCellFont(workbook);
 
-			XSSFFont dataCellFont = createDataCellFont(workbook);
+		CellStyle genericDataCellStyle = createGenericDataCellStyle(workbook, dataCellFont);
 
-			CellStyle genericDataCellStyle = createGenericDataCellStyle(workbook, dataCellFont);
+		CellStyle dateDataCellStyle = createDateDataCellStyle(workbook, dataCellFont);
 
-			CellStyle dateDataCellStyle = createDateDataCellStyle(workbook, dataCellFont);
+		CreationHelper creationHelper = workbook.getCreationHelper();
 
-			CreationHelper creationHelper = workbook.getCreationHelper();
+		if (processedEObjectsDTO.streaming) {
+			streamMatricesToSink(processedEObjectsDTO, exportOptions,
+					new XLSXRowSink(processedEObjectsDTO, exportOptions, workbook, creationHelper, headerCellStyle,
+							genericDataCellStyle, dateDataCellStyle));
 
+		} else {
 			exportMatricesToXLSX(processedEObjectsDTO, exportOptions, matrixNameToEObjectMatrixMap, workbook,
 					creationHelper, headerCellStyle, genericDataCellStyle, dateDataCellStyle);
 
 			if (exportMetadataEnabled(exportOptions)) {
-				Map<String, Table<Integer, Integer, Object>> matrixNameToMetadataMatrixMap = metadataMatricesOnly(
+				Map<String, EMFExportMatrix> matrixNameToMetadataMatrixMap = metadataMatricesOnly(
 						processedEObjectsDTO.matrixNameToMatrixMap);
 
-				exportMatricesToXLSX(processedEObjectsDTO, exportOptions, matrixNameToMetadataMatrixMap, workbook,
-						creationHelper, headerCellStyle, genericDataCellStyle, dateDataCellStyle);
+				exportMatricesToXLSX(processedEObjectsDTO, exportOptions, matrixNameToMetadataMatrixMap,
+						workbook, creationHelper, headerCellStyle, genericDataCellStyle, dateDataCellStyle);
 			}
 
 			if (addMappingTableEnabled(exportOptions)) {
-				Map<String, Table<Integer, Integer, Object>> matrixNameToMappingMatrixMap = mappingMatricesOnly(
+				Map<String, EMFExportMatrix> matrixNameToMappingMatrixMap = mappingMatricesOnly(
 						processedEObjectsDTO.matrixNameToMatrixMap);
 
-				exportMatricesToXLSX(processedEObjectsDTO, exportOptions, matrixNameToMappingMatrixMap, workbook,
-						creationHelper, headerCellStyle, genericDataCellStyle, dateDataCellStyle);
+				exportMatricesToXLSX(processedEObjectsDTO, exportOptions, matrixNameToMappingMatrixMap,
+						workbook, creationHelper, headerCellStyle, genericDataCellStyle, dateDataCellStyle);
 			}
-
-			workbook.write(outputStream);
 		}
 
-		LOG.info("Finished generation of XLSX sheets in {} second(s)", elapsedTimeInSeconds());
+		workbook.write(outputStream);
 	}
 
 	private void exportMatricesToXLSX(ProcessedEObjectsDTO processedEObjectsDTO, Map<Object, Object> exportOptions,
-			Map<String, Table<Integer, Integer, Object>> matrixNameToEObjectMatrixMap, Workbook workbook,
+			Map<String, EMFExportMatrix> matrixNameToEObjectMatrixMap, Workbook workbook,
 			CreationHelper creationHelper, CellStyle headerCellStyle, CellStyle genericDataCellStyle,
 			CellStyle dateDataCellStyle) throws IOException {
 		for (String matrixName : matrixNameToEObjectMatrixMap.keySet()) {
 			LOG.debug("Generating XLSX sheet for matrix named '{}'", matrixName);
 
-			Table<Integer, Integer, Object> matrix = matrixNameToEObjectMatrixMap.get(matrixName);
+			EMFExportMatrix matrix = matrixNameToEObjectMatrixMap.get(matrixName);
 
 			exportMatrixToXLSX(processedEObjectsDTO, workbook, matrixName, matrix, exportOptions, creationHelper,
 					headerCellStyle, genericDataCellStyle, dateDataCellStyle);
@@ -171,18 +234,31 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 	}
 
 	private void exportMatrixToXLSX(ProcessedEObjectsDTO processedEObjectsDTO, Workbook workbook, String matrixName,
-			Table<Integer, Integer, Object> matrix, Map<Object, Object> exportOptions, CreationHelper creationHelper,
+			EMFExportMatrix matrix, Map<Object, Object> exportOptions, CreationHelper creationHelper,
 			CellStyle headerCellStyle, CellStyle genericDataCellStyle, CellStyle dateDataCellStyle) throws IOException {
 
 		Sheet sheet = constructXLSXSheet(workbook, matrixName);
 
-		constructXLSXSheetColumnHeaders(matrix, sheet, exportOptions, headerCellStyle, genericDataCellStyle);
+		XLSXColumnWidthEstimator columnWidthEstimator = createColumnWidthEstimator(exportOptions);
+
+		constructXLSXSheetColumnHeaders(matrix.row(getMatrixRowKey(1)), sheet, exportOptions, headerCellStyle,
+				genericDataCellStyle, columnWidthEstimator);
 
 		populateXLSXSheetWithData(processedEObjectsDTO, matrix, sheet, exportOptions, creationHelper,
-				genericDataCellStyle, dateDataCellStyle);
+				genericDataCellStyle, dateDataCellStyle, columnWidthEstimator);
+
+		finalizeXLSXSheet(sheet, exportOptions, columnWidthEstimator);
+	}
+
+	private XLSXColumnWidthEstimator createColumnWidthEstimator(Map<Object, Object> exportOptions) {
+		return new XLSXColumnWidthEstimator(
+				adjustColumnWidthEnabled(exportOptions) ? columnWidthSampleSize(exportOptions) : 0);
+	}
 
+	private void finalizeXLSXSheet(Sheet sheet, Map<Object, Object> exportOptions,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
 		if (adjustColumnWidthEnabled(exportOptions)) {
-			adjustColumnWidth(sheet);
+			columnWidthEstimator.adjustColumnWidth(sheet);
 		}
 
 		if (freezeHeaderRowEnabled(exportOptions)) {
@@ -194,10 +270,9 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 		return workbook.createSheet(matrixName);
 	}
 
-	private void constructXLSXSheetColumnHeaders(Table<Integer, Integer, Object> matrix, Sheet sheet,
-			Map<Object, Object> exportOptions, CellStyle headerCellStyle, CellStyle genericDataCellStyle) {
-
-		Map<Integer, Object> matrixHeaderRow = matrix.row(getMatrixRowKey(1));
+	private void constructXLSXSheetColumnHeaders(Map<Integer, Object> matrixHeaderRow, Sheet sheet,
+			Map<Object, Object> exportOptions, CellStyle headerCellStyle, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
 
 		// @formatter:off
 		List<String> sheetColumnHeaders = matrixHeaderRow.values()
@@ -212,13 +287,14 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 
 		for (int colIndex = 0; colIndex < sheetColumnsCount; colIndex++) {
 			constructXLSXSheetColumnHeaderCell(sheetHeaderRow, sheetColumnHeaders.get(colIndex), headerCellStyle,
-					colIndex);
+					colIndex, columnWidthEstimator);
 		}
 	}
 
 	private void populateXLSXSheetWithData(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, Sheet sheet, Map<Object, Object> exportOptions,
-			CreationHelper creationHelper, CellStyle genericDataCellStyle, CellStyle dateDataCellStyle) {
+			EMFExportMatrix matrix, Sheet sheet, Map<Object, Object> exportOptions,
+			CreationHelper creationHelper, CellStyle genericDataCellStyle, CellStyle dateDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
 		Map<Integer, Map<Integer, Object>> matrixRowMap = matrix.rowMap();
 
 		// @formatter:off
@@ -231,63 +307,74 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 		for (Integer rowNumber : remainingRows) {
 			Map<Integer, Object> row = matrixRowMap.get(rowNumber);
 
-			int columnsCount = row.size();
+			populateXLSXSheetRowWithData(processedEObjectsDTO, row, sheet, exportOptions, creationHelper,
+					genericDataCellStyle, dateDataCellStyle, columnWidthEstimator);
+		}
+	}
 
-			int lastRowIndex = sheet.getLastRowNum();
+	private void populateXLSXSheetRowWithData(ProcessedEObjectsDTO processedEObjectsDTO, Map<Integer, Object> row,
+			Sheet sheet, Map<Object, Object> exportOptions, CreationHelper creationHelper,
+			CellStyle genericDataCellStyle, CellStyle dateDataCellStyle, XLSXColumnWidthEstimator columnWidthEstimator) {
 
-			Row dataRow = sheet.createRow((lastRowIndex + 1));
+		int columnsCount = row.size();
 
-			// @formatter:off
-			List<Object> rowValues = row.values()
-					.stream()
-					.collect(Collectors.toList());
-			// @formatter:on
+		int lastRowIndex = sheet.getLastRowNum();
 
-			for (int colIndex = 0; colIndex < columnsCount; colIndex++) {
-				populateXLSXSheetCellWithData(processedEObjectsDTO, dataRow, colIndex, rowValues.get(colIndex),
-						exportOptions, creationHelper, genericDataCellStyle, dateDataCellStyle);
-			}
+		Row dataRow = sheet.createRow((lastRowIndex + 1));
+
+		columnWidthEstimator.startRow();
+
+		// @formatter:off
+		List<Object> rowValues = row.values()
+				.stream()
+				.collect(Collectors.toList());
+		// @formatter:on
+
+		for (int colIndex = 0; colIndex < columnsCount; colIndex++) {
+			populateXLSXSheetCellWithData(processedEObjectsDTO, dataRow, colIndex, rowValues.get(colIndex),
+					exportOptions, creationHelper, genericDataCellStyle, dateDataCellStyle, columnWidthEstimator);
 		}
 	}
 
 	private void populateXLSXSheetCellWithData(ProcessedEObjectsDTO processedEObjectsDTO, Row dataRow, int colIndex,
 			Object value, Map<Object, Object> exportOptions, CreationHelper creationHelper,
-			CellStyle genericDataCellStyle, CellStyle dateDataCellStyle) {
+			CellStyle genericDataCellStyle, CellStyle dateDataCellStyle, XLSXColumnWidthEstimator columnWidthEstimator) {
 		if ((value != null) && !(value instanceof Optional)) {
 
 			if (value instanceof EMFExportInternalIDValueCell) {
 				setInternalIDValueCell(dataRow, colIndex, (EMFExportInternalIDValueCell) value, exportOptions,
-						creationHelper, genericDataCellStyle);
+						creationHelper, genericDataCellStyle, columnWidthEstimator);
 
 			} else if (value instanceof EMFExportEObjectIDValueCell) {
 				setIDValueCell(dataRow, colIndex, (EMFExportEObjectIDValueCell) value, exportOptions, creationHelper,
-						genericDataCellStyle);
+						genericDataCellStyle, columnWidthEstimator);
 
 			} else if (value instanceof EMFExportEObjectOneReferenceValueCell) {
 				setOneReferenceValueCell(processedEObjectsDTO, dataRow, colIndex,
 						(EMFExportEObjectOneReferenceValueCell) value, exportOptions, creationHelper,
-						genericDataCellStyle);
+						genericDataCellStyle, columnWidthEstimator);
 
 			} else if (value instanceof EMFExportEObjectManyReferencesValueCell) {
 				setManyReferencesValueCell(processedEObjectsDTO, dataRow, colIndex,
 						(EMFExportEObjectManyReferencesValueCell) value, exportOptions, creationHelper,
-						genericDataCellStyle);
+						genericDataCellStyle, columnWidthEstimator);
 
 			} else if (value instanceof EMFExportMappingMatrixReferenceValueCell) {
 				setMappingMatrixReferenceValueCell(dataRow, colIndex, (EMFExportMappingMatrixReferenceValueCell) value,
-						exportOptions, creationHelper, genericDataCellStyle);
+						exportOptions, creationHelper, genericDataCellStyle, columnWidthEstimator);
 
 			} else if (value instanceof Date) {
-				setDateValueCell(dataRow, colIndex, (Date) value, dateDataCellStyle);
+				setDateValueCell(dataRow, colIndex, (Date) value, dateDataCellStyle, columnWidthEstimator);
 
 			} else if (value instanceof Number) {
-				setNumberValueCell(dataRow, colIndex, (Number) value, genericDataCellStyle);
+				setNumberValueCell(dataRow, colIndex, (Number) value, genericDataCellStyle, columnWidthEstimator);
 
 			} else if (value instanceof Boolean) {
-				setBooleanValueCell(dataRow, colIndex, (Boolean) value, genericDataCellStyle);
+				setBooleanValueCell(dataRow, colIndex, (Boolean) value, genericDataCellStyle, columnWidthEstimator);
 
 			} else {
-				setStringValueCell(dataRow, colIndex, String.valueOf(value), genericDataCellStyle);
+				setStringValueCell(dataRow, colIndex, String.valueOf(value), genericDataCellStyle,
+						columnWidthEstimator);
 			}
 
 		} else {
@@ -296,36 +383,52 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 	}
 
 	private void setInternalIDValueCell(Row dataRow, int colIndex, EMFExportInternalIDValueCell internalIdValue,
-			Map<Object, Object> exportOptions, CreationHelper creationHelper, CellStyle genericDataCellStyle) {
+			Map<Object, Object> exportOptions, CreationHelper creationHelper, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
+		String value = internalIdValue.hasValue() ? internalIdValue.getValue() : "";
+
 		Cell cell = dataRow.createCell(colIndex);
-		cell.setCellValue(internalIdValue.hasValue() ? internalIdValue.getValue() : "");
+		cell.setCellValue(value);
 		cell.setCellStyle(genericDataCellStyle);
+
+		columnWidthEstimator.trackText(colIndex, value);
 	}
 
 	private void setIDValueCell(Row dataRow, int colIndex, EMFExportEObjectIDValueCell idValue,
-			Map<Object, Object> exportOptions, CreationHelper creationHelper, CellStyle genericDataCellStyle) {
+			Map<Object, Object> exportOptions, CreationHelper creationHelper, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
+		String value = idValue.hasValue() ? idValue.getValue() : "";
+
 		Cell cell = dataRow.createCell(colIndex);
-		cell.setCellValue(idValue.hasValue() ? idValue.getValue() : "");
+		cell.setCellValue(value);
 		cell.setCellStyle(genericDataCellStyle);
+
+		columnWidthEstimator.trackText(colIndex, value);
 	}
 
 	private void setOneReferenceValueCell(ProcessedEObjectsDTO processedEObjectsDTO, Row dataRow, int colIndex,
 			EMFExportEObjectOneReferenceValueCell referenceValueCell, Map<Object, Object> exportOptions,
-			CreationHelper creationHelper, CellStyle genericDataCellStyle) {
-		Cell cell = dataRow.createCell(colIndex);
+			CreationHelper creationHelper, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
+		String value;
 
 		if (showURIsEnabled(exportOptions) && !referenceValueCell.isSelfReferencingModel()) {
-			cell.setCellValue(referenceValueCell.hasURI() ? referenceValueCell.getURI() : "");
+			value = referenceValueCell.hasURI() ? referenceValueCell.getURI() : "";
 		} else {
-			cell.setCellValue(referenceValueCell.hasRefID() ? referenceValueCell.getRefID() : "");
+			value = referenceValueCell.hasRefID() ? referenceValueCell.getRefID() : "";
 		}
 
+		Cell cell = dataRow.createCell(colIndex);
+		cell.setCellValue(value);
 		cell.setCellStyle(genericDataCellStyle);
 
+		columnWidthEstimator.trackText(colIndex, value);
+
 		if (generateLinksEnabled(exportOptions) && referenceValueCell.hasRefID()) {
-			if (processedEObjectsDTO.eObjectIDToMatrixNameMap.containsKey(referenceValueCell.getRefID())) {
-				String matrixName = processedEObjectsDTO.eObjectIDToMatrixNameMap.get(referenceValueCell.getRefID());
+			String matrixName = processedEObjectsDTO.eObjectOrdinalIndex
+					.findMatrixName(referenceValueCell.getRefOrdinal());
 
+			if (matrixName != null) {
 				Hyperlink link = creationHelper.createHyperlink(HyperlinkType.DOCUMENT);
 				link.setAddress(constructHyperlinkAddress(matrixName));
 				cell.setHyperlink(link);
@@ -335,10 +438,16 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 
 	private void setManyReferencesValueCell(ProcessedEObjectsDTO processedEObjectsDTO, Row dataRow, int colIndex,
 			EMFExportEObjectManyReferencesValueCell referencesValueCell, Map<Object, Object> exportOptions,
-			CreationHelper creationHelper, CellStyle genericDataCellStyle) {
+			CreationHelper creationHelper, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
+		String value = convertManyReferenceValuesToString(referencesValueCell, exportOptions);
+
 		Cell cell = dataRow.createCell(colIndex);
-		cell.setCellValue(convertManyReferenceValuesToString(referencesValueCell, exportOptions));
+		cell.setCellValue(value);
 		cell.setCellStyle(genericDataCellStyle);
+
+		columnWidthEstimator.trackText(colIndex, value);
+
 		if (referencesValueCell.getRefIDsCount() > 1) {
 			cell.getRow().setHeightInPoints(
 					cell.getSheet().getDefaultRowHeightInPoints() * referencesValueCell.getRefIDs().size());
@@ -351,10 +460,10 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 		// .. therefore, links are created only if there's at most one ref in list of
 		// one-to-many refs
 		if (generateLinksEnabled(exportOptions) && referencesValueCell.getRefIDsCount() == 1) {
-			if (processedEObjectsDTO.eObjectIDToMatrixNameMap.containsKey(referencesValueCell.getRefIDs().get(0))) {
-				String matrixName = processedEObjectsDTO.eObjectIDToMatrixNameMap
-						.get(referencesValueCell.getRefIDs().get(0));
+			String matrixName = processedEObjectsDTO.eObjectOrdinalIndex
+					.findMatrixName(referencesValueCell.getRefOrdinal(0));
 
+			if (matrixName != null) {
 				Hyperlink link = creationHelper.createHyperlink(HyperlinkType.DOCUMENT);
 				link.setAddress(constructHyperlinkAddress(matrixName));
 				cell.setHyperlink(link);
@@ -387,11 +496,14 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 
 	private void setMappingMatrixReferenceValueCell(Row dataRow, int colIndex,
 			EMFExportMappingMatrixReferenceValueCell referenceValue, Map<Object, Object> exportOptions,
-			CreationHelper creationHelper, CellStyle genericDataCellStyle) {
+			CreationHelper creationHelper, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
 		Cell cell = dataRow.createCell(colIndex);
 		cell.setCellValue(referenceValue.getLabel());
 		cell.setCellStyle(genericDataCellStyle);
 
+		columnWidthEstimator.trackText(colIndex, referenceValue.getLabel());
+
 		if (generateLinksEnabled(exportOptions)) {
 			Hyperlink link = creationHelper.createHyperlink(HyperlinkType.DOCUMENT);
 			link.setAddress(constructHyperlinkAddress(referenceValue.getMatrixName()));
@@ -411,17 +523,22 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 	}
 
 	private void constructXLSXSheetColumnHeaderCell(Row headerRow, String sheetHeaderName, CellStyle headerCellStyle,
-			int colIndex) {
+			int colIndex, XLSXColumnWidthEstimator columnWidthEstimator) {
 		Cell headerRowCell = headerRow.createCell(colIndex);
 		headerRowCell.setCellValue(sheetHeaderName);
 		headerRowCell.setCellStyle(headerCellStyle);
+
+		columnWidthEstimator.trackText(colIndex, sheetHeaderName);
 	}
 
-	private void setStringValueCell(Row dataRow, int colIndex, String value, CellStyle genericDataCellStyle) {
+	private void setStringValueCell(Row dataRow, int colIndex, String value, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
 		Cell cell = dataRow.createCell(colIndex);
 		cell.setCellValue(value);
 		cell.setCellStyle(genericDataCellStyle);
 
+		columnWidthEstimator.trackText(colIndex, value);
+
 		if ((value != null) && value.contains(System.lineSeparator())) {
 			int linesCount = value.split(System.lineSeparator()).length;
 			if (linesCount > 1) {
@@ -430,22 +547,32 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 		}
 	}
 
-	private void setDateValueCell(Row dataRow, int colIndex, Date value, CellStyle dateDataCellStyle) {
+	private void setDateValueCell(Row dataRow, int colIndex, Date value, CellStyle dateDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
 		Cell cell = dataRow.createCell(colIndex);
 		cell.setCellValue(value);
 		cell.setCellStyle(dateDataCellStyle);
+
+		columnWidthEstimator.trackCharsCount(colIndex, DATE_CELL_CHARS_COUNT);
 	}
 
-	private void setNumberValueCell(Row dataRow, int colIndex, Number value, CellStyle genericDataCellStyle) {
+	private void setNumberValueCell(Row dataRow, int colIndex, Number value, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
 		Cell cell = dataRow.createCell(colIndex);
 		cell.setCellValue(value.floatValue());
 		cell.setCellStyle(genericDataCellStyle);
+
+		columnWidthEstimator.trackNumber(colIndex, value.floatValue());
 	}
 
-	private void setBooleanValueCell(Row dataRow, int colIndex, Boolean value, CellStyle genericDataCellStyle) {
+	private void setBooleanValueCell(Row dataRow, int colIndex, Boolean value, CellStyle genericDataCellStyle,
+			XLSXColumnWidthEstimator columnWidthEstimator) {
 		Cell cell = dataRow.createCell(colIndex);
 		cell.setCellValue(value);
 		cell.setCellStyle(genericDataCellStyle);
+
+		// rendered as "TRUE" or "FALSE"
+		columnWidthEstimator.trackCharsCount(colIndex, (value.booleanValue() ? 4 : 5));
 	}
 
 	private void setVoidValueCell(Row dataRow, int colIndex) {
@@ -453,19 +580,6 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 		cell.setBlank();
 	}
 
-	private void adjustColumnWidth(Sheet sheet) {
-		Row firstRow = sheet.getRow(0);
-		short minColIx = firstRow.getFirstCellNum();
-		short maxColIx = firstRow.getLastCellNum();
-		for (short colIndex = minColIx; colIndex < maxColIx; colIndex++) {
-			Cell cell = firstRow.getCell(colIndex);
-			if (cell == null) {
-				continue;
-			}
-			sheet.autoSizeColumn(colIndex);
-		}
-	}
-
 	private void freezeHeaderRow(Sheet sheet) {
 		sheet.createFreezePane(0, 1);
 	}
@@ -480,7 +594,7 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 	}
 
 	private XSSFFont createHeaderCellFont(Workbook workbook) {
-		XSSFFont font = ((XSSFWorkbook) workbook).createFont();
+		XSSFFont font = (XSSFFont) workbook.createFont();
 		font.setFontName("Arial");
 		font.setFontHeightInPoints((short) 10);
 		font.setBold(true);
@@ -496,7 +610,7 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 	}
 
 	private XSSFFont createDataCellFont(Workbook workbook) {
-		XSSFFont font = ((XSSFWorkbook) workbook).createFont();
+		XSSFFont font = (XSSFFont) workbook.createFont();
 		font.setFontName("Arial");
 		font.setFontHeightInPoints((short) 10);
 		font.setBold(false);
@@ -520,6 +634,18 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 					"Incompatible combination of export options: 'export non-containment references' option cannot be turned off if 'generate links for references' option is turned on!");
 		}
 
+		if (!(exportOptions.getOrDefault(EMFXLSXExportOptions.OPTION_ROW_ACCESS_WINDOW_SIZE,
+				SXSSFWorkbook.DEFAULT_WINDOW_SIZE) instanceof Integer) || (rowAccessWindowSize(exportOptions) < 1)) {
+			throw new EMFExportException(String.format("Unsupported row access window size '%s'!",
+					exportOptions.get(EMFXLSXExportOptions.OPTION_ROW_ACCESS_WINDOW_SIZE)));
+		}
+
+		if (!(exportOptions.getOrDefault(EMFXLSXExportOptions.OPTION_COLUMN_WIDTH_SAMPLE_SIZE,
+				Integer.MAX_VALUE) instanceof Integer) || (columnWidthSampleSize(exportOptions) < 1)) {
+			throw new EMFExportException(String.format("Unsupported column width sample size '%s'!",
+					exportOptions.get(EMFXLSXExportOptions.OPTION_COLUMN_WIDTH_SAMPLE_SIZE)));
+		}
+
 		return exportOptions;
 	}
 
@@ -534,4 +660,187 @@ public class EMFXLSXExporter extends AbstractEMFExporter implements EMFExporter
 	private boolean freezeHeaderRowEnabled(Map<Object, Object> exportOptions) {
 		return ((boolean) exportOptions.getOrDefault(EMFXLSXExportOptions.OPTION_FREEZE_HEADER_ROW, Boolean.TRUE));
 	}
+
+	private int columnWidthSampleSize(Map<Object, Object> exportOptions) {
+		return ((int) exportOptions.getOrDefault(EMFXLSXExportOptions.OPTION_COLUMN_WIDTH_SAMPLE_SIZE,
+				Integer.MAX_VALUE));
+	}
+
+	private int rowAccessWindowSize(Map<Object, Object> exportOptions) {
+		return ((int) exportOptions.getOrDefault(EMFXLSXExportOptions.OPTION_ROW_ACCESS_WINDOW_SIZE,
+				SXSSFWorkbook.DEFAULT_WINDOW_SIZE));
+	}
+
+	private boolean compressTempFilesEnabled(Map<Object, Object> exportOptions) {
+		return ((boolean) exportOptions.getOrDefault(EMFXLSXExportOptions.OPTION_COMPRESS_TEMP_FILES,
+				Boolean.FALSE));
+	}
+
+	/**
+	 * Writes rows streamed from matrices directly to XLSX sheets of SXSSF
+	 * workbook, one sheet per matrix.
+	 */
+	private class XLSXRowSink implements EMFExportRowSink {
+		private final ProcessedEObjectsDTO processedEObjectsDTO;
+		private final Map<Object, Object> exportOptions;
+		private final Workbook workbook;
+		private final CreationHelper creationHelper;
+		private final CellStyle headerCellStyle;
+		private final CellStyle genericDataCellStyle;
+		private final CellStyle dateDataCellStyle;
+
+		private Sheet sheet;
+		private XLSXColumnWidthEstimator columnWidthEstimator;
+
+		private XLSXRowSink(ProcessedEObjectsDTO processedEObjectsDTO, Map<Object, Object> exportOptions,
+				Workbook workbook, CreationHelper creationHelper, CellStyle headerCellStyle,
+				CellStyle genericDataCellStyle, CellStyle dateDataCellStyle) {
+			this.processedEObjectsDTO = processedEObjectsDTO;
+			this.exportOptions = exportOptions;
+			this.workbook = workbook;
+			this.creationHelper = creationHelper;
+			this.headerCellStyle = headerCellStyle;
+			this.genericDataCellStyle = genericDataCellStyle;
+			this.dateDataCellStyle = dateDataCellStyle;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#startMatrix(java.lang.String, java.util.Map, int)
+		 */
+		@Override
+		public void startMatrix(String matrixName, Map<Integer, Object> columnHeaders, int rowsCount) {
+			LOG.debug("Generating XLSX sheet for matrix named '{}'", matrixName);
+
+			sheet = constructXLSXSheet(workbook, matrixName);
+
+			columnWidthEstimator = createColumnWidthEstimator(exportOptions);
+
+			constructXLSXSheetColumnHeaders(columnHeaders, sheet, exportOptions, headerCellStyle,
+					genericDataCellStyle, columnWidthEstimator);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#writeRow(java.lang.String, int, java.util.Map)
+		 */
+		@Override
+		public void writeRow(String matrixName, int rowKey, Map<Integer, Object> row) {
+			populateXLSXSheetRowWithData(processedEObjectsDTO, row, sheet, exportOptions, creationHelper,
+					genericDataCellStyle, dateDataCellStyle, columnWidthEstimator);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.gecko.emf.exporter.EMFExportRowSink#endMatrix(java.lang.String)
+		 */
+		@Override
+		public void endMatrix(String matrixName) {
+			finalizeXLSXSheet(sheet, exportOptions, columnWidthEstimator);
+
+			sheet = null;
+			columnWidthEstimator = null;
+		}
+	}
+
+	/**
+	 * Estimates width of sheet's columns from number of characters of longest
+	 * value written to each column, as those are written - as opposed to
+	 * 'autoSizeColumn', which lays out text of each cell using fonts, and
+	 * cannot be used once rows were flushed when streaming. Only values of first
+	 * rows of sheet are taken into account, if sample size is limited (see
+	 * {@link EMFXLSXExportOptions#OPTION_COLUMN_WIDTH_SAMPLE_SIZE}).
+	 */
+	private static final class XLSXColumnWidthEstimator {
+
+		// column width is set in units of 1/256th of character width; Excel limits
+		// it to 255 characters
+		private static final int COLUMN_WIDTH_CHAR_UNITS = 256;
+		private static final int MAX_COLUMN_WIDTH_CHARS = 255;
+		private static final int COLUMN_WIDTH_PADDING_CHARS = 2;
+
+		private static final int INITIAL_COLUMNS_CAPACITY = 16;
+
+		private static final String LINE_SEPARATOR = System.lineSeparator();
+
+		private final int sampleSize;
+
+		private int[] columnsCharsCounts;
+		private int columnsCount;
+		private int rowsCount;
+
+		private XLSXColumnWidthEstimator(int sampleSize) {
+			this.sampleSize = sampleSize;
+			this.columnsCharsCounts = new int[INITIAL_COLUMNS_CAPACITY];
+		}
+
+		/**
+		 * Starts next data row - values of column headers, written before first
+		 * data row is started, are always taken into account.
+		 */
+		private void startRow() {
+			rowsCount++;
+		}
+
+		private boolean isSampled() {
+			return (rowsCount <= sampleSize);
+		}
+
+		private void trackCharsCount(int colIndex, int charsCount) {
+			if (!isSampled()) {
+				return;
+			}
+
+			if (colIndex >= columnsCharsCounts.length) {
+				columnsCharsCounts = Arrays.copyOf(columnsCharsCounts,
+						Math.max((colIndex + 1), (columnsCharsCounts.length * 2)));
+			}
+
+			if (charsCount > columnsCharsCounts[colIndex]) {
+				columnsCharsCounts[colIndex] = charsCount;
+			}
+
+			if (colIndex >= columnsCount) {
+				columnsCount = (colIndex + 1);
+			}
+		}
+
+		/**
+		 * Tracks number of characters of longest line of given text, as multi-line
+		 * text is wrapped.
+		 */
+		private void trackText(int colIndex, String text) {
+			if (!isSampled() || (text == null)) {
+				return;
+			}
+
+			int longestLineCharsCount = 0;
+			int lineStart = 0;
+			int lineEnd;
+
+			while ((lineEnd = text.indexOf(LINE_SEPARATOR, lineStart)) >= 0) {
+				longestLineCharsCount = Math.max(longestLineCharsCount, (lineEnd - lineStart));
+				lineStart = (lineEnd + LINE_SEPARATOR.length());
+			}
+
+			longestLineCharsCount = Math.max(longestLineCharsCount, (text.length() - lineStart));
+
+			trackCharsCount(colIndex, longestLineCharsCount);
+		}
+
+		private void trackNumber(int colIndex, float value) {
+			if (isSampled()) {
+				trackCharsCount(colIndex, String.valueOf(value).length());
+			}
+		}
+
+		private void adjustColumnWidth(Sheet sheet) {
+			for (int colIndex = 0; colIndex < columnsCount; colIndex++) {
+				int columnCharsCount = Math.min((columnsCharsCounts[colIndex] + COLUMN_WIDTH_PADDING_CHARS),
+						MAX_COLUMN_WIDTH_CHARS);
+
+				sheet.setColumnWidth(colIndex, (columnCharsCount * COLUMN_WIDTH_CHAR_UNITS));
+			}
+		}
+	}
 }
@@ -12,11 +12,14 @@
 package org.gecko.emf.exporter;
 
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,6 +29,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.URI;
@@ -51,12 +58,11 @@ import org.gecko.emf.exporter.headers.EMFExportEObjectIDColumnHeader;
 import org.gecko.emf.exporter.headers.EMFExportEObjectManyReferencesColumnHeader;
 import org.gecko.emf.exporter.headers.EMFExportEObjectOneReferenceColumnHeader;
 import org.gecko.emf.exporter.headers.EMFExportInternalIDColumnHeader;
-import org.gecko.emf.exporter.keys.EMFExportRefMatrixNameIDCompositeKey;
 import org.slf4j.Logger;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 /**
  * Implementation of format-agnostic methods for exporting EMF resources and
@@ -84,6 +90,10 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	protected static final String METADATA_MATRIX_NAME_SUFFIX = "Metadata";
 	protected static final String MAPPING_MATRIX_NAME_SUFFIX = "Mapping";
 
+	protected static final String MAPPING_MATRIX_REFERENCE_VALUE_PREFIX = "See: ";
+
+	protected static final String PSEUDO_ID_PREFIX = "~";
+
 	protected static final String DOCUMENTATION_GENMODEL_SOURCE = "http://www.eclipse.org/emf/2002/GenModel";
 	protected static final String DOCUMENTATION_GENMODEL_DETAILS = "documentation";
 
@@ -105,11 +115,8 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 	private final Logger logger;
 
-	protected final Stopwatch stopwatch;
-
-	protected AbstractEMFExporter(Logger logger, Stopwatch stopwatch) {
+	protected AbstractEMFExporter(Logger logger) {
 		this.logger = logger;
-		this.stopwatch = stopwatch;
 	}
 
 	/* 
@@ -142,26 +149,45 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	 * 
 	 * @param eObjects
 	 * @param options
+	 * @param metricsCollector collector of metrics of current export call
 	 * @return processed EObjects' DTO, including map of matrices, where key is
 	 *         matrix name and value matrix itself.
 	 * @throws EMFExportException
 	 */
-	protected ProcessedEObjectsDTO exportEObjectsToMatrices(List<? extends EObject> eObjects, Map<?, ?> options)
-			throws EMFExportException {
+	protected ProcessedEObjectsDTO exportEObjectsToMatrices(List<? extends EObject> eObjects, Map<?, ?> options,
+			EMFExportMetricsCollector metricsCollector) throws EMFExportException {
 		Objects.requireNonNull(eObjects, "At least one EObject is required for export!");
+		Objects.requireNonNull(metricsCollector, "Metrics collector is required for export!");
 
 		final Map<Object, Object> exportOptions = validateExportOptions(options);
 
-		final ProcessedEObjectsDTO processedEObjectsDTO = new ProcessedEObjectsDTO();
+		final ProcessedEObjectsDTO processedEObjectsDTO = new ProcessedEObjectsDTO(false,
+				pseudoIDStrategy(exportOptions), metricsCollector);
 
-		// pseudo IDs are needed before main processing starts
-		generatePseudoIDs(eObjects, processedEObjectsDTO);
+		if (parallelism(exportOptions) > 1) {
 
-		constructMatrices(eObjects, processedEObjectsDTO, exportOptions);
+			// EObjects of each matrix are collected first, so matrices can then be
+			// populated with data independently of each other
+			traverseEObjects(eObjects, processedEObjectsDTO, exportOptions, (matrixName, matrix, eObject) -> {
+				collectEObject(processedEObjectsDTO, matrixName, eObject);
+				generateReferencedEObjectsPseudoIDs(processedEObjectsDTO, eObject, exportOptions);
+			});
 
-		validateMatricesColumnsSize(processedEObjectsDTO.matrixNameToMatrixMap);
+			populateMatricesWithDataInParallel(processedEObjectsDTO, exportOptions);
+
+		} else {
 
-		populateMatricesWithData(processedEObjectsDTO, eObjects, exportOptions);
+			// matrices are constructed and populated with data in one pass
+			traverseEObjects(eObjects, processedEObjectsDTO, exportOptions, (matrixName, matrix, eObject) -> {
+				EMFExportPhase previousPhase = metricsCollector.enterPhase(EMFExportPhase.MATRICES_POPULATION);
+
+				populateMatrixWithData(processedEObjectsDTO, matrix, eObject, exportOptions);
+
+				metricsCollector.enterPhase(previousPhase);
+			});
+		}
+
+		validateMatricesColumnsSize(processedEObjectsDTO.matrixNameToMatrixMap);
 
 		validateMatricesRowsSize(processedEObjectsDTO.matrixNameToMatrixMap);
 
@@ -169,41 +195,292 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 			populateMatricesWithMetadata(processedEObjectsDTO);
 		}
 
+		for (Map.Entry<String, EMFExportMatrix> entry : processedEObjectsDTO.matrixNameToMatrixMap.entrySet()) {
+			metricsCollector.matrixExported(entry.getKey(), Math.max(0, entry.getValue().rowsCount() - 1),
+					entry.getValue().columnsCount());
+		}
+
 		return processedEObjectsDTO;
 	}
 
-	private void constructMatrices(List<? extends EObject> eObjects, ProcessedEObjectsDTO processedEObjectsDTO,
-			Map<Object, Object> exportOptions) throws EMFExportException {
+	/**
+	 * Exports list of EObject(s) to matrices' schema, i.e. matrices containing
+	 * column headers only, whose data rows are then streamed using
+	 * {@link #streamMatricesToSink}. Metadata matrices, which are small, are
+	 * populated with data straight away.
+	 * 
+	 * @param eObjects
+	 * @param options
+	 * @param metricsCollector collector of metrics of current export call
+	 * @return processed EObjects' DTO, including map of matrices, where key is
+	 *         matrix name and value matrix itself, and EObjects of each matrix in
+	 *         order of rows.
+	 * @throws EMFExportException
+	 */
+	protected ProcessedEObjectsDTO exportEObjectsToMatricesSchema(List<? extends EObject> eObjects,
+			Map<?, ?> options, EMFExportMetricsCollector metricsCollector) throws EMFExportException {
+		Objects.requireNonNull(eObjects, "At least one EObject is required for export!");
+		Objects.requireNonNull(metricsCollector, "Metrics collector is required for export!");
+
+		final Map<Object, Object> exportOptions = validateExportOptions(options);
+
+		final ProcessedEObjectsDTO processedEObjectsDTO = new ProcessedEObjectsDTO(true,
+				pseudoIDStrategy(exportOptions), metricsCollector);
+
+		// only EObjects of each matrix are collected, rows are constructed when
+		// streaming
+		traverseEObjects(eObjects, processedEObjectsDTO, exportOptions,
+				(matrixName, matrix, eObject) -> collectEObject(processedEObjectsDTO, matrixName, eObject));
+
+		validateMatricesColumnsSize(processedEObjectsDTO.matrixNameToMatrixMap);
+
+		validateStreamedMatricesRowsSize(processedEObjectsDTO.matrixNameToEObjectsMap);
+
+		if (exportMetadataEnabled(exportOptions)) {
+			populateMatricesWithMetadata(processedEObjectsDTO);
+		}
+
+		return processedEObjectsDTO;
+	}
+
+	/**
+	 * Streams matrices resulting from {@link #exportEObjectsToMatricesSchema}
+	 * to format-specific sink, constructing data rows one at a time. EObjects'
+	 * matrices are streamed first, followed by metadata and mapping matrices (if
+	 * enabled), each group in order of matrices' names.
+	 * 
+	 * @param processedEObjectsDTO
+	 * @param options
+	 * @param rowSink
+	 * @throws EMFExportException
+	 */
+	protected void streamMatricesToSink(ProcessedEObjectsDTO processedEObjectsDTO, Map<?, ?> options,
+			EMFExportRowSink rowSink) throws EMFExportException {
+		Objects.requireNonNull(processedEObjectsDTO, "Processed EObjects are required for streaming!");
+		Objects.requireNonNull(rowSink, "Row sink is required for streaming!");
+
+		if (!processedEObjectsDTO.streaming) {
+			throw new EMFExportException("Matrices were not exported for streaming!");
+		}
 
-		resetStopwatch();
+		final Map<Object, Object> exportOptions = validateExportOptions(options);
+
+		for (Map.Entry<String, EMFExportMatrix> entry : eObjectMatricesOnly(
+				processedEObjectsDTO.matrixNameToMatrixMap).entrySet()) {
+
+			// @formatter:off
+			streamEObjectsMatrixToSink(
+					processedEObjectsDTO, 
+					entry.getKey(), 
+					entry.getValue(), 
+					exportOptions, 
+					rowSink);
+			// @formatter:on
+		}
 
-		logger.info("Starting construction of matrices");
+		if (exportMetadataEnabled(exportOptions)) {
+			for (Map.Entry<String, EMFExportMatrix> entry : metadataMatricesOnly(
+					processedEObjectsDTO.matrixNameToMatrixMap).entrySet()) {
+				streamMatrixToSink(processedEObjectsDTO, entry.getKey(), entry.getValue(), rowSink);
+			}
+		}
 
-		final Set<String> processedEObjectsIdentifiers = new HashSet<String>();
+		if (addMappingTableEnabled(exportOptions)) {
+			for (Map.Entry<String, EMFExportMatrix> entry : mappingMatricesOnly(
+					processedEObjectsDTO.matrixNameToMatrixMap).entrySet()) {
+
+				// @formatter:off
+				streamEReferencesMappingMatrixToSink(
+						processedEObjectsDTO, 
+						entry.getKey(), 
+						entry.getValue(), 
+						exportOptions, 
+						rowSink);
+				// @formatter:on
+			}
+		}
+	}
+
+	private void streamEObjectsMatrixToSink(ProcessedEObjectsDTO processedEObjectsDTO, String matrixName,
+			EMFExportMatrix matrix, Map<Object, Object> exportOptions, EMFExportRowSink rowSink)
+			throws EMFExportException {
+
+		logger.debug("Streaming data of matrix named '{}'", matrixName);
+
+		List<EObject> eObjects = processedEObjectsDTO.matrixNameToEObjectsMap.getOrDefault(matrixName, List.of());
+
+		rowSink.startMatrix(matrixName, matrix.row(getMatrixRowKey(1)), eObjects.size());
+
+		EMFExportRowBuffer rowBuffer = new EMFExportRowBuffer();
+
+		int rowIndex = 2;
+
+		for (EObject eObject : eObjects) {
+			rowBuffer.reset(getMatrixRowKey(rowIndex));
+
+			EMFExportPhase previousPhase = processedEObjectsDTO.metricsCollector
+					.enterPhase(EMFExportPhase.MATRICES_POPULATION);
+
+			populateMatrixWithData(processedEObjectsDTO, rowBuffer, rowIndex, eObject, exportOptions);
+
+			processedEObjectsDTO.metricsCollector.enterPhase(previousPhase);
+
+			rowSink.writeRow(matrixName, getMatrixRowKey(rowIndex), rowBuffer.row(getMatrixRowKey(rowIndex)));
+
+			rowIndex++;
+		}
+
+		rowSink.endMatrix(matrixName);
+
+		processedEObjectsDTO.metricsCollector.matrixExported(matrixName, eObjects.size(), matrix.columnsCount());
+	}
+
+	private void streamMatrixToSink(ProcessedEObjectsDTO processedEObjectsDTO, String matrixName,
+			EMFExportMatrix matrix, EMFExportRowSink rowSink) throws EMFExportException {
+
+		logger.debug("Streaming data of matrix named '{}'", matrixName);
+
+		rowSink.startMatrix(matrixName, matrix.row(getMatrixRowKey(1)), Math.max(0, matrix.rowsCount() - 1));
+
+		for (Integer rowKey : matrix.rowKeySet()) {
+			if (rowKey.intValue() != getMatrixRowKey(1)) {
+				rowSink.writeRow(matrixName, rowKey, matrix.row(rowKey));
+			}
+		}
+
+		rowSink.endMatrix(matrixName);
+
+		processedEObjectsDTO.metricsCollector.matrixExported(matrixName, Math.max(0, matrix.rowsCount() - 1),
+				matrix.columnsCount());
+	}
+
+	private void streamEReferencesMappingMatrixToSink(ProcessedEObjectsDTO processedEObjectsDTO,
+			String eReferencesMappingMatrixName, EMFExportMatrix eReferencesMappingMatrix,
+			Map<Object, Object> exportOptions, EMFExportRowSink rowSink) throws EMFExportException {
+
+		logger.debug("Streaming data of EReferences mapping matrix named '{}'", eReferencesMappingMatrixName);
+
+		String fromMatrixName = processedEObjectsDTO.eReferencesMappingMatrixNameToMatrixNameMap
+				.get(eReferencesMappingMatrixName);
+
+		EReference toEReference = processedEObjectsDTO.eReferencesMappingMatrixNameToEReferenceMap
+				.get(eReferencesMappingMatrixName);
+
+		List<EObject> fromEObjects = processedEObjectsDTO.matrixNameToEObjectsMap.getOrDefault(fromMatrixName,
+				List.of());
+
+		int rowsCount = 0;
+
+		for (EObject fromEObject : fromEObjects) {
+			rowsCount += getEReferencesMappingMatrixEObjects(fromEObject, toEReference, exportOptions).size();
+		}
+
+		validateMatrixRowsSize(rowsCount + 1, eReferencesMappingMatrixName);
+
+		rowSink.startMatrix(eReferencesMappingMatrixName, eReferencesMappingMatrix.row(getMatrixRowKey(1)),
+				rowsCount);
+
+		EMFExportRowBuffer rowBuffer = new EMFExportRowBuffer();
+
+		int rowIndex = 2;
+
+		for (EObject fromEObject : fromEObjects) {
+			for (EObject toEObject : getEReferencesMappingMatrixEObjects(fromEObject, toEReference, exportOptions)) {
+				rowBuffer.reset(getMatrixRowKey(rowIndex));
+
+				EMFExportPhase previousPhase = processedEObjectsDTO.metricsCollector
+						.enterPhase(EMFExportPhase.MATRICES_POPULATION);
+
+				// @formatter:off
+				populateEReferencesMappingMatrixRowWithData(
+						processedEObjectsDTO,
+						rowBuffer, 
+						rowIndex,
+						fromEObject, 
+						toEObject, 
+						exportOptions);
+				// @formatter:on
+
+				processedEObjectsDTO.metricsCollector.enterPhase(previousPhase);
+
+				rowSink.writeRow(eReferencesMappingMatrixName, getMatrixRowKey(rowIndex),
+						rowBuffer.row(getMatrixRowKey(rowIndex)));
+
+				rowIndex++;
+			}
+		}
+
+		rowSink.endMatrix(eReferencesMappingMatrixName);
+
+		processedEObjectsDTO.metricsCollector.matrixExported(eReferencesMappingMatrixName, rowsCount,
+				eReferencesMappingMatrix.columnsCount());
+	}
+
+	/**
+	 * Returns EObjects referenced by given EObject, which are exported to
+	 * EReferences mapping matrix - applying same conditions as when matrices are
+	 * populated with data.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<EObject> getEReferencesMappingMatrixEObjects(EObject fromEObject, EReference toEReference,
+			Map<Object, Object> exportOptions) {
+
+		if ((toEReference == null) || !showREFsEnabled(exportOptions)
+				|| !fromEObject.eClass().getEAllReferences().contains(toEReference)
+				|| skipFeature(fromEObject, toEReference)) {
+			return List.of();
+		}
+
+		Object value = fromEObject.eGet(toEReference);
+
+		if ((value != null) && toEReference.isMany() && (((List<EObject>) value).size() > 1)) {
+			return (List<EObject>) value;
+		}
+
+		return List.of();
+	}
+
+	/**
+	 * Traverses graph of EObjects once, constructing matrices for EObjects'
+	 * classes as those are encountered and passing each EObject, along with its
+	 * class' matrix, to visitor.
+	 */
+	private void traverseEObjects(List<? extends EObject> eObjects, ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions, EObjectVisitor eObjectVisitor) throws EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.MATRICES_CONSTRUCTION);
+
+		logger.info("Starting traversal of EObjects");
+
+		final Set<EObject> processedEObjects = Collections.newSetFromMap(new IdentityHashMap<>());
 
 		for (EObject eObject : eObjects) {
 
 			// @formatter:off
-			constructMatrixForEObjectWithEReferences(
+			traverseEObjectWithEReferences(
 					processedEObjectsDTO,
-					processedEObjectsIdentifiers, 
+					processedEObjects, 
 					exportOptions,
+					eObjectVisitor,
 					eObject);
 			// @formatter:on
 		}
 
-		logger.info("Finished construction of matrices in {} second(s)", elapsedTimeInSeconds());
+		logger.info("Finished traversal of EObjects in {} second(s)", elapsedTimeInSeconds(stopwatch));
 	}
 
-	private void constructMatrixForEObjectWithEReferences(ProcessedEObjectsDTO processedEObjectsDTO,
-			Set<String> eObjectsIdentifiers, Map<Object, Object> exportOptions, EObject eObject)
-			throws EMFExportException {
+	private void traverseEObjectWithEReferences(ProcessedEObjectsDTO processedEObjectsDTO,
+			Set<EObject> processedEObjects, Map<Object, Object> exportOptions, EObjectVisitor eObjectVisitor,
+			EObject eObject) throws EMFExportException {
 
 		// @formatter:off
-		constructMatrix(
+		traverseEObjects(
 				processedEObjectsDTO, 
-				eObjectsIdentifiers, 
+				processedEObjects, 
 				exportOptions,
+				eObjectVisitor,
 				eObject);
 		// @formatter:on
 
@@ -214,39 +491,45 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 			}
 
 			// @formatter:off
-			constructMatrixForEReference(
+			traverseEReference(
 					processedEObjectsDTO, 
-					eObjectsIdentifiers, 
+					processedEObjects, 
 					exportOptions, 
+					eObjectVisitor,
 					eObject, 
 					eReference);
 			// @formatter:on
 		}
 	}
 
-	private void constructMatrix(ProcessedEObjectsDTO processedEObjectsDTO, Set<String> eObjectsIdentifiers,
-			Map<Object, Object> exportOptions, EObject... eObjects) throws EMFExportException {
-		if ((eObjects.length > 0) && !isProcessed(eObjectsIdentifiers, eObjects[0])) {
+	private void traverseEObjects(ProcessedEObjectsDTO processedEObjectsDTO, Set<EObject> processedEObjects,
+			Map<Object, Object> exportOptions, EObjectVisitor eObjectVisitor, EObject... eObjects)
+			throws EMFExportException {
+		if ((eObjects.length > 0) && !processedEObjects.contains(eObjects[0])) {
 			EClass eClass = eObjects[0].eClass();
 
 			String matrixName = constructEClassMatrixName(eClass);
 
-			constructMatrixIfNotExists(processedEObjectsDTO, matrixName, eClass, eObjects[0],
-					hasPseudoID(processedEObjectsDTO, eObjects[0]), exportOptions);
+			EMFExportMatrix matrix = constructMatrixIfNotExists(processedEObjectsDTO, matrixName, eClass,
+					eObjects[0], hasPseudoID(processedEObjectsDTO, eObjects[0]), exportOptions);
 
 			for (EObject eObject : eObjects) {
-				String eObjectIdentifier = getEObjectIdentifier(eObject);
-
-				eObjectsIdentifiers.add(eObjectIdentifier);
+				processedEObjects.add(eObject);
 				processedEObjectsDTO.eObjectsClasses.add(eObject.eClass());
 
+				processedEObjectsDTO.eObjectOrdinalIndex
+						.registerMatrixName(processedEObjectsDTO.eObjectOrdinalIndex.ordinal(eObject), matrixName);
+
 				if (hasID(eObject)) {
+					reserveID(processedEObjectsDTO, getID(eObject));
 					processedEObjectsDTO.eObjectIDToMatrixNameMap.put(getID(eObject), matrixName);
 				} else if (hasPseudoID(processedEObjectsDTO, eObject)) {
 					processedEObjectsDTO.eObjectIDToMatrixNameMap.put(getPseudoID(processedEObjectsDTO, eObject),
 							matrixName);
 				}
 
+				eObjectVisitor.visit(matrixName, matrix, eObject);
+
 				for (EReference eReference : eObject.eClass().getEAllReferences()) {
 
 					if (!showREFsEnabled(exportOptions)) {
@@ -254,10 +537,11 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 					}
 
 					// @formatter:off
-					constructMatrixForEReference(
+					traverseEReference(
 							processedEObjectsDTO,
-							eObjectsIdentifiers, 
+							processedEObjects, 
 							exportOptions, 
+							eObjectVisitor,
 							eObject, 
 							eReference);
 					// @formatter:on
@@ -266,9 +550,97 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
+	private void collectEObject(ProcessedEObjectsDTO processedEObjectsDTO, String matrixName, EObject eObject) {
+		List<EObject> eObjects = processedEObjectsDTO.matrixNameToEObjectsMap.computeIfAbsent(matrixName,
+				k -> new ArrayList<>());
+
+		eObjects.add(eObject);
+
+		// rows are only constructed when streaming or populating matrices in
+		// parallel, but their position is already known at this point
+		if (hasID(eObject)) {
+			processedEObjectsDTO.eObjectOrdinalIndex.registerRowKey(
+					processedEObjectsDTO.eObjectOrdinalIndex.ordinal(eObject), getMatrixRowKey(eObjects.size() + 1));
+		}
+	}
+
+	/*
+	 * Pseudo IDs of referenced EObjects, which were not visited yet, are
+	 * generated in same order as when populating matrices in one pass, so
+	 * sequential pseudo IDs do not depend on order in which matrices are
+	 * populated in parallel; ordinals of referenced EObjects are assigned here
+	 * as well, so that index of ordinals is only read while populating matrices
+	 * in parallel.
+	 */
+	@SuppressWarnings("unchecked")
+	private void generateReferencedEObjectsPseudoIDs(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject,
+			Map<Object, Object> exportOptions) {
+
+		if (!showREFsEnabled(exportOptions)) {
+			return;
+		}
+
+		for (EStructuralFeature eStructuralFeature : eObject.eClass().getEAllStructuralFeatures()) {
+
+			if (!(eStructuralFeature instanceof EReference) || skipFeature(eObject, eStructuralFeature)) {
+				continue;
+			}
+
+			Object value = eObject.eGet(eStructuralFeature);
+
+			if (value instanceof EObject) {
+				getIDOrPseudoID(processedEObjectsDTO, (EObject) value);
+				processedEObjectsDTO.eObjectOrdinalIndex.ordinal((EObject) value);
+
+			} else if (value instanceof List) {
+				for (EObject refEObject : (List<EObject>) value) {
+					getIDOrPseudoID(processedEObjectsDTO, refEObject);
+					processedEObjectsDTO.eObjectOrdinalIndex.ordinal(refEObject);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Each task populates one EObjects' matrix, along with EReferences mapping
+	 * matrices constructed for its EClass, which no other task writes to.
+	 */
+	private void populateMatricesWithDataInParallel(ProcessedEObjectsDTO processedEObjectsDTO,
+			Map<Object, Object> exportOptions) throws EMFExportException {
+
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.MATRICES_POPULATION);
+
+		logger.info("Starting population of matrices with data using parallelism of {}",
+				parallelism(exportOptions));
+
+		List<Callable<Void>> tasks = new ArrayList<>();
+
+		for (Map.Entry<String, List<EObject>> entry : processedEObjectsDTO.matrixNameToEObjectsMap.entrySet()) {
+			EMFExportMatrix matrix = processedEObjectsDTO.matrixNameToMatrixMap.get(entry.getKey());
+
+			tasks.add(() -> {
+				int rowIndex = 2;
+
+				for (EObject eObject : entry.getValue()) {
+					populateMatrixWithData(processedEObjectsDTO, matrix, rowIndex, eObject, exportOptions);
+
+					rowIndex++;
+				}
+
+				return null;
+			});
+		}
+
+		invokeAll(tasks, exportOptions);
+
+		logger.info("Finished population of matrices with data in {} second(s)", elapsedTimeInSeconds(stopwatch));
+	}
+
 	@SuppressWarnings("unchecked")
-	private void constructMatrixForEReference(ProcessedEObjectsDTO processedEObjectsDTO,
-			Set<String> eObjectsIdentifiers, Map<Object, Object> exportOptions, EObject eObject, EReference r)
+	private void traverseEReference(ProcessedEObjectsDTO processedEObjectsDTO, Set<EObject> processedEObjects,
+			Map<Object, Object> exportOptions, EObjectVisitor eObjectVisitor, EObject eObject, EReference r)
 			throws EMFExportException {
 		if (!exportNonContainmentEnabled(exportOptions) && !r.isContainment()) {
 			return;
@@ -281,20 +653,22 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 			if (!r.isMany()) {
 
 				// @formatter:off
-				constructMatrix(
+				traverseEObjects(
 						processedEObjectsDTO,
-						eObjectsIdentifiers,
+						processedEObjects,
 						exportOptions,
+						eObjectVisitor,
 						(EObject) value);
 				// @formatter:on
 
 			} else if (r.isMany()) {
 
 				// @formatter:off
-				constructMatrix(
+				traverseEObjects(
 						processedEObjectsDTO,
-						eObjectsIdentifiers,
+						processedEObjects,
 						exportOptions,
+						eObjectVisitor,
 						((List<EObject>) value).toArray(EObject[]::new));
 				// @formatter:on
 
@@ -312,15 +686,18 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void constructEReferencesMappingMatrixIfNotExists(ProcessedEObjectsDTO processedEObjectsDTO,
+	private EMFExportMatrix constructEReferencesMappingMatrixIfNotExists(ProcessedEObjectsDTO processedEObjectsDTO,
 			EObject fromEObject, EReference toEReference) {
 		String eReferencesMappingMatrixName = constructEReferencesMappingMatrixName(fromEObject.eClass(),
 				toEReference.getName());
 
-		if (!processedEObjectsDTO.matrixNameToMatrixMap.containsKey(eReferencesMappingMatrixName)) {
+		EMFExportMatrix eReferencesMappingMatrix = processedEObjectsDTO.matrixNameToMatrixMap
+				.get(eReferencesMappingMatrixName);
+
+		if (eReferencesMappingMatrix == null) {
 			logger.debug("Creating EReferences mapping matrix named '{}'", eReferencesMappingMatrixName);
 
-			Table<Integer, Integer, Object> eReferencesMappingMatrix = HashBasedTable.create();
+			eReferencesMappingMatrix = createMatrix();
 
 			// @formatter:off
 			constructEReferencesMappingMatrixColumnHeaders(
@@ -331,11 +708,18 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 			// @formatter:on
 
 			processedEObjectsDTO.matrixNameToMatrixMap.put(eReferencesMappingMatrixName, eReferencesMappingMatrix);
+
+			processedEObjectsDTO.eReferencesMappingMatrixNameToMatrixNameMap.put(eReferencesMappingMatrixName,
+					constructEClassMatrixName(fromEObject.eClass()));
+			processedEObjectsDTO.eReferencesMappingMatrixNameToEReferenceMap.put(eReferencesMappingMatrixName,
+					toEReference);
 		}
+
+		return eReferencesMappingMatrix;
 	}
 
 	private void constructEReferencesMappingMatrixColumnHeaders(
-			Table<Integer, Integer, Object> eReferencesMappingMatrix, EClass fromEClass, String fromFieldName,
+			EMFExportMatrix eReferencesMappingMatrix, EClass fromEClass, String fromFieldName,
 			EClass toEClass) {
 
 		String fromEClassColumnHeaderName = constructEReferencesMappingMatrixColumnHeaderName(fromEClass);
@@ -390,7 +774,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		return createSafeMatrixName(sb.toString());
 	}
 
-	private Table<Integer, Integer, Object> constructMatrixIfNotExists(ProcessedEObjectsDTO processedEObjectsDTO,
+	private EMFExportMatrix constructMatrixIfNotExists(ProcessedEObjectsDTO processedEObjectsDTO,
 			String matrixName, EClass eClass, EObject eObject, boolean hasPseudoID, Map<Object, Object> exportOptions)
 			throws EMFExportException {
 
@@ -403,7 +787,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 			logger.debug("Matrix named '{}' does not exist yet, creating...", matrixName);
 
 			// @formatter:off
-			Table<Integer, Integer, Object> matrix = constructMatrix(
+			EMFExportMatrix matrix = constructMatrix(
 					processedEObjectsDTO,
 					matrixName, 
 					eClass,
@@ -422,11 +806,11 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private Table<Integer, Integer, Object> constructMatrix(ProcessedEObjectsDTO processedEObjectsDTO,
+	private EMFExportMatrix constructMatrix(ProcessedEObjectsDTO processedEObjectsDTO,
 			String matrixName, EClass eClass, EObject eObject, boolean hasPseudoID, Map<Object, Object> exportOptions)
 			throws EMFExportException {
 
-		Table<Integer, Integer, Object> matrix = HashBasedTable.create();
+		EMFExportMatrix matrix = createMatrix();
 
 		// @formatter:off
 		constructMatrixColumnHeadersAndMetadataMatrixIfEnabled(
@@ -443,7 +827,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void constructMatrixColumnHeadersAndMetadataMatrixIfEnabled(ProcessedEObjectsDTO processedEObjectsDTO,
-			String matrixName, Table<Integer, Integer, Object> matrix, EClass eClass, EObject eObject,
+			String matrixName, EMFExportMatrix matrix, EClass eClass, EObject eObject,
 			boolean hasPseudoID, Map<Object, Object> exportOptions) throws EMFExportException {
 
 		logger.debug("Creating columns' headers for matrix named '{}'"
@@ -468,7 +852,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 		Iterator<EStructuralFeature> eAllStructuralFeaturesIt = eAllStructuralFeatures.iterator();
 
-		int colIndex = matrix.columnKeySet().size();
+		int colIndex = matrix.columnsCount();
 
 		while (eAllStructuralFeaturesIt.hasNext()) {
 			EStructuralFeature eStructuralFeature = eAllStructuralFeaturesIt.next();
@@ -494,12 +878,21 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void constructMatrixColumnHeader(EObject eObject, EStructuralFeature eStructuralFeature, String matrixName,
-			Table<Integer, Integer, Object> matrix, int colIndex, Map<Object, Object> exportOptions)
+			EMFExportMatrix matrix, int colIndex, Map<Object, Object> exportOptions)
 			throws EMFExportException {
 		String columnHeaderName = constructMatrixColumnHeaderName(eStructuralFeature);
 
 		if (eStructuralFeature instanceof EAttribute) {
-			constructMatrixGenericColumnHeader(matrix, matrixName, columnHeaderName, colIndex);
+
+			// attribute is kept in column header, so exporters can e.g. derive typed
+			// columns; values of single-valued EEnum attributes are exported as
+			// literals, so exporters can e.g. treat such columns as categorical
+			EEnum eEnum = (isEcoreEEnumDataType(eStructuralFeature) && !eStructuralFeature.isMany())
+					? extractEEnumDataType(eStructuralFeature)
+					: null;
+
+			constructMatrixAttributeColumnHeader(matrix, matrixName, columnHeaderName,
+					(EAttribute) eStructuralFeature, eEnum, colIndex);
 
 		} else if (eStructuralFeature instanceof EReference) {
 
@@ -524,178 +917,52 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void constructMatrixInternalIDColumnHeader(Table<Integer, Integer, Object> matrix, String matrixName) {
+	private void constructMatrixInternalIDColumnHeader(EMFExportMatrix matrix, String matrixName) {
 		constructMatrixColumnHeader(matrix, new EMFExportInternalIDColumnHeader(matrixName, INTERNAL_ID_COLUMN_NAME),
 				INTERNAL_ID_COLUMN_POSITION);
 	}
 
-	private void constructMatrixIDColumnHeader(Table<Integer, Integer, Object> matrix, String matrixName) {
+	private void constructMatrixIDColumnHeader(EMFExportMatrix matrix, String matrixName) {
 		constructMatrixColumnHeader(matrix, new EMFExportEObjectIDColumnHeader(matrixName, ID_COLUMN_NAME),
 				ID_COLUMN_POSITION);
 	}
 
-	private void constructMatrixOneReferenceColumnHeader(Table<Integer, Integer, Object> matrix, String matrixName,
+	private void constructMatrixOneReferenceColumnHeader(EMFExportMatrix matrix, String matrixName,
 			String refMatrixName, String columnHeaderName, int colIndex) {
 		constructMatrixColumnHeader(matrix,
 				new EMFExportEObjectOneReferenceColumnHeader(matrixName, refMatrixName, columnHeaderName), colIndex);
 	}
 
-	private void constructMatrixManyReferencesColumnHeader(Table<Integer, Integer, Object> matrix, String matrixName,
+	private void constructMatrixManyReferencesColumnHeader(EMFExportMatrix matrix, String matrixName,
 			String refMatrixName, String columnHeaderName, int colIndex) {
 		constructMatrixColumnHeader(matrix,
 				new EMFExportEObjectManyReferencesColumnHeader(matrixName, refMatrixName, columnHeaderName), colIndex);
 	}
 
-	private void constructMatrixGenericColumnHeader(Table<Integer, Integer, Object> matrix, String matrixName,
-			String columnHeaderName, int colIndex) {
-		constructMatrixColumnHeader(matrix, new EMFExportEObjectGenericColumnHeader(matrixName, columnHeaderName),
-				colIndex);
+	private void constructMatrixAttributeColumnHeader(EMFExportMatrix matrix, String matrixName,
+			String columnHeaderName, EAttribute eAttribute, EEnum eEnum, int colIndex) {
+		constructMatrixColumnHeader(matrix,
+				new EMFExportEObjectGenericColumnHeader(matrixName, columnHeaderName, eAttribute, eEnum), colIndex);
 	}
 
-	private void constructMatrixColumnHeader(Table<Integer, Integer, Object> matrix,
+	private void constructMatrixColumnHeader(EMFExportMatrix matrix,
 			EMFExportEObjectColumnHeader columnHeader, int colIndex) {
 		matrix.put(getMatrixRowKey(1), getMatrixColumnKey(colIndex), columnHeader);
 	}
 
-	private void populateMatricesWithData(ProcessedEObjectsDTO processedEObjectsDTO, List<? extends EObject> eObjects,
-			Map<Object, Object> exportOptions) throws EMFExportException {
-
-		resetStopwatch();
-
-		logger.info("Starting populating matrices with data");
-
-		final Set<String> processedEObjectsIdentifiers = new HashSet<String>();
-
-		for (EObject eObject : eObjects) {
-			// @formatter:off
-			populateMatrixWithDataForEObjectWithEReferences(
-					processedEObjectsDTO, 
-					processedEObjectsIdentifiers, 
-					exportOptions,
-					eObject);
-			// @formatter:on
-		}
-
-		logger.info("Finished populating matrices with data in {} second(s)", elapsedTimeInSeconds());
-	}
-
-	private void populateMatrixWithDataForEObjectWithEReferences(ProcessedEObjectsDTO processedEObjectsDTO,
-			Set<String> eObjectsIdentifiers, Map<Object, Object> exportOptions, EObject eObject)
-			throws EMFExportException {
-
-		// @formatter:off
-		populateMatrixWithData(
-				processedEObjectsDTO,
-				eObjectsIdentifiers,
-				exportOptions,
-				eObject);
-		// @formatter:on
-
-		for (EReference eReference : eObject.eClass().getEAllReferences()) {
-
-			if (!showREFsEnabled(exportOptions)) {
-				return;
-			}
-
-			try {
-
-				// @formatter:off
-				populateMatrixWithDataForEReference(
-						processedEObjectsDTO,
-						eObjectsIdentifiers,
-						exportOptions,
-						eObject,
-						eReference);
-				// @formatter:on
-
-			} catch (EMFExportException e) {
-				throw new EMFExportException(e);
-			}
-		}
-	}
-
-	private void populateMatrixWithData(ProcessedEObjectsDTO processedEObjectsDTO, Set<String> eObjectsIdentifiers,
-			Map<Object, Object> exportOptions, EObject... eObjects) throws EMFExportException {
-		if ((eObjects.length > 0) && !isProcessed(eObjectsIdentifiers, eObjects[0])) {
-			EClass eClass = eObjects[0].eClass();
-
-			Table<Integer, Integer, Object> matrix = getMatrix(processedEObjectsDTO, eClass);
-
-			for (EObject eObject : eObjects) {
-				eObjectsIdentifiers.add(getEObjectIdentifier(eObject));
-
-				// @formatter:off
-				populateMatrixWithData(
-						processedEObjectsDTO,
-						matrix,
-						eObject,
-						exportOptions);
-				// @formatter:on
-
-				for (EReference eReference : eObject.eClass().getEAllReferences()) {
-
-					if (!showREFsEnabled(exportOptions)) {
-						return;
-					}
-
-					try {
-
-						// @formatter:off
-						populateMatrixWithDataForEReference(
-								processedEObjectsDTO,
-								eObjectsIdentifiers,
-								exportOptions,
-								eObject,
-								eReference);
-						// @formatter:on
-
-					} catch (EMFExportException e) {
-						throw new EMFExportException(e);
-					}
-				}
-			}
-		}
-	}
-
-	@SuppressWarnings("unchecked")
-	private void populateMatrixWithDataForEReference(ProcessedEObjectsDTO processedEObjectsDTO,
-			Set<String> eObjectsIdentifiers, Map<Object, Object> exportOptions, EObject eObject, EReference eReference)
+	private void populateMatrixWithData(ProcessedEObjectsDTO processedEObjectsDTO,
+			EMFExportMatrix matrix, EObject eObject, Map<Object, Object> exportOptions)
 			throws EMFExportException {
 
-		if (!exportNonContainmentEnabled(exportOptions) && !eReference.isContainment()) {
-			return;
-		}
-
-		Object value = eObject.eGet(eReference);
-
-		if (value != null) {
+		int rowsCount = matrix.rowsCount();
 
-			if (!eReference.isMany()) {
-
-				// @formatter:off
-				populateMatrixWithData(
-						processedEObjectsDTO,
-						eObjectsIdentifiers,
-						exportOptions,
-						(EObject) value);
-				// @formatter:on
-
-			} else if (eReference.isMany()) {
+		int rowIndex = (rowsCount + 1);
 
-				// @formatter:off
-				populateMatrixWithData(
-						processedEObjectsDTO,
-						eObjectsIdentifiers,
-						exportOptions,
-						((List<EObject>) value).toArray(EObject[]::new));
-				// @formatter:on
-			}
-		}
+		populateMatrixWithData(processedEObjectsDTO, matrix, rowIndex, eObject, exportOptions);
 	}
 
-	private void populateMatrixWithData(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, EObject eObject, Map<Object, Object> exportOptions)
-			throws EMFExportException {
+	private void populateMatrixWithData(ProcessedEObjectsDTO processedEObjectsDTO, EMFExportMatrix matrix,
+			int rowIndex, EObject eObject, Map<Object, Object> exportOptions) throws EMFExportException {
 
 		String matrixName = constructEClassMatrixName(eObject.eClass());
 
@@ -703,21 +970,20 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 		List<EStructuralFeature> eAllStructuralFeatures = eObject.eClass().getEAllStructuralFeatures();
 
-		int rowsCount = matrix.rowKeySet().size();
-
-		int rowIndex = (rowsCount + 1);
-
 		boolean hasID = hasID(eObject);
 
 		boolean hasPseudoID = hasPseudoID(processedEObjectsDTO, eObject);
 
+		int ordinal = processedEObjectsDTO.eObjectOrdinalIndex.ordinal(eObject);
+
 		if (hasPseudoID || hasID) {
 			// @formatter:off
 			setInternalIDValueCell(
 					matrix, 
 					rowIndex,
 					INTERNAL_ID_COLUMN_POSITION, 
-					getIDOrPseudoID(processedEObjectsDTO, eObject));
+					getIDOrPseudoID(processedEObjectsDTO, eObject),
+					ordinal);
 			// @formatter:on
 		}
 
@@ -726,10 +992,10 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 			setIDValueCell(
 					processedEObjectsDTO,
 					matrix, 
-					matrixName,
 					rowIndex, 
 					ID_COLUMN_POSITION,
-					getIDOrPseudoID(processedEObjectsDTO, eObject));
+					getIDOrPseudoID(processedEObjectsDTO, eObject),
+					ordinal);
 			// @formatter:on
 		}
 
@@ -760,20 +1026,21 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void setInternalIDValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
-			String value) {
-		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex), new EMFExportEObjectIDValueCell(value));
+	private void setInternalIDValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
+			String value, int ordinal) {
+		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex),
+				new EMFExportEObjectIDValueCell(value, ordinal));
 	}
 
-	private void setIDValueCell(ProcessedEObjectsDTO processedEObjectsDTO, Table<Integer, Integer, Object> matrix,
-			String matrixName, int rowIndex, int colIndex, String value) {
-		processedEObjectsDTO.refMatrixRowKeyIndex.put(new EMFExportRefMatrixNameIDCompositeKey(matrixName, value),
-				getMatrixRowKey(rowIndex));
+	private void setIDValueCell(ProcessedEObjectsDTO processedEObjectsDTO, EMFExportMatrix matrix,
+			int rowIndex, int colIndex, String value, int ordinal) {
+		processedEObjectsDTO.eObjectOrdinalIndex.registerRowKey(ordinal, getMatrixRowKey(rowIndex));
 
-		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex), new EMFExportEObjectIDValueCell(value));
+		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex),
+				new EMFExportEObjectIDValueCell(value, ordinal));
 	}
 
-	private Table<Integer, Integer, Object> getMatrix(ProcessedEObjectsDTO processedEObjectsDTO, EClass eClass)
+	private EMFExportMatrix getMatrix(ProcessedEObjectsDTO processedEObjectsDTO, EClass eClass)
 			throws EMFExportException {
 		String matrixName = constructEClassMatrixName(eClass);
 
@@ -786,7 +1053,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 	@SuppressWarnings("unchecked")
 	private void populateMatrixCellWithData(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, String matrixName, int rowIndex, int colIndex, EObject eObject,
+			EMFExportMatrix matrix, String matrixName, int rowIndex, int colIndex, EObject eObject,
 			EStructuralFeature eStructuralFeature, Map<Object, Object> exportOptions) throws EMFExportException {
 
 		if (eStructuralFeature instanceof EAttribute) {
@@ -842,25 +1109,25 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void setStringValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex, String value) {
+	private void setStringValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex, String value) {
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex), value);
 	}
 
-	private void setDateValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex, Date value) {
+	private void setDateValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex, Date value) {
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex), value);
 	}
 
-	private void setNumberValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex, Number value) {
+	private void setNumberValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex, Number value) {
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex), value.floatValue());
 	}
 
-	private void setBooleanValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setBooleanValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			Boolean value) {
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex), value);
 	}
 
 	@SuppressWarnings("unchecked")
-	private void setMultiValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setMultiValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EAttribute eAttribute, Object multiValue) {
 		StringBuilder sb = new StringBuilder();
 
@@ -887,13 +1154,13 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		// @formatter:on
 	}
 
-	private void setVoidValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex) {
+	private void setVoidValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex) {
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex), Optional.empty());
 	}
 
 	@SuppressWarnings("unchecked")
 	private void setEReferenceValueCell(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, String matrixName, int rowIndex, int colIndex, EObject eObject,
+			EMFExportMatrix matrix, String matrixName, int rowIndex, int colIndex, EObject eObject,
 			EReference eReference, Map<Object, Object> exportOptions) throws EMFExportException {
 
 		Object value = eObject.eGet(eReference);
@@ -961,7 +1228,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void setOneEReferenceValueCell(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, String refMatrixName, boolean isSelfReferencingModel, int rowIndex,
+			EMFExportMatrix matrix, String refMatrixName, boolean isSelfReferencingModel, int rowIndex,
 			int colIndex, EObject eObject, Map<Object, Object> exportOptions) throws EMFExportException {
 
 		if (hasIDOrPseudoID(processedEObjectsDTO, eObject)) {
@@ -975,7 +1242,8 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 					rowIndex,
 					colIndex, 
 					getIDOrPseudoID(processedEObjectsDTO, eObject), 
-					getURI(eObject));
+					getURI(eObject),
+					processedEObjectsDTO.eObjectOrdinalIndex.ordinal(eObject));
 			// @formatter:on
 
 		} else {
@@ -984,11 +1252,12 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void setManyEReferencesValueCell(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, String refMatrixName, boolean isSelfReferencingModel, int rowIndex,
+			EMFExportMatrix matrix, String refMatrixName, boolean isSelfReferencingModel, int rowIndex,
 			int colIndex, List<EObject> eObjects, Map<Object, Object> exportOptions) throws EMFExportException {
 
 		List<String> refIDs = new ArrayList<String>();
 		List<String> refURIs = new ArrayList<String>();
+		int[] refOrdinals = new int[(eObjects != null) ? eObjects.size() : 0];
 
 		if (eObjects != null) {
 			for (int i = 0; i < eObjects.size(); i++) {
@@ -996,29 +1265,32 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 				refIDs.add(getIDOrPseudoID(processedEObjectsDTO, eObject));
 				refURIs.add(getURI(eObject));
+				refOrdinals[i] = processedEObjectsDTO.eObjectOrdinalIndex.ordinal(eObject);
 			}
 		}
 
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex),
-				new EMFExportEObjectManyReferencesValueCell(refMatrixName, isSelfReferencingModel, refIDs, refURIs));
+				new EMFExportEObjectManyReferencesValueCell(refMatrixName, isSelfReferencingModel, refIDs, refURIs,
+						refOrdinals));
 	}
 
 	private void setOneEReferenceValueCell(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, String refMatrixName, boolean isSelfReferencingModel, int rowIndex,
-			int colIndex, String refID, String refURI) throws EMFExportException {
+			EMFExportMatrix matrix, String refMatrixName, boolean isSelfReferencingModel, int rowIndex,
+			int colIndex, String refID, String refURI, int refOrdinal) throws EMFExportException {
 
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex),
-				new EMFExportEObjectOneReferenceValueCell(refMatrixName, isSelfReferencingModel, refID, refURI));
+				new EMFExportEObjectOneReferenceValueCell(refMatrixName, isSelfReferencingModel, refID, refURI,
+						refOrdinal));
 	}
 
-	private void setEmptyOneEReferenceValueCell(Table<Integer, Integer, Object> matrix, String refMatrixName,
+	private void setEmptyOneEReferenceValueCell(EMFExportMatrix matrix, String refMatrixName,
 			boolean isSelfReferencingModel, int rowIndex, int colIndex) {
 
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex),
 				new EMFExportEObjectOneReferenceValueCell(refMatrixName, isSelfReferencingModel, null, null));
 	}
 
-	private void setEmptyManyEReferencesValueCell(Table<Integer, Integer, Object> matrix, String refMatrixName,
+	private void setEmptyManyEReferencesValueCell(EMFExportMatrix matrix, String refMatrixName,
 			boolean isSelfReferencingModel, int rowIndex, int colIndex) {
 
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex),
@@ -1026,40 +1298,43 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void populateEReferencesMappingMatrixWithData(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex, EObject fromEObject,
+			EMFExportMatrix matrix, int rowIndex, int colIndex, EObject fromEObject,
 			EReference toEReference, List<EObject> toEObjects, Map<Object, Object> exportOptions)
 			throws EMFExportException {
 
 		String eReferencesMappingMatrixName = constructEReferencesMappingMatrixName(fromEObject.eClass(),
 				toEReference.getName());
 
-		if (processedEObjectsDTO.matrixNameToMatrixMap.containsKey(eReferencesMappingMatrixName)) {
-			Table<Integer, Integer, Object> eReferencesMappingMatrix = processedEObjectsDTO.matrixNameToMatrixMap
-					.get(eReferencesMappingMatrixName);
+		// @formatter:off
+		setReferenceToEReferencesMappingMatrix(
+				matrix, 
+				rowIndex, 
+				colIndex, 
+				eReferencesMappingMatrixName);
+		// @formatter:on
 
-			// @formatter:off
-			setReferenceToEReferencesMappingMatrix(
-					matrix, 
-					rowIndex, 
-					colIndex, 
-					eReferencesMappingMatrixName);
-			// @formatter:on
+		// when streaming, mapping matrices are streamed separately, once rows of
+		// all EObjects' matrices were streamed
+		if (processedEObjectsDTO.streaming) {
+			return;
+		}
 
-			// @formatter:off
-			populateEReferencesMappingMatrixWithData(
-					processedEObjectsDTO,
-					eReferencesMappingMatrix, 
-					fromEObject, 
-					toEObjects, 
-					exportOptions);
-			// @formatter:on
+		// mapping matrix is constructed when traversal descends into referenced
+		// EObjects, which happens after referencing EObject is visited
+		EMFExportMatrix eReferencesMappingMatrix = constructEReferencesMappingMatrixIfNotExists(processedEObjectsDTO,
+				fromEObject, toEReference);
 
-		} else {
-			throw new EMFExportException("No mapping matrix named '" + eReferencesMappingMatrixName + "'");
-		}
+		// @formatter:off
+		populateEReferencesMappingMatrixWithData(
+				processedEObjectsDTO,
+				eReferencesMappingMatrix, 
+				fromEObject, 
+				toEObjects, 
+				exportOptions);
+		// @formatter:on
 	}
 
-	private void setReferenceToEReferencesMappingMatrix(Table<Integer, Integer, Object> matrix, int rowIndex,
+	private void setReferenceToEReferencesMappingMatrix(EMFExportMatrix matrix, int rowIndex,
 			int colIndex, String eReferencesMappingMatrixName) {
 
 		// @formatter:off
@@ -1071,7 +1346,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		// @formatter:on
 	}
 
-	private void setMappingMatrixReferenceValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setMappingMatrixReferenceValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			String eReferencesMappingMatrixName) {
 		matrix.put(getMatrixRowKey(rowIndex), getMatrixColumnKey(colIndex),
 				new EMFExportMappingMatrixReferenceValueCell(eReferencesMappingMatrixName,
@@ -1080,13 +1355,13 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 	private String constructEReferencesMappingMatrixEReferenceValue(String eReferencesMappingMatrixName) {
 		StringBuilder sb = new StringBuilder(100);
-		sb.append("See: ");
+		sb.append(MAPPING_MATRIX_REFERENCE_VALUE_PREFIX);
 		sb.append(eReferencesMappingMatrixName);
 		return sb.toString();
 	}
 
 	private void populateEReferencesMappingMatrixWithData(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> eReferencesMappingMatrix, EObject fromEObject, List<EObject> toEObjects,
+			EMFExportMatrix eReferencesMappingMatrix, EObject fromEObject, List<EObject> toEObjects,
 			Map<Object, Object> exportOptions) throws EMFExportException {
 
 		for (EObject toEObject : toEObjects) {
@@ -1103,13 +1378,28 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void populateEReferencesMappingMatrixRowWithData(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> eReferencesMappingMatrix, EObject fromEObject, EObject toEObject,
+			EMFExportMatrix eReferencesMappingMatrix, EObject fromEObject, EObject toEObject,
 			Map<Object, Object> exportOptions) throws EMFExportException {
 
-		int rowsCount = eReferencesMappingMatrix.rowKeySet().size();
+		int rowsCount = eReferencesMappingMatrix.rowsCount();
 
 		int rowIndex = (rowsCount + 1);
 
+		// @formatter:off
+		populateEReferencesMappingMatrixRowWithData(
+				processedEObjectsDTO,
+				eReferencesMappingMatrix, 
+				rowIndex,
+				fromEObject, 
+				toEObject, 
+				exportOptions);
+		// @formatter:on
+	}
+
+	private void populateEReferencesMappingMatrixRowWithData(ProcessedEObjectsDTO processedEObjectsDTO,
+			EMFExportMatrix eReferencesMappingMatrix, int rowIndex, EObject fromEObject, EObject toEObject,
+			Map<Object, Object> exportOptions) throws EMFExportException {
+
 		boolean isSelfReferencingModel = (fromEObject.eClass().getName().toLowerCase())
 				.equalsIgnoreCase(toEObject.eClass().getName().toLowerCase());
 
@@ -1145,7 +1435,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		if (!processedEObjectsDTO.matrixNameToMatrixMap.containsKey(eClassMetadataMatrixName)) {
 			logger.debug("Creating metadata matrix named '{}'", eClassMetadataMatrixName);
 
-			Table<Integer, Integer, Object> eClassMetadataMatrix = HashBasedTable.create();
+			EMFExportMatrix eClassMetadataMatrix = createMatrix();
 
 			constructEClassMetadataMatrixColumnHeaders(eClassMetadataMatrix);
 
@@ -1160,7 +1450,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		if (!processedEObjectsDTO.matrixNameToMatrixMap.containsKey(eEnumMetadataMatrixName)) {
 			logger.debug("Creating metadata matrix named '{}'", eEnumMetadataMatrixName);
 
-			Table<Integer, Integer, Object> eEnumMetadataMatrix = HashBasedTable.create();
+			EMFExportMatrix eEnumMetadataMatrix = createMatrix();
 
 			constructEEnumMetadataMatrixColumnHeaders(eEnumMetadataMatrix);
 
@@ -1186,7 +1476,9 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 	private void populateMatricesWithMetadata(ProcessedEObjectsDTO processedEObjectsDTO) throws EMFExportException {
 
-		resetStopwatch();
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		processedEObjectsDTO.metricsCollector.enterPhase(EMFExportPhase.METADATA_POPULATION);
 
 		logger.info("Starting populating matrices with metadata");
 
@@ -1194,7 +1486,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 		populateMatricesWithEEnumsMetadata(processedEObjectsDTO);
 
-		logger.info("Finished populating matrices with metadata in {} second(s)", elapsedTimeInSeconds());
+		logger.info("Finished populating matrices with metadata in {} second(s)", elapsedTimeInSeconds(stopwatch));
 	}
 
 	private void populateMatricesWithEClassesMetadata(ProcessedEObjectsDTO processedEObjectsDTO)
@@ -1204,7 +1496,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 			String eClassMetadataMatrixName = constructEClassMetadataMatrixName(eClass);
 
 			if (processedEObjectsDTO.matrixNameToMatrixMap.containsKey(eClassMetadataMatrixName)) {
-				Table<Integer, Integer, Object> matrix = processedEObjectsDTO.matrixNameToMatrixMap
+				EMFExportMatrix matrix = processedEObjectsDTO.matrixNameToMatrixMap
 						.get(eClassMetadataMatrixName);
 
 				populateMatrixWithEClassMetadata(processedEObjectsDTO, matrix, eClass);
@@ -1222,7 +1514,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 			String eEnumMetadataMatrixName = constructEEnumMetadataMatrixName(eEnum);
 
 			if (processedEObjectsDTO.matrixNameToMatrixMap.containsKey(eEnumMetadataMatrixName)) {
-				Table<Integer, Integer, Object> matrix = processedEObjectsDTO.matrixNameToMatrixMap
+				EMFExportMatrix matrix = processedEObjectsDTO.matrixNameToMatrixMap
 						.get(eEnumMetadataMatrixName);
 
 				populateMatrixWithEEnumMetadata(matrix, eEnum);
@@ -1233,7 +1525,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void maybeSetEClassMetadataDocumentation(Table<Integer, Integer, Object> matrix, EClass eClass) {
+	private void maybeSetEClassMetadataDocumentation(EMFExportMatrix matrix, EClass eClass) {
 		EAnnotation genModelAnnotation = eClass.getEAnnotation(DOCUMENTATION_GENMODEL_SOURCE);
 		if (genModelAnnotation != null
 				&& genModelAnnotation.getDetails().map().containsKey(DOCUMENTATION_GENMODEL_DETAILS)) {
@@ -1241,7 +1533,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void maybeSetEEnumMetadataDocumentation(Table<Integer, Integer, Object> matrix, EEnum eEnum) {
+	private void maybeSetEEnumMetadataDocumentation(EMFExportMatrix matrix, EEnum eEnum) {
 		EAnnotation genModelAnnotation = eEnum.getEAnnotation(DOCUMENTATION_GENMODEL_SOURCE);
 		if (genModelAnnotation != null
 				&& genModelAnnotation.getDetails().map().containsKey(DOCUMENTATION_GENMODEL_DETAILS)) {
@@ -1249,11 +1541,11 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void setTypeLevelMetadataDocumentation(Table<Integer, Integer, Object> matrix,
+	private void setTypeLevelMetadataDocumentation(EMFExportMatrix matrix,
 			EAnnotation genModelAnnotation) {
 		Map<String, String> genModelAnnotationDetails = genModelAnnotation.getDetails().map();
 
-		int rowsCount = matrix.rowKeySet().size();
+		int rowsCount = matrix.rowsCount();
 
 		int rowIndex = (rowsCount + 1);
 
@@ -1268,18 +1560,18 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		setStringValueCell(matrix, rowIndex, 6, genModelAnnotationDetails.get(DOCUMENTATION_GENMODEL_DETAILS));
 	}
 
-	private void constructEClassMetadataMatrixColumnHeaders(Table<Integer, Integer, Object> matrix) {
+	private void constructEClassMetadataMatrixColumnHeaders(EMFExportMatrix matrix) {
 		constructMetadataMatrixColumnHeaders(matrix, METADATA_ECLASS_MATRIX_COLUMNS_HEADERS);
 	}
 
-	private void constructEEnumMetadataMatrixColumnHeaders(Table<Integer, Integer, Object> matrix) {
+	private void constructEEnumMetadataMatrixColumnHeaders(EMFExportMatrix matrix) {
 		constructMetadataMatrixColumnHeaders(matrix, METADATA_EENUM_MATRIX_COLUMNS_HEADERS);
 	}
 
-	private void constructMetadataMatrixColumnHeaders(Table<Integer, Integer, Object> matrix, List<String> headers) {
+	private void constructMetadataMatrixColumnHeaders(EMFExportMatrix matrix, List<String> headers) {
 		int columnsCount = headers.size();
 
-		int rowsCount = matrix.rowKeySet().size();
+		int rowsCount = matrix.rowsCount();
 
 		int rowIndex = (rowsCount + 1);
 
@@ -1289,7 +1581,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	}
 
 	private void populateMatrixWithEClassMetadata(ProcessedEObjectsDTO processedEObjectsDTO,
-			Table<Integer, Integer, Object> matrix, EClass eClass) {
+			EMFExportMatrix matrix, EClass eClass) {
 
 		maybeSetEClassMetadataDocumentation(matrix, eClass);
 
@@ -1302,8 +1594,8 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		});
 	}
 
-	private void setEClassMetadataPseudoInternalIDValueCell(Table<Integer, Integer, Object> matrix) {
-		int rowsCount = matrix.rowKeySet().size();
+	private void setEClassMetadataPseudoInternalIDValueCell(EMFExportMatrix matrix) {
+		int rowsCount = matrix.rowsCount();
 
 		int rowIndex = (rowsCount + 1);
 
@@ -1318,7 +1610,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		setStringValueCell(matrix, rowIndex, 6, METADATA_PSEUDOID_DOCUMENTATION);
 	}
 
-	private void populateMatrixWithEEnumMetadata(Table<Integer, Integer, Object> matrix, EEnum eEnum) {
+	private void populateMatrixWithEEnumMetadata(EMFExportMatrix matrix, EEnum eEnum) {
 		maybeSetEEnumMetadataDocumentation(matrix, eEnum);
 
 		eEnum.getELiterals().forEach(eEnumLiteral -> {
@@ -1326,12 +1618,12 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		});
 	}
 
-	private void populateEClassMetadataMatrixRowWithData(Table<Integer, Integer, Object> matrix,
+	private void populateEClassMetadataMatrixRowWithData(EMFExportMatrix matrix,
 			EStructuralFeature eStructuralFeature) {
 
-		int columnsCount = matrix.columnKeySet().size();
+		int columnsCount = matrix.columnsCount();
 
-		int rowsCount = matrix.rowKeySet().size();
+		int rowsCount = matrix.rowsCount();
 
 		int rowIndex = (rowsCount + 1);
 
@@ -1340,12 +1632,12 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void populateEEnumMetadataMatrixRowWithData(Table<Integer, Integer, Object> matrix,
+	private void populateEEnumMetadataMatrixRowWithData(EMFExportMatrix matrix,
 			EEnumLiteral eEnumLiteral) {
 
-		int columnsCount = matrix.columnKeySet().size();
+		int columnsCount = matrix.columnsCount();
 
-		int rowsCount = matrix.rowKeySet().size();
+		int rowsCount = matrix.rowsCount();
 
 		int rowIndex = (rowsCount + 1);
 
@@ -1354,7 +1646,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void populateEClassMetadataCellWithData(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void populateEClassMetadataCellWithData(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EStructuralFeature eStructuralFeature) {
 		switch (colIndex) {
 		case 0: // Name
@@ -1381,7 +1673,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void populateEEnumMetadataCellWithData(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void populateEEnumMetadataCellWithData(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EEnumLiteral eEnumLiteral) {
 		switch (colIndex) {
 		case 0: // Name
@@ -1399,12 +1691,12 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void setEClassMetadataNameValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setEClassMetadataNameValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EStructuralFeature eStructuralFeature) {
 		setStringValueCell(matrix, rowIndex, colIndex, eStructuralFeature.getName());
 	}
 
-	private void setEClassMetadataTypeValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setEClassMetadataTypeValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EStructuralFeature eStructuralFeature) {
 		if (eStructuralFeature instanceof EAttribute) {
 			EAttribute eAttribute = (EAttribute) eStructuralFeature;
@@ -1439,17 +1731,17 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		return eAttributeType.getEPackage().getName().equalsIgnoreCase(ECORE_PACKAGE_NAME);
 	}
 
-	private void setEClassMetadataIsManyValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setEClassMetadataIsManyValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EStructuralFeature eStructuralFeature) {
 		setBooleanValueCell(matrix, rowIndex, colIndex, eStructuralFeature.isMany());
 	}
 
-	private void setEClassMetadataIsRequiredValueCell(Table<Integer, Integer, Object> matrix, int rowIndex,
+	private void setEClassMetadataIsRequiredValueCell(EMFExportMatrix matrix, int rowIndex,
 			int colIndex, EStructuralFeature eStructuralFeature) {
 		setBooleanValueCell(matrix, rowIndex, colIndex, eStructuralFeature.isRequired());
 	}
 
-	private void setEClassMetadataIsIDValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setEClassMetadataIsIDValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EStructuralFeature eStructuralFeature) {
 
 		if (eStructuralFeature instanceof EAttribute) {
@@ -1461,7 +1753,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	private void setEClassMetadataDefaultValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setEClassMetadataDefaultValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EStructuralFeature eStructuralFeature) {
 		if (eStructuralFeature instanceof EAttribute) {
 			EAttribute eAttribute = (EAttribute) eStructuralFeature;
@@ -1476,36 +1768,36 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		setVoidValueCell(matrix, rowIndex, colIndex);
 	}
 
-	private void setEStructuralFeatureMetadataDocumentationValueCell(Table<Integer, Integer, Object> matrix,
+	private void setEStructuralFeatureMetadataDocumentationValueCell(EMFExportMatrix matrix,
 			int rowIndex, int colIndex, EStructuralFeature eStructuralFeature) {
 		EAnnotation genModelAnnotation = eStructuralFeature.getEAnnotation(DOCUMENTATION_GENMODEL_SOURCE);
 
 		setMetadataDocumentationValueCell(matrix, rowIndex, colIndex, genModelAnnotation);
 	}
 
-	private void setEEnumMetadataNameValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setEEnumMetadataNameValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EEnumLiteral eEnumLiteral) {
 		setStringValueCell(matrix, rowIndex, colIndex, eEnumLiteral.getName());
 	}
 
-	private void setEEnumMetadataLiteralValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setEEnumMetadataLiteralValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EEnumLiteral eEnumLiteral) {
 		setStringValueCell(matrix, rowIndex, colIndex, eEnumLiteral.getLiteral());
 	}
 
-	private void setEEnumMetadataValueValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setEEnumMetadataValueValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EEnumLiteral eEnumLiteral) {
 		setNumberValueCell(matrix, rowIndex, colIndex, eEnumLiteral.getValue());
 	}
 
-	private void setEEnumLiteralMetadataDocumentationValueCell(Table<Integer, Integer, Object> matrix, int rowIndex,
+	private void setEEnumLiteralMetadataDocumentationValueCell(EMFExportMatrix matrix, int rowIndex,
 			int colIndex, EEnumLiteral eEnumLiteral) {
 		EAnnotation genModelAnnotation = eEnumLiteral.getEAnnotation(DOCUMENTATION_GENMODEL_SOURCE);
 
 		setMetadataDocumentationValueCell(matrix, rowIndex, colIndex, genModelAnnotation);
 	}
 
-	private void setMetadataDocumentationValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setMetadataDocumentationValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			EAnnotation genModelAnnotation) {
 
 		if (genModelAnnotation == null
@@ -1520,7 +1812,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 				genModelAnnotationDetails.get(DOCUMENTATION_GENMODEL_DETAILS));
 	}
 
-	private void setMetadataDocumentationValueCell(Table<Integer, Integer, Object> matrix, int rowIndex, int colIndex,
+	private void setMetadataDocumentationValueCell(EMFExportMatrix matrix, int rowIndex, int colIndex,
 			String documentation) {
 		setStringValueCell(matrix, rowIndex, colIndex, documentation);
 	}
@@ -1538,61 +1830,110 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		return false;
 	}
 
-	private void generatePseudoIDs(List<? extends EObject> eObjects, ProcessedEObjectsDTO processedEObjectsDTO) {
-		resetStopwatch();
+	/*
+	 * Sequential and content hash pseudo IDs start with reserved prefix, so these
+	 * can only collide with IDs which start with it as well; such IDs are reserved
+	 * when EObjects are visited, and if pseudo ID equal to one was already
+	 * generated, export fails instead of producing ambiguous IDs.
+	 */
+	private void reserveID(ProcessedEObjectsDTO processedEObjectsDTO, String id) throws EMFExportException {
+		if (!id.startsWith(PSEUDO_ID_PREFIX)) {
+			return;
+		}
+
+		if (!processedEObjectsDTO.pseudoIDs.add(id)) {
+			throw new EMFExportException(
+					String.format("ID '%s' collides with pseudo ID generated before; IDs starting with '%s' are"
+							+ " reserved for pseudo IDs, use random pseudo IDs instead", id, PSEUDO_ID_PREFIX));
+		}
+	}
+
+	private String generatePseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject) {
+		EMFExportPhase previousPhase = processedEObjectsDTO.metricsCollector
+				.enterPhase(EMFExportPhase.PSEUDO_IDS_GENERATION);
 
-		logger.info("Starting generation of pseudo IDs");
+		String pseudoID = constructUniquePseudoID(processedEObjectsDTO, eObject,
+				processedEObjectsDTO.pseudoIDStrategy);
 
-		final Set<String> processedEObjectsIdentifiers = new HashSet<String>();
+		logger.debug("Generated pseudo ID '{}' for EObject named '{}'", pseudoID, eObject.eClass().getName());
 
-		generatePseudoIDs(eObjects, processedEObjectsDTO, processedEObjectsIdentifiers);
+		processedEObjectsDTO.eObjectToPseudoIDMap.put(eObject, pseudoID);
+		processedEObjectsDTO.eObjectsClassesWithPseudoIDs.add(eObject.eClass());
 
-		logger.info("Finished generation of pseudo IDs in {} second(s)", elapsedTimeInSeconds());
+		processedEObjectsDTO.metricsCollector.enterPhase(previousPhase);
+
+		return pseudoID;
 	}
 
-	private void generatePseudoIDs(List<? extends EObject> eObjects, ProcessedEObjectsDTO processedEObjectsDTO,
-			Set<String> processedEObjectsIdentifiers) {
-		for (EObject eObject : eObjects) {
-			if (isProcessed(processedEObjectsIdentifiers, eObject)) {
-				continue;
-			}
+	private String constructUniquePseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject,
+			EMFExportPseudoIDStrategy pseudoIDStrategy) {
+		String pseudoID = constructPseudoID(processedEObjectsDTO, eObject, pseudoIDStrategy);
 
-			processedEObjectsIdentifiers.add(getEObjectIdentifier(eObject));
+		// EObjects with same content result in same hash - those are told apart by
+		// order in which they are encountered; same applies to pseudo IDs which
+		// happen to equal EObjects' IDs reserved before
+		String uniquePseudoID = pseudoID;
+		int duplicatesCount = 0;
+		while (!processedEObjectsDTO.pseudoIDs.add(uniquePseudoID)) {
+			uniquePseudoID = pseudoID + "_" + (++duplicatesCount);
+		}
 
-			generatePseudoID(processedEObjectsDTO, eObject);
+		return uniquePseudoID;
+	}
 
-			for (EReference eReference : eObject.eClass().getEAllReferences()) {
-				generatePseudoID(processedEObjectsDTO, eObject, eReference, processedEObjectsIdentifiers);
-			}
+	private String constructPseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject,
+			EMFExportPseudoIDStrategy pseudoIDStrategy) {
+		switch (pseudoIDStrategy) {
+		case SEQUENTIAL:
+			return PSEUDO_ID_PREFIX + eObject.eClass().getName() + "_"
+					+ processedEObjectsDTO.eClassToPseudoIDsCountMap.merge(eObject.eClass(), 1, Integer::sum);
+		case CONTENT_HASH:
+			return constructContentHashPseudoID(eObject);
+		case RANDOM:
+			return UUID.randomUUID().toString();
+		default:
+			throw new IllegalArgumentException("Unsupported pseudo ID strategy: " + pseudoIDStrategy);
 		}
 	}
 
-	@SuppressWarnings("unchecked")
-	private void generatePseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject, EReference eReference,
-			Set<String> processedEObjectsIdentifiers) {
-		Object value = eObject.eGet(eReference);
+	private String constructContentHashPseudoID(EObject eObject) {
+		EClass eClass = eObject.eClass();
 
-		if (value != null) {
-			if (!eReference.isMany()) {
-				generatePseudoID(processedEObjectsDTO, (EObject) value);
-			} else if (eReference.isMany()) {
-				generatePseudoIDs((List<EObject>) value, processedEObjectsDTO, processedEObjectsIdentifiers);
+		Hasher hasher = Hashing.farmHashFingerprint64().newHasher();
+		hasher.putString(eClass.getEPackage().getNsURI(), StandardCharsets.UTF_8);
+		hasher.putString(eClass.getName(), StandardCharsets.UTF_8);
+
+		for (EAttribute eAttribute : eClass.getEAllAttributes()) {
+			if (!eObject.eIsSet(eAttribute)) {
+				continue;
 			}
-		}
-	}
 
-	private void generatePseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject) {
-		if (!hasIDOrPseudoID(processedEObjectsDTO, eObject)) {
-			logger.debug("Generating pseudo ID for EObject ID '{}' named '{}'", getEObjectIdentifier(eObject),
-					eObject.eClass().getName());
-			processedEObjectsDTO.eObjectUniqueIdentifierToPseudoIDMap.put(getEObjectIdentifier(eObject),
-					UUID.randomUUID().toString());
-			processedEObjectsDTO.eObjectsClassesWithPseudoIDs.add(eObject.eClass());
+			hasher.putString(eAttribute.getName(), StandardCharsets.UTF_8);
+
+			Object value = eObject.eGet(eAttribute);
+
+			if (eAttribute.isMany()) {
+				for (Object v : (Collection<?>) value) {
+					putAttributeValue(hasher, eAttribute.getEAttributeType(), v);
+				}
+			} else {
+				putAttributeValue(hasher, eAttribute.getEAttributeType(), value);
+			}
 		}
+
+		return PSEUDO_ID_PREFIX + eClass.getName() + "_" + hasher.hash().toString();
 	}
 
-	private String getEObjectIdentifier(EObject eObject) {
-		return EcoreUtil.getIdentification(eObject);
+	private void putAttributeValue(Hasher hasher, EDataType eDataType, Object value) {
+		// value is converted using its data type, so that hash does not depend on
+		// e.g. default time zone
+		String valueAsString = (value != null) ? EcoreUtil.convertToString(eDataType, value) : null;
+
+		hasher.putInt((valueAsString != null) ? valueAsString.length() : -1);
+
+		if (valueAsString != null) {
+			hasher.putString(valueAsString, StandardCharsets.UTF_8);
+		}
 	}
 
 	protected boolean hasIDOrPseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject) {
@@ -1608,11 +1949,22 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	}
 
 	protected boolean hasPseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject) {
-		return (processedEObjectsDTO.eObjectUniqueIdentifierToPseudoIDMap.containsKey(getEObjectIdentifier(eObject)));
+		return (getPseudoID(processedEObjectsDTO, eObject) != null);
 	}
 
+	/*
+	 * Pseudo IDs are generated on first lookup - when EObject is visited or first
+	 * referenced, whichever comes first - so no separate pass over EObjects is
+	 * needed.
+	 */
 	protected String getPseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject) {
-		return processedEObjectsDTO.eObjectUniqueIdentifierToPseudoIDMap.get(getEObjectIdentifier(eObject));
+		String pseudoID = processedEObjectsDTO.eObjectToPseudoIDMap.get(eObject);
+
+		if ((pseudoID == null) && !hasID(eObject)) {
+			pseudoID = generatePseudoID(processedEObjectsDTO, eObject);
+		}
+
+		return pseudoID;
 	}
 
 	protected String getIDOrPseudoID(ProcessedEObjectsDTO processedEObjectsDTO, EObject eObject) {
@@ -1641,12 +1993,16 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		return sb.toString();
 	}
 
-	protected Integer getMatrixRowKey(int rowIndex) {
-		return Integer.valueOf(rowIndex);
+	protected int getMatrixRowKey(int rowIndex) {
+		return rowIndex;
 	}
 
-	protected Integer getMatrixColumnKey(int colIndex) {
-		return Integer.valueOf(colIndex);
+	protected int getMatrixColumnKey(int colIndex) {
+		return colIndex;
+	}
+
+	protected EMFExportMatrix createMatrix() {
+		return new EMFExportColumnarMatrix();
 	}
 
 	private String constructEClassMatrixName(EClass eClass) {
@@ -1661,7 +2017,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	 * Based on
 	 * {@link org.apache.poi.ss.util.WorkbookUtil#createSafeSheetName(String)}
 	 **/
-	private String createSafeMatrixName(final String nameProposal) {
+	static String createSafeMatrixName(final String nameProposal) {
 		return createSafeMatrixName(nameProposal, ' ');
 	}
 
@@ -1669,7 +2025,7 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 	 * Based on
 	 * {@link org.apache.poi.ss.util.WorkbookUtil.createSafeSheetName(String, char)}
 	 **/
-	private String createSafeMatrixName(final String nameProposal, char replaceChar) {
+	private static String createSafeMatrixName(final String nameProposal, char replaceChar) {
 		if (nameProposal == null) {
 			return "null";
 		}
@@ -1714,8 +2070,8 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		return ((EEnum) ((EAttribute) eStructuralFeature).getEAttributeType());
 	}
 
-	protected Map<String, Table<Integer, Integer, Object>> eObjectMatricesOnly(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap) {
+	protected Map<String, EMFExportMatrix> eObjectMatricesOnly(
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap) {
 		// @formatter:off
 		return matrixNameToMatrixMap.entrySet().stream()
 				.filter(entry -> (!isMetadataMatrix(entry.getKey()) && !isMappingMatrix(entry.getKey())))
@@ -1725,8 +2081,8 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		// @formatter:on
 	}
 
-	protected Map<String, Table<Integer, Integer, Object>> metadataMatricesOnly(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap) {
+	protected Map<String, EMFExportMatrix> metadataMatricesOnly(
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap) {
 		// @formatter:off
 		return matrixNameToMatrixMap.entrySet().stream()
 				.filter(entry -> isMetadataMatrix(entry.getKey()))
@@ -1736,8 +2092,8 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		// @formatter:on
 	}
 
-	protected Map<String, Table<Integer, Integer, Object>> mappingMatricesOnly(
-			Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap) {
+	protected Map<String, EMFExportMatrix> mappingMatricesOnly(
+			Map<String, EMFExportMatrix> matrixNameToMatrixMap) {
 		// @formatter:off
 		return matrixNameToMatrixMap.entrySet().stream()
 				.filter(entry -> isMappingMatrix(entry.getKey()))
@@ -1755,22 +2111,18 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		return matrixName.contains("_" + MAPPING_MATRIX_NAME_SUFFIX);
 	}
 
-	private boolean isProcessed(Set<String> eObjectsIdentifiers, EObject eObject) {
-		return eObjectsIdentifiers.contains(getEObjectIdentifier(eObject));
-	}
-
-	protected void validateMatricesColumnsSize(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap)
+	protected void validateMatricesColumnsSize(Map<String, EMFExportMatrix> matrixNameToMatrixMap)
 			throws EMFExportException {
 		for (String matrixName : matrixNameToMatrixMap.keySet()) {
 			validateMatrixColumnsSize(matrixNameToMatrixMap.get(matrixName), matrixName);
 		}
 	}
 
-	protected void validateMatrixColumnsSize(Table<Integer, Integer, Object> matrix, String matrixName)
+	protected void validateMatrixColumnsSize(EMFExportMatrix matrix, String matrixName)
 			throws EMFExportException {
 
 		if (!matrix.isEmpty()) {
-			int columnsCount = matrix.columnKeySet().size();
+			int columnsCount = matrix.columnsCount();
 
 			if (columnsCount > MAX_COLUMNS) {
 				throw new EMFExportException(String.format(
@@ -1780,24 +2132,34 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		}
 	}
 
-	protected void validateMatricesRowsSize(Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap)
+	protected void validateMatricesRowsSize(Map<String, EMFExportMatrix> matrixNameToMatrixMap)
 			throws EMFExportException {
 		for (String matrixName : matrixNameToMatrixMap.keySet()) {
 			validateMatrixRowsSize(matrixNameToMatrixMap.get(matrixName), matrixName);
 		}
 	}
 
-	protected void validateMatrixRowsSize(Table<Integer, Integer, Object> matrix, String matrixName)
+	protected void validateMatrixRowsSize(EMFExportMatrix matrix, String matrixName)
 			throws EMFExportException {
 
 		if (!matrix.isEmpty()) {
-			int rowsCount = matrix.rowKeySet().size();
+			validateMatrixRowsSize(matrix.rowsCount(), matrixName);
+		}
+	}
 
-			if (rowsCount > MAX_ROWS) {
-				throw new EMFExportException(String.format(
-						"Number of rows %d in matrix named '%s' exceeds maximum number of rows (%d) allowed!",
-						rowsCount, matrixName, MAX_ROWS));
-			}
+	private void validateStreamedMatricesRowsSize(Map<String, List<EObject>> matrixNameToEObjectsMap)
+			throws EMFExportException {
+		for (Map.Entry<String, List<EObject>> entry : matrixNameToEObjectsMap.entrySet()) {
+			// header row and data rows
+			validateMatrixRowsSize(entry.getValue().size() + 1, entry.getKey());
+		}
+	}
+
+	private void validateMatrixRowsSize(int rowsCount, String matrixName) throws EMFExportException {
+		if (rowsCount > MAX_ROWS) {
+			throw new EMFExportException(String.format(
+					"Number of rows %d in matrix named '%s' exceeds maximum number of rows (%d) allowed!", rowsCount,
+					matrixName, MAX_ROWS));
 		}
 	}
 
@@ -1813,9 +2175,35 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 					"Incompatible combination of export options: 'export non-containment references' option cannot be turned off if 'generate mapping table' option is turned on!");
 		}
 
+		try {
+			pseudoIDStrategy(exportOptions);
+		} catch (IllegalArgumentException e) {
+			throw new EMFExportException(String.format("Unsupported pseudo ID strategy '%s'!",
+					exportOptions.get(EMFExportOptions.OPTION_PSEUDO_ID_STRATEGY)));
+		}
+
+		if (!(exportOptions.getOrDefault(EMFExportOptions.OPTION_PARALLELISM, 1) instanceof Integer)
+				|| (parallelism(exportOptions) < 1)) {
+			throw new EMFExportException(String.format("Unsupported parallelism '%s'!",
+					exportOptions.get(EMFExportOptions.OPTION_PARALLELISM)));
+		}
+
+		if (exportOptions.containsKey(EMFExportOptions.OPTION_METRICS_LISTENER) && !(exportOptions
+				.get(EMFExportOptions.OPTION_METRICS_LISTENER) instanceof EMFExportMetricsListener)) {
+			throw new EMFExportException(String.format("Unsupported metrics listener '%s'!",
+					exportOptions.get(EMFExportOptions.OPTION_METRICS_LISTENER)));
+		}
+
 		return exportOptions;
 	}
 
+	protected EMFExportPseudoIDStrategy pseudoIDStrategy(Map<Object, Object> exportOptions) {
+		Object pseudoIDStrategy = exportOptions.get(EMFExportOptions.OPTION_PSEUDO_ID_STRATEGY);
+
+		return ((pseudoIDStrategy != null) ? EMFExportPseudoIDStrategy.valueOf(String.valueOf(pseudoIDStrategy))
+				: EMFExportPseudoIDStrategy.SEQUENTIAL);
+	}
+
 	protected Locale locale(Map<Object, Object> exportOptions) {
 		return ((Locale) exportOptions.getOrDefault(EMFExportOptions.OPTION_LOCALE, Locale.getDefault()));
 	}
@@ -1840,25 +2228,128 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		return ((boolean) exportOptions.getOrDefault(EMFExportOptions.OPTION_SHOW_REFS, Boolean.TRUE));
 	}
 
-	protected void resetStopwatch() {
-		this.stopwatch.reset().start();
+	protected boolean streamingEnabled(Map<Object, Object> exportOptions) {
+		return ((boolean) exportOptions.getOrDefault(EMFExportOptions.OPTION_STREAMING, Boolean.FALSE));
+	}
+
+	protected int parallelism(Map<Object, Object> exportOptions) {
+		return ((int) exportOptions.getOrDefault(EMFExportOptions.OPTION_PARALLELISM, 1));
 	}
 
-	protected double elapsedTimeInSeconds() {
-		return (double) this.stopwatch.elapsed().toNanos() / 1000000000.0;
+	protected EMFExportMetricsListener metricsListener(Map<Object, Object> exportOptions) {
+		return ((EMFExportMetricsListener) exportOptions.get(EMFExportOptions.OPTION_METRICS_LISTENER));
+	}
+
+	/**
+	 * Publishes metrics collected during export call to metrics listener, if one
+	 * was passed (see {@link EMFExportOptions#OPTION_METRICS_LISTENER}).
+	 * 
+	 * @param metricsCollector
+	 * @param bytesWritten     number of bytes written to output stream
+	 * @param exportOptions
+	 */
+	protected void publishMetrics(EMFExportMetricsCollector metricsCollector, long bytesWritten,
+			Map<Object, Object> exportOptions) {
+		metricsCollector.bytesWritten(bytesWritten);
+
+		EMFExportMetrics metrics = metricsCollector.toMetrics();
+
+		logger.debug("Export metrics: {}", metrics);
+
+		EMFExportMetricsListener metricsListener = metricsListener(exportOptions);
+		if (metricsListener != null) {
+			metricsListener.exportFinished(metrics);
+		}
+	}
+
+	/**
+	 * Invokes given tasks - on fork/join pool if parallelism is enabled (see
+	 * {@link EMFExportOptions#OPTION_PARALLELISM}), in calling thread otherwise.
+	 * 
+	 * @param <T>
+	 * @param tasks
+	 * @param exportOptions
+	 * @return results of tasks, in order of tasks
+	 * @throws EMFExportException
+	 */
+	protected <T> List<T> invokeAll(List<? extends Callable<T>> tasks, Map<Object, Object> exportOptions)
+			throws EMFExportException {
+		List<T> results = new ArrayList<>(tasks.size());
+
+		int parallelism = Math.min(parallelism(exportOptions), tasks.size());
+
+		if (parallelism <= 1) {
+			for (Callable<T> task : tasks) {
+				try {
+					results.add(task.call());
+				} catch (EMFExportException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new EMFExportException(e);
+				}
+			}
+
+			return results;
+		}
+
+		ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+
+		try {
+			for (Future<T> future : forkJoinPool.invokeAll(tasks)) {
+				results.add(future.get());
+			}
+
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof EMFExportException) {
+				throw (EMFExportException) e.getCause();
+			}
+
+			throw new EMFExportException(e.getCause());
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+			throw new EMFExportException(e);
+
+		} finally {
+			forkJoinPool.shutdown();
+		}
+
+		return results;
+	}
+
+	protected double elapsedTimeInSeconds(Stopwatch stopwatch) {
+		return (double) stopwatch.elapsed().toNanos() / 1000000000.0;
+	}
+
+	/**
+	 * Receives EObjects visited when traversing EObjects' graph, along with
+	 * matrix constructed for EObject's class.
+	 */
+	@FunctionalInterface
+	private interface EObjectVisitor {
+		void visit(String matrixName, EMFExportMatrix matrix, EObject eObject) throws EMFExportException;
 	}
 
 	protected class ProcessedEObjectsDTO {
 		// maps matrices' names to matrices
-		public final Map<String, Table<Integer, Integer, Object>> matrixNameToMatrixMap;
+		public final Map<String, EMFExportMatrix> matrixNameToMatrixMap;
 
 		// maps EObjects' IDs to names of matrices, so those can be looked up e.g. when
 		// constructing links
 		public final Map<String, String> eObjectIDToMatrixNameMap;
 
-		// maps EObjects' unique identifiers to pseudo IDs - for those EObjects which
-		// lack id field
-		public final Map<String, String> eObjectUniqueIdentifierToPseudoIDMap;
+		// maps EObjects to pseudo IDs - for those EObjects which lack id field; keyed
+		// by identity, so no identification string needs to be constructed on lookup
+		public final Map<EObject, String> eObjectToPseudoIDMap;
+
+		// stores pseudo IDs generated so far, along with EObjects' IDs starting
+		// with pseudo IDs' prefix, to keep pseudo IDs unique
+		public final Set<String> pseudoIDs;
+
+		// counts pseudo IDs generated per EClass - used by sequential pseudo ID
+		// strategy
+		public final Map<EClass, Integer> eClassToPseudoIDsCountMap;
 
 		// stores EObjects' EClasses for which pseudo IDs where generated
 		public final Set<EClass> eObjectsClassesWithPseudoIDs;
@@ -1869,23 +2360,54 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		// stores EEnums - used e.g. to construct meta data
 		public final Set<EEnum> eObjectsEnums;
 
-		// lookup index for storing information about position (row number) of specific
-		// reference
-		public final Map<EMFExportRefMatrixNameIDCompositeKey, Integer> refMatrixRowKeyIndex;
+		// assigns EObjects ordinals and stores matrices and rows those are exported
+		// to, so references can be dereferenced using array lookups
+		public final EMFExportEObjectOrdinalIndex eObjectOrdinalIndex;
+
+		// maps EReferences mapping matrices' names to names of matrices and
+		// EReferences those mapping matrices were constructed for
+		public final Map<String, String> eReferencesMappingMatrixNameToMatrixNameMap;
+		public final Map<String, EReference> eReferencesMappingMatrixNameToEReferenceMap;
+
+		// whether matrices' data rows are streamed, rather than stored in matrices
+		public final boolean streaming;
+
+		// maps matrices' names to EObjects, in order of rows - only populated when
+		// streaming or populating matrices in parallel
+		public final Map<String, List<EObject>> matrixNameToEObjectsMap;
+
+		// strategy used to generate pseudo IDs
+		public final EMFExportPseudoIDStrategy pseudoIDStrategy;
+
+		// collects metrics of export call these EObjects are processed in
+		public final EMFExportMetricsCollector metricsCollector;
 
 		public ProcessedEObjectsDTO() {
-			this.matrixNameToMatrixMap = new HashMap<String, Table<Integer, Integer, Object>>();
+			this(false, EMFExportPseudoIDStrategy.SEQUENTIAL, new EMFExportMetricsCollector());
+		}
+
+		public ProcessedEObjectsDTO(boolean streaming, EMFExportPseudoIDStrategy pseudoIDStrategy,
+				EMFExportMetricsCollector metricsCollector) {
+			this.streaming = streaming;
+			this.pseudoIDStrategy = pseudoIDStrategy;
+			this.metricsCollector = metricsCollector;
+			this.matrixNameToMatrixMap = new HashMap<String, EMFExportMatrix>();
 			this.eObjectIDToMatrixNameMap = new HashMap<>();
-			this.eObjectUniqueIdentifierToPseudoIDMap = new HashMap<>();
+			this.eObjectToPseudoIDMap = new IdentityHashMap<>();
+			this.pseudoIDs = new HashSet<>();
+			this.eClassToPseudoIDsCountMap = new HashMap<>();
 			this.eObjectsClassesWithPseudoIDs = new HashSet<>();
 			this.eObjectsClasses = new HashSet<>();
 			this.eObjectsEnums = new HashSet<>();
-			this.refMatrixRowKeyIndex = new HashMap<>();
+			this.eObjectOrdinalIndex = new EMFExportEObjectOrdinalIndex();
+			this.eReferencesMappingMatrixNameToMatrixNameMap = new HashMap<>();
+			this.eReferencesMappingMatrixNameToEReferenceMap = new HashMap<>();
+			this.matrixNameToEObjectsMap = new HashMap<>();
 		}
 	}
 
 	private List<EObject> preProcessResourceEObjects(Resource resource, Map<Object, Object> exportOptions) {
-		resetStopwatch();
+		final Stopwatch stopwatch = Stopwatch.createStarted();
 
 		logger.info("Starting preprocessing EObjects contained in Resource");
 
@@ -1893,20 +2415,22 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 				resource.getURI());
 
 		preProcessedEObjectsDTO.rawResourceEObjects.addAll(resource.getContents());
+		preProcessedEObjectsDTO.rawResourceEObjectsLookup.addAll(resource.getContents());
 
 		preProcessedEObjectsDTO.resourceEObjectsURIs
 				.addAll(extractResourceEObjectsURIs(preProcessedEObjectsDTO.rawResourceEObjects));
 
-		final Set<String> processedEObjectsIdentifiers = new HashSet<String>();
+		final Set<EObject> processedEObjects = Collections.newSetFromMap(new IdentityHashMap<>());
 
-		preProcessResourceEObjects(preProcessedEObjectsDTO.rawResourceEObjects, processedEObjectsIdentifiers,
+		preProcessResourceEObjects(preProcessedEObjectsDTO.rawResourceEObjects, processedEObjects,
 				preProcessedEObjectsDTO, exportOptions);
 
 		if (!preProcessedEObjectsDTO.unProcessableResourceEObjects.isEmpty()) {
 			EcoreUtil.deleteAll(preProcessedEObjectsDTO.unProcessableResourceEObjects, true);
 		}
 
-		logger.info("Finished preprocessing EObjects contained in Resource in {} second(s)", elapsedTimeInSeconds());
+		logger.info("Finished preprocessing EObjects contained in Resource in {} second(s)",
+				elapsedTimeInSeconds(stopwatch));
 
 		return preProcessedEObjectsDTO.preProcessedResourceEObjects;
 	}
@@ -1915,27 +2439,25 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		return resourceEObjects.stream().map(eObject -> EcoreUtil.getURI(eObject)).collect(Collectors.toList());
 	}
 
-	private void preProcessResourceEObjects(List<? extends EObject> eObjects, Set<String> processedEObjectsIdentifiers,
+	private void preProcessResourceEObjects(List<? extends EObject> eObjects, Set<EObject> processedEObjects,
 			PreProcessedResourceEObjectsDTO preProcessedEObjectsDTO, Map<Object, Object> exportOptions) {
 		for (EObject eObject : eObjects) {
-			if (isProcessed(processedEObjectsIdentifiers, eObject)) {
+			if (!processedEObjects.add(eObject)) {
 				continue;
 			}
 
-			processedEObjectsIdentifiers.add(getEObjectIdentifier(eObject));
-
 			preProcessResourceEObject(eObject, preProcessedEObjectsDTO);
 
 			for (EReference eReference : eObject.eClass().getEAllReferences()) {
-				preProcessResourceEObject(eObject, eReference, processedEObjectsIdentifiers, preProcessedEObjectsDTO,
+				preProcessResourceEObject(eObject, eReference, processedEObjects, preProcessedEObjectsDTO,
 						exportOptions);
 			}
 		}
 	}
 
 	@SuppressWarnings("unchecked")
-	private void preProcessResourceEObject(EObject eObject, EReference eReference,
-			Set<String> processedEObjectsIdentifiers, PreProcessedResourceEObjectsDTO preProcessedEObjectsDTO,
+	private void preProcessResourceEObject(EObject eObject, EReference eReference, Set<EObject> processedEObjects,
+			PreProcessedResourceEObjectsDTO preProcessedEObjectsDTO,
 			Map<Object, Object> exportOptions) {
 
 		Object rawEObject = eObject.eGet(eReference, exportNonContainmentEnabled(exportOptions));
@@ -1971,8 +2493,8 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 					preProcessedEObjectsDTO.unProcessableResourceEObjects.addAll(unProcessableEObjects);
 
-					preProcessResourceEObjects(processableEObjects, processedEObjectsIdentifiers,
-							preProcessedEObjectsDTO, exportOptions);
+					preProcessResourceEObjects(processableEObjects, processedEObjects, preProcessedEObjectsDTO,
+							exportOptions);
 				}
 			}
 		}
@@ -1983,12 +2505,12 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 		if (eObject.eIsProxy()) {
 			return uriMatches(preProcessedEObjectsDTO.resourceURI, EcoreUtil.getURI(eObject));
 		} else {
-			return preProcessedEObjectsDTO.rawResourceEObjects.contains(eObject);
+			return preProcessedEObjectsDTO.rawResourceEObjectsLookup.contains(eObject);
 		}
 	}
 
 	private void preProcessResourceEObject(EObject eObject, PreProcessedResourceEObjectsDTO preProcessedEObjectsDTO) {
-		if (!preProcessedEObjectsDTO.preProcessedResourceEObjects.contains(eObject)) {
+		if (preProcessedEObjectsDTO.preProcessedResourceEObjectsLookup.add(eObject)) {
 			preProcessedEObjectsDTO.preProcessedResourceEObjects.add(eObject);
 		}
 	}
@@ -2016,11 +2538,18 @@ public abstract class AbstractEMFExporter implements EMFExporter {
 
 		public final Set<EObject> unProcessableResourceEObjects;
 
+		// identity-based lookups for lists above, so that membership checks do not
+		// require scanning those lists
+		public final Set<EObject> rawResourceEObjectsLookup;
+		public final Set<EObject> preProcessedResourceEObjectsLookup;
+
 		public PreProcessedResourceEObjectsDTO(URI resourceURI) {
 			this.resourceURI = resourceURI;
 			this.rawResourceEObjects = new ArrayList<>();
 			this.resourceEObjectsURIs = new ArrayList<>();
 			this.preProcessedResourceEObjects = new ArrayList<>();
+			this.rawResourceEObjectsLookup = Collections.newSetFromMap(new IdentityHashMap<>());
+			this.preProcessedResourceEObjectsLookup = Collections.newSetFromMap(new IdentityHashMap<>());
 			this.unProcessableResourceEObjects = new HashSet<>();
 		}
 	}
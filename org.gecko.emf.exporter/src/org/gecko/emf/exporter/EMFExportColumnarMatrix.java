@@ -0,0 +1,664 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.gecko.emf.exporter.cells.EMFExportEObjectIDValueCell;
+
+/**
+ * Column-oriented implementation of {@link EMFExportMatrix}.
+ *
+ * Data cells of each column are stored in primitive arrays, typed according to
+ * values stored (see {@link EMFExportMatrixColumnType}); strings are
+ * dictionary-encoded and presence of cells as well as empty cells are tracked
+ * using bitmaps. Once a column holds values of different types, it falls back
+ * to storing objects. Column headers (first row) are stored separately, so
+ * they do not affect type of column.
+ *
+ * Not thread-safe.
+ *
+ * @author Michal H. Siemaszko
+ */
+public class EMFExportColumnarMatrix implements EMFExportMatrix {
+
+	private static final int HEADER_ROW_KEY = 1;
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private Column[] columns;
+
+	private final BitSet rowKeys;
+
+	private final BitSet columnKeys;
+
+	// numbers of cells set in each row, indexed by row key
+	private int[] rowCellsCounts;
+
+	private int rowsCount;
+
+	private int columnsCount;
+
+	public EMFExportColumnarMatrix() {
+		this.columns = new Column[INITIAL_CAPACITY];
+		this.rowKeys = new BitSet();
+		this.columnKeys = new BitSet();
+		this.rowCellsCounts = new int[INITIAL_CAPACITY];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#put(int, int, java.lang.Object)
+	 */
+	@Override
+	public void put(int rowKey, int columnKey, Object value) {
+		checkKey(rowKey);
+		checkKey(columnKey);
+		Objects.requireNonNull(value, "Value is required!");
+
+		Column column = getOrCreateColumn(columnKey);
+
+		boolean newCell = !contains(rowKey, columnKey);
+
+		if (rowKey == HEADER_ROW_KEY) {
+			column.setHeader(value);
+		} else {
+			column.set(rowKey, value);
+		}
+
+		if (newCell) {
+			column.cellsCount++;
+
+			if (rowKey >= rowCellsCounts.length) {
+				rowCellsCounts = Arrays.copyOf(rowCellsCounts, Math.max(rowKey + 1, rowCellsCounts.length * 2));
+			}
+			rowCellsCounts[rowKey]++;
+		}
+
+		if (!rowKeys.get(rowKey)) {
+			rowKeys.set(rowKey);
+			rowsCount++;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#get(int, int)
+	 */
+	@Override
+	public Object get(int rowKey, int columnKey) {
+		Column column = getColumn(columnKey);
+		if (column == null) {
+			return null;
+		}
+
+		return (rowKey == HEADER_ROW_KEY) ? column.header : column.get(rowKey);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#contains(int, int)
+	 */
+	@Override
+	public boolean contains(int rowKey, int columnKey) {
+		Column column = getColumn(columnKey);
+		if (column == null) {
+			return false;
+		}
+
+		return (rowKey == HEADER_ROW_KEY) ? (column.header != null) : column.contains(rowKey);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return (rowsCount == 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#rowsCount()
+	 */
+	@Override
+	public int rowsCount() {
+		return rowsCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#columnsCount()
+	 */
+	@Override
+	public int columnsCount() {
+		return columnsCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#rowKeySet()
+	 */
+	@Override
+	public Set<Integer> rowKeySet() {
+		return new KeySet(rowKeys, rowsCount);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#columnKeySet()
+	 */
+	@Override
+	public Set<Integer> columnKeySet() {
+		return new KeySet(columnKeys, columnsCount);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#columnType(int)
+	 */
+	@Override
+	public EMFExportMatrixColumnType columnType(int columnKey) {
+		Column column = getColumn(columnKey);
+		return (column != null) ? column.type : EMFExportMatrixColumnType.UNKNOWN;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#row(int)
+	 */
+	@Override
+	public Map<Integer, Object> row(int rowKey) {
+		if ((rowKey < 0) || !rowKeys.get(rowKey)) {
+			return Collections.emptyMap();
+		}
+
+		return new EMFExportMatrixCellsView(columnKeys, columnKey -> get(rowKey, columnKey),
+				() -> rowCellsCounts[rowKey]);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#column(int)
+	 */
+	@Override
+	public Map<Integer, Object> column(int columnKey) {
+		Column column = getColumn(columnKey);
+		if (column == null) {
+			return Collections.emptyMap();
+		}
+
+		return new EMFExportMatrixCellsView(rowKeys,
+				rowKey -> (rowKey == HEADER_ROW_KEY) ? column.header : column.get(rowKey), () -> column.cellsCount);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#rowMap()
+	 */
+	@Override
+	public Map<Integer, Map<Integer, Object>> rowMap() {
+		return new RowMap();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(100);
+		sb.append(getClass().getSimpleName());
+		sb.append("[rows=");
+		sb.append(rowsCount);
+		sb.append(", columns=");
+		sb.append(columnsCount);
+		sb.append("]");
+		return sb.toString();
+	}
+
+	private void checkKey(int key) {
+		if (key < 0) {
+			throw new IllegalArgumentException("Matrix keys must not be negative: " + key);
+		}
+	}
+
+	private Column getColumn(int columnKey) {
+		return ((columnKey >= 0) && (columnKey < columns.length)) ? columns[columnKey] : null;
+	}
+
+	private Column getOrCreateColumn(int columnKey) {
+		if (columnKey >= columns.length) {
+			columns = Arrays.copyOf(columns, Math.max(columnKey + 1, columns.length * 2));
+		}
+
+		Column column = columns[columnKey];
+		if (column == null) {
+			column = new Column();
+			columns[columnKey] = column;
+			columnKeys.set(columnKey);
+			columnsCount++;
+		}
+
+		return column;
+	}
+
+	private static EMFExportMatrixColumnType typeOf(Object value) {
+		Class<?> valueClass = value.getClass();
+
+		if (valueClass == Boolean.class) {
+			return EMFExportMatrixColumnType.BOOLEAN;
+		} else if (valueClass == Integer.class) {
+			return EMFExportMatrixColumnType.INT;
+		} else if (valueClass == Long.class) {
+			return EMFExportMatrixColumnType.LONG;
+		} else if (valueClass == Float.class) {
+			return EMFExportMatrixColumnType.FLOAT;
+		} else if (valueClass == Double.class) {
+			return EMFExportMatrixColumnType.DOUBLE;
+		} else if (valueClass == String.class) {
+			return EMFExportMatrixColumnType.STRING;
+		} else if (valueClass == Date.class) {
+			return EMFExportMatrixColumnType.DATE;
+		} else if (valueClass == EMFExportEObjectIDValueCell.class) {
+			return EMFExportMatrixColumnType.ID;
+		} else {
+			return EMFExportMatrixColumnType.OBJECT;
+		}
+	}
+
+	private static boolean isEmptyValue(Object value) {
+		return (value instanceof Optional) && ((Optional<?>) value).isEmpty();
+	}
+
+	/**
+	 * Storage for single column; row keys are used as indexes into arrays.
+	 */
+	private static final class Column {
+		private Object header;
+
+		// number of cells set, including header
+		private int cellsCount;
+
+		private EMFExportMatrixColumnType type = EMFExportMatrixColumnType.UNKNOWN;
+
+		// cells which were set
+		private final BitSet present = new BitSet();
+
+		// cells which were set to empty value
+		private final BitSet empty = new BitSet();
+
+		private BitSet booleans;
+
+		private int[] ints;
+
+		private long[] longs;
+
+		private float[] floats;
+
+		private double[] doubles;
+
+		// indexes into strings' dictionary
+		private int[] stringCodes;
+
+		private List<String> dictionary;
+
+		private Map<String, Integer> dictionaryIndex;
+
+		private String[] ids;
+
+		// ordinals of EObjects IDs belong to, kept along IDs
+		private int[] idOrdinals;
+
+		private Object[] objects;
+
+		private void setHeader(Object header) {
+			this.header = header;
+		}
+
+		private boolean contains(int rowKey) {
+			return (rowKey >= 0) && present.get(rowKey);
+		}
+
+		private void set(int rowKey, Object value) {
+			if (isEmptyValue(value)) {
+				present.set(rowKey);
+				empty.set(rowKey);
+				return;
+			}
+
+			EMFExportMatrixColumnType valueType = typeOf(value);
+
+			if (type == EMFExportMatrixColumnType.UNKNOWN) {
+				initStorage(valueType);
+			} else if ((type != valueType) && (type != EMFExportMatrixColumnType.OBJECT)) {
+				convertToObjectStorage();
+			}
+
+			ensureCapacity(rowKey + 1);
+
+			switch (type) {
+			case BOOLEAN:
+				booleans.set(rowKey, ((Boolean) value).booleanValue());
+				break;
+			case INT:
+				ints[rowKey] = ((Integer) value).intValue();
+				break;
+			case LONG:
+				longs[rowKey] = ((Long) value).longValue();
+				break;
+			case FLOAT:
+				floats[rowKey] = ((Float) value).floatValue();
+				break;
+			case DOUBLE:
+				doubles[rowKey] = ((Double) value).doubleValue();
+				break;
+			case STRING:
+				stringCodes[rowKey] = encode((String) value);
+				break;
+			case DATE:
+				longs[rowKey] = ((Date) value).getTime();
+				break;
+			case ID:
+				ids[rowKey] = ((EMFExportEObjectIDValueCell) value).getValue();
+				idOrdinals[rowKey] = ((EMFExportEObjectIDValueCell) value).getOrdinal();
+				break;
+			default:
+				objects[rowKey] = value;
+				break;
+			}
+
+			present.set(rowKey);
+			empty.clear(rowKey);
+		}
+
+		private Object get(int rowKey) {
+			if (!contains(rowKey)) {
+				return null;
+			}
+
+			if (empty.get(rowKey)) {
+				return Optional.empty();
+			}
+
+			switch (type) {
+			case BOOLEAN:
+				return Boolean.valueOf(booleans.get(rowKey));
+			case INT:
+				return Integer.valueOf(ints[rowKey]);
+			case LONG:
+				return Long.valueOf(longs[rowKey]);
+			case FLOAT:
+				return Float.valueOf(floats[rowKey]);
+			case DOUBLE:
+				return Double.valueOf(doubles[rowKey]);
+			case STRING:
+				return dictionary.get(stringCodes[rowKey]);
+			case DATE:
+				return new Date(longs[rowKey]);
+			case ID:
+				return new EMFExportEObjectIDValueCell(ids[rowKey], idOrdinals[rowKey]);
+			case OBJECT:
+				return objects[rowKey];
+			default:
+				return null;
+			}
+		}
+
+		private int encode(String value) {
+			Integer code = dictionaryIndex.get(value);
+			if (code == null) {
+				code = Integer.valueOf(dictionary.size());
+				dictionary.add(value);
+				dictionaryIndex.put(value, code);
+			}
+			return code.intValue();
+		}
+
+		private void initStorage(EMFExportMatrixColumnType valueType) {
+			type = valueType;
+
+			switch (type) {
+			case BOOLEAN:
+				booleans = new BitSet();
+				break;
+			case INT:
+				ints = new int[INITIAL_CAPACITY];
+				break;
+			case LONG:
+			case DATE:
+				longs = new long[INITIAL_CAPACITY];
+				break;
+			case FLOAT:
+				floats = new float[INITIAL_CAPACITY];
+				break;
+			case DOUBLE:
+				doubles = new double[INITIAL_CAPACITY];
+				break;
+			case STRING:
+				stringCodes = new int[INITIAL_CAPACITY];
+				dictionary = new ArrayList<>();
+				dictionaryIndex = new HashMap<>();
+				break;
+			case ID:
+				ids = new String[INITIAL_CAPACITY];
+				idOrdinals = new int[INITIAL_CAPACITY];
+				break;
+			default:
+				objects = new Object[INITIAL_CAPACITY];
+				break;
+			}
+		}
+
+		private void convertToObjectStorage() {
+			Object[] values = new Object[Math.max(present.length(), INITIAL_CAPACITY)];
+
+			for (int rowKey = present.nextSetBit(0); rowKey >= 0; rowKey = present.nextSetBit(rowKey + 1)) {
+				if (!empty.get(rowKey)) {
+					values[rowKey] = get(rowKey);
+				}
+			}
+
+			booleans = null;
+			ints = null;
+			longs = null;
+			floats = null;
+			doubles = null;
+			stringCodes = null;
+			dictionary = null;
+			dictionaryIndex = null;
+			ids = null;
+			idOrdinals = null;
+
+			objects = values;
+			type = EMFExportMatrixColumnType.OBJECT;
+		}
+
+		private int capacity() {
+			switch (type) {
+			case BOOLEAN:
+				return Integer.MAX_VALUE;
+			case INT:
+				return ints.length;
+			case LONG:
+			case DATE:
+				return longs.length;
+			case FLOAT:
+				return floats.length;
+			case DOUBLE:
+				return doubles.length;
+			case STRING:
+				return stringCodes.length;
+			case ID:
+				return ids.length;
+			case OBJECT:
+				return objects.length;
+			default:
+				return 0;
+			}
+		}
+
+		private void ensureCapacity(int minCapacity) {
+			int capacity = capacity();
+			if (minCapacity <= capacity) {
+				return;
+			}
+
+			int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+
+			switch (type) {
+			case INT:
+				ints = Arrays.copyOf(ints, newCapacity);
+				break;
+			case LONG:
+			case DATE:
+				longs = Arrays.copyOf(longs, newCapacity);
+				break;
+			case FLOAT:
+				floats = Arrays.copyOf(floats, newCapacity);
+				break;
+			case DOUBLE:
+				doubles = Arrays.copyOf(doubles, newCapacity);
+				break;
+			case STRING:
+				stringCodes = Arrays.copyOf(stringCodes, newCapacity);
+				break;
+			case ID:
+				ids = Arrays.copyOf(ids, newCapacity);
+				idOrdinals = Arrays.copyOf(idOrdinals, newCapacity);
+				break;
+			case OBJECT:
+				objects = Arrays.copyOf(objects, newCapacity);
+				break;
+			default:
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Read-only, ascending set of keys backed by bitmap.
+	 */
+	private static final class KeySet extends AbstractSet<Integer> {
+		private final BitSet keys;
+
+		private final int size;
+
+		private KeySet(BitSet keys, int size) {
+			this.keys = keys;
+			this.size = size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return (o instanceof Integer) && (((Integer) o).intValue() >= 0) && keys.get(((Integer) o).intValue());
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return new Iterator<Integer>() {
+				private int next = keys.nextSetBit(0);
+
+				@Override
+				public boolean hasNext() {
+					return (next >= 0);
+				}
+
+				@Override
+				public Integer next() {
+					if (next < 0) {
+						throw new NoSuchElementException();
+					}
+					int current = next;
+					next = keys.nextSetBit(current + 1);
+					return Integer.valueOf(current);
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Read-only view of rows; each row is itself view backed by columns.
+	 */
+	private final class RowMap extends AbstractMap<Integer, Map<Integer, Object>> {
+
+		@Override
+		public Map<Integer, Object> get(Object key) {
+			return containsKey(key) ? row(((Integer) key).intValue()) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return rowKeySet().contains(key);
+		}
+
+		@Override
+		public Set<Integer> keySet() {
+			return rowKeySet();
+		}
+
+		@Override
+		public int size() {
+			return rowsCount;
+		}
+
+		@Override
+		public Set<Map.Entry<Integer, Map<Integer, Object>>> entrySet() {
+			return new AbstractSet<Map.Entry<Integer, Map<Integer, Object>>>() {
+
+				@Override
+				public Iterator<Map.Entry<Integer, Map<Integer, Object>>> iterator() {
+					Iterator<Integer> rowKeysIt = rowKeySet().iterator();
+
+					return new Iterator<Map.Entry<Integer, Map<Integer, Object>>>() {
+
+						@Override
+						public boolean hasNext() {
+							return rowKeysIt.hasNext();
+						}
+
+						@Override
+						public Map.Entry<Integer, Map<Integer, Object>> next() {
+							Integer rowKey = rowKeysIt.next();
+							return new SimpleImmutableEntry<>(rowKey, row(rowKey.intValue()));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return rowsCount;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Index of EObjects processed during export, which assigns each EObject a
+ * dense ordinal, in order in which EObjects are first encountered, and stores
+ * name of matrix and key of row each EObject is exported to.
+ * 
+ * Reference cells hold ordinals of referenced EObjects, so dereferencing those
+ * (e.g. when flattening matrices or generating links) is an array lookup,
+ * rather than lookup by ID.
+ * 
+ * Ordinals are only assigned while EObjects are traversed, which happens
+ * sequentially; rows may be registered while matrices are populated in
+ * parallel, as each EObject is then registered by one task only.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public final class EMFExportEObjectOrdinalIndex {
+
+	/**
+	 * Value used in place of ordinal of EObject which was not assigned one, as
+	 * well as in place of key of row of EObject which was not registered.
+	 */
+	public static final int NO_ORDINAL = -1;
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final Map<EObject, Integer> eObjectToOrdinalMap = new IdentityHashMap<>();
+
+	private String[] matrixNames = new String[INITIAL_CAPACITY];
+
+	private int[] rowKeys = newRowKeys(INITIAL_CAPACITY);
+
+	/**
+	 * Returns ordinal of EObject passed, assigning next one if EObject was not
+	 * assigned ordinal yet.
+	 * 
+	 * @param eObject
+	 * @return ordinal of EObject
+	 */
+	public int ordinal(EObject eObject) {
+		Integer ordinal = eObjectToOrdinalMap.get(eObject);
+		if (ordinal == null) {
+			ordinal = Integer.valueOf(eObjectToOrdinalMap.size());
+
+			eObjectToOrdinalMap.put(eObject, ordinal);
+
+			if (ordinal.intValue() >= matrixNames.length) {
+				int capacity = matrixNames.length * 2;
+
+				matrixNames = Arrays.copyOf(matrixNames, capacity);
+
+				int[] newRowKeys = newRowKeys(capacity);
+				System.arraycopy(rowKeys, 0, newRowKeys, 0, rowKeys.length);
+				rowKeys = newRowKeys;
+			}
+		}
+
+		return ordinal.intValue();
+	}
+
+	/**
+	 * Returns ordinal of EObject passed, or {@link #NO_ORDINAL} if EObject was
+	 * not assigned ordinal.
+	 * 
+	 * @param eObject
+	 * @return ordinal of EObject
+	 */
+	public int findOrdinal(EObject eObject) {
+		Integer ordinal = eObjectToOrdinalMap.get(eObject);
+		return (ordinal != null) ? ordinal.intValue() : NO_ORDINAL;
+	}
+
+	/**
+	 * Registers name of matrix EObject with ordinal passed is exported to.
+	 * 
+	 * @param ordinal
+	 * @param matrixName
+	 */
+	public void registerMatrixName(int ordinal, String matrixName) {
+		matrixNames[ordinal] = matrixName;
+	}
+
+	/**
+	 * Registers key of row EObject with ordinal passed is exported to.
+	 * 
+	 * @param ordinal
+	 * @param rowKey
+	 */
+	public void registerRowKey(int ordinal, int rowKey) {
+		rowKeys[ordinal] = rowKey;
+	}
+
+	/**
+	 * Returns name of matrix EObject with ordinal passed is exported to, or
+	 * <code>null</code> if none was registered.
+	 * 
+	 * @param ordinal
+	 * @return name of matrix
+	 */
+	public String findMatrixName(int ordinal) {
+		if ((ordinal < 0) || (ordinal >= eObjectToOrdinalMap.size())) {
+			return null;
+		}
+
+		return matrixNames[ordinal];
+	}
+
+	/**
+	 * Returns key of row EObject with ordinal passed is exported to in matrix
+	 * with name passed, or {@link #NO_ORDINAL} if no such row was registered.
+	 * 
+	 * @param ordinal
+	 * @param matrixName
+	 * @return key of row
+	 */
+	public int findRowKey(int ordinal, String matrixName) {
+		if ((ordinal < 0) || (ordinal >= eObjectToOrdinalMap.size()) || !matrixName.equals(matrixNames[ordinal])) {
+			return NO_ORDINAL;
+		}
+
+		return rowKeys[ordinal];
+	}
+
+	/**
+	 * Returns number of ordinals assigned.
+	 * 
+	 * @return number of ordinals
+	 */
+	public int size() {
+		return eObjectToOrdinalMap.size();
+	}
+
+	private static int[] newRowKeys(int capacity) {
+		int[] rowKeys = new int[capacity];
+		Arrays.fill(rowKeys, NO_ORDINAL);
+		return rowKeys;
+	}
+}
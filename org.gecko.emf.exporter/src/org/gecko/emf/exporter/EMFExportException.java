@@ -12,7 +12,7 @@
 package org.gecko.emf.exporter;
 
 /**
- * Exception which may be thrown during EMF export.
+ * Exception which may be thrown during EMF export, or import of exported data.
  * 
  * @author Michal H. Siemaszko
  */
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Two-dimensional matrix resulting from export of EObjects, which is further
+ * transformed by format-specific exporters.
+ *
+ * Row and column keys are non-negative integers; by convention, first row
+ * (row key <code>1</code>) holds column headers and data rows follow. Empty
+ * cells are represented by {@link java.util.Optional#empty()}, cells which were
+ * never set are absent (i.e. {@link #get(int, int)} returns
+ * <code>null</code>).
+ *
+ * @author Michal H. Siemaszko
+ */
+public interface EMFExportMatrix {
+
+	/**
+	 * Stores value in cell at given row and column.
+	 *
+	 * @param rowKey
+	 * @param columnKey
+	 * @param value     value to store, must not be <code>null</code>
+	 */
+	void put(int rowKey, int columnKey, Object value);
+
+	/**
+	 * Returns value stored in cell at given row and column.
+	 *
+	 * @param rowKey
+	 * @param columnKey
+	 * @return value or <code>null</code> if no value was stored in that cell
+	 */
+	Object get(int rowKey, int columnKey);
+
+	boolean contains(int rowKey, int columnKey);
+
+	boolean isEmpty();
+
+	/**
+	 * @return number of distinct rows
+	 */
+	int rowsCount();
+
+	/**
+	 * @return number of distinct columns
+	 */
+	int columnsCount();
+
+	/**
+	 * @return keys of rows, in ascending order
+	 */
+	Set<Integer> rowKeySet();
+
+	/**
+	 * @return keys of columns, in ascending order
+	 */
+	Set<Integer> columnKeySet();
+
+	/**
+	 * Returns type used to store data (i.e. non-header) cells of given column.
+	 *
+	 * @param columnKey
+	 * @return column type
+	 */
+	EMFExportMatrixColumnType columnType(int columnKey);
+
+	/**
+	 * @param rowKey
+	 * @return read-only map of column keys to values for given row, in ascending
+	 *         order of column keys
+	 */
+	Map<Integer, Object> row(int rowKey);
+
+	/**
+	 * @param columnKey
+	 * @return read-only map of row keys to values for given column, in ascending
+	 *         order of row keys
+	 */
+	Map<Integer, Object> column(int columnKey);
+
+	/**
+	 * @return read-only view of rows, where key is row key and value is row
+	 *         itself (see {@link #row(int)}), in ascending order of row keys
+	 */
+	Map<Integer, Map<Integer, Object>> rowMap();
+}
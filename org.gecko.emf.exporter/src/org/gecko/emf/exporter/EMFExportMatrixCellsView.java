@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * Read-only view of cells of single row or column of matrix, backed by
+ * matrix's own storage: keys are taken from bitmap of row or column keys and
+ * values are read from matrix as those are accessed, so that no copy of row or
+ * column is made. Keys of cells which were never set are skipped; number of
+ * cells is tracked by matrix, so that it is not counted on each access.
+ * 
+ * @author Michal H. Siemaszko
+ */
+final class EMFExportMatrixCellsView extends AbstractMap<Integer, Object> {
+
+	private final BitSet keys;
+
+	private final IntFunction<Object> cellValues;
+
+	private final IntSupplier cellsCount;
+
+	/**
+	 * @param keys       keys of cells (i.e. column keys for row, row keys for
+	 *                   column), in ascending order
+	 * @param cellValues function returning value of cell with given key, or
+	 *                   <code>null</code> if cell was never set
+	 * @param cellsCount function returning number of cells which were set
+	 */
+	EMFExportMatrixCellsView(BitSet keys, IntFunction<Object> cellValues, IntSupplier cellsCount) {
+		this.keys = keys;
+		this.cellValues = cellValues;
+		this.cellsCount = cellsCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public Object get(Object key) {
+		if (!(key instanceof Integer)) {
+			return null;
+		}
+
+		int cellKey = ((Integer) key).intValue();
+
+		return ((cellKey >= 0) && keys.get(cellKey)) ? cellValues.apply(cellKey) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return (get(key) != null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return (size() == 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return cellsCount.getAsInt();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Entry<Integer, Object>> entrySet() {
+		return new AbstractSet<Entry<Integer, Object>>() {
+
+			@Override
+			public Iterator<Entry<Integer, Object>> iterator() {
+				return new Iterator<Entry<Integer, Object>>() {
+					private int nextCellKey = -1;
+					private Object nextValue = advance(0);
+
+					@Override
+					public boolean hasNext() {
+						return (nextValue != null);
+					}
+
+					@Override
+					public Entry<Integer, Object> next() {
+						if (nextValue == null) {
+							throw new NoSuchElementException();
+						}
+
+						Entry<Integer, Object> entry = new SimpleImmutableEntry<>(Integer.valueOf(nextCellKey), nextValue);
+						nextValue = advance(nextCellKey + 1);
+						return entry;
+					}
+
+					private Object advance(int fromCellKey) {
+						for (int cellKey = keys.nextSetBit(fromCellKey); cellKey >= 0; cellKey = keys
+								.nextSetBit(cellKey + 1)) {
+							Object value = cellValues.apply(cellKey);
+							if (value != null) {
+								nextCellKey = cellKey;
+								return value;
+							}
+						}
+						return null;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return EMFExportMatrixCellsView.this.size();
+			}
+		};
+	}
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+/**
+ * Types used to store data cells of {@link EMFExportMatrix} columns.
+ *
+ * @author Michal H. Siemaszko
+ */
+public enum EMFExportMatrixColumnType {
+	// no value, other than empty cells, stored yet
+	UNKNOWN,
+
+	BOOLEAN,
+
+	INT,
+
+	LONG,
+
+	FLOAT,
+
+	DOUBLE,
+
+	// dictionary-encoded strings
+	STRING,
+
+	DATE,
+
+	// EObject's ID value cells
+	ID,
+
+	// any other values, or mix of values of different types
+	OBJECT
+}
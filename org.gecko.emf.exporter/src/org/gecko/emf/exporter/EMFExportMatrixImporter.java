@@ -0,0 +1,903 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+
+/**
+ * Reconstructs EObjects from matrices written by EMF exporters, i.e. reverse
+ * of {@link EMFExportRowSink}: format-specific readers pass matrices one after
+ * another, row by row, and references are resolved once all matrices were
+ * read.
+ * 
+ * EObjects are created as rows are read and registered in an index by their
+ * internal IDs ('_id' column), while values of reference columns and rows of
+ * mapping matrices are kept as pending references, which are resolved against
+ * that index in {@link #finish(Resource)}. Therefore matrices may be read in
+ * any order, and only one row has to be held in memory at a time.
+ * 
+ * References exported as URIs (see {@link EMFExportOptions#OPTION_SHOW_URIS})
+ * are resolved by IDs in their fragments only. URIs whose fragments are paths
+ * (e.g. '//@members.0'), which exporters write for EObjects without IDs, are
+ * not resolved, as paths depend on order of contents of exported resource,
+ * which is not preserved; those are reported as warnings of resource, so
+ * such exports should be made with {@link EMFExportOptions#OPTION_SHOW_URIS}
+ * disabled, if they are to be imported.
+ * 
+ * Both layouts written by exporters are supported: one matrix per EClass, with
+ * columns '_id', 'id', attributes' names and 'reference._ref', and flat matrix
+ * (see {@link #startFlatMatrix(List)}), whose columns' headers are paths, such
+ * as 'members.0.firstName' or 'members.0.friends.1._ref'.
+ * 
+ * Instances are not thread-safe.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public final class EMFExportMatrixImporter {
+
+	private static final String REF_COLUMN_NAME = AbstractEMFExporter.REF_COLUMN_SUFFIX.substring(1);
+
+	// format of Date#toString, which is how dates are exported to text-based
+	// formats
+	private static final DateTimeFormatter DATE_TO_STRING_FORMATTER = DateTimeFormatter
+			.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
+
+	private static final Pattern LINE_BREAK_PATTERN = Pattern.compile("\\R");
+
+	private static final int MAX_WARNINGS = 100;
+
+	private final EClass rootEClass;
+
+	private final Map<String, EClass> matrixNameToEClassMap = new HashMap<>();
+
+	private final Map<String, MappingMatrix> matrixNameToMappingMatrixMap = new HashMap<>();
+
+	private final Map<EClass, Map<String, EObject>> eClassToInternalIDIndexMap = new HashMap<>();
+
+	private final Map<String, EObject> internalIDIndex = new HashMap<>();
+
+	private final List<EObject> uncontainedEObjects = new ArrayList<>();
+
+	private final List<PendingReference> pendingReferences = new ArrayList<>();
+
+	private final Map<String, Problem> problems = new LinkedHashMap<>();
+
+	private String currentMatrixName;
+
+	private List<ColumnPath> currentColumnPaths;
+
+	private EClass currentEClass;
+
+	private MappingMatrix currentMappingMatrix;
+
+	private boolean finished;
+
+	/**
+	 * Creates importer for EObjects of EClass passed, as well as EObjects of
+	 * EClasses reachable from it, i.e. EClasses of its EPackage, of EPackages of
+	 * its super types and of types of its references, recursively.
+	 * 
+	 * @param rootEClass EClass of root EObjects
+	 */
+	public EMFExportMatrixImporter(EClass rootEClass) {
+		this.rootEClass = rootEClass;
+
+		registerMatrixNames(rootEClass);
+	}
+
+	/**
+	 * Starts matrix with given name, which is either matrix of EClass or mapping
+	 * matrix of EReference. Other matrices (e.g. metadata matrices) are ignored,
+	 * as are rows passed for those.
+	 * 
+	 * @param matrixName    name of matrix, as written by exporter (file
+	 *                      extension, if any, should be stripped)
+	 * @param columnHeaders column headers, in order of columns
+	 * @return true if rows of matrix will be imported, false if matrix is
+	 *         ignored
+	 * @throws EMFExportException
+	 */
+	public boolean startMatrix(String matrixName, List<String> columnHeaders) throws EMFExportException {
+		checkNotFinished();
+
+		String normalizedMatrixName = normalizeMatrixName(matrixName);
+
+		EClass eClass = matrixNameToEClassMap.get(normalizedMatrixName);
+		if (eClass != null) {
+			startEClassMatrix(matrixName, eClass, columnHeaders);
+			return true;
+		}
+
+		MappingMatrix mappingMatrix = matrixNameToMappingMatrixMap.get(normalizedMatrixName);
+		if (mappingMatrix != null) {
+			if (columnHeaders.size() < 2) {
+				throw new EMFExportException(String.format("Mapping matrix '%s' has %d column(s), 2 expected",
+						matrixName, columnHeaders.size()));
+			}
+
+			currentMatrixName = matrixName;
+			currentMappingMatrix = mappingMatrix;
+			return true;
+		}
+
+		currentMatrixName = matrixName;
+		return false;
+	}
+
+	/**
+	 * Starts flat matrix, i.e. matrix in which each row contains root EObject
+	 * together with EObjects it references, in columns whose headers are paths
+	 * relative to root EObject.
+	 * 
+	 * @param columnHeaders column headers, in order of columns
+	 * @throws EMFExportException
+	 */
+	public void startFlatMatrix(List<String> columnHeaders) throws EMFExportException {
+		checkNotFinished();
+
+		startEClassMatrix(rootEClass.getName(), rootEClass, columnHeaders);
+	}
+
+	/**
+	 * Reads data row of currently started matrix. Values may be strings, as
+	 * written by text-based exporters, or numbers, booleans and dates, as
+	 * written by exporters of typed formats; nulls and empty strings denote
+	 * missing values. Row passed is not retained.
+	 * 
+	 * @param row row values, in order of columns
+	 * @throws EMFExportException
+	 */
+	public void readRow(List<?> row) throws EMFExportException {
+		if (currentMatrixName == null) {
+			throw new IllegalStateException("No matrix started");
+		}
+
+		if (currentMappingMatrix != null) {
+			readMappingMatrixRow(row);
+		} else if (currentEClass != null) {
+			readEClassMatrixRow(row);
+		}
+	}
+
+	/**
+	 * Ends currently started matrix.
+	 */
+	public void endMatrix() {
+		currentMatrixName = null;
+		currentColumnPaths = null;
+		currentEClass = null;
+		currentMappingMatrix = null;
+	}
+
+	/**
+	 * Resolves pending references and adds EObjects which are not contained by
+	 * other EObjects to contents of resource passed, EObjects of root EClass
+	 * first. Columns, values and references which could not be imported are
+	 * reported as warnings of resource, each summarizing all occurrences of same
+	 * problem.
+	 * 
+	 * References are resolved by internal IDs and by IDs in fragments of URIs;
+	 * non-containment references by URIs with IDs of EObjects which were not
+	 * imported are set to proxies with those URIs, while references by URIs
+	 * whose fragments are paths are not resolved. Both are reported as
+	 * warnings.
+	 * 
+	 * @param resource resource to populate
+	 * @throws EMFExportException
+	 */
+	public void finish(Resource resource) throws EMFExportException {
+		checkNotFinished();
+		finished = true;
+
+		for (PendingReference pendingReference : pendingReferences) {
+			EObject source = pendingReference.source;
+			if (source == null) {
+				source = resolve(pendingReference.sourceEClass, pendingReference.sourceValue);
+			}
+
+			if (source == null) {
+				if (isPathURI(pendingReference.sourceValue)) {
+					addUnresolvedPathURIProblem(pendingReference.eReference, pendingReference.sourceValue);
+				} else {
+					addProblem(String.format("Unresolved source(s) of mapping matrix of reference '%s'",
+							featureName(pendingReference.eReference)), pendingReference.sourceValue);
+				}
+				continue;
+			}
+
+			for (String value : splitReferenceValue(pendingReference.value)) {
+				EObject target = resolve(pendingReference.eReference.getEReferenceType(), value);
+
+				if (target != null) {
+					setReference(source, pendingReference.eReference, target);
+
+				} else if (value.indexOf('#') >= 0) {
+					resolveURIReference(source, pendingReference.eReference, value);
+
+				} else {
+					addUnresolvedReferenceProblem(pendingReference.eReference, value);
+				}
+			}
+		}
+
+		pendingReferences.clear();
+
+		List<EObject> rootEObjects = new ArrayList<>(uncontainedEObjects.size());
+		for (EObject eObject : uncontainedEObjects) {
+			if (eObject.eContainer() == null && rootEClass.isInstance(eObject)) {
+				rootEObjects.add(eObject);
+			}
+		}
+		for (EObject eObject : uncontainedEObjects) {
+			if (eObject.eContainer() == null && !rootEClass.isInstance(eObject)) {
+				rootEObjects.add(eObject);
+			}
+		}
+
+		uncontainedEObjects.clear();
+
+		resource.getContents().addAll(rootEObjects);
+
+		for (Map.Entry<String, Problem> problem : problems.entrySet()) {
+			resource.getWarnings().add(new ImportDiagnostic(problem.getValue().toString(problem.getKey()),
+					String.valueOf(resource.getURI())));
+		}
+	}
+
+	private void registerMatrixNames(EClass rootEClass) {
+		Set<EClass> visitedEClasses = new HashSet<>();
+		Set<EPackage> visitedEPackages = new HashSet<>();
+		Deque<EClass> eClassesToVisit = new ArrayDeque<>();
+		eClassesToVisit.add(rootEClass);
+
+		while (!eClassesToVisit.isEmpty()) {
+			EClass eClass = eClassesToVisit.poll();
+			if (!visitedEClasses.add(eClass)) {
+				continue;
+			}
+
+			matrixNameToEClassMap.putIfAbsent(
+					normalizeMatrixName(AbstractEMFExporter.createSafeMatrixName(eClass.getName())), eClass);
+
+			for (EReference eReference : eClass.getEAllReferences()) {
+				// @formatter:off
+				matrixNameToMappingMatrixMap.putIfAbsent(
+						normalizeMatrixName(AbstractEMFExporter.createSafeMatrixName(
+								eClass.getName() + "_" + eReference.getName() + "_" + AbstractEMFExporter.MAPPING_MATRIX_NAME_SUFFIX)),
+						new MappingMatrix(eClass, eReference));
+				// @formatter:on
+
+				eClassesToVisit.add(eReference.getEReferenceType());
+			}
+
+			eClassesToVisit.addAll(eClass.getEAllSuperTypes());
+
+			EPackage ePackage = eClass.getEPackage();
+			if (ePackage != null && visitedEPackages.add(ePackage)) {
+				for (EClassifier eClassifier : ePackage.getEClassifiers()) {
+					if (eClassifier instanceof EClass) {
+						eClassesToVisit.add((EClass) eClassifier);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Normalizes matrix name, so names of matrices as written by exporters can
+	 * be matched regardless of whether those were further normalized for use as
+	 * names of files (e.g. entries of ZIP archive).
+	 */
+	private String normalizeMatrixName(String matrixName) {
+		return matrixName.strip().replaceAll("[()]", "").replaceAll("(?U)[^\\w\\._]+", "_");
+	}
+
+	private void startEClassMatrix(String matrixName, EClass eClass, List<String> columnHeaders) {
+		currentMatrixName = matrixName;
+		currentEClass = eClass;
+		currentColumnPaths = new ArrayList<>(columnHeaders.size());
+
+		for (String columnHeader : columnHeaders) {
+			ColumnPath columnPath = (columnHeader != null) ? parseColumnHeader(eClass, columnHeader.strip())
+					: null;
+			if (columnPath == null) {
+				addProblem(String.format("Ignored column(s) of matrix '%s', as those do not match any feature",
+						matrixName), columnHeader);
+			}
+			currentColumnPaths.add(columnPath);
+		}
+	}
+
+	/**
+	 * Parses column header, which is name of attribute, 'id', '_id' or
+	 * 'reference._ref', optionally prefixed with path of references (and
+	 * indices of many-valued references) leading to EObject column relates to.
+	 */
+	private ColumnPath parseColumnHeader(EClass eClass, String columnHeader) {
+		String[] parts = columnHeader.split("\\.");
+		List<PathStep> steps = new ArrayList<>();
+		EClass currentEClass = eClass;
+
+		int i = 0;
+		while (i < parts.length) {
+			String part = parts[i];
+			boolean isLast = (i == parts.length - 1);
+
+			if (isLast && AbstractEMFExporter.INTERNAL_ID_COLUMN_NAME.equals(part)) {
+				return new ColumnPath(steps, null);
+			}
+
+			EStructuralFeature eStructuralFeature = (isLast
+					&& AbstractEMFExporter.ID_COLUMN_NAME.equals(part) && currentEClass.getEIDAttribute() != null)
+							? currentEClass.getEIDAttribute()
+							: currentEClass.getEStructuralFeature(part);
+
+			if (eStructuralFeature == null || !eStructuralFeature.isChangeable()
+					|| eStructuralFeature.isDerived()) {
+				return null;
+			}
+
+			if (eStructuralFeature instanceof EAttribute) {
+				return isLast ? new ColumnPath(steps, eStructuralFeature) : null;
+			}
+
+			EReference eReference = (EReference) eStructuralFeature;
+			i++;
+
+			int index = -1;
+			if (i < parts.length && isIndex(parts[i])) {
+				index = Integer.parseInt(parts[i]);
+				i++;
+			}
+
+			if (i == parts.length - 1 && REF_COLUMN_NAME.equals(parts[i])) {
+				return new ColumnPath(steps, eReference);
+			}
+
+			if (i >= parts.length) {
+				return null;
+			}
+
+			steps.add(new PathStep(eReference, index));
+			currentEClass = eReference.getEReferenceType();
+		}
+
+		return null;
+	}
+
+	private boolean isIndex(String part) {
+		if (part.isEmpty() || part.length() > 9) {
+			return false;
+		}
+		for (int i = 0; i < part.length(); i++) {
+			if (!Character.isDigit(part.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void readMappingMatrixRow(List<?> row) {
+		String fromValue = (row.size() > 0) ? stringValue(row.get(0)) : null;
+		String toValue = (row.size() > 1) ? stringValue(row.get(1)) : null;
+
+		if (fromValue != null && toValue != null) {
+			pendingReferences.add(new PendingReference(currentMappingMatrix.fromEClass, fromValue,
+					currentMappingMatrix.eReference, toValue));
+		}
+	}
+
+	private void readEClassMatrixRow(List<?> row) {
+		RowNode rootRowNode = new RowNode(currentEClass, null);
+
+		int columnsCount = Math.min(row.size(), currentColumnPaths.size());
+		for (int i = 0; i < columnsCount; i++) {
+			ColumnPath columnPath = currentColumnPaths.get(i);
+			Object value = row.get(i);
+
+			if (columnPath == null || isEmptyValue(value)) {
+				continue;
+			}
+
+			RowNode rowNode = rootRowNode;
+			for (PathStep step : columnPath.steps) {
+				rowNode = rowNode.child(step);
+			}
+
+			if (columnPath.eStructuralFeature == null) {
+				rowNode.internalID = stringValue(value);
+			} else {
+				rowNode.values.add(new ColumnValue(columnPath.eStructuralFeature, value));
+			}
+		}
+
+		createEObject(rootRowNode, true);
+	}
+
+	/**
+	 * Creates EObject described by row node passed, together with EObjects
+	 * described by its child nodes. If EObject with same internal ID was already
+	 * created (e.g. EObject which is both contained and referenced is exported
+	 * multiple times), that EObject is returned instead and node is skipped.
+	 */
+	private EObject createEObject(RowNode rowNode, boolean isUncontained) {
+		if (rowNode.internalID != null) {
+			EObject existingEObject = lookup(rowNode.eClass, rowNode.internalID);
+			if (existingEObject != null) {
+				return existingEObject;
+			}
+		}
+
+		if (rowNode.eClass.isAbstract() || rowNode.eClass.isInterface()) {
+			addProblem(String.format("Skipped EObject(s) of abstract EClass '%s'", rowNode.eClass.getName()),
+					rowNode.internalID);
+			return null;
+		}
+
+		EObject eObject = EcoreUtil.create(rowNode.eClass);
+
+		if (rowNode.internalID != null) {
+			register(rowNode.eClass, rowNode.internalID, eObject);
+		}
+
+		if (isUncontained) {
+			uncontainedEObjects.add(eObject);
+		}
+
+		for (ColumnValue columnValue : rowNode.values) {
+			if (columnValue.eStructuralFeature instanceof EAttribute) {
+				setAttributeValue(eObject, (EAttribute) columnValue.eStructuralFeature, columnValue.value);
+			} else {
+				pendingReferences.add(new PendingReference(eObject, (EReference) columnValue.eStructuralFeature,
+						stringValue(columnValue.value)));
+			}
+		}
+
+		for (RowNode childRowNode : rowNode.children.values()) {
+			EObject childEObject = createEObject(childRowNode, !childRowNode.step.eReference.isContainment());
+			if (childEObject != null) {
+				setReference(eObject, childRowNode.step.eReference, childEObject);
+			}
+		}
+
+		return eObject;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void setReference(EObject source, EReference eReference, EObject target) {
+		if (eReference.isContainment() && (target.eContainer() != null || target == source)) {
+			return;
+		}
+
+		if (eReference.isMany()) {
+			InternalEList<EObject> eObjects = (InternalEList<EObject>) source.eGet(eReference, false);
+			if (eReference.isContainment()) {
+				eObjects.addUnique(target);
+			} else {
+				eObjects.add(target);
+			}
+		} else {
+			source.eSet(eReference, target);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void setAttributeValue(EObject eObject, EAttribute eAttribute, Object value) {
+		if (eAttribute.isMany()) {
+			Collection<Object> values = (Collection<Object>) eObject.eGet(eAttribute);
+
+			if (value instanceof String) {
+				for (String oneValue : LINE_BREAK_PATTERN.split((String) value)) {
+					if (!oneValue.isEmpty()) {
+						addAttributeValue(values, eAttribute, oneValue);
+					}
+				}
+			} else {
+				addAttributeValue(values, eAttribute, value);
+			}
+
+		} else {
+			Object convertedValue = convertValue(eAttribute, value);
+			if (convertedValue != null) {
+				eObject.eSet(eAttribute, convertedValue);
+			}
+		}
+	}
+
+	private void addAttributeValue(Collection<Object> values, EAttribute eAttribute, Object value) {
+		Object convertedValue = convertValue(eAttribute, value);
+		if (convertedValue != null) {
+			values.add(convertedValue);
+		}
+	}
+
+	private Object convertValue(EAttribute eAttribute, Object value) {
+		EDataType eDataType = eAttribute.getEAttributeType();
+		Class<?> instanceClass = (eDataType.getInstanceClass() != null)
+				? EcoreUtil.wrapperClassFor(eDataType.getInstanceClass())
+				: null;
+
+		try {
+			if (instanceClass != null && instanceClass.isInstance(value)) {
+				return value;
+			}
+
+			if (instanceClass != null && isIntegralType(instanceClass)) {
+				// numbers are exported as floating point numbers, e.g. '80.0'
+				BigDecimal decimalValue = (value instanceof Number) ? new BigDecimal(value.toString())
+						: new BigDecimal(stringValue(value));
+				return convertIntegralValue(decimalValue, instanceClass);
+			}
+
+			if (instanceClass != null && value instanceof Number) {
+				if (instanceClass == Double.class) {
+					return ((Number) value).doubleValue();
+				} else if (instanceClass == Float.class) {
+					return ((Number) value).floatValue();
+				} else if (instanceClass == BigDecimal.class) {
+					return new BigDecimal(value.toString());
+				}
+			}
+
+			String stringValue = stringValue(value);
+
+			if (instanceClass == Date.class) {
+				try {
+					return Date.from(ZonedDateTime.parse(stringValue, DATE_TO_STRING_FORMATTER).toInstant());
+				} catch (DateTimeParseException e) {
+					// fall back to format of EDataType
+				}
+			}
+
+			return EcoreUtil.createFromString(eDataType, stringValue);
+
+		} catch (RuntimeException e) {
+			addProblem(String.format("Invalid value(s) of attribute '%s'", featureName(eAttribute)),
+					String.valueOf(value));
+			return null;
+		}
+	}
+
+	private boolean isIntegralType(Class<?> instanceClass) {
+		return (instanceClass == Integer.class || instanceClass == Long.class || instanceClass == Short.class
+				|| instanceClass == Byte.class || instanceClass == BigInteger.class);
+	}
+
+	private Object convertIntegralValue(BigDecimal decimalValue, Class<?> instanceClass) {
+		if (instanceClass == Integer.class) {
+			return decimalValue.intValueExact();
+		} else if (instanceClass == Long.class) {
+			return decimalValue.longValueExact();
+		} else if (instanceClass == Short.class) {
+			return decimalValue.shortValueExact();
+		} else if (instanceClass == Byte.class) {
+			return decimalValue.byteValueExact();
+		} else {
+			return decimalValue.toBigIntegerExact();
+		}
+	}
+
+	/**
+	 * Splits value of reference column, which is either single ID or URI, list
+	 * of those (as formatted by {@link Arrays#toString(Object[])}, or separated
+	 * by line breaks), or pointer to mapping matrix, in which case references
+	 * are read from that matrix.
+	 */
+	private List<String> splitReferenceValue(String value) {
+		if (value.startsWith(AbstractEMFExporter.MAPPING_MATRIX_REFERENCE_VALUE_PREFIX)) {
+			return Collections.emptyList();
+
+		} else if (value.length() > 1 && value.startsWith("[") && value.endsWith("]")) {
+			String values = value.substring(1, value.length() - 1);
+			return values.isBlank() ? Collections.emptyList() : Arrays.asList(values.split(", "));
+
+		} else if (LINE_BREAK_PATTERN.matcher(value).find()) {
+			return Arrays.asList(LINE_BREAK_PATTERN.split(value));
+
+		} else {
+			return Collections.singletonList(value);
+		}
+	}
+
+	/**
+	 * Resolves reference by internal ID or, in case of URI, by ID contained in
+	 * its fragment.
+	 */
+	private EObject resolve(EClass eClass, String value) {
+		EObject eObject = lookup(eClass, value);
+
+		if (eObject == null) {
+			int fragmentStart = value.indexOf('#');
+			if (fragmentStart >= 0 && !value.startsWith("/", fragmentStart + 1)) {
+				eObject = lookup(eClass, value.substring(fragmentStart + 1));
+			}
+		}
+
+		return eObject;
+	}
+
+	/*
+	 * EObject is registered in index of its EClass and indices of all its super
+	 * types, so that reference of any type is resolved by single lookup; first
+	 * EObject registered wins, should internal IDs of EObjects of different
+	 * EClasses clash.
+	 */
+	private void register(EClass eClass, String internalID, EObject eObject) {
+		internalIDIndex.putIfAbsent(internalID, eObject);
+
+		eClassToInternalIDIndexMap.computeIfAbsent(eClass, k -> new HashMap<>()).putIfAbsent(internalID, eObject);
+		for (EClass superType : eClass.getEAllSuperTypes()) {
+			eClassToInternalIDIndexMap.computeIfAbsent(superType, k -> new HashMap<>()).putIfAbsent(internalID,
+					eObject);
+		}
+	}
+
+	private EObject lookup(EClass eClass, String internalID) {
+		if (eClass == EcorePackage.Literals.EOBJECT) {
+			return internalIDIndex.get(internalID);
+		}
+
+		Map<String, EObject> eClassInternalIDIndex = eClassToInternalIDIndexMap.get(eClass);
+		return (eClassInternalIDIndex != null) ? eClassInternalIDIndex.get(internalID) : null;
+	}
+
+	/*
+	 * Reference by URI which could not be resolved by ID in its fragment points
+	 * either to EObject which was not imported, or to EObject without ID, by
+	 * path, which cannot be resolved reliably (see class' description).
+	 */
+	private void resolveURIReference(EObject source, EReference eReference, String value) {
+		if (isPathURI(value)) {
+			addUnresolvedPathURIProblem(eReference, value);
+
+		} else if (!eReference.isContainment() && !eReference.getEReferenceType().isAbstract()
+				&& !eReference.getEReferenceType().isInterface()) {
+			InternalEObject proxy = (InternalEObject) EcoreUtil.create(eReference.getEReferenceType());
+			proxy.eSetProxyURI(URI.createURI(value));
+			setReference(source, eReference, proxy);
+
+			addProblem(String.format("Value(s) of reference '%s' set to proxies, as EObjects referenced were"
+					+ " not imported", featureName(eReference)), value);
+
+		} else {
+			addUnresolvedReferenceProblem(eReference, value);
+		}
+	}
+
+	private boolean isPathURI(String value) {
+		int fragmentStart = value.indexOf('#');
+		return (fragmentStart >= 0) && value.startsWith("/", fragmentStart + 1);
+	}
+
+	private void addUnresolvedReferenceProblem(EReference eReference, String value) {
+		addProblem(String.format("Unresolved value(s) of reference '%s'", featureName(eReference)), value);
+	}
+
+	private void addUnresolvedPathURIProblem(EReference eReference, String value) {
+		addProblem(String.format("Unresolved value(s) of reference '%s', as references by path URIs are not"
+				+ " supported - export with option '%s' disabled", featureName(eReference),
+				EMFExportOptions.OPTION_SHOW_URIS), value);
+	}
+
+	private void addProblem(String message, String example) {
+		if (problems.size() < MAX_WARNINGS || problems.containsKey(message)) {
+			problems.computeIfAbsent(message, k -> new Problem()).add(example);
+		}
+	}
+
+	private String featureName(EStructuralFeature eStructuralFeature) {
+		return eStructuralFeature.getEContainingClass().getName() + "." + eStructuralFeature.getName();
+	}
+
+	private boolean isEmptyValue(Object value) {
+		return (value == null || (value instanceof String && ((String) value).isEmpty()));
+	}
+
+	private String stringValue(Object value) {
+		if (isEmptyValue(value)) {
+			return null;
+		}
+		return (value instanceof String) ? ((String) value).strip() : String.valueOf(value);
+	}
+
+	private void checkNotFinished() {
+		if (finished) {
+			throw new IllegalStateException("Import already finished");
+		}
+	}
+
+	private static final class MappingMatrix {
+		private final EClass fromEClass;
+		private final EReference eReference;
+
+		private MappingMatrix(EClass fromEClass, EReference eReference) {
+			this.fromEClass = fromEClass;
+			this.eReference = eReference;
+		}
+	}
+
+	private static final class PathStep {
+		private final EReference eReference;
+		private final int index;
+
+		private PathStep(EReference eReference, int index) {
+			this.eReference = eReference;
+			this.index = index;
+		}
+	}
+
+	/**
+	 * Parsed column header: path leading to EObject column relates to, and
+	 * feature column contains value of (null for internal ID column).
+	 */
+	private static final class ColumnPath {
+		private final List<PathStep> steps;
+		private final EStructuralFeature eStructuralFeature;
+
+		private ColumnPath(List<PathStep> steps, EStructuralFeature eStructuralFeature) {
+			this.steps = steps;
+			this.eStructuralFeature = eStructuralFeature;
+		}
+	}
+
+	private static final class ColumnValue {
+		private final EStructuralFeature eStructuralFeature;
+		private final Object value;
+
+		private ColumnValue(EStructuralFeature eStructuralFeature, Object value) {
+			this.eStructuralFeature = eStructuralFeature;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * EObject described by (part of) row, with EObjects it references, in order
+	 * of columns.
+	 */
+	private static final class RowNode {
+		private final EClass eClass;
+		private final PathStep step;
+		private final List<ColumnValue> values = new ArrayList<>();
+		private final Map<String, RowNode> children = new LinkedHashMap<>();
+		private String internalID;
+
+		private RowNode(EClass eClass, PathStep step) {
+			this.eClass = eClass;
+			this.step = step;
+		}
+
+		private RowNode child(PathStep step) {
+			return children.computeIfAbsent(step.eReference.getName() + "." + step.index,
+					k -> new RowNode(step.eReference.getEReferenceType(), step));
+		}
+	}
+
+	private static final class PendingReference {
+		private final EObject source;
+		private final EClass sourceEClass;
+		private final String sourceValue;
+		private final EReference eReference;
+		private final String value;
+
+		private PendingReference(EObject source, EReference eReference, String value) {
+			this(source, null, null, eReference, value);
+		}
+
+		private PendingReference(EClass sourceEClass, String sourceValue, EReference eReference, String value) {
+			this(null, sourceEClass, sourceValue, eReference, value);
+		}
+
+		private PendingReference(EObject source, EClass sourceEClass, String sourceValue, EReference eReference,
+				String value) {
+			this.source = source;
+			this.sourceEClass = sourceEClass;
+			this.sourceValue = sourceValue;
+			this.eReference = eReference;
+			this.value = value;
+		}
+	}
+
+	private static final class ImportDiagnostic implements Resource.Diagnostic {
+		private final String message;
+		private final String location;
+
+		private ImportDiagnostic(String message, String location) {
+			this.message = message;
+			this.location = location;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.eclipse.emf.ecore.resource.Resource.Diagnostic#getMessage()
+		 */
+		@Override
+		public String getMessage() {
+			return message;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.eclipse.emf.ecore.resource.Resource.Diagnostic#getLocation()
+		 */
+		@Override
+		public String getLocation() {
+			return location;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.eclipse.emf.ecore.resource.Resource.Diagnostic#getLine()
+		 */
+		@Override
+		public int getLine() {
+			return 0;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.eclipse.emf.ecore.resource.Resource.Diagnostic#getColumn()
+		 */
+		@Override
+		public int getColumn() {
+			return 0;
+		}
+	}
+
+	private static final class Problem {
+		private int count;
+		private String example;
+
+		private void add(String example) {
+			if (count++ == 0) {
+				this.example = example;
+			}
+		}
+
+		private String toString(String message) {
+			return String.format("%s: %d (e.g. '%s')", message, count, example);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+/**
+ * Size of one matrix exported, as reported in {@link EMFExportMetrics}.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public class EMFExportMatrixMetrics {
+	private final String matrixName;
+	private final int rowsCount;
+	private final int columnsCount;
+
+	public EMFExportMatrixMetrics(String matrixName, int rowsCount, int columnsCount) {
+		this.matrixName = matrixName;
+		this.rowsCount = rowsCount;
+		this.columnsCount = columnsCount;
+	}
+
+	public String getMatrixName() {
+		return matrixName;
+	}
+
+	/**
+	 * @return number of data rows, i.e. excluding row holding column headers
+	 */
+	public int getRowsCount() {
+		return rowsCount;
+	}
+
+	public int getColumnsCount() {
+		return columnsCount;
+	}
+
+	/**
+	 * @return number of data cells, i.e. data rows times columns - including
+	 *         empty cells
+	 */
+	public long getCellsCount() {
+		return (long) rowsCount * columnsCount;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "[matrixName=" + matrixName + ", rowsCount=" + rowsCount + ", columnsCount=" + columnsCount + "]";
+	}
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metrics of one export call - durations of export phases, size of each matrix
+ * exported and number of bytes written to output stream - published to
+ * {@link EMFExportMetricsListener}.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public class EMFExportMetrics {
+	private final Map<EMFExportPhase, Duration> phasesDurations;
+	private final List<EMFExportMatrixMetrics> matricesMetrics;
+	private final long bytesWritten;
+
+	public EMFExportMetrics(Map<EMFExportPhase, Duration> phasesDurations,
+			List<EMFExportMatrixMetrics> matricesMetrics, long bytesWritten) {
+		this.phasesDurations = Collections.unmodifiableMap(new EnumMap<>(phasesDurations));
+		this.matricesMetrics = List.copyOf(matricesMetrics);
+		this.bytesWritten = bytesWritten;
+	}
+
+	/**
+	 * @return read-only map of phases to their durations, in order of phases;
+	 *         phases which did not take place are absent
+	 */
+	public Map<EMFExportPhase, Duration> getPhasesDurations() {
+		return phasesDurations;
+	}
+
+	/**
+	 * @param phase
+	 * @return duration of given phase, or {@link Duration#ZERO} if it did not
+	 *         take place
+	 */
+	public Duration getPhaseDuration(EMFExportPhase phase) {
+		return phasesDurations.getOrDefault(phase, Duration.ZERO);
+	}
+
+	/**
+	 * @return sum of durations of all phases
+	 */
+	public Duration getTotalDuration() {
+		return phasesDurations.values().stream().reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * @return read-only list of matrices' metrics, in order in which matrices
+	 *         were completed
+	 */
+	public List<EMFExportMatrixMetrics> getMatricesMetrics() {
+		return matricesMetrics;
+	}
+
+	public long getBytesWritten() {
+		return bytesWritten;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "[phasesDurations=" + phasesDurations + ", matricesMetrics=" + matricesMetrics + ", bytesWritten="
+				+ bytesWritten + "]";
+	}
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects metrics of one export call, which are then published as
+ * {@link EMFExportMetrics}; a new instance is created for each export call, so
+ * concurrent exports using same exporter do not affect each other.
+ * 
+ * Phases are timed in thread which created collector - phase changes requested
+ * from other threads (e.g. tasks populating matrices in parallel) are ignored,
+ * as time of those is already attributed to phase of calling thread. Matrices'
+ * metrics and bytes written may be reported from any thread.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public class EMFExportMetricsCollector {
+	private final Thread ownerThread;
+	private final long[] phasesNanos;
+	private final boolean[] phasesEntered;
+	private final List<EMFExportMatrixMetrics> matricesMetrics;
+	private long bytesWritten;
+
+	private EMFExportPhase currentPhase;
+	private long currentPhaseStartNanos;
+
+	public EMFExportMetricsCollector() {
+		this.ownerThread = Thread.currentThread();
+		this.phasesNanos = new long[EMFExportPhase.values().length];
+		this.phasesEntered = new boolean[EMFExportPhase.values().length];
+		this.matricesMetrics = new ArrayList<>();
+	}
+
+	/**
+	 * Makes given phase current, attributing time elapsed since previous phase
+	 * change to previous phase.
+	 * 
+	 * @param phase phase to enter, or <code>null</code> to stop timing
+	 * @return previous phase, so it can be re-entered when nested phase ends
+	 */
+	public EMFExportPhase enterPhase(EMFExportPhase phase) {
+		if (Thread.currentThread() != ownerThread) {
+			return phase;
+		}
+
+		long nanos = System.nanoTime();
+
+		EMFExportPhase previousPhase = currentPhase;
+		if (previousPhase != null) {
+			phasesNanos[previousPhase.ordinal()] += (nanos - currentPhaseStartNanos);
+		}
+
+		if (phase != null) {
+			phasesEntered[phase.ordinal()] = true;
+		}
+
+		currentPhase = phase;
+		currentPhaseStartNanos = nanos;
+
+		return previousPhase;
+	}
+
+	public synchronized void matrixExported(String matrixName, int rowsCount, int columnsCount) {
+		matricesMetrics.add(new EMFExportMatrixMetrics(matrixName, rowsCount, columnsCount));
+	}
+
+	public synchronized void bytesWritten(long bytes) {
+		bytesWritten += bytes;
+	}
+
+	/**
+	 * Stops timing and returns metrics collected so far; to be called by thread
+	 * which created collector.
+	 * 
+	 * @return metrics
+	 */
+	public synchronized EMFExportMetrics toMetrics() {
+		enterPhase(null);
+
+		Map<EMFExportPhase, Duration> phasesDurations = new EnumMap<>(EMFExportPhase.class);
+		for (EMFExportPhase phase : EMFExportPhase.values()) {
+			if (phasesEntered[phase.ordinal()]) {
+				phasesDurations.put(phase, Duration.ofNanos(phasesNanos[phase.ordinal()]));
+			}
+		}
+
+		return new EMFExportMetrics(phasesDurations, matricesMetrics, bytesWritten);
+	}
+}
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+/**
+ * Receives metrics of export calls, e.g. to feed monitoring dashboards (see
+ * {@link EMFExportOptions#OPTION_METRICS_LISTENER}).
+ * 
+ * @author Michal H. Siemaszko
+ */
+@FunctionalInterface
+public interface EMFExportMetricsListener {
+
+	/**
+	 * Called once per export call, in calling thread, after output was written
+	 * successfully.
+	 * 
+	 * @param metrics metrics of export call
+	 */
+	void exportFinished(EMFExportMetrics metrics);
+}
@@ -36,4 +36,22 @@ public interface EMFExportOptions {
 
 	// show columns containing references
 	String OPTION_SHOW_REFS = "SHOW_REFS";
+
+	// stream rows to output as those are constructed, instead of constructing all
+	// matrices in memory first (supported by CSV in ZIP mode, XLSX, ODS and R
+	// exporters)
+	String OPTION_STREAMING = "STREAMING";
+
+	// strategy used to generate pseudo IDs for EObjects without ID attribute (see
+	// EMFExportPseudoIDStrategy; defaults to sequential IDs)
+	String OPTION_PSEUDO_ID_STRATEGY = "PSEUDO_ID_STRATEGY";
+
+	// number of threads used to populate matrices of different EClasses and to
+	// serialize finished matrices (defaults to 1, i.e. no parallelism; not
+	// applicable when streaming)
+	String OPTION_PARALLELISM = "PARALLELISM";
+
+	// listener to which metrics of each export call (phases' durations, matrices'
+	// sizes, bytes written) are published (see EMFExportMetricsListener)
+	String OPTION_METRICS_LISTENER = "METRICS_LISTENER";
 }
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+/**
+ * Phases of export, timed per export call (see {@link EMFExportMetrics}).
+ * 
+ * Phases may interleave - e.g. matrices are populated with data while EObjects
+ * are traversed, unless parallelism is used - in which case time is attributed
+ * to phase which is current at that moment, so durations of all phases add up
+ * to duration of whole export.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public enum EMFExportPhase {
+
+	/**
+	 * Generation of pseudo IDs for EObjects which do not have an ID attribute.
+	 */
+	PSEUDO_IDS_GENERATION,
+
+	/**
+	 * Traversal of EObjects and construction of matrices, including column
+	 * headers.
+	 */
+	MATRICES_CONSTRUCTION,
+
+	/**
+	 * Population of matrices with data (when streaming, construction of rows
+	 * streamed).
+	 */
+	MATRICES_POPULATION,
+
+	/**
+	 * Population of metadata matrices.
+	 */
+	METADATA_POPULATION,
+
+	/**
+	 * Transformation of matrices to format-specific output and writing it to
+	 * output stream.
+	 */
+	SERIALIZATION;
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+/**
+ * Strategy used to generate pseudo IDs for EObjects which do not have an ID
+ * attribute (see {@link EMFExportOptions#OPTION_PSEUDO_ID_STRATEGY}).
+ * 
+ * @author Michal H. Siemaszko
+ */
+public enum EMFExportPseudoIDStrategy {
+
+	/**
+	 * Class name followed by sequence number, prefixed with '~', e.g.
+	 * "~Address_1"; same for repeated exports of same EObjects in same order.
+	 */
+	SEQUENTIAL,
+
+	/**
+	 * Class name followed by hash of class and attribute values, prefixed with
+	 * '~'; stable across repeated exports, even if order of EObjects or other
+	 * EObjects exported change.
+	 */
+	CONTENT_HASH,
+
+	/**
+	 * Random UUID; different for each export.
+	 */
+	RANDOM;
+}
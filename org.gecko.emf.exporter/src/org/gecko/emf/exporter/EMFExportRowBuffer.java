@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Matrix holding one row only, reused for constructing rows one at a time in
+ * streaming mode.
+ * 
+ * @author Michal H. Siemaszko
+ */
+class EMFExportRowBuffer implements EMFExportMatrix {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final BitSet columnKeys = new BitSet();
+
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	private int rowKey = -1;
+
+	/**
+	 * Discards values of current row and starts row with given key.
+	 * 
+	 * @param rowKey
+	 */
+	void reset(int rowKey) {
+		Arrays.fill(values, 0, Math.min(values.length, columnKeys.length()), null);
+		columnKeys.clear();
+		this.rowKey = rowKey;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#put(int, int, java.lang.Object)
+	 */
+	@Override
+	public void put(int rowKey, int columnKey, Object value) {
+		Objects.requireNonNull(value, "Value is required!");
+
+		if (rowKey != this.rowKey) {
+			throw new IllegalArgumentException(
+					String.format("Row buffer holds row %d, cannot store value in row %d!", this.rowKey, rowKey));
+		}
+
+		if (columnKey < 0) {
+			throw new IllegalArgumentException("Column key must not be negative!");
+		}
+
+		if (columnKey >= values.length) {
+			values = Arrays.copyOf(values, Math.max(values.length * 2, columnKey + 1));
+		}
+
+		values[columnKey] = value;
+		columnKeys.set(columnKey);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#get(int, int)
+	 */
+	@Override
+	public Object get(int rowKey, int columnKey) {
+		if (rowKey != this.rowKey || columnKey < 0 || columnKey >= values.length) {
+			return null;
+		}
+
+		return values[columnKey];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#contains(int, int)
+	 */
+	@Override
+	public boolean contains(int rowKey, int columnKey) {
+		return (get(rowKey, columnKey) != null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return columnKeys.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#rowsCount()
+	 */
+	@Override
+	public int rowsCount() {
+		return (isEmpty() ? 0 : 1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#columnsCount()
+	 */
+	@Override
+	public int columnsCount() {
+		return columnKeys.cardinality();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#rowKeySet()
+	 */
+	@Override
+	public Set<Integer> rowKeySet() {
+		return (isEmpty() ? Collections.emptySet() : Collections.singleton(rowKey));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#columnKeySet()
+	 */
+	@Override
+	public Set<Integer> columnKeySet() {
+		Set<Integer> columnKeySet = columnKeys.stream().boxed()
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+
+		return Collections.unmodifiableSet(columnKeySet);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#columnType(int)
+	 */
+	@Override
+	public EMFExportMatrixColumnType columnType(int columnKey) {
+		return (contains(rowKey, columnKey) ? EMFExportMatrixColumnType.OBJECT : EMFExportMatrixColumnType.UNKNOWN);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#row(int)
+	 */
+	@Override
+	public Map<Integer, Object> row(int rowKey) {
+		if (rowKey != this.rowKey) {
+			return Collections.emptyMap();
+		}
+
+		return new EMFExportMatrixCellsView(columnKeys, columnKey -> values[columnKey], columnKeys::cardinality);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#column(int)
+	 */
+	@Override
+	public Map<Integer, Object> column(int columnKey) {
+		return (contains(rowKey, columnKey) ? Collections.singletonMap(rowKey, values[columnKey])
+				: Collections.emptyMap());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.gecko.emf.exporter.EMFExportMatrix#rowMap()
+	 */
+	@Override
+	public Map<Integer, Map<Integer, Object>> rowMap() {
+		return (isEmpty() ? Collections.emptyMap() : Collections.singletonMap(rowKey, row(rowKey)));
+	}
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.util.Map;
+
+/**
+ * Format-specific receiver of matrices' rows, used in streaming mode (see
+ * {@link EMFExportOptions#OPTION_STREAMING}).
+ * 
+ * Matrices are streamed one after another, i.e. each matrix is started, its
+ * data rows are written and it is ended before next matrix is started.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public interface EMFExportRowSink {
+
+	/**
+	 * Starts matrix with given name.
+	 * 
+	 * @param matrixName
+	 * @param columnHeaders column headers, where key is column key
+	 * @param rowsCount     number of data rows which will be written
+	 * @throws EMFExportException
+	 */
+	void startMatrix(String matrixName, Map<Integer, Object> columnHeaders, int rowsCount)
+			throws EMFExportException;
+
+	/**
+	 * Writes data row of currently started matrix. Row passed is only valid for
+	 * the duration of this call.
+	 * 
+	 * @param matrixName
+	 * @param rowKey
+	 * @param row        row values, where key is column key
+	 * @throws EMFExportException
+	 */
+	void writeRow(String matrixName, int rowKey, Map<Integer, Object> row) throws EMFExportException;
+
+	/**
+	 * Ends currently started matrix.
+	 * 
+	 * @param matrixName
+	 * @throws EMFExportException
+	 */
+	void endMatrix(String matrixName) throws EMFExportException;
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.exporter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Temporary file which exported file (e.g. ZIP entry) is written to, rather
+ * than to memory, before it is copied to its final destination - e.g. when
+ * size and CRC-32 checksum of uncompressed ZIP entry have to be known before
+ * its data is written, or when files are generated in parallel but have to be
+ * written to ZIP archive one after another. CRC-32 checksum is calculated
+ * while file is written. Temporary file is deleted when closed.
+ * 
+ * @author Michal H. Siemaszko
+ */
+public final class EMFExportSpoolFile implements Closeable {
+
+	private final Path path;
+
+	private final CRC32 crc32 = new CRC32();
+
+	private EMFExportSpoolFile(Path path) {
+		this.path = path;
+	}
+
+	/**
+	 * Creates empty temporary file, which caller has to close once done with it.
+	 * 
+	 * @param prefix prefix of temporary file's name
+	 * @param suffix suffix of temporary file's name
+	 * @return spool file
+	 * @throws IOException
+	 */
+	public static EMFExportSpoolFile create(String prefix, String suffix) throws IOException {
+		return new EMFExportSpoolFile(Files.createTempFile(prefix, suffix));
+	}
+
+	/**
+	 * Creates temporary file and writes its contents using writer passed, which
+	 * caller has to close once done with it. Temporary file is deleted if writing
+	 * it fails.
+	 * 
+	 * @param prefix        prefix of temporary file's name
+	 * @param suffix        suffix of temporary file's name
+	 * @param contentWriter writer of file's contents
+	 * @return spool file
+	 * @throws IOException
+	 * @throws EMFExportException
+	 */
+	public static EMFExportSpoolFile spool(String prefix, String suffix, ContentWriter contentWriter)
+			throws IOException, EMFExportException {
+		EMFExportSpoolFile spoolFile = create(prefix, suffix);
+
+		boolean written = false;
+
+		try {
+			try (OutputStream outputStream = spoolFile.openOutputStream()) {
+				contentWriter.write(outputStream);
+			}
+
+			written = true;
+
+			return spoolFile;
+
+		} finally {
+			if (!written) {
+				spoolFile.close();
+			}
+		}
+	}
+
+	/**
+	 * Opens buffered output stream to temporary file, which calculates its
+	 * CRC-32 checksum as bytes are written.
+	 * 
+	 * @return output stream
+	 * @throws IOException
+	 */
+	public OutputStream openOutputStream() throws IOException {
+		crc32.reset();
+
+		return new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(path)), crc32);
+	}
+
+	/**
+	 * Opens input stream from temporary file.
+	 * 
+	 * @return input stream
+	 * @throws IOException
+	 */
+	public InputStream openInputStream() throws IOException {
+		return Files.newInputStream(path);
+	}
+
+	/**
+	 * Copies temporary file to ZIP entry passed; size and CRC-32 checksum of
+	 * uncompressed (i.e. {@link ZipEntry#STORED}) entry are set from those of
+	 * temporary file. Output stream of temporary file has to be closed first.
+	 * 
+	 * @param zipOutputStream ZIP archive
+	 * @param zipEntry        ZIP entry
+	 * @throws IOException
+	 */
+	public void copyToZipEntry(ZipOutputStream zipOutputStream, ZipEntry zipEntry) throws IOException {
+		if (zipEntry.getMethod() == ZipEntry.STORED) {
+			long size = Files.size(path);
+
+			zipEntry.setSize(size);
+			zipEntry.setCompressedSize(size);
+			zipEntry.setCrc(crc32.getValue());
+		}
+
+		zipOutputStream.putNextEntry(zipEntry);
+
+		Files.copy(path, zipOutputStream);
+
+		zipOutputStream.closeEntry();
+	}
+
+	/**
+	 * @return path of temporary file
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		Files.deleteIfExists(path);
+	}
+
+	/**
+	 * Writes contents of spool file.
+	 */
+	@FunctionalInterface
+	public interface ContentWriter {
+
+		/**
+		 * Writes contents to output stream passed, which is closed by caller.
+		 * 
+		 * @param outputStream output stream of spool file
+		 * @throws IOException
+		 * @throws EMFExportException
+		 */
+		void write(OutputStream outputStream) throws IOException, EMFExportException;
+	}
+}
@@ -13,6 +13,8 @@ package org.gecko.emf.exporter.cells;
 
 import java.util.Objects;
 
+import org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex;
+
 /**
  * Wrapper for cells which hold EObject's ID value.
  * 
@@ -20,9 +22,15 @@ import java.util.Objects;
  */
 public class EMFExportEObjectIDValueCell {
 	private final String value;
+	private final int ordinal;
 
 	public EMFExportEObjectIDValueCell(String value) {
+		this(value, EMFExportEObjectOrdinalIndex.NO_ORDINAL);
+	}
+
+	public EMFExportEObjectIDValueCell(String value, int ordinal) {
 		this.value = value;
+		this.ordinal = ordinal;
 	}
 
 	public String getValue() {
@@ -33,6 +41,18 @@ public class EMFExportEObjectIDValueCell {
 		return (value != null);
 	}
 
+	/**
+	 * Returns ordinal of EObject this ID belongs to (see
+	 * {@link org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex}), or
+	 * {@link org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex#NO_ORDINAL} if
+	 * none was assigned.
+	 * 
+	 * @return ordinal of EObject
+	 */
+	public int getOrdinal() {
+		return ordinal;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see java.lang.Object#hashCode()
@@ -15,6 +15,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
+import org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex;
+
 /**
  * Wrapper for cells which hold EObject's many reference values.
  * 
@@ -24,13 +26,20 @@ public class EMFExportEObjectManyReferencesValueCell extends AbstractEMFExportEO
 		implements EMFExportEObjectReferenceValueCell {
 	private final List<String> refIDs;
 	private final List<String> refURIs;
+	private final int[] refOrdinals;
 
 	public EMFExportEObjectManyReferencesValueCell(String refMatrixName, boolean isSelfReferencingModel,
 			List<String> refIDs, List<String> refURIs) {
+		this(refMatrixName, isSelfReferencingModel, refIDs, refURIs, null);
+	}
+
+	public EMFExportEObjectManyReferencesValueCell(String refMatrixName, boolean isSelfReferencingModel,
+			List<String> refIDs, List<String> refURIs, int[] refOrdinals) {
 		super(refMatrixName, isSelfReferencingModel);
 
 		this.refIDs = refIDs;
 		this.refURIs = refURIs;
+		this.refOrdinals = refOrdinals;
 	}
 
 	public List<String> getRefIDs() {
@@ -65,6 +74,23 @@ public class EMFExportEObjectManyReferencesValueCell extends AbstractEMFExportEO
 		}
 	}
 
+	/**
+	 * Returns ordinal of referenced EObject at index passed (see
+	 * {@link org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex}), or
+	 * {@link org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex#NO_ORDINAL} if
+	 * none was assigned.
+	 * 
+	 * @param index index of reference, in same order as reference IDs
+	 * @return ordinal of referenced EObject
+	 */
+	public int getRefOrdinal(int index) {
+		if ((refOrdinals != null) && (index < refOrdinals.length)) {
+			return refOrdinals[index];
+		} else {
+			return EMFExportEObjectOrdinalIndex.NO_ORDINAL;
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#hashCode()
@@ -13,6 +13,8 @@ package org.gecko.emf.exporter.cells;
 
 import java.util.Objects;
 
+import org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex;
+
 /**
  * Wrapper for cells which hold EObject's one reference value.
  * 
@@ -22,13 +24,20 @@ public class EMFExportEObjectOneReferenceValueCell extends AbstractEMFExportEObj
 		implements EMFExportEObjectReferenceValueCell {
 	private final String refID;
 	private final String refURI;
+	private final int refOrdinal;
 
 	public EMFExportEObjectOneReferenceValueCell(String refMatrixName, boolean isSelfReferencingModel, String refID,
 			String refURI) {
+		this(refMatrixName, isSelfReferencingModel, refID, refURI, EMFExportEObjectOrdinalIndex.NO_ORDINAL);
+	}
+
+	public EMFExportEObjectOneReferenceValueCell(String refMatrixName, boolean isSelfReferencingModel, String refID,
+			String refURI, int refOrdinal) {
 		super(refMatrixName, isSelfReferencingModel);
 
 		this.refID = refID;
 		this.refURI = refURI;
+		this.refOrdinal = refOrdinal;
 	}
 
 	public String getRefID() {
@@ -47,6 +56,18 @@ public class EMFExportEObjectOneReferenceValueCell extends AbstractEMFExportEObj
 		return (refURI != null);
 	}
 
+	/**
+	 * Returns ordinal of referenced EObject (see
+	 * {@link org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex}), or
+	 * {@link org.gecko.emf.exporter.EMFExportEObjectOrdinalIndex#NO_ORDINAL} if
+	 * none was assigned.
+	 * 
+	 * @return ordinal of referenced EObject
+	 */
+	public int getRefOrdinal() {
+		return refOrdinal;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#hashCode()
@@ -11,6 +11,9 @@
  */
 package org.gecko.emf.exporter.headers;
 
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EEnum;
+
 /**
  * Header for columns which hold EObject's all other values (i.e. not ID
  * {@link org.gecko.emf.exporter.headers.EMFExportEObjectIDColumnHeader}, one
@@ -24,7 +27,36 @@ package org.gecko.emf.exporter.headers;
 public class EMFExportEObjectGenericColumnHeader extends AbstractEMFExportEObjectColumnHeader
 		implements EMFExportEObjectColumnHeader {
 
+	// attribute column holds values of, if any
+	private final EAttribute eAttribute;
+
+	// EEnum of single-valued attribute column holds values of, if any
+	private final EEnum eEnum;
+
 	public EMFExportEObjectGenericColumnHeader(String matrixName, String columnHeaderName) {
+		this(matrixName, columnHeaderName, null, null);
+	}
+
+	public EMFExportEObjectGenericColumnHeader(String matrixName, String columnHeaderName, EAttribute eAttribute,
+			EEnum eEnum) {
 		super(matrixName, columnHeaderName);
+		this.eAttribute = eAttribute;
+		this.eEnum = eEnum;
+	}
+
+	public boolean hasEAttribute() {
+		return (eAttribute != null);
+	}
+
+	public EAttribute getEAttribute() {
+		return eAttribute;
+	}
+
+	public boolean hasEEnum() {
+		return (eEnum != null);
+	}
+
+	public EEnum getEEnum() {
+		return eEnum;
 	}
 }
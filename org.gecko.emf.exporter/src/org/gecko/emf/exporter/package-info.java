@@ -1,3 +1,3 @@
-@org.osgi.annotation.versioning.Version("3.0.0")
+@org.osgi.annotation.versioning.Version("4.0.0")
 @org.osgi.annotation.bundle.Export
 package org.gecko.emf.exporter;
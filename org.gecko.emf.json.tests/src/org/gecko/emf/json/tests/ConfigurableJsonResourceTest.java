@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.json.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.gecko.emf.json.configuration.ConfigurableJsonResource;
+import org.gecko.emf.json.constants.EMFJs;
+import org.gecko.emf.osgi.example.model.basic.BasicFactory;
+import org.gecko.emf.osgi.example.model.basic.BasicPackage;
+import org.gecko.emf.osgi.example.model.basic.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.osgi.test.common.annotation.InjectService;
+import org.osgi.test.common.service.ServiceAware;
+import org.osgi.test.junit5.context.BundleContextExtension;
+import org.osgi.test.junit5.service.ServiceExtension;
+
+/**
+ * Tests of {@link ConfigurableJsonResource}: mappers, cached per combination of
+ * options, are not shared between loads and saves with different options, and
+ * root objects can be streamed one at a time.
+ * 
+ * @author Michal H. Siemaszko
+ */
+@ExtendWith(BundleContextExtension.class)
+@ExtendWith(ServiceExtension.class)
+public class ConfigurableJsonResourceTest {
+
+	@Test
+	public void testSaveWithChangingOptions(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(timeout = 2000) ServiceAware<BasicFactory> bfAware) throws IOException {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertNotNull(bfAware);
+		assertThat(bfAware.getServices()).hasSize(1);
+		BasicFactory factoryImpl = bfAware.getService();
+		assertNotNull(factoryImpl);
+
+		String indented = save(resourceSet, factoryImpl, "test-indented.json",
+				Map.of(EMFJs.OPTION_INDENT_OUTPUT, true));
+		String notIndented = save(resourceSet, factoryImpl, "test-not-indented.json",
+				Map.of(EMFJs.OPTION_INDENT_OUTPUT, false));
+		String indentedAgain = save(resourceSet, factoryImpl, "test-indented-again.json",
+				Map.of(EMFJs.OPTION_INDENT_OUTPUT, true));
+		String indentedByDefault = save(resourceSet, factoryImpl, "test-indented-by-default.json", null);
+
+		assertThat(indented).contains("\n");
+		assertThat(notIndented).doesNotContain("\n");
+		assertEquals(indented, indentedAgain);
+		assertEquals(indented, indentedByDefault);
+	}
+
+	@Test
+	public void testLoadWithChangingRootElement(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(timeout = 2000) ServiceAware<BasicPackage> basicPackageAware) throws IOException {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertNotNull(basicPackageAware);
+		assertThat(basicPackageAware.getServices()).hasSize(1);
+		BasicPackage packageImpl = basicPackageAware.getService();
+		assertNotNull(packageImpl);
+
+		String json = "{\n"
+				+ "  \"firstName\" : \"Emil\",\n"
+				+ "  \"lastName\" : \"Tester\"\n"
+				+ "}";
+
+		Resource withRootElement = resourceSet.createResource(URI.createURI("test-load-root-element.json"));
+		assertTrue(withRootElement instanceof ConfigurableJsonResource);
+		withRootElement.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+				Map.of(EMFJs.OPTION_ROOT_ELEMENT, packageImpl.getPerson()));
+		assertEquals(1, withRootElement.getContents().size());
+		assertEquals("Emil", ((Person) withRootElement.getContents().get(0)).getFirstName());
+
+		Resource withoutRootElement = resourceSet.createResource(URI.createURI("test-load-no-root-element.json"));
+		assertTrue(withoutRootElement instanceof ConfigurableJsonResource);
+		withoutRootElement.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null);
+		assertEquals(0, withoutRootElement.getContents().size());
+	}
+
+	@Test
+	public void testStreamContents(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(timeout = 2000) ServiceAware<BasicPackage> basicPackageAware) throws IOException {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertNotNull(basicPackageAware);
+		assertThat(basicPackageAware.getServices()).hasSize(1);
+		BasicPackage packageImpl = basicPackageAware.getService();
+		assertNotNull(packageImpl);
+
+		String json = "[\n"
+				+ "  { \"firstName\" : \"Emil\", \"lastName\" : \"Tester\" },\n"
+				+ "  { \"firstName\" : \"Anna\", \"lastName\" : \"Tester\" },\n"
+				+ "  { \"firstName\" : \"Paul\", \"lastName\" : \"Tester\" }\n"
+				+ "]";
+
+		Resource resource = resourceSet.createResource(URI.createURI("test-stream.json"));
+		assertTrue(resource instanceof ConfigurableJsonResource);
+		ConfigurableJsonResource jsonResource = (ConfigurableJsonResource) resource;
+
+		List<String> firstNames;
+		try (Stream<EObject> rootObjects = jsonResource.streamContents(
+				new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+				Map.of(EMFJs.OPTION_ROOT_ELEMENT, packageImpl.getPerson()))) {
+			// @formatter:off
+			firstNames = rootObjects
+					.map(Person.class::cast)
+					.map(Person::getFirstName)
+					.collect(Collectors.toList());
+			// @formatter:on
+		}
+
+		assertThat(firstNames).containsExactly("Emil", "Anna", "Paul");
+		assertEquals(0, resource.getContents().size());
+
+		List<EObject> rootObjects = new ArrayList<>();
+		jsonResource.streamContents(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+				Map.of(EMFJs.OPTION_ROOT_ELEMENT, packageImpl.getPerson()), rootObjects::add);
+
+		assertThat(rootObjects).hasSize(3);
+		for (EObject rootObject : rootObjects) {
+			assertTrue(rootObject instanceof Person);
+			assertNull(rootObject.eResource());
+		}
+		assertEquals(0, resource.getContents().size());
+	}
+
+	private String save(ResourceSet resourceSet, BasicFactory factoryImpl, String uri, Map<?, ?> options)
+			throws IOException {
+		Resource resource = resourceSet.createResource(URI.createURI(uri));
+		assertTrue(resource instanceof ConfigurableJsonResource);
+
+		Person p = factoryImpl.createPerson();
+		p.setFirstName("Emil");
+		p.setLastName("Tester");
+		resource.getContents().add(p);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		resource.save(baos, options);
+
+		return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
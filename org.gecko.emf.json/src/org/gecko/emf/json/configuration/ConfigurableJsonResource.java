@@ -18,16 +18,24 @@ import static org.eclipse.emfcloud.jackson.databind.EMFContext.Attributes.ROOT_E
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TimeZone;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emfcloud.jackson.annotations.EcoreIdentityInfo;
@@ -41,9 +49,12 @@ import org.eclipse.emfcloud.jackson.module.EMFModule.Feature;
 import org.eclipse.emfcloud.jackson.resource.JsonResource;
 import org.eclipse.emfcloud.jackson.utils.ValueReader;
 import org.eclipse.emfcloud.jackson.utils.ValueWriter;
+import org.gecko.emf.json.configuration.JsonMapperCache.ConfiguredMapper;
 import org.gecko.emf.json.constants.EMFJs;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.ContextAttributes;
@@ -57,19 +68,30 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
  */
 public class ConfigurableJsonResource extends JsonResource {
 
+	private static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss'Z'";
+
 	private final ObjectMapper srcMapper;
+	private final JsonMapperCache mapperCache;
 
 	/**
 	 * Creates a new instance.
 	 */
 	public ConfigurableJsonResource(URI uri) {
-		super(uri, null);
-		srcMapper = null;
+		this(uri, null, new JsonMapperCache());
 	}
 
 	public ConfigurableJsonResource(URI uri, ObjectMapper mapper) {
+		this(uri, mapper, new JsonMapperCache());
+	}
+
+	/**
+	 * Creates a new instance, which shares cache of configured mappers with
+	 * other resources created by same factory.
+	 */
+	ConfigurableJsonResource(URI uri, ObjectMapper mapper, JsonMapperCache mapperCache) {
 		super(uri, mapper);
 		this.srcMapper = mapper;
+		this.mapperCache = mapperCache;
 	}
 
 	public ObjectMapper configureMapper(Map<?, ?> options) {
@@ -81,7 +103,7 @@ public class ConfigurableJsonResource extends JsonResource {
 		/*
 		 * Setting mapper options
 		 */
-		String timeFormat = getOrDefault(options, EMFJs.OPTION_DATE_FORMAT, isNew ? "yyyy-MM-dd'T'HH:mm:ss'Z'" : null);
+		String timeFormat = getOrDefault(options, EMFJs.OPTION_DATE_FORMAT, isNew ? DEFAULT_DATE_FORMAT : null);
 		if (timeFormat != null) {
 			final SimpleDateFormat dateFormat = new SimpleDateFormat(timeFormat, Locale.ENGLISH);
 			dateFormat.setTimeZone(TimeZone.getDefault());
@@ -184,6 +206,45 @@ public class ConfigurableJsonResource extends JsonResource {
 		return new EcoreTypeInfo(typeField, reader, writer);
 	}
 
+	/*
+	 * Mappers are configured once per combination of options, rather than on
+	 * each load or save, which discards serializers and deserializers cached
+	 * by Jackson.
+	 */
+	private ConfiguredMapper getConfiguredMapper(Map<?, ?> options) {
+		return mapperCache.get(createOptionsKey(options), () -> configureMapper(options));
+	}
+
+	/*
+	 * Snapshot of options which mapper is configured with, normalized with same
+	 * defaults as in configureMapper, so that equivalent options share cached
+	 * mapper. Problem and URI handlers are compared as instances, as those are
+	 * registered with mapper. Root element is not part of it, as it is passed
+	 * per call.
+	 */
+	private List<Object> createOptionsKey(Map<?, ?> options) {
+		boolean isNew = srcMapper == null;
+		String typePackageURI = getOrDefault(options, EMFJs.OPTION_TYPE_PACKAGE_URI, null);
+
+		// @formatter:off
+		return Arrays.asList(
+				srcMapper,
+				getOrDefault(options, EMFJs.OPTION_DATE_FORMAT, isNew ? DEFAULT_DATE_FORMAT : null),
+				TimeZone.getDefault().getID(),
+				options.get(EMFJs.OPTIONS_PROBLEM_HANDLER),
+				getOrDefault(options, EMFJs.OPTION_INDENT_OUTPUT, isNew ? true : null),
+				getOrDefault(options, EMFJs.OPTION_SERIALIZE_DEFAULT_VALUE, isNew ? false : null),
+				getOrDefault(options, EMFJs.OPTION_SERIALIZE_TYPE, isNew ? true : null),
+				getOrDefault(options, EMFJs.OPTION_USE_ID, isNew ? false : null),
+				options.get(XMLResource.OPTION_URI_HANDLER),
+				options.get(EMFJs.OPTION_REF_FIELD),
+				options.get(EMFJs.OPTION_ID_FIELD),
+				options.get(EMFJs.OPTION_TYPE_FIELD),
+				getOrDefault(options, EMFJs.OPTION_TYPE_USE, EcoreTypeInfo.USE.URI),
+				(typePackageURI != null) ? getResourceSet().getEObject(URI.createURI(typePackageURI), true) : null);
+		// @formatter:on
+	}
+
 	/**
 	 * @param options
 	 * @param optionDateFormat
@@ -211,17 +272,85 @@ public class ConfigurableJsonResource extends JsonResource {
 
 		} else {
 
-			ContextAttributes attributes = EMFContext.from(options).withPerCallAttribute(RESOURCE_SET, getResourceSet())
-					.withPerCallAttribute(RESOURCE, this);
-			EClass eclass = getOrDefault(options, EMFJs.OPTION_ROOT_ELEMENT, null);
-			if (eclass != null) {
-				attributes = attributes.withPerCallAttribute(ROOT_ELEMENT, eclass);
-			}
+			ContextAttributes attributes = createContextAttributes(options).withPerCallAttribute(RESOURCE, this);
+
+			getConfiguredMapper(options).reader().with(attributes).withValueToUpdate(this).readValue(inputStream);
 
-			configureMapper(options).reader().with(attributes).forType(Resource.class).withValueToUpdate(this)
-					.readValue(inputStream);
+		}
+	}
+
+	/**
+	 * Streams root objects of JSON document, which is either array of root
+	 * objects or single root object, deserializing one root object at a time,
+	 * as stream is consumed, using same configuration as when resource is
+	 * loaded. This allows processing of documents too large to be loaded as a
+	 * whole.
+	 * <p>
+	 * Root objects are not added to this resource: each one is detached once it
+	 * is read, so it can be discarded as soon as it is processed. References
+	 * between root objects are thus not resolved. Stream should be closed once
+	 * consumed; input stream is not closed, same as when resource is loaded.
+	 * </p>
+	 * 
+	 * @param inputStream input stream to read JSON document from
+	 * @param options     load options, see {@link EMFJs}
+	 * @return stream of root objects
+	 * @throws IOException if document cannot be read; errors occurring while
+	 *                     stream is consumed are thrown as
+	 *                     {@link UncheckedIOException}
+	 */
+	public Stream<EObject> streamContents(InputStream inputStream, Map<?, ?> options) throws IOException {
+		if (options == null) {
+			options = Collections.<String, Object>emptyMap();
+		}
+
+		ObjectReader reader = getConfiguredMapper(options).reader();
+
+		JsonParser parser = reader.createParser(inputStream);
+		parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+		JsonRootObjectsIterator rootObjectsIt = new JsonRootObjectsIterator(parser, reader,
+				createContextAttributes(options), getURI());
+
+		// @formatter:off
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rootObjectsIt,
+					Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(() -> {
+					try {
+						rootObjectsIt.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+		// @formatter:on
+	}
+
+	/**
+	 * Reads root objects of JSON document one at a time, passing each one to
+	 * given consumer as soon as it is read, see
+	 * {@link #streamContents(InputStream, Map)}.
+	 * 
+	 * @param inputStream input stream to read JSON document from
+	 * @param options     load options, see {@link EMFJs}
+	 * @param consumer    consumer of root objects
+	 * @throws IOException if document cannot be read
+	 */
+	public void streamContents(InputStream inputStream, Map<?, ?> options, Consumer<? super EObject> consumer)
+			throws IOException {
+		try (Stream<EObject> rootObjects = streamContents(inputStream, options)) {
+			rootObjects.forEach(consumer);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
 
+	private ContextAttributes createContextAttributes(Map<?, ?> options) {
+		ContextAttributes attributes = EMFContext.from(options).withPerCallAttribute(RESOURCE_SET, getResourceSet());
+		EClass eclass = getOrDefault(options, EMFJs.OPTION_ROOT_ELEMENT, null);
+		if (eclass != null) {
+			attributes = attributes.withPerCallAttribute(ROOT_ELEMENT, eclass);
 		}
+		return attributes;
 	}
 
 	@Override
@@ -236,7 +365,7 @@ public class ConfigurableJsonResource extends JsonResource {
 
 		} else {
 
-			configureMapper(options).writer().with(EMFContext.from(options)).writeValue(outputStream, this);
+			getConfiguredMapper(options).writer().with(EMFContext.from(options)).writeValue(outputStream, this);
 
 		}
 	}
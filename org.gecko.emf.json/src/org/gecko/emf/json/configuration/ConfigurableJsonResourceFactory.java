@@ -25,6 +25,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class ConfigurableJsonResourceFactory extends JsonResourceFactory {
 	
+	private final JsonMapperCache mapperCache = new JsonMapperCache();
+	
 	/**
 	 * Creates a new instance.
 	 */
@@ -45,12 +47,7 @@ public class ConfigurableJsonResourceFactory extends JsonResourceFactory {
 	 */
 	@Override
 	public Resource createResource(URI uri) {
-		ObjectMapper mapper = getMapper();
-		if (mapper != null) {
-			return new ConfigurableJsonResource(uri, mapper);
-		} else {
-			return new ConfigurableJsonResource(uri);
-		}
+		return new ConfigurableJsonResource(uri, getMapper(), mapperCache);
 	}
 
 }
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.json.configuration;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.resource.Resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Bounded, thread-safe cache of fully configured {@link ObjectReader}s and
+ * {@link ObjectWriter}s, keyed by snapshot of options which mapper was
+ * configured with.
+ * 
+ * Readers and writers are immutable and share serializers and deserializers
+ * of their mapper, so those are constructed once per combination of options,
+ * rather than on each load or save. Least recently used entries are evicted
+ * once cache is full.
+ * 
+ * @author Michal H. Siemaszko
+ */
+class JsonMapperCache {
+
+	static final int DEFAULT_MAX_SIZE = 32;
+
+	private final Map<List<Object>, ConfiguredMapper> configuredMappers;
+
+	JsonMapperCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	JsonMapperCache(int maxSize) {
+		this.configuredMappers = new LinkedHashMap<>(16, 0.75f, true) {
+
+			/** serialVersionUID */
+			private static final long serialVersionUID = 4781452163379584317L;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, ConfiguredMapper> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/*
+	 * Mapper is configured outside of lock, as it is expensive; if configured
+	 * concurrently for same options, first one cached wins.
+	 */
+	ConfiguredMapper get(List<Object> optionsKey, Supplier<ObjectMapper> mapperSupplier) {
+		ConfiguredMapper configuredMapper;
+		synchronized (configuredMappers) {
+			configuredMapper = configuredMappers.get(optionsKey);
+		}
+
+		if (configuredMapper == null) {
+			ConfiguredMapper newConfiguredMapper = new ConfiguredMapper(mapperSupplier.get());
+
+			synchronized (configuredMappers) {
+				configuredMapper = configuredMappers.putIfAbsent(optionsKey, newConfiguredMapper);
+			}
+
+			if (configuredMapper == null) {
+				configuredMapper = newConfiguredMapper;
+			}
+		}
+
+		return configuredMapper;
+	}
+
+	static class ConfiguredMapper {
+		private final ObjectReader reader;
+		private final ObjectWriter writer;
+
+		private ConfiguredMapper(ObjectMapper mapper) {
+			this.reader = mapper.readerFor(Resource.class);
+			this.writer = mapper.writer();
+		}
+
+		ObjectReader reader() {
+			return reader;
+		}
+
+		ObjectWriter writer() {
+			return writer;
+		}
+	}
+}
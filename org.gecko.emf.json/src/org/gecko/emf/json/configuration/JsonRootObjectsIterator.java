@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.json.configuration;
+
+import static org.eclipse.emfcloud.jackson.databind.EMFContext.Attributes.RESOURCE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emfcloud.jackson.resource.JsonResource;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+
+/**
+ * Iterates over root objects of JSON document, which is either array of root
+ * objects or single root object, deserializing one root object at a time, as
+ * those are requested.
+ * 
+ * Each root object is read with same reader, which whole resource is loaded
+ * with, into its own resource, so that references within it are resolved, and
+ * is detached from it once read. Memory used thus depends on size of largest
+ * root object, not on size of document; references between root objects are
+ * not resolved, as those are not kept.
+ * 
+ * @author Michal H. Siemaszko
+ */
+class JsonRootObjectsIterator implements Iterator<EObject>, Closeable {
+
+	private final JsonParser parser;
+	private final ObjectReader reader;
+	private final ContextAttributes attributes;
+	private final URI uri;
+
+	private boolean started;
+	private boolean inArray;
+	private boolean finished;
+	private EObject nextRootObject;
+
+	JsonRootObjectsIterator(JsonParser parser, ObjectReader reader, ContextAttributes attributes, URI uri) {
+		this.parser = parser;
+		this.reader = reader;
+		this.attributes = attributes;
+		this.uri = uri;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+		if (nextRootObject == null && !finished) {
+			try {
+				nextRootObject = readNextRootObject();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		return nextRootObject != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public EObject next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		EObject rootObject = nextRootObject;
+		nextRootObject = null;
+		return rootObject;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		finished = true;
+		nextRootObject = null;
+		parser.close();
+	}
+
+	/*
+	 * Values which do not deserialize to root object, such as objects of
+	 * unknown type, are skipped, same as when whole resource is loaded.
+	 */
+	private EObject readNextRootObject() throws IOException {
+		while (true) {
+			JsonToken token = parser.nextToken();
+
+			if (!started) {
+				started = true;
+
+				if (token == JsonToken.START_ARRAY) {
+					inArray = true;
+					token = parser.nextToken();
+				}
+
+			} else if (!inArray) {
+				// single root object was read already
+				token = null;
+			}
+
+			if (token == null || token == JsonToken.END_ARRAY) {
+				finished = true;
+				return null;
+			}
+
+			Resource rootObjectResource = new JsonResource(uri, null);
+
+			reader.with(attributes.withPerCallAttribute(RESOURCE, rootObjectResource))
+					.withValueToUpdate(rootObjectResource).readValue(parser);
+
+			if (!rootObjectResource.getContents().isEmpty()) {
+				EObject rootObject = rootObjectResource.getContents().get(0);
+				rootObjectResource.getContents().clear();
+				return rootObject;
+			}
+		}
+	}
+}
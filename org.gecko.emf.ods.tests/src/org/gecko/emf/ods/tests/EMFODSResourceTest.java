@@ -16,8 +16,12 @@ import static org.gecko.emf.ods.tests.helper.EMFODSResourceTestHelper.createBusi
 import static org.gecko.emf.ods.tests.helper.EMFODSResourceTestHelper.createFlintstonesFamily;
 import static org.gecko.emf.ods.tests.helper.EMFODSResourceTestHelper.createSimpsonFamily;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -30,6 +34,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.gecko.emf.exporter.EMFExportOptions;
 import org.gecko.emf.ods.annotation.RequireEMFODS;
 import org.gecko.emf.ods.configuration.EMFODSResource;
+import org.gecko.emf.ods.constants.EMFODSConstants;
 import org.gecko.emf.osgi.example.model.basic.BasicFactory;
 import org.gecko.emf.osgi.example.model.basic.BusinessPerson;
 import org.gecko.emf.osgi.example.model.basic.Family;
@@ -145,4 +150,79 @@ public class EMFODSResourceTest {
 
 		resource.save(fileOutputStream, Map.of()); // will use default options
 	}
+
+	/*
+	 * Reconstruction of EObjects from matrices, common to all formats, is covered
+	 * by EMF CSV Resource tests; here, only reading of both variants of ODS file,
+	 * written with SODS and written directly as XML (streaming), is verified.
+	 */
+	@Test
+	public void testLoadResourceFromOds(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(timeout = 2000) ServiceAware<BasicFactory> bfAware) throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertNotNull(bfAware);
+		assertThat(bfAware.getServices()).hasSize(1);
+		BasicFactory factoryImpl = bfAware.getService();
+		assertNotNull(factoryImpl);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceFromOds.ods"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFODSResource);
+
+		Family simpsonFamily = createSimpsonFamily(factoryImpl);
+		resource.getContents().add(simpsonFamily);
+
+		for (boolean streaming : new boolean[] { false, true }) {
+			Path filePath = Files.createTempFile("testLoadResourceFromOds", ".ods");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+				// @formatter:off
+				resource.save(fileOutputStream,
+						Map.of(
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true,
+								EMFExportOptions.OPTION_SHOW_URIS, false,
+								EMFExportOptions.OPTION_STREAMING, streaming // written directly as XML, rather than with SODS, if enabled
+							));
+				// @formatter:on
+			}
+
+			Resource loadedResource = resourceSet
+					.createResource(URI.createURI("testLoadResourceFromOdsLoaded" + streaming + ".ods"));
+			assertNotNull(loadedResource);
+			assertTrue(loadedResource instanceof EMFODSResource);
+
+			try (InputStream fileInputStream = Files.newInputStream(filePath)) {
+				loadedResource.load(fileInputStream, Map.of(EMFODSConstants.OPTION_ROOT_ELEMENT, simpsonFamily.eClass()));
+			}
+
+			// EObjects of root EClass are loaded first
+			assertThat(loadedResource.getContents()).first().isInstanceOf(Family.class);
+
+			Family loadedFamily = (Family) loadedResource.getContents().get(0);
+			assertThat(loadedFamily.getId()).isEqualTo(simpsonFamily.getId());
+			assertNotNull(loadedFamily.getFather());
+			assertThat(loadedFamily.getFather().getFirstName()).isEqualTo(simpsonFamily.getFather().getFirstName());
+		}
+	}
+
+	@Test
+	public void testLoadResourceWithoutRootElement(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware)
+			throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceWithoutRootElement.ods"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFODSResource);
+
+		assertThrows(IOException.class, () -> resource.load(new ByteArrayInputStream(new byte[0]), Map.of()));
+	}
 }
@@ -18,12 +18,14 @@ import java.util.Collections;
 import java.util.Map;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.gecko.emf.exporter.EMFExportException;
 import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.ods.constants.EMFODSConstants;
 
 /**
- * A Resource implementation that writes its content in ODS.
+ * A Resource implementation that writes its content in ODS, and reads it back.
  * 
  * @author Michal H. Siemaszko
  */
@@ -42,7 +44,21 @@ public class EMFODSResource extends ResourceImpl {
 
 	@Override
 	protected void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
-		throw new UnsupportedOperationException();
+		if (options == null) {
+			options = Collections.<String, Object>emptyMap();
+		}
+
+		Object rootElement = options.get(EMFODSConstants.OPTION_ROOT_ELEMENT);
+		if (!(rootElement instanceof EClass)) {
+			throw new IOException("Loading requires EClass of root objects passed as '"
+					+ EMFODSConstants.OPTION_ROOT_ELEMENT + "' option");
+		}
+
+		try {
+			new EMFODSResourceLoader((EClass) rootElement).load(this, inputStream);
+		} catch (EMFExportException e) {
+			throw new IOException(e);
+		}
 	}
 
 	@Override
@@ -0,0 +1,388 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.ods.configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrixImporter;
+
+/**
+ * Loads EMF objects from ODS written by ODS exporter, or by spreadsheet
+ * applications, once modified. Only 'content.xml' entry of document is read,
+ * with StAX parser, as it is unpacked, and each row is passed to
+ * {@link EMFExportMatrixImporter} as it is parsed, so memory used while loading
+ * does not depend on size of document, but on number of objects loaded.
+ * 
+ * Sheets are mapped to EClasses by their names, which are names of matrices.
+ * Sheets which do not correspond to EClasses or mapping matrices, such as
+ * metadata sheets, are skipped. Typed values (numbers, dates and booleans) are
+ * read from cells' value attributes, rather than from their displayed text.
+ * 
+ * @author Michal H. Siemaszko
+ */
+class EMFODSResourceLoader {
+
+	private static final String CONTENT_ENTRY_NAME = "content.xml";
+
+	private static final String OFFICE_NS = "urn:oasis:names:tc:opendocument:xmlns:office:1.0";
+	private static final String TEXT_NS = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+	private static final String TABLE_NS = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+
+	// dates are either dates or date-times, the latter optionally with offset
+	// @formatter:off
+	private static final DateTimeFormatter DATE_VALUE_FORMATTER = new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ISO_LOCAL_DATE)
+			.optionalStart()
+				.appendLiteral('T')
+				.append(DateTimeFormatter.ISO_LOCAL_TIME)
+				.optionalStart()
+					.appendOffsetId()
+				.optionalEnd()
+			.optionalEnd()
+			.toFormatter();
+	// @formatter:on
+
+	private final EClass rootEClass;
+
+	EMFODSResourceLoader(EClass rootEClass) {
+		this.rootEClass = rootEClass;
+	}
+
+	void load(Resource resource, InputStream inputStream) throws IOException, EMFExportException {
+		EMFExportMatrixImporter importer = new EMFExportMatrixImporter(rootEClass);
+
+		ZipInputStream zipInputStream = new ZipInputStream(inputStream);
+
+		ZipEntry zipEntry;
+		while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+			if (CONTENT_ENTRY_NAME.equals(zipEntry.getName())) {
+				loadContent(importer, zipInputStream);
+
+				importer.finish(resource);
+				return;
+			}
+		}
+
+		throw new IOException("ODS document contains no '" + CONTENT_ENTRY_NAME + "' entry");
+	}
+
+	private void loadContent(EMFExportMatrixImporter importer, InputStream inputStream)
+			throws IOException, EMFExportException {
+		XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+		xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+
+		try {
+			XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+
+			try {
+				new ContentHandler(importer, reader).parse();
+			} finally {
+				reader.close();
+			}
+
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/*
+	 * Tracks position within tables, rows and cells of 'content.xml' while it is
+	 * parsed: first non-empty row of each table contains column headers, next
+	 * ones contain data. Repeated cells and rows are expanded, except empty
+	 * ones, which applications write to pad sheets.
+	 */
+	private static class ContentHandler {
+		private final EMFExportMatrixImporter importer;
+		private final XMLStreamReader reader;
+
+		private final List<Object> rowValues = new ArrayList<>();
+		private final StringBuilder cellText = new StringBuilder();
+
+		private int tableDepth;
+		private String tableName;
+		private boolean headerRowRead;
+		private boolean tableImported;
+
+		private int rowsRepeated;
+		private int emptyCellsCount;
+
+		private boolean inCell;
+		private int cellsRepeated;
+		private Object cellValue;
+		private int paragraphsCount;
+		private int paragraphDepth;
+		private int annotationDepth;
+
+		private ContentHandler(EMFExportMatrixImporter importer, XMLStreamReader reader) {
+			this.importer = importer;
+			this.reader = reader;
+		}
+
+		private void parse() throws XMLStreamException, EMFExportException {
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+
+				case XMLStreamConstants.START_ELEMENT:
+					startElement();
+					break;
+
+				case XMLStreamConstants.END_ELEMENT:
+					endElement();
+					break;
+
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					if (isInCellText()) {
+						cellText.append(reader.getText());
+					}
+					break;
+
+				default:
+					break;
+				}
+			}
+		}
+
+		private void startElement() {
+			String namespaceURI = reader.getNamespaceURI();
+			String localName = reader.getLocalName();
+
+			if (TABLE_NS.equals(namespaceURI)) {
+
+				if ("table".equals(localName)) {
+					if (++tableDepth == 1) {
+						startTable(reader.getAttributeValue(TABLE_NS, "name"));
+					}
+
+				} else if (tableDepth == 1 && "table-row".equals(localName)) {
+					rowsRepeated = repeatedCount("number-rows-repeated");
+					rowValues.clear();
+					emptyCellsCount = 0;
+
+				} else if (tableDepth == 1 && ("table-cell".equals(localName)
+						|| "covered-table-cell".equals(localName))) {
+					startCell();
+				}
+
+			} else if (TEXT_NS.equals(namespaceURI) && inCell && annotationDepth == 0) {
+
+				if ("p".equals(localName) || "h".equals(localName)) {
+					if (paragraphDepth++ == 0 && paragraphsCount++ > 0) {
+						cellText.append('\n');
+					}
+
+				} else if (paragraphDepth > 0) {
+					appendSpecialCharacters(localName);
+				}
+
+			} else if (OFFICE_NS.equals(namespaceURI) && "annotation".equals(localName) && inCell) {
+				annotationDepth++;
+			}
+		}
+
+		private void endElement() throws EMFExportException {
+			String namespaceURI = reader.getNamespaceURI();
+			String localName = reader.getLocalName();
+
+			if (TABLE_NS.equals(namespaceURI)) {
+
+				if ("table".equals(localName)) {
+					if (tableDepth-- == 1) {
+						endTable();
+					}
+
+				} else if (tableDepth == 1 && "table-row".equals(localName)) {
+					endRow();
+
+				} else if (tableDepth == 1 && ("table-cell".equals(localName)
+						|| "covered-table-cell".equals(localName))) {
+					endCell();
+				}
+
+			} else if (TEXT_NS.equals(namespaceURI) && inCell && annotationDepth == 0
+					&& ("p".equals(localName) || "h".equals(localName))) {
+				paragraphDepth--;
+
+			} else if (OFFICE_NS.equals(namespaceURI) && "annotation".equals(localName) && inCell) {
+				annotationDepth--;
+			}
+		}
+
+		private void startTable(String name) {
+			tableName = name;
+			headerRowRead = false;
+			tableImported = false;
+		}
+
+		private void endTable() {
+			if (headerRowRead) {
+				importer.endMatrix();
+			}
+
+			tableName = null;
+		}
+
+		/*
+		 * Values of typed cells are taken from their attributes; text of string
+		 * cells is collected from their paragraphs, unless given as attribute.
+		 */
+		private void startCell() {
+			inCell = true;
+			cellsRepeated = repeatedCount("number-columns-repeated");
+			cellText.setLength(0);
+			paragraphsCount = 0;
+			paragraphDepth = 0;
+			annotationDepth = 0;
+
+			String valueType = reader.getAttributeValue(OFFICE_NS, "value-type");
+
+			if (valueType == null || "string".equals(valueType)) {
+				cellValue = reader.getAttributeValue(OFFICE_NS, "string-value");
+
+			} else if ("float".equals(valueType) || "percentage".equals(valueType)
+					|| "currency".equals(valueType)) {
+				cellValue = reader.getAttributeValue(OFFICE_NS, "value");
+
+			} else if ("date".equals(valueType)) {
+				cellValue = parseDateValue(reader.getAttributeValue(OFFICE_NS, "date-value"));
+
+			} else if ("boolean".equals(valueType)) {
+				String booleanValue = reader.getAttributeValue(OFFICE_NS, "boolean-value");
+				cellValue = (booleanValue != null) ? Boolean.valueOf(booleanValue) : null;
+
+			} else {
+				cellValue = null;
+			}
+		}
+
+		private void endCell() {
+			inCell = false;
+
+			Object value = (cellValue != null) ? cellValue : (cellText.length() > 0) ? cellText.toString() : null;
+
+			if (value == null) {
+				emptyCellsCount += cellsRepeated;
+				return;
+			}
+
+			for (; emptyCellsCount > 0; emptyCellsCount--) {
+				rowValues.add(null);
+			}
+
+			for (int i = 0; i < cellsRepeated; i++) {
+				rowValues.add(value);
+			}
+		}
+
+		private void endRow() throws EMFExportException {
+			if (tableName == null || rowValues.isEmpty()) {
+				return;
+			}
+
+			if (!headerRowRead) {
+				headerRowRead = true;
+
+				List<String> columnHeaders = new ArrayList<>(rowValues.size());
+				for (Object rowValue : rowValues) {
+					columnHeaders.add((rowValue != null) ? String.valueOf(rowValue) : null);
+				}
+
+				tableImported = importer.startMatrix(tableName, columnHeaders);
+
+			} else if (tableImported) {
+				for (int i = 0; i < rowsRepeated; i++) {
+					importer.readRow(rowValues);
+				}
+			}
+		}
+
+		private boolean isInCellText() {
+			return inCell && paragraphDepth > 0 && annotationDepth == 0;
+		}
+
+		private void appendSpecialCharacters(String localName) {
+			if ("s".equals(localName)) {
+				String spacesCount = reader.getAttributeValue(TEXT_NS, "c");
+				int count = (spacesCount != null) ? Integer.parseInt(spacesCount) : 1;
+
+				for (int i = 0; i < count; i++) {
+					cellText.append(' ');
+				}
+
+			} else if ("tab".equals(localName)) {
+				cellText.append('\t');
+
+			} else if ("line-break".equals(localName)) {
+				cellText.append('\n');
+			}
+		}
+
+		private int repeatedCount(String attributeName) {
+			String repeated = reader.getAttributeValue(TABLE_NS, attributeName);
+
+			return (repeated != null) ? Math.max(1, Integer.parseInt(repeated)) : 1;
+		}
+
+		/*
+		 * Dates and date-times without offset are in local time, same as those
+		 * are written by exporter.
+		 */
+		private Object parseDateValue(String dateValue) {
+			if (dateValue == null) {
+				return null;
+			}
+
+			try {
+				TemporalAccessor temporal = DATE_VALUE_FORMATTER.parseBest(dateValue, ZonedDateTime::from,
+						LocalDateTime::from, LocalDate::from);
+
+				if (temporal instanceof ZonedDateTime) {
+					return Date.from(((ZonedDateTime) temporal).toInstant());
+
+				} else if (temporal instanceof LocalDateTime) {
+					return Date.from(((LocalDateTime) temporal).atZone(ZoneId.systemDefault()).toInstant());
+
+				} else {
+					return Date.from(((LocalDate) temporal).atStartOfDay(ZoneId.systemDefault()).toInstant());
+				}
+
+			} catch (DateTimeParseException e) {
+				// passed as is, so it is reported as invalid value by importer
+				return dateValue;
+			}
+		}
+	}
+}
@@ -24,4 +24,14 @@ public interface EMFODSConstants {
 	static final String EMFODS_FILE_EXTENSION = "ods";
 
 	static final String EMFODS_CONTENT_TYPE = "application/vnd.oasis.opendocument.spreadsheet";
+
+	/**
+	 * Sets the root element to be loaded from ODS, i.e. EClass of root objects
+	 * exported. EClasses of objects exported to sheets are looked up starting
+	 * from this EClass.
+	 * <p>
+	 * Value must be an object of type EClass; it is required when loading.
+	 * </p>
+	 */
+	static final String OPTION_ROOT_ELEMENT = "OPTION_ROOT_ELEMENT";
 }
\ No newline at end of file
@@ -16,8 +16,12 @@ import static org.gecko.emf.r_lang.tests.helper.EMFRLangResourceTestHelper.creat
 import static org.gecko.emf.r_lang.tests.helper.EMFRLangResourceTestHelper.createFlintstonesFamily;
 import static org.gecko.emf.r_lang.tests.helper.EMFRLangResourceTestHelper.createSimpsonFamily;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -28,12 +32,14 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.gecko.emf.exporter.EMFExportOptions;
+import org.gecko.emf.exporter.r_lang.api.EMFRLangCompressionMethod;
 import org.gecko.emf.exporter.r_lang.api.EMFRLangExportOptions;
 import org.gecko.emf.osgi.example.model.basic.BasicFactory;
 import org.gecko.emf.osgi.example.model.basic.BusinessPerson;
 import org.gecko.emf.osgi.example.model.basic.Family;
 import org.gecko.emf.r_lang.annotation.RequireEMFRLang;
 import org.gecko.emf.r_lang.configuration.EMFRLangResource;
+import org.gecko.emf.r_lang.constants.EMFRLangConstants;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -146,4 +152,81 @@ public class EMFRLangResourceTest {
 
 		resource.save(fileOutputStream, Map.of()); // will use default options
 	}
+
+	/*
+	 * Reconstruction of EObjects from matrices, common to all formats, is covered
+	 * by EMF CSV Resource tests; here, only reading of both variants of RData
+	 * file, ZIP archive of RData files, one per data frame, and single compressed
+	 * RData file, is verified.
+	 */
+	@Test
+	public void testLoadResourceFromRLang(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(timeout = 2000) ServiceAware<BasicFactory> bfAware) throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertNotNull(bfAware);
+		assertThat(bfAware.getServices()).hasSize(1);
+		BasicFactory factoryImpl = bfAware.getService();
+		assertNotNull(factoryImpl);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceFromRLang.RData"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFRLangResource);
+
+		Family simpsonFamily = createSimpsonFamily(factoryImpl);
+		resource.getContents().add(simpsonFamily);
+
+		for (boolean dataFramePerFile : new boolean[] { false, true }) {
+			Path filePath = Files.createTempFile("testLoadResourceFromRLang", ".RData");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+				// @formatter:off
+				resource.save(fileOutputStream,
+						Map.of(
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true,
+								EMFExportOptions.OPTION_SHOW_URIS, false,
+								EMFRLangExportOptions.OPTION_DATAFRAME_PER_FILE, dataFramePerFile, // all data frames in single RData file, instead of ZIP archive, if disabled
+								EMFRLangExportOptions.OPTION_COMPRESSION_METHOD, EMFRLangCompressionMethod.GZIP
+							));
+				// @formatter:on
+			}
+
+			Resource loadedResource = resourceSet
+					.createResource(URI.createURI("testLoadResourceFromRLangLoaded" + dataFramePerFile + ".RData"));
+			assertNotNull(loadedResource);
+			assertTrue(loadedResource instanceof EMFRLangResource);
+
+			try (InputStream fileInputStream = Files.newInputStream(filePath)) {
+				loadedResource.load(fileInputStream, Map.of(EMFRLangConstants.OPTION_ROOT_ELEMENT, simpsonFamily.eClass()));
+			}
+
+			// EObjects of root EClass are loaded first
+			assertThat(loadedResource.getContents()).first().isInstanceOf(Family.class);
+
+			Family loadedFamily = (Family) loadedResource.getContents().get(0);
+			assertThat(loadedFamily.getId()).isEqualTo(simpsonFamily.getId());
+			assertNotNull(loadedFamily.getFather());
+			assertThat(loadedFamily.getFather().getFirstName()).isEqualTo(simpsonFamily.getFather().getFirstName());
+		}
+	}
+
+	@Test
+	public void testLoadResourceWithoutRootElement(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware)
+			throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceWithoutRootElement.RData"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFRLangResource);
+
+		assertThrows(IOException.class, () -> resource.load(new ByteArrayInputStream(new byte[0]), Map.of()));
+	}
 }
@@ -18,12 +18,15 @@ import java.util.Collections;
 import java.util.Map;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.gecko.emf.exporter.EMFExportException;
 import org.gecko.emf.exporter.EMFExporter;
+import org.gecko.emf.r_lang.constants.EMFRLangConstants;
 
 /**
- * A Resource implementation that writes its content as R Language data-frame.
+ * A Resource implementation that writes its content as R Language data-frame,
+ * and reads it back.
  * 
  * @author Michal H. Siemaszko
  */
@@ -42,7 +45,21 @@ public class EMFRLangResource extends ResourceImpl {
 
 	@Override
 	protected void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
-		throw new UnsupportedOperationException();
+		if (options == null) {
+			options = Collections.<String, Object>emptyMap();
+		}
+
+		Object rootElement = options.get(EMFRLangConstants.OPTION_ROOT_ELEMENT);
+		if (!(rootElement instanceof EClass)) {
+			throw new IOException("Loading requires EClass of root objects passed as '"
+					+ EMFRLangConstants.OPTION_ROOT_ELEMENT + "' option");
+		}
+
+		try {
+			new EMFRLangResourceLoader((EClass) rootElement).load(this, inputStream);
+		} catch (EMFExportException e) {
+			throw new IOException(e);
+		}
 	}
 
 	@Override
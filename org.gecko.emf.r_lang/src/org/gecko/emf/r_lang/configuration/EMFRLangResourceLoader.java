@@ -0,0 +1,971 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.r_lang.configuration;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrixImporter;
+
+/**
+ * Loads EMF objects from RData written by R language exporter, or by R itself,
+ * once modified, in either export mode: single RData file containing all data
+ * frames, or ZIP archive containing RData file per data frame. RData files may
+ * be compressed using gzip, bzip2 or xz, as R does by default; mode and
+ * compression are detected based on signatures at start of input.
+ * 
+ * RData files are decoded as they are read, one variable at a time: each data
+ * frame is read column by column, with values of numeric and logical columns
+ * read in bulk into primitive arrays, and its rows are passed to
+ * {@link EMFExportMatrixImporter} before next variable is read, so memory used
+ * while loading does not depend on size of RData file, but on size of largest
+ * data frame and on number of objects loaded.
+ * 
+ * Data frames are mapped to EClasses by their names, which are names of
+ * matrices. Data frames which do not correspond to EClasses or mapping
+ * matrices, such as metadata tables, as well as variables other than data
+ * frames, are skipped.
+ * 
+ * @author Michal H. Siemaszko
+ */
+class EMFRLangResourceLoader {
+
+	private static final byte[] ZIP_SIGNATURE = { 'P', 'K', 3, 4 };
+	private static final byte[] GZIP_SIGNATURE = { 0x1f, (byte) 0x8b };
+	private static final byte[] BZIP2_SIGNATURE = { 'B', 'Z', 'h' };
+	private static final byte[] XZ_SIGNATURE = { (byte) 0xfd, '7', 'z', 'X', 'Z', 0 };
+
+	private static final int SIGNATURE_MAX_LENGTH = XZ_SIGNATURE.length;
+
+	private static final int NA_INT = Integer.MIN_VALUE;
+
+	// lower word of R's NA_real_, which is NaN
+	private static final int NA_REAL_LOWER_WORD = 1954;
+
+	private static final long MILLIS_PER_SECOND = 1000L;
+	private static final long MILLIS_PER_DAY = 24L * 60L * 60L * MILLIS_PER_SECOND;
+
+	private final EClass rootEClass;
+
+	EMFRLangResourceLoader(EClass rootEClass) {
+		this.rootEClass = rootEClass;
+	}
+
+	void load(Resource resource, InputStream inputStream) throws IOException, EMFExportException {
+		EMFExportMatrixImporter importer = new EMFExportMatrixImporter(rootEClass);
+
+		BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+
+		if (startsWith(bufferedInputStream, ZIP_SIGNATURE)) {
+			loadRDataFiles(importer, new ZipInputStream(bufferedInputStream));
+		} else {
+			loadRDataFile(importer, new NonClosingInputStream(bufferedInputStream));
+		}
+
+		importer.finish(resource);
+	}
+
+	private void loadRDataFiles(EMFExportMatrixImporter importer, ZipInputStream zipInputStream)
+			throws IOException, EMFExportException {
+		ZipEntry zipEntry;
+		while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+			if (!zipEntry.isDirectory()) {
+				loadRDataFile(importer, new NonClosingInputStream(zipInputStream));
+			}
+		}
+	}
+
+	private void loadRDataFile(EMFExportMatrixImporter importer, InputStream inputStream)
+			throws IOException, EMFExportException {
+		try (InputStream rDataInputStream = decompressingInputStream(new BufferedInputStream(inputStream))) {
+			RDataReader reader = new RDataReader(rDataInputStream);
+
+			reader.readHeader();
+
+			RVariable variable;
+			while ((variable = reader.readNextVariable()) != null) {
+				if (variable.value instanceof RVector && ((RVector) variable.value).inherits("data.frame")) {
+					loadDataFrame(importer, variable.name, (RVector) variable.value);
+				}
+			}
+		}
+	}
+
+	private InputStream decompressingInputStream(BufferedInputStream bufferedInputStream) throws IOException {
+		if (startsWith(bufferedInputStream, GZIP_SIGNATURE)) {
+			return new GzipCompressorInputStream(bufferedInputStream, true);
+
+		} else if (startsWith(bufferedInputStream, BZIP2_SIGNATURE)) {
+			return new BZip2CompressorInputStream(bufferedInputStream, true);
+
+		} else if (startsWith(bufferedInputStream, XZ_SIGNATURE)) {
+			return new XZCompressorInputStream(bufferedInputStream, true);
+
+		} else {
+			return bufferedInputStream;
+		}
+	}
+
+	private boolean startsWith(BufferedInputStream bufferedInputStream, byte[] signature) throws IOException {
+		bufferedInputStream.mark(SIGNATURE_MAX_LENGTH);
+		byte[] start = bufferedInputStream.readNBytes(signature.length);
+		bufferedInputStream.reset();
+
+		return Arrays.equals(start, signature);
+	}
+
+	/*
+	 * Rows are passed to importer one at a time, with values taken from columns
+	 * as those are needed.
+	 */
+	private void loadDataFrame(EMFExportMatrixImporter importer, String dataFrameName, RVector dataFrame)
+			throws EMFExportException {
+		Object[] columns = (Object[]) dataFrame.data;
+		String[] columnNames = dataFrame.stringAttribute("names");
+
+		List<String> columnHeaders = new ArrayList<>(columns.length);
+		List<IntFunction<Object>> columnsValues = new ArrayList<>(columns.length);
+
+		for (int colIndex = 0; colIndex < columns.length; colIndex++) {
+			columnHeaders.add((columnNames != null && colIndex < columnNames.length) ? columnNames[colIndex] : null);
+			columnsValues.add(columnValues(columns[colIndex]));
+		}
+
+		if (dataFrameName != null && importer.startMatrix(dataFrameName, columnHeaders)) {
+			int rowsCount = rowsCount(dataFrame);
+
+			List<Object> row = new ArrayList<>(columns.length);
+
+			for (int rowIndex = 0; rowIndex < rowsCount; rowIndex++) {
+				row.clear();
+
+				for (IntFunction<Object> columnValues : columnsValues) {
+					row.add(columnValues.apply(rowIndex));
+				}
+
+				importer.readRow(row);
+			}
+		}
+
+		importer.endMatrix();
+	}
+
+	/*
+	 * Factors are read as their levels, and date-times (POSIXct) and dates as
+	 * dates; missing values (NA) are read as nulls.
+	 */
+	private IntFunction<Object> columnValues(Object column) {
+		if (!(column instanceof RVector)) {
+			return rowIndex -> null;
+		}
+
+		RVector vector = (RVector) column;
+
+		switch (vector.type) {
+
+		case RDataReader.LGLSXP: {
+			int[] values = (int[]) vector.data;
+			return rowIndex -> (rowIndex < values.length && values[rowIndex] != NA_INT)
+					? Boolean.valueOf(values[rowIndex] != 0)
+					: null;
+		}
+
+		case RDataReader.INTSXP: {
+			int[] values = (int[]) vector.data;
+			String[] levels = vector.stringAttribute("levels");
+
+			if (levels != null && vector.inherits("factor")) {
+				return rowIndex -> (rowIndex < values.length && values[rowIndex] > 0
+						&& values[rowIndex] <= levels.length) ? levels[values[rowIndex] - 1] : null;
+			}
+
+			return rowIndex -> (rowIndex < values.length && values[rowIndex] != NA_INT)
+					? Integer.valueOf(values[rowIndex])
+					: null;
+		}
+
+		case RDataReader.REALSXP: {
+			double[] values = (double[]) vector.data;
+			long millisPerUnit = vector.inherits("POSIXct") ? MILLIS_PER_SECOND
+					: vector.inherits("Date") ? MILLIS_PER_DAY : 0L;
+
+			if (millisPerUnit > 0L) {
+				return rowIndex -> (rowIndex < values.length && !Double.isNaN(values[rowIndex]))
+						? new Date(Math.round(values[rowIndex] * millisPerUnit))
+						: null;
+			}
+
+			return rowIndex -> (rowIndex < values.length && !isNA(values[rowIndex]))
+					? Double.valueOf(values[rowIndex])
+					: null;
+		}
+
+		case RDataReader.STRSXP: {
+			String[] values = (String[]) vector.data;
+			return rowIndex -> (rowIndex < values.length) ? values[rowIndex] : null;
+		}
+
+		case RDataReader.VECSXP: {
+			// list column, e.g. as constructed in R; only single values are read
+			Object[] values = (Object[]) vector.data;
+			return rowIndex -> (rowIndex < values.length && values[rowIndex] instanceof RVector
+					&& ((RVector) values[rowIndex]).length() == 1) ? columnValues(values[rowIndex]).apply(0) : null;
+		}
+
+		default:
+			return rowIndex -> null;
+		}
+	}
+
+	/*
+	 * Row names of data frames are stored compactly as c(NA, -n) or c(NA, n),
+	 * unless those are set explicitly.
+	 */
+	private int rowsCount(RVector dataFrame) {
+		Object rowNames = dataFrame.attributes.get("row.names");
+
+		if (rowNames instanceof RVector) {
+			RVector rowNamesVector = (RVector) rowNames;
+
+			if (rowNamesVector.type == RDataReader.INTSXP) {
+				int[] values = (int[]) rowNamesVector.data;
+
+				if (values.length == 2 && values[0] == NA_INT) {
+					return Math.abs(values[1]);
+				}
+			}
+
+			return rowNamesVector.length();
+		}
+
+		Object[] columns = (Object[]) dataFrame.data;
+
+		return (columns.length > 0 && columns[0] instanceof RVector) ? ((RVector) columns[0]).length() : 0;
+	}
+
+	private static boolean isNA(double value) {
+		return Double.isNaN(value) && ((int) Double.doubleToRawLongBits(value)) == NA_REAL_LOWER_WORD;
+	}
+
+	/*
+	 * Reads RData file serialized in XDR format, version 2 or 3, as written by
+	 * R's 'save' function: header, followed by pairlist of variables, i.e. of
+	 * values tagged with their names.
+	 */
+	private static class RDataReader {
+
+		private static final int SYMSXP = 1; /* symbols */
+		private static final int LISTSXP = 2; /* lists of dotted pairs */
+		private static final int CLOSXP = 3; /* closures */
+		private static final int ENVSXP = 4; /* environments */
+		private static final int PROMSXP = 5; /* promises: [un]evaluated closure arguments */
+		private static final int LANGSXP = 6; /* language constructs (special lists) */
+		private static final int SPECIALSXP = 7; /* special forms */
+		private static final int BUILTINSXP = 8; /* builtin non-special forms */
+		private static final int CHARSXP = 9; /* "scalar" string type (internal only) */
+		private static final int LGLSXP = 10; /* logical vectors */
+		private static final int INTSXP = 13; /* integer vectors */
+		private static final int REALSXP = 14; /* real variables */
+		private static final int CPLXSXP = 15; /* complex variables */
+		private static final int STRSXP = 16; /* string vectors */
+		private static final int DOTSXP = 17; /* dot-dot-dot object */
+		private static final int VECSXP = 19; /* generic vectors */
+		private static final int EXPRSXP = 20; /* expressions vectors */
+		private static final int EXTPTRSXP = 22; /* external pointer */
+		private static final int WEAKREFSXP = 23; /* weak reference */
+		private static final int RAWSXP = 24; /* raw bytes */
+		private static final int S4SXP = 25; /* S4, non-vector */
+
+		private static final int ALTREP_SXP = 238;
+		private static final int ATTRLISTSXP = 239;
+		private static final int ATTRLANGSXP = 240;
+		private static final int BASEENV_SXP = 241;
+		private static final int EMPTYENV_SXP = 242;
+		private static final int PERSISTSXP = 247;
+		private static final int PACKAGESXP = 248;
+		private static final int NAMESPACESXP = 249;
+		private static final int BASENAMESPACE_SXP = 250;
+		private static final int MISSINGARG_SXP = 251;
+		private static final int UNBOUNDVALUE_SXP = 252;
+		private static final int GLOBALENV_SXP = 253;
+		private static final int NILVALUE_SXP = 254;
+		private static final int REFSXP = 255;
+
+		private static final int LATIN1_MASK = (1 << 2);
+		private static final int UTF8_MASK = (1 << 3);
+
+		private static final int HAS_ATTR_BIT_MASK = (1 << 9);
+		private static final int HAS_TAG_BIT_MASK = (1 << 10);
+
+		private static final String RDATA_FILE_MAGIC_V2 = "RDX2\n";
+		private static final String RDATA_FILE_MAGIC_V3 = "RDX3\n";
+		private static final String XDR_FORMAT = "X\n";
+
+		// environments, external pointers and values of other types, which are
+		// not imported, are read as this value
+		private static final Object UNSUPPORTED_VALUE = new Object();
+
+		private final XDRReader reader;
+
+		// symbols, environments and other values which may be referred to later
+		private final List<Object> references = new ArrayList<>();
+
+		private Charset nativeCharset = StandardCharsets.UTF_8;
+
+		private RDataReader(InputStream inputStream) {
+			this.reader = new XDRReader(inputStream);
+		}
+
+		private void readHeader() throws IOException, EMFExportException {
+			String magic = new String(reader.readBytes(RDATA_FILE_MAGIC_V2.length()), StandardCharsets.US_ASCII);
+			if (!RDATA_FILE_MAGIC_V2.equals(magic) && !RDATA_FILE_MAGIC_V3.equals(magic)) {
+				throw new EMFExportException("Not an RData file in XDR format, or unsupported version of it");
+			}
+
+			String format = new String(reader.readBytes(XDR_FORMAT.length()), StandardCharsets.US_ASCII);
+			if (!XDR_FORMAT.equals(format)) {
+				throw new EMFExportException("Only RData files in XDR format are supported");
+			}
+
+			int version = reader.readInt();
+			reader.readInt(); // version of R which wrote file
+			reader.readInt(); // minimal version of R which can read file
+
+			if (version == 3) {
+				String nativeEncoding = new String(reader.readBytes(reader.readInt()), StandardCharsets.US_ASCII);
+
+				try {
+					nativeCharset = Charset.forName(nativeEncoding);
+				} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+					// strings are assumed to be encoded in UTF-8
+				}
+
+			} else if (version != 2) {
+				throw new EMFExportException(String.format("Unsupported version of RData file: %d", version));
+			}
+		}
+
+		/**
+		 * Reads next variable, i.e. next element of pairlist of variables.
+		 * 
+		 * @return next variable, or null, if all variables were read
+		 * @throws IOException
+		 * @throws EMFExportException
+		 */
+		private RVariable readNextVariable() throws IOException, EMFExportException {
+			int flags = reader.readInt();
+
+			if (type(flags) == NILVALUE_SXP) {
+				return null;
+			}
+
+			if (type(flags) != LISTSXP) {
+				throw new EMFExportException(String.format("Invalid RData file: pairlist expected, found type %d",
+						type(flags)));
+			}
+
+			if (hasAttr(flags)) {
+				readItem();
+			}
+
+			String name = hasTag(flags) ? symbolName(readItem()) : null;
+
+			return new RVariable(name, readItem());
+		}
+
+		private Object readItem() throws IOException, EMFExportException {
+			return readItem(reader.readInt());
+		}
+
+		private Object readItem(int flags) throws IOException, EMFExportException {
+			switch (type(flags)) {
+
+			case NILVALUE_SXP:
+				return null;
+
+			case EMPTYENV_SXP:
+			case BASEENV_SXP:
+			case GLOBALENV_SXP:
+			case UNBOUNDVALUE_SXP:
+			case MISSINGARG_SXP:
+			case BASENAMESPACE_SXP:
+				return UNSUPPORTED_VALUE;
+
+			case REFSXP: {
+				int index = (flags >> 8);
+				if (index == 0) {
+					index = reader.readInt();
+				}
+
+				if (index < 1 || index > references.size()) {
+					throw new EMFExportException(String.format("Invalid RData file: unknown reference %d", index));
+				}
+
+				return references.get(index - 1);
+			}
+
+			case PERSISTSXP:
+			case PACKAGESXP:
+			case NAMESPACESXP: {
+				String[] names = readPersistentNames();
+				references.add(names);
+				return names;
+			}
+
+			case SYMSXP: {
+				RSymbol symbol = new RSymbol((String) readItem());
+				references.add(symbol);
+				return symbol;
+			}
+
+			case ENVSXP: {
+				// added before its contents are read, as those may refer to it
+				references.add(UNSUPPORTED_VALUE);
+				reader.readInt(); // locked
+				readItem(); // enclosing environment
+				readItem(); // frame
+				readItem(); // hash table
+				readItem(); // attributes
+				return UNSUPPORTED_VALUE;
+			}
+
+			case LISTSXP:
+			case LANGSXP:
+			case CLOSXP:
+			case PROMSXP:
+			case DOTSXP:
+			case ATTRLISTSXP:
+			case ATTRLANGSXP:
+				return readPairList(flags);
+
+			case EXTPTRSXP:
+				references.add(UNSUPPORTED_VALUE);
+				readItem(); // protected value
+				readItem(); // tag
+				skipAttributes(flags);
+				return UNSUPPORTED_VALUE;
+
+			case WEAKREFSXP:
+				references.add(UNSUPPORTED_VALUE);
+				skipAttributes(flags);
+				return UNSUPPORTED_VALUE;
+
+			case SPECIALSXP:
+			case BUILTINSXP:
+				reader.readBytes(reader.readInt()); // name
+				return UNSUPPORTED_VALUE;
+
+			case CHARSXP:
+				return readString(flags);
+
+			case S4SXP:
+				skipAttributes(flags);
+				return UNSUPPORTED_VALUE;
+
+			case ALTREP_SXP:
+				return readAltrep();
+
+			case LGLSXP:
+			case INTSXP:
+			case REALSXP:
+			case CPLXSXP:
+			case STRSXP:
+			case VECSXP:
+			case EXPRSXP:
+			case RAWSXP: {
+				RVector vector = new RVector(type(flags), readVectorData(type(flags), readLength()));
+
+				if (hasAttr(flags)) {
+					vector.attributes.putAll(attributes(readItem()));
+				}
+
+				return vector;
+			}
+
+			default:
+				throw new EMFExportException(
+						String.format("Unsupported type of value in RData file: %d", type(flags)));
+			}
+		}
+
+		/*
+		 * Values of integer, logical and real vectors are read in bulk.
+		 */
+		private Object readVectorData(int type, int length) throws IOException, EMFExportException {
+			switch (type) {
+
+			case LGLSXP:
+			case INTSXP: {
+				int[] values = new int[length];
+				reader.readInts(values);
+				return values;
+			}
+
+			case REALSXP: {
+				double[] values = new double[length];
+				reader.readDoubles(values);
+				return values;
+			}
+
+			case CPLXSXP: {
+				double[] values = new double[2 * length];
+				reader.readDoubles(values);
+				return values;
+			}
+
+			case STRSXP: {
+				String[] values = new String[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = readString(reader.readInt());
+				}
+				return values;
+			}
+
+			case RAWSXP:
+				return reader.readBytes(length);
+
+			default: {
+				Object[] values = new Object[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = readItem();
+				}
+				return values;
+			}
+			}
+		}
+
+		/*
+		 * Elements of pairlists are read iteratively, rather than recursively, as
+		 * pairlists may be long.
+		 */
+		private RPairList readPairList(int flags) throws IOException, EMFExportException {
+			RPairList pairList = new RPairList();
+
+			int elementFlags = flags;
+			boolean firstElement = true;
+
+			while (true) {
+				if (hasAttr(elementFlags)) {
+					Map<String, Object> attributes = attributes(readItem());
+
+					if (firstElement) {
+						pairList.attributes.putAll(attributes);
+					}
+				}
+
+				Object tag = hasTag(elementFlags) ? readItem() : null;
+
+				pairList.tags.add((tag instanceof RSymbol) ? ((RSymbol) tag).name : null);
+				pairList.values.add(readItem());
+
+				firstElement = false;
+				elementFlags = reader.readInt();
+
+				if (type(elementFlags) == NILVALUE_SXP) {
+					break;
+				}
+
+				if (!isPairList(type(elementFlags))) {
+					// dotted pair
+					readItem(elementFlags);
+					break;
+				}
+			}
+
+			return pairList;
+		}
+
+		/*
+		 * Only ALTREP classes which R uses for serialization of data frames' columns
+		 * are supported: compact sequences, wrappers and deferred strings.
+		 */
+		private RVector readAltrep() throws IOException, EMFExportException {
+			Object info = readItem();
+			Object state = readItem();
+			Object attributes = readItem();
+
+			String className = (info instanceof RPairList && !((RPairList) info).values.isEmpty())
+					? symbolName(((RPairList) info).values.get(0))
+					: null;
+
+			RVector vector;
+
+			if ("compact_intseq".equals(className) || "compact_realseq".equals(className)) {
+				double[] sequence = (double[]) ((RVector) state).data;
+				int length = (int) sequence[0];
+
+				if ("compact_intseq".equals(className)) {
+					int[] values = new int[length];
+					for (int i = 0; i < length; i++) {
+						values[i] = (int) sequence[1] + i * (int) sequence[2];
+					}
+					vector = new RVector(INTSXP, values);
+
+				} else {
+					double[] values = new double[length];
+					for (int i = 0; i < length; i++) {
+						values[i] = sequence[1] + i * sequence[2];
+					}
+					vector = new RVector(REALSXP, values);
+				}
+
+			} else if (className != null && className.startsWith("wrap_") && state instanceof RVector) {
+				RVector wrapped = (RVector) ((Object[]) ((RVector) state).data)[0];
+				vector = new RVector(wrapped.type, wrapped.data);
+				vector.attributes.putAll(wrapped.attributes);
+
+			} else if ("deferred_string".equals(className) && state instanceof RPairList) {
+				vector = new RVector(STRSXP, deferredStrings((RVector) ((RPairList) state).values.get(0)));
+
+			} else {
+				throw new EMFExportException(
+						String.format("Unsupported ALTREP class of value in RData file: %s", className));
+			}
+
+			vector.attributes.putAll(attributes(attributes));
+
+			return vector;
+		}
+
+		/*
+		 * Integers and reals converted to strings, as R does, with up to 15
+		 * significant digits.
+		 */
+		private String[] deferredStrings(RVector vector) {
+			String[] values = new String[vector.length()];
+
+			for (int i = 0; i < values.length; i++) {
+				if (vector.data instanceof int[]) {
+					int value = ((int[]) vector.data)[i];
+					values[i] = (value != NA_INT) ? String.valueOf(value) : null;
+
+				} else {
+					double value = ((double[]) vector.data)[i];
+					values[i] = isNA(value) ? null
+							: Double.isNaN(value) || Double.isInfinite(value) ? String.valueOf(value)
+									: new BigDecimal(value).round(new MathContext(15)).stripTrailingZeros()
+											.toPlainString();
+				}
+			}
+
+			return values;
+		}
+
+		private String[] readPersistentNames() throws IOException, EMFExportException {
+			if (reader.readInt() != 0) {
+				throw new EMFExportException("Invalid RData file: names of persistent value expected");
+			}
+
+			String[] names = new String[reader.readInt()];
+			for (int i = 0; i < names.length; i++) {
+				names[i] = readString(reader.readInt());
+			}
+			return names;
+		}
+
+		private String readString(int flags) throws IOException, EMFExportException {
+			int length = reader.readInt();
+
+			if (length == -1) {
+				return null; // NA
+			}
+
+			byte[] bytes = reader.readBytes(length);
+
+			int levels = (flags >> 12);
+
+			if ((levels & UTF8_MASK) != 0) {
+				return new String(bytes, StandardCharsets.UTF_8);
+			} else if ((levels & LATIN1_MASK) != 0) {
+				return new String(bytes, StandardCharsets.ISO_8859_1);
+			} else {
+				return new String(bytes, nativeCharset);
+			}
+		}
+
+		/*
+		 * Lengths of long vectors are written as -1, followed by upper and lower
+		 * words of actual length.
+		 */
+		private int readLength() throws IOException, EMFExportException {
+			int length = reader.readInt();
+
+			if (length == -1) {
+				long longLength = ((long) reader.readInt() << 32) | (reader.readInt() & 0xffffffffL);
+
+				if (longLength > Integer.MAX_VALUE) {
+					throw new EMFExportException(
+							String.format("Vectors of length %d in RData file are not supported", longLength));
+				}
+
+				return (int) longLength;
+			}
+
+			if (length < 0) {
+				throw new EMFExportException(String.format("Invalid RData file: vector of length %d", length));
+			}
+
+			return length;
+		}
+
+		private void skipAttributes(int flags) throws IOException, EMFExportException {
+			if (hasAttr(flags)) {
+				readItem();
+			}
+		}
+
+		private Map<String, Object> attributes(Object pairList) {
+			Map<String, Object> attributes = new LinkedHashMap<>();
+
+			if (pairList instanceof RPairList) {
+				RPairList attributesPairList = (RPairList) pairList;
+
+				for (int i = 0; i < attributesPairList.tags.size(); i++) {
+					if (attributesPairList.tags.get(i) != null) {
+						attributes.put(attributesPairList.tags.get(i), attributesPairList.values.get(i));
+					}
+				}
+			}
+
+			return attributes;
+		}
+
+		private String symbolName(Object symbol) {
+			return (symbol instanceof RSymbol) ? ((RSymbol) symbol).name : null;
+		}
+
+		private static boolean isPairList(int type) {
+			// @formatter:off
+			return type == LISTSXP
+					|| type == LANGSXP
+					|| type == CLOSXP
+					|| type == PROMSXP
+					|| type == DOTSXP
+					|| type == ATTRLISTSXP
+					|| type == ATTRLANGSXP;
+			// @formatter:on
+		}
+
+		private static int type(int flags) {
+			return (flags & 0xff);
+		}
+
+		private static boolean hasAttr(int flags) {
+			return (flags & HAS_ATTR_BIT_MASK) != 0;
+		}
+
+		private static boolean hasTag(int flags) {
+			return (flags & HAS_TAG_BIT_MASK) != 0;
+		}
+	}
+
+	/*
+	 * Reads values encoded in XDR format (big-endian) from input stream, through
+	 * buffer, which is reused - arrays of values are copied from it in bulk.
+	 */
+	private static class XDRReader {
+		private static final int BUFFER_CAPACITY = 64 * 1024;
+
+		private final InputStream inputStream;
+		private final ByteBuffer buffer;
+
+		private XDRReader(InputStream inputStream) {
+			this.inputStream = inputStream;
+			this.buffer = ByteBuffer.allocate(BUFFER_CAPACITY);
+			this.buffer.flip();
+		}
+
+		private int readInt() throws IOException {
+			ensureAvailable(Integer.BYTES);
+			return buffer.getInt();
+		}
+
+		private void readInts(int[] values) throws IOException {
+			int offset = 0;
+
+			while (offset < values.length) {
+				ensureAvailable(Integer.BYTES);
+
+				int count = Math.min(buffer.remaining() / Integer.BYTES, values.length - offset);
+				buffer.asIntBuffer().get(values, offset, count);
+				buffer.position(buffer.position() + count * Integer.BYTES);
+
+				offset += count;
+			}
+		}
+
+		private void readDoubles(double[] values) throws IOException {
+			int offset = 0;
+
+			while (offset < values.length) {
+				ensureAvailable(Double.BYTES);
+
+				int count = Math.min(buffer.remaining() / Double.BYTES, values.length - offset);
+				buffer.asDoubleBuffer().get(values, offset, count);
+				buffer.position(buffer.position() + count * Double.BYTES);
+
+				offset += count;
+			}
+		}
+
+		private byte[] readBytes(int length) throws IOException {
+			byte[] bytes = new byte[length];
+			int offset = 0;
+
+			while (offset < length) {
+				ensureAvailable(1);
+
+				int count = Math.min(buffer.remaining(), length - offset);
+				buffer.get(bytes, offset, count);
+
+				offset += count;
+			}
+
+			return bytes;
+		}
+
+		/*
+		 * Refills buffer, if fewer bytes than required remain in it.
+		 */
+		private void ensureAvailable(int length) throws IOException {
+			if (buffer.remaining() >= length) {
+				return;
+			}
+
+			buffer.compact();
+
+			while (buffer.position() < length) {
+				int read = inputStream.read(buffer.array(), buffer.position(), buffer.remaining());
+
+				if (read < 0) {
+					throw new EOFException("Unexpected end of RData file");
+				}
+
+				buffer.position(buffer.position() + read);
+			}
+
+			buffer.flip();
+		}
+	}
+
+	private static final class RVariable {
+		private final String name;
+		private final Object value;
+
+		private RVariable(String name, Object value) {
+			this.name = name;
+			this.value = value;
+		}
+	}
+
+	private static final class RSymbol {
+		private final String name;
+
+		private RSymbol(String name) {
+			this.name = name;
+		}
+	}
+
+	/*
+	 * Vector of given type, with its values as array of primitives, strings or
+	 * objects, depending on type.
+	 */
+	private static final class RVector {
+		private final int type;
+		private final Object data;
+		private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+		private RVector(int type, Object data) {
+			this.type = type;
+			this.data = data;
+		}
+
+		private int length() {
+			if (data instanceof int[]) {
+				return ((int[]) data).length;
+			} else if (data instanceof double[]) {
+				return (type == RDataReader.CPLXSXP) ? ((double[]) data).length / 2 : ((double[]) data).length;
+			} else if (data instanceof String[]) {
+				return ((String[]) data).length;
+			} else if (data instanceof byte[]) {
+				return ((byte[]) data).length;
+			} else {
+				return ((Object[]) data).length;
+			}
+		}
+
+		private String[] stringAttribute(String name) {
+			Object attribute = attributes.get(name);
+
+			return (attribute instanceof RVector && ((RVector) attribute).type == RDataReader.STRSXP)
+					? (String[]) ((RVector) attribute).data
+					: null;
+		}
+
+		private boolean inherits(String className) {
+			String[] classNames = stringAttribute("class");
+
+			return (classNames != null) && Arrays.asList(classNames).contains(className);
+		}
+	}
+
+	private static final class RPairList {
+		private final List<String> tags = new ArrayList<>();
+		private final List<Object> values = new ArrayList<>();
+		private final Map<String, Object> attributes = new LinkedHashMap<>();
+	}
+
+	/*
+	 * Closing decompressing stream of RData file should not close ZIP archive,
+	 * nor input stream of resource.
+	 */
+	private static class NonClosingInputStream extends FilterInputStream {
+
+		private NonClosingInputStream(InputStream in) {
+			super(in);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			// do not close underlying stream
+		}
+	}
+}
@@ -25,4 +25,14 @@ public interface EMFRLangConstants {
 	static final String EMFRLANG_FILE_EXTENSION = "RData";
 
 	static final String EMFRLANG_CONTENT_TYPE = "text/x-R";
+
+	/**
+	 * Sets the root element to be loaded from RData, i.e. EClass of root objects
+	 * exported. EClasses of objects exported as data frames are looked up
+	 * starting from this EClass.
+	 * <p>
+	 * Value must be an object of type EClass; it is required when loading.
+	 * </p>
+	 */
+	static final String OPTION_ROOT_ELEMENT = "OPTION_ROOT_ELEMENT";
 }
\ No newline at end of file
@@ -16,8 +16,12 @@ import static org.gecko.emf.xlsx.tests.helper.EMFXLSXResourceTestHelper.createBu
 import static org.gecko.emf.xlsx.tests.helper.EMFXLSXResourceTestHelper.createFlintstonesFamily;
 import static org.gecko.emf.xlsx.tests.helper.EMFXLSXResourceTestHelper.createSimpsonFamily;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -33,6 +37,7 @@ import org.gecko.emf.osgi.example.model.basic.BusinessPerson;
 import org.gecko.emf.osgi.example.model.basic.Family;
 import org.gecko.emf.xlsx.annotation.RequireEMFXLSX;
 import org.gecko.emf.xlsx.configuration.EMFXLSXResource;
+import org.gecko.emf.xlsx.constants.EMFXLSXConstants;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -146,4 +151,80 @@ public class EMFXLSXResourceTest {
 
 		resource.save(fileOutputStream, Map.of()); // will use default options
 	}
+
+	/*
+	 * Reconstruction of EObjects from matrices, common to all formats, is covered
+	 * by EMF CSV Resource tests; here, only reading of both variants of XLSX
+	 * file, with shared strings table and with inline strings (streaming), is
+	 * verified.
+	 */
+	@Test
+	public void testLoadResourceFromXlsx(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware,
+			@InjectService(timeout = 2000) ServiceAware<BasicFactory> bfAware) throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		assertNotNull(bfAware);
+		assertThat(bfAware.getServices()).hasSize(1);
+		BasicFactory factoryImpl = bfAware.getService();
+		assertNotNull(factoryImpl);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceFromXlsx.xlsx"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFXLSXResource);
+
+		Family simpsonFamily = createSimpsonFamily(factoryImpl);
+		resource.getContents().add(simpsonFamily);
+
+		for (boolean streaming : new boolean[] { false, true }) {
+			Path filePath = Files.createTempFile("testLoadResourceFromXlsx", ".xlsx");
+
+			try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+				// @formatter:off
+				resource.save(fileOutputStream,
+						Map.of(
+								EMFExportOptions.OPTION_EXPORT_NONCONTAINMENT, true,
+								EMFExportOptions.OPTION_SHOW_URIS, false,
+								EMFExportOptions.OPTION_STREAMING, streaming // inline strings instead of shared strings table, if enabled
+							));
+				// @formatter:on
+			}
+
+			Resource loadedResource = resourceSet
+					.createResource(URI.createURI("testLoadResourceFromXlsxLoaded" + streaming + ".xlsx"));
+			assertNotNull(loadedResource);
+			assertTrue(loadedResource instanceof EMFXLSXResource);
+
+			try (InputStream fileInputStream = Files.newInputStream(filePath)) {
+				loadedResource.load(fileInputStream, Map.of(EMFXLSXConstants.OPTION_ROOT_ELEMENT, simpsonFamily.eClass()));
+			}
+
+			// EObjects of root EClass are loaded first
+			assertThat(loadedResource.getContents()).first().isInstanceOf(Family.class);
+
+			Family loadedFamily = (Family) loadedResource.getContents().get(0);
+			assertThat(loadedFamily.getId()).isEqualTo(simpsonFamily.getId());
+			assertNotNull(loadedFamily.getFather());
+			assertThat(loadedFamily.getFather().getFirstName()).isEqualTo(simpsonFamily.getFather().getFirstName());
+		}
+	}
+
+	@Test
+	public void testLoadResourceWithoutRootElement(@InjectService(timeout = 2000) ServiceAware<ResourceSet> rsAware)
+			throws Exception {
+
+		assertNotNull(rsAware);
+		assertThat(rsAware.getServices()).hasSize(1);
+		ResourceSet resourceSet = rsAware.getService();
+		assertNotNull(resourceSet);
+
+		Resource resource = resourceSet.createResource(URI.createURI("testLoadResourceWithoutRootElement.xlsx"));
+		assertNotNull(resource);
+		assertTrue(resource instanceof EMFXLSXResource);
+
+		assertThrows(IOException.class, () -> resource.load(new ByteArrayInputStream(new byte[0]), Map.of()));
+	}
 }
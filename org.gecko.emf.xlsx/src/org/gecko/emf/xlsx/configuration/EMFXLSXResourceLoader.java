@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) 2012 - 2023 Data In Motion and others.
+ * All rights reserved. 
+ * 
+ * This program and the accompanying materials are made available under the terms of the 
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * 
+ * Contributors:
+ *     Data In Motion - initial API and implementation
+ */
+package org.gecko.emf.xlsx.configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.gecko.emf.exporter.EMFExportException;
+import org.gecko.emf.exporter.EMFExportMatrixImporter;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Loads EMF objects from XLSX written by XLSX exporter, using event API of
+ * Apache POI: each sheet is parsed with SAX and each row is passed to
+ * {@link EMFExportMatrixImporter} as it is parsed, so that, unlike when
+ * workbook is loaded as a whole, memory used does not depend on number of
+ * cells, but on number of objects loaded (and on size of shared strings
+ * table, if any - streaming exporter writes inline strings instead).
+ * 
+ * Sheets are mapped to EClasses by their names, which are names of matrices.
+ * Sheets which do not correspond to EClasses or mapping matrices, such as
+ * metadata sheets, are skipped.
+ * 
+ * @author Michal H. Siemaszko
+ */
+class EMFXLSXResourceLoader {
+
+	private final EClass rootEClass;
+
+	EMFXLSXResourceLoader(EClass rootEClass) {
+		this.rootEClass = rootEClass;
+	}
+
+	/*
+	 * Input is copied to temporary file first, so that parts of workbook can be
+	 * read one at a time, directly from file, rather than unpacked in memory.
+	 */
+	void load(Resource resource, InputStream inputStream) throws IOException, EMFExportException {
+		Path workbookPath = Files.createTempFile("emf-xlsx-load", ".xlsx");
+
+		try {
+			Files.copy(inputStream, workbookPath, StandardCopyOption.REPLACE_EXISTING);
+
+			EMFExportMatrixImporter importer = new EMFExportMatrixImporter(rootEClass);
+
+			try (OPCPackage opcPackage = OPCPackage.open(workbookPath.toFile(), PackageAccess.READ)) {
+				loadSheets(importer, opcPackage);
+			} catch (OpenXML4JException | SAXException e) {
+				throw new IOException(e);
+			}
+
+			importer.finish(resource);
+
+		} finally {
+			Files.deleteIfExists(workbookPath);
+		}
+	}
+
+	private void loadSheets(EMFExportMatrixImporter importer, OPCPackage opcPackage)
+			throws IOException, OpenXML4JException, SAXException, EMFExportException {
+		XSSFReader xssfReader = new XSSFReader(opcPackage);
+		ReadOnlySharedStringsTable sharedStringsTable = new ReadOnlySharedStringsTable(opcPackage, false);
+		StylesTable stylesTable = xssfReader.getStylesTable();
+
+		XSSFReader.SheetIterator sheetsIt = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+		while (sheetsIt.hasNext()) {
+			try (InputStream sheetInputStream = sheetsIt.next()) {
+				SheetRowsHandler sheetRowsHandler = new SheetRowsHandler(importer, sheetsIt.getSheetName());
+
+				XMLReader xmlReader = XMLHelper.newXMLReader();
+				xmlReader.setContentHandler(new XSSFSheetXMLHandler(stylesTable, sharedStringsTable,
+						sheetRowsHandler, new RawValueDataFormatter(), false));
+
+				try {
+					xmlReader.parse(new InputSource(sheetInputStream));
+				} catch (ImportFailedException e) {
+					throw (EMFExportException) e.getCause();
+				}
+
+			} catch (ParserConfigurationException e) {
+				throw new IOException(e);
+			}
+		}
+	}
+
+	/*
+	 * Passes rows of sheet to importer: first row contains column headers, next
+	 * ones contain data.
+	 */
+	private static class SheetRowsHandler implements SheetContentsHandler {
+		private final EMFExportMatrixImporter importer;
+		private final String sheetName;
+		private final List<String> rowValues = new ArrayList<>();
+		private boolean headerRowRead;
+		private boolean sheetImported;
+
+		private SheetRowsHandler(EMFExportMatrixImporter importer, String sheetName) {
+			this.importer = importer;
+			this.sheetName = sheetName;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler#startRow(int)
+		 */
+		@Override
+		public void startRow(int rowNum) {
+			rowValues.clear();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler#cell(java.lang.String, java.lang.String, org.apache.poi.xssf.usermodel.XSSFComment)
+		 */
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			if (headerRowRead && !sheetImported) {
+				return;
+			}
+
+			int colIndex = (cellReference != null) ? new CellReference(cellReference).getCol() : rowValues.size();
+
+			while (rowValues.size() < colIndex) {
+				rowValues.add(null);
+			}
+
+			if (colIndex == rowValues.size()) {
+				rowValues.add(formattedValue);
+			} else {
+				rowValues.set(colIndex, formattedValue);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler#endRow(int)
+		 */
+		@Override
+		public void endRow(int rowNum) {
+			try {
+				if (!headerRowRead) {
+					headerRowRead = true;
+					sheetImported = importer.startMatrix(sheetName, Collections.unmodifiableList(rowValues));
+
+				} else if (sheetImported) {
+					importer.readRow(rowValues);
+				}
+			} catch (EMFExportException e) {
+				throw new ImportFailedException(e);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler#endSheet()
+		 */
+		@Override
+		public void endSheet() {
+			if (headerRowRead) {
+				importer.endMatrix();
+			}
+		}
+	}
+
+	/*
+	 * Formats numeric cells so that values are not lost to display formats:
+	 * dates as ISO 8601 date-times, and other numbers as plain numbers; numbers
+	 * representable as float, as exporter writes those, are formatted as float.
+	 */
+	private static class RawValueDataFormatter extends DataFormatter {
+
+		private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
+				.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ").withZone(ZoneId.systemDefault());
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.poi.ss.usermodel.DataFormatter#formatRawCellContents(double, int, java.lang.String, boolean)
+		 */
+		@Override
+		public String formatRawCellContents(double value, int formatIndex, String formatString,
+				boolean use1904Windowing) {
+			if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+				return DATE_FORMATTER.format(DateUtil.getJavaDate(value, use1904Windowing).toInstant());
+
+			} else if ((double) (float) value == value) {
+				return Float.toString((float) value);
+
+			} else {
+				return Double.toString(value);
+			}
+		}
+	}
+
+	/*
+	 * Carries exception thrown by importer through SAX parser.
+	 */
+	private static class ImportFailedException extends RuntimeException {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = -2633167387651829354L;
+
+		private ImportFailedException(EMFExportException cause) {
+			super(cause);
+		}
+	}
+}
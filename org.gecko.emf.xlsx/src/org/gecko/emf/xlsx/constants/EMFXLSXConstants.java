@@ -25,4 +25,14 @@ public interface EMFXLSXConstants {
 	static final String EMFXLSX_FILE_EXTENSION = "xlsx";
 
 	static final String EMFXLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+	/**
+	 * Sets the root element to be loaded from XLSX, i.e. EClass of root objects
+	 * exported. EClasses of objects exported to sheets are looked up starting
+	 * from this EClass.
+	 * <p>
+	 * Value must be an object of type EClass; it is required when loading.
+	 * </p>
+	 */
+	static final String OPTION_ROOT_ELEMENT = "OPTION_ROOT_ELEMENT";
 }
\ No newline at end of file